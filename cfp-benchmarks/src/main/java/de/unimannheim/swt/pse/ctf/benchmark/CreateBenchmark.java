@@ -0,0 +1,47 @@
+package de.unimannheim.swt.pse.ctf.benchmark;
+
+import de.unimannheim.swt.pse.ctf.game.engine.GameEngine;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.game.map.PlacementType;
+import de.unimannheim.swt.pse.ctf.game.state.GameState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link GameEngine#create(MapTemplate)} for every {@link PlacementType}.
+ * This includes building the teams, placing the pieces and placing the blocks.
+ *
+ * @version 19.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreateBenchmark extends EngineState {
+
+    @Param({"symmetrical", "spaced_out", "defensive"})
+    public PlacementType placement;
+
+    private MapTemplate template;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.template = EngineFixtures.template(gridSize, teams, piecesPerTeam, placement);
+    }
+
+    @Benchmark
+    public GameState create() {
+        return new GameEngine().create(this.template);
+    }
+}
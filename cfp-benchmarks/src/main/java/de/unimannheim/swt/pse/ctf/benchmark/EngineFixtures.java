@@ -0,0 +1,175 @@
+package de.unimannheim.swt.pse.ctf.benchmark;
+
+import de.unimannheim.swt.pse.ctf.game.engine.GameEngine;
+import de.unimannheim.swt.pse.ctf.game.engine.ValidMoveHelperMethods;
+import de.unimannheim.swt.pse.ctf.game.map.Bishop;
+import de.unimannheim.swt.pse.ctf.game.map.King;
+import de.unimannheim.swt.pse.ctf.game.map.Knight;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.game.map.Pawn;
+import de.unimannheim.swt.pse.ctf.game.map.PieceDescription;
+import de.unimannheim.swt.pse.ctf.game.map.PlacementType;
+import de.unimannheim.swt.pse.ctf.game.map.Queen;
+import de.unimannheim.swt.pse.ctf.game.map.Rook;
+import de.unimannheim.swt.pse.ctf.game.state.Move;
+import de.unimannheim.swt.pse.ctf.game.state.Piece;
+import de.unimannheim.swt.pse.ctf.game.state.Team;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class is being used to build the map templates and running games on which the benchmarks are measured.
+ * All benchmarks share these fixtures, so that their results stay comparable with each other.
+ *
+ * @version 19.10.2026
+ */
+public final class EngineFixtures {
+
+    // the predefined piece types, which are mixed into every template in this order
+    private static final PieceDescription[] PIECE_TYPES = {
+            new Pawn(), new Rook(), new Knight(), new Bishop(), new Queen(), new King()
+    };
+
+    private EngineFixtures() {
+    }
+
+    /**
+     * This method is used to cap the requested pieces per team to an amount every placement type can position.
+     * The arrangements in {@link de.unimannheim.swt.pse.ctf.game.PiecePlacement.PlacementHelperMethods} leave
+     * pieces without a position on crowded maps, which would make {@link GameEngine#joinGame(String)} fail.
+     *
+     * @param gridSize      {@link int} the number of rows and columns of the grid
+     * @param teams         {@link int} the number of teams
+     * @param piecesPerTeam {@link int} the requested number of pieces per team
+     * @return the number of pieces per team actually used
+     */
+    public static int effectivePieces(int gridSize, int teams, int piecesPerTeam) {
+        return Math.max(1, Math.min(piecesPerTeam, gridSize * gridSize / (teams * 8)));
+    }
+
+    /**
+     * This method is used to create a square map template without time limits, so that no scheduler
+     * interferes with the measurement.
+     *
+     * @param gridSize      {@link int} the number of rows and columns of the grid
+     * @param teams         {@link int} the number of teams (2-4)
+     * @param piecesPerTeam {@link int} the requested number of pieces per team
+     * @param placement     {@link PlacementType} the placement type of the pieces
+     * @return the map template
+     */
+    public static MapTemplate template(int gridSize, int teams, int piecesPerTeam, PlacementType placement) {
+        int pieces = effectivePieces(gridSize, teams, piecesPerTeam);
+
+        // distribute the pieces over the predefined types, the first types get the remainder
+        List<PieceDescription> descriptions = new ArrayList<>();
+        for (int i = 0; i < PIECE_TYPES.length; i++) {
+            int count = pieces / PIECE_TYPES.length + (i < pieces % PIECE_TYPES.length ? 1 : 0);
+            if (count > 0) {
+                PieceDescription description = new PieceDescription();
+                description.setType(PIECE_TYPES[i].getType());
+                description.setAttackPower(PIECE_TYPES[i].getAttackPower());
+                description.setMovement(PIECE_TYPES[i].getMovement());
+                description.setCount(count);
+                descriptions.add(description);
+            }
+        }
+
+        MapTemplate template = new MapTemplate();
+        template.setGridSize(new int[]{gridSize, gridSize});
+        template.setTeams(teams);
+        template.setFlags(2);
+        template.setBlocks(gridSize / 2);
+        template.setPlacement(placement);
+        template.setPieces(descriptions.toArray(new PieceDescription[0]));
+        template.setTotalTimeLimitInSeconds(-1);
+        template.setMoveTimeLimitInSeconds(-1);
+        return template;
+    }
+
+    /**
+     * This method is used to create a game from the template and let all teams join it.
+     * The scheduler started by the last join is shut down again, as no time limits are set.
+     *
+     * @param template {@link MapTemplate} the map template
+     * @return the started game
+     */
+    public static GameEngine startedGame(MapTemplate template) {
+        return startedGame(new GameEngine(), template);
+    }
+
+    /**
+     * This method is used to create a game whose placement and respawns depend on the seed only, so that
+     * all games started with the same template and seed are equal and can replay the same moves.
+     *
+     * @param template {@link MapTemplate} the map template
+     * @param seed     {@link long} the seed of the placement and respawns
+     * @return the started game
+     */
+    public static GameEngine startedGame(MapTemplate template, long seed) {
+        GameEngine engine = new GameEngine();
+        engine.setRandomSeed(seed);
+        return startedGame(engine, template);
+    }
+
+    private static GameEngine startedGame(GameEngine engine, MapTemplate template) {
+        engine.create(template);
+        for (int i = 0; i < template.getTeams(); i++) {
+            engine.joinGame("team" + i);
+        }
+        engine.shutdownScheduler();
+        return engine;
+    }
+
+    /**
+     * This method is used to find the first legal move of the team whose turn it is.
+     *
+     * @param engine {@link GameEngine} the started game
+     * @return the move or null if the current team cannot move
+     */
+    public static Move firstLegalMove(GameEngine engine) {
+        Team team = engine.getCurrentGameState().getTeams()[engine.getCurrentGameState().getCurrentTeam()];
+        if (team == null) {
+            return null;
+        }
+        ValidMoveHelperMethods helper = new ValidMoveHelperMethods();
+        for (Piece p : team.getPieces()) {
+            Piece piece = engine.pieceByGridName.get("p:" + p.getTeamId() + "_" + p.getId());
+            if (piece == null) {
+                continue;
+            }
+            int[][] possibleSquares = helper.possibleSquares(piece, engine.getCurrentGameState(), engine.pieceByGridName);
+            for (int row = 0; row < possibleSquares.length; row++) {
+                for (int column = 0; column < possibleSquares[row].length; column++) {
+                    if (possibleSquares[row][column] != -1) {
+                        Move move = new Move();
+                        move.setTeamId(team.getId());
+                        move.setPieceId(piece.getId());
+                        move.setNewPosition(new int[]{row, column});
+                        return move;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * This method is used to get the oriented piece of the current team with the widest movement,
+     * as it is the one the move validation spends the most time on.
+     *
+     * @param engine {@link GameEngine} the started game
+     * @return the oriented piece as stored in {@link GameEngine#pieceByGridName}
+     */
+    public static Piece busiestPiece(GameEngine engine) {
+        Team team = engine.getCurrentGameState().getTeams()[engine.getCurrentGameState().getCurrentTeam()];
+        Piece busiest = null;
+        for (Piece p : team.getPieces()) {
+            Piece piece = engine.pieceByGridName.get("p:" + p.getTeamId() + "_" + p.getId());
+            if (busiest == null || piece.getDescription().getAttackPower() > busiest.getDescription().getAttackPower()) {
+                busiest = piece;
+            }
+        }
+        return busiest;
+    }
+}
@@ -0,0 +1,28 @@
+package de.unimannheim.swt.pse.ctf.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * This class holds the map dimensions every engine benchmark is parameterized over.
+ * JMH runs each benchmark once for every combination of grid size, team count and pieces per team.
+ * The pieces per team are capped by {@link EngineFixtures#effectivePieces(int, int, int)} on small maps.
+ *
+ * @version 19.10.2026
+ */
+@State(Scope.Thread)
+public abstract class EngineState {
+
+    // the number of rows and columns of the square grid
+    @Param({"10", "50", "100", "200"})
+    public int gridSize;
+
+    // the number of teams playing the game
+    @Param({"2", "3", "4"})
+    public int teams;
+
+    // the requested number of pieces of each team
+    @Param({"4", "16", "64"})
+    public int piecesPerTeam;
+}
@@ -0,0 +1,80 @@
+package de.unimannheim.swt.pse.ctf.benchmark;
+
+import de.unimannheim.swt.pse.ctf.game.engine.GameEngine;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.game.map.PlacementType;
+import de.unimannheim.swt.pse.ctf.game.state.Team;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks joining all teams into a freshly created game via {@link GameEngine#joinGame(String)}.
+ * The last join renames the grid entries of its team and fills {@link GameEngine#pieceByGridName}.
+ * It also creates the scheduler of the game, which starts no thread, as the templates have no time limits.
+ * <p>
+ * Joining changes the game, so every call needs its own created game. The games of an iteration are created before
+ * it and shut down after it, so that no per-call JMH fixture is part of the measured time. In single shot mode JMH
+ * times the whole batch of calls of an iteration as one operation, so the operations per invocation count the games
+ * of the batch and JMH reports the time of joining all teams into one game.
+ *
+ * @version 19.10.2026
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, batchSize = JoinGameBenchmark.GAMES_PER_ITERATION)
+@Measurement(iterations = 5, batchSize = JoinGameBenchmark.GAMES_PER_ITERATION)
+@Fork(1)
+public class JoinGameBenchmark extends EngineState {
+
+    // the number of calls of the benchmark in one iteration, every call uses one of the created games
+    static final int GAMES_PER_ITERATION = 500;
+
+    private MapTemplate template;
+    private GameEngine[] games;
+    private int nextGame;
+
+    @Setup(Level.Trial)
+    public void setUpTemplate() {
+        this.template = EngineFixtures.template(gridSize, teams, piecesPerTeam, PlacementType.symmetrical);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpGames() {
+        this.games = new GameEngine[GAMES_PER_ITERATION];
+        for (int i = 0; i < this.games.length; i++) {
+            this.games[i] = new GameEngine();
+            this.games[i].create(this.template);
+        }
+        this.nextGame = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownGames() {
+        for (GameEngine game : this.games) {
+            game.shutdownScheduler();
+        }
+        this.games = null;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES_PER_ITERATION)
+    public void joinAllTeams(Blackhole blackhole) {
+        GameEngine engine = this.games[this.nextGame++];
+        for (int i = 0; i < teams; i++) {
+            Team team = engine.joinGame("team" + i);
+            blackhole.consume(team);
+        }
+    }
+}
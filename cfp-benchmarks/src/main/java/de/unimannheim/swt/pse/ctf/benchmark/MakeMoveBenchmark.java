@@ -0,0 +1,97 @@
+package de.unimannheim.swt.pse.ctf.benchmark;
+
+import de.unimannheim.swt.pse.ctf.game.engine.GameEngine;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.game.map.PlacementType;
+import de.unimannheim.swt.pse.ctf.game.state.Move;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link GameEngine#makeMove(Move)} on a game in progress.
+ * A sequence of first legal moves is recorded once per trial, until the game is over, nobody can move anymore
+ * or {@link #MOVES_PER_CALL} is reached, so the measurement covers moves, captures and the turn handling in skipMove.
+ * <p>
+ * Every call makes {@link #MOVES_PER_CALL} moves by replaying the sequence, on the next started game whenever the
+ * sequence starts again, so the number of moves per call does not depend on how soon the games end. The games of an
+ * iteration are started before it, so that neither their setup nor a per-call JMH fixture is part of the measured
+ * time. In single shot mode JMH times the whole batch of calls of an iteration as one operation, so the operations
+ * per invocation count all moves of the batch and JMH reports the time of one move.
+ *
+ * @version 19.10.2026
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, batchSize = MakeMoveBenchmark.CALLS_PER_ITERATION)
+@Measurement(iterations = 5, batchSize = MakeMoveBenchmark.CALLS_PER_ITERATION)
+@Fork(1)
+public class MakeMoveBenchmark extends EngineState {
+
+    // the number of calls of the benchmark in one iteration
+    static final int CALLS_PER_ITERATION = 100;
+    // the number of moves made by one call
+    static final int MOVES_PER_CALL = 200;
+    // the seed of the placement and respawns, all games of a trial are equal
+    private static final long SEED = 42L;
+
+    private MapTemplate template;
+    private Move[] moves;
+    private GameEngine[] games;
+    private int nextGame;
+
+    @Setup(Level.Trial)
+    public void setUpMoves() {
+        this.template = EngineFixtures.template(gridSize, teams, piecesPerTeam, PlacementType.symmetrical);
+        GameEngine engine = EngineFixtures.startedGame(this.template, SEED);
+        List<Move> recorded = new ArrayList<>();
+        while (recorded.size() < MOVES_PER_CALL && !engine.isGameOver()) {
+            Move move = EngineFixtures.firstLegalMove(engine);
+            if (move == null) {
+                break;
+            }
+            engine.makeMove(move);
+            recorded.add(move);
+        }
+        if (recorded.isEmpty()) {
+            throw new IllegalStateException("The started game has no legal move");
+        }
+        this.moves = recorded.toArray(new Move[0]);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpGames() {
+        // every call starts the sequence as often as it does not fit into the moves of one call
+        int gamesPerCall = (MOVES_PER_CALL + this.moves.length - 1) / this.moves.length;
+        this.games = new GameEngine[CALLS_PER_ITERATION * gamesPerCall];
+        for (int i = 0; i < this.games.length; i++) {
+            this.games[i] = EngineFixtures.startedGame(this.template, SEED);
+        }
+        this.nextGame = 0;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLS_PER_ITERATION * MOVES_PER_CALL)
+    public GameEngine replayMoves() {
+        GameEngine engine = null;
+        for (int i = 0; i < MOVES_PER_CALL; i++) {
+            int index = i % this.moves.length;
+            if (index == 0) {
+                engine = this.games[this.nextGame++];
+            }
+            engine.makeMove(this.moves[index]);
+        }
+        return engine;
+    }
+}
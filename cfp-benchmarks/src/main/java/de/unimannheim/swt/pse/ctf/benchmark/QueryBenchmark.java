@@ -0,0 +1,87 @@
+package de.unimannheim.swt.pse.ctf.benchmark;
+
+import de.unimannheim.swt.pse.ctf.game.engine.GameEngine;
+import de.unimannheim.swt.pse.ctf.game.engine.RespawnHelperMethods;
+import de.unimannheim.swt.pse.ctf.game.engine.ValidMoveHelperMethods;
+import de.unimannheim.swt.pse.ctf.game.map.PlacementType;
+import de.unimannheim.swt.pse.ctf.game.state.Move;
+import de.unimannheim.swt.pse.ctf.game.state.Piece;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the read-only operations of the engine on a freshly started game:
+ * {@link GameEngine#isValidMove(Move)}, {@link GameEngine#isGameOver()}, the private skipMove,
+ * {@link ValidMoveHelperMethods#possibleSquares} and {@link RespawnHelperMethods#getSquareToSpawn(String[][], String)}.
+ * None of them changes the game state, so the same game is reused for the whole trial.
+ *
+ * @version 19.10.2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryBenchmark extends EngineState {
+
+    private GameEngine engine;
+    private Move legalMove;
+    private Piece piece;
+    private String teamId;
+
+    /* skipMove is private in the GameEngine, it is only called at the end of makeMove and giveUp.
+     * It is invoked through a method handle, so the engine does not have to be changed for the benchmark.
+     * On a started game the current team can move, so skipMove returns without changing the game state.
+     */
+    private MethodHandle skipMove;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        this.engine = EngineFixtures.startedGame(
+                EngineFixtures.template(gridSize, teams, piecesPerTeam, PlacementType.symmetrical));
+        this.legalMove = EngineFixtures.firstLegalMove(this.engine);
+        this.piece = EngineFixtures.busiestPiece(this.engine);
+        this.teamId = this.piece.getTeamId();
+
+        Method method = GameEngine.class.getDeclaredMethod("skipMove");
+        method.setAccessible(true);
+        this.skipMove = MethodHandles.lookup().unreflect(method);
+    }
+
+    @Benchmark
+    public boolean isValidMove() {
+        return this.engine.isValidMove(this.legalMove);
+    }
+
+    @Benchmark
+    public boolean isGameOver() {
+        return this.engine.isGameOver();
+    }
+
+    @Benchmark
+    public void skipMove() throws Throwable {
+        this.skipMove.invokeExact(this.engine);
+    }
+
+    @Benchmark
+    public int[][] possibleSquares() {
+        return new ValidMoveHelperMethods().possibleSquares(this.piece, this.engine.getCurrentGameState(), this.engine.pieceByGridName);
+    }
+
+    @Benchmark
+    public int[] getSquareToSpawn() {
+        return new RespawnHelperMethods().getSquareToSpawn(this.engine.getCurrentGameState().getGrid(), this.teamId);
+    }
+}
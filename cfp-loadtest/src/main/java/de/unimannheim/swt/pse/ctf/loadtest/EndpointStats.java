@@ -0,0 +1,54 @@
+package de.unimannheim.swt.pse.ctf.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * This class records the latencies and failures of the requests to one REST endpoint.
+ * Latencies are kept in full, so the percentiles in the summary are exact.
+ *
+ * @version 19.10.2026
+ */
+public class EndpointStats {
+
+    private long[] latenciesNanos = new long[1024];
+    private int count;
+    private int errors;
+
+    /**
+     * Records a finished request.
+     *
+     * @param latencyNanos time from sending the request until the whole response was read
+     * @param success      false if the server answered with a status other than 2xx or the request failed
+     */
+    public synchronized void record(long latencyNanos, boolean success) {
+        if (count == latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, count * 2);
+        }
+        latenciesNanos[count++] = latencyNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    public synchronized int getCount() {
+        return count;
+    }
+
+    public synchronized int getErrors() {
+        return errors;
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return latency in milliseconds at the given percentile, 0 if nothing was recorded
+     */
+    public synchronized double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latenciesNanos, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+        return sorted[Math.max(0, Math.min(index, count - 1))] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,170 @@
+package de.unimannheim.swt.pse.ctf.loadtest;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import de.unimannheim.swt.pse.ctf.CtfApplication;
+import de.unimannheim.swt.pse.ctf.controller.data.GameSessionResponse;
+import de.unimannheim.swt.pse.ctf.controller.data.JoinGameResponse;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Entry point of the load test.
+ * Starts the {@link CtfApplication} on a free loopback port, without admission control, and keeps the configured number of game sessions
+ * running until the duration is over. Every session is played by one {@link SimulatedPlayer} per team and is
+ * replaced by a new one as soon as it is over. Sessions and players are seeded from the configured seed,
+ * so the same configuration plays the same games as long as the timing allows it. At the end a {@link LoadTestSummary} is printed as JSON.
+ *
+ * @version 19.10.2026
+ */
+public class LoadTest {
+
+    // a driver whose session creation failed this many times in a row stops, instead of flooding the server
+    private static final int MAX_CREATE_FAILURES = 10;
+
+    private final LoadTestConfig config;
+    private final LoadTestClient client;
+    private final ExecutorService players = Executors.newCachedThreadPool();
+    private final AtomicInteger gamesStarted = new AtomicInteger();
+    private final AtomicInteger gamesFinished = new AtomicInteger();
+    private final AtomicLong seeds;
+    private long deadlineNanos;
+
+    public LoadTest(LoadTestConfig config, String baseUri) {
+        this.config = config;
+        this.client = new LoadTestClient(baseUri);
+        this.seeds = new AtomicLong(config.getSeed());
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+
+        int port;
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            port = socket.getLocalPort();
+        }
+        // the admission control would throttle the simulated players, so that the run measured the throttle
+        CtfApplication.main(new String[]{"--server.address=127.0.0.1", "--server.port=" + port,
+                "--ctf.admission.enabled=false"});
+
+        LoadTestSummary summary = new LoadTest(config, "http://127.0.0.1:" + port).run();
+
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        String json = gson.toJson(summary);
+        System.out.println(json);
+        if (config.getOutput() != null) {
+            Files.writeString(config.getOutput(), json, StandardCharsets.UTF_8);
+        }
+
+        CtfApplication.stopApplication();
+        System.exit(0);
+    }
+
+    /**
+     * Runs the sessions until the configured duration is over.
+     *
+     * @return the summary of the run
+     */
+    public LoadTestSummary run() throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+
+        // the heap is sampled, as the used heap at the end says little about the peak under load
+        AtomicLong heapPeak = new AtomicLong();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> heapPeak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max),
+                0, 100, TimeUnit.MILLISECONDS);
+
+        long start = System.nanoTime();
+        this.deadlineNanos = start + TimeUnit.SECONDS.toNanos(config.getDurationSeconds());
+        ExecutorService drivers = Executors.newFixedThreadPool(config.getSessions());
+        for (int i = 0; i < config.getSessions(); i++) {
+            int driverIndex = i;
+            drivers.submit(() -> driveSessions(driverIndex));
+        }
+        drivers.shutdown();
+        drivers.awaitTermination(config.getDurationSeconds() + 60L, TimeUnit.SECONDS);
+        double durationSeconds = (System.nanoTime() - start) / 1e9;
+
+        sampler.shutdownNow();
+        players.shutdownNow();
+
+        LoadTestSummary summary = new LoadTestSummary();
+        summary.sessions = config.getSessions();
+        summary.gamesStarted = gamesStarted.get();
+        summary.gamesFinished = gamesFinished.get();
+        summary.addEndpoints(client.getStatsByEndpoint(), durationSeconds);
+        summary.heapUsedBytes = memory.getHeapMemoryUsage().getUsed();
+        summary.heapPeakUsedBytes = heapPeak.get();
+        summary.heapMaxBytes = memory.getHeapMemoryUsage().getMax();
+        summary.liveThreads = threads.getThreadCount();
+        summary.peakThreads = threads.getPeakThreadCount();
+        return summary;
+    }
+
+    /**
+     * Plays one session after the other until the run is over.
+     *
+     * @param driverIndex index of the driver, used to rotate through the templates
+     */
+    private Void driveSessions(int driverIndex) throws InterruptedException {
+        List<MapTemplate> templates = config.getTemplates();
+        int game = 0;
+        int createFailures = 0;
+        while (System.nanoTime() < deadlineNanos) {
+            MapTemplate template = templates.get((driverIndex + game++) % templates.size());
+            GameSessionResponse session = client.createGameSession(template, seeds.getAndIncrement());
+            if (session == null) {
+                if (++createFailures >= MAX_CREATE_FAILURES) {
+                    System.err.println("driver " + driverIndex + " stopped after " + createFailures
+                            + " failed session creations in a row");
+                    return null;
+                }
+                Thread.sleep(config.getThinkTimeMillis());
+                continue;
+            }
+            createFailures = 0;
+            gamesStarted.incrementAndGet();
+
+            List<Future<?>> running = new ArrayList<>();
+            for (int team = 0; team < template.getTeams(); team++) {
+                JoinGameResponse joined = client.joinGame(session.getId(), "loadtest" + team);
+                if (joined != null) {
+                    running.add(players.submit(new SimulatedPlayer(client, config, session.getId(),
+                            joined.getTeamId(), joined.getTeamSecret(), deadlineNanos, seeds.getAndIncrement())));
+                }
+            }
+            for (Future<?> player : running) {
+                try {
+                    player.get();
+                } catch (Exception e) {
+                    // a failing player ends its own game only, the run goes on
+                }
+            }
+
+            GameSessionResponse finished = client.getGameSession(session.getId());
+            if (finished != null && finished.isGameOver()) {
+                gamesFinished.incrementAndGet();
+            }
+            client.deleteGameSession(session.getId());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,114 @@
+package de.unimannheim.swt.pse.ctf.loadtest;
+
+import com.google.gson.Gson;
+import de.unimannheim.swt.pse.ctf.controller.data.GameSessionRequest;
+import de.unimannheim.swt.pse.ctf.controller.data.GameSessionResponse;
+import de.unimannheim.swt.pse.ctf.controller.data.JoinGameRequest;
+import de.unimannheim.swt.pse.ctf.controller.data.JoinGameResponse;
+import de.unimannheim.swt.pse.ctf.controller.data.MoveRequest;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.game.state.GameState;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * This class sends the requests of the simulated players to the REST API of the GameSessionController
+ * and records the latency of every request per endpoint.
+ * All players share one instance and therefore one connection pool.
+ *
+ * @version 19.10.2026
+ */
+public class LoadTestClient {
+
+    private final String baseUri;
+    private final HttpClient httpClient;
+    private final Gson gson = new Gson();
+    private final Map<String, EndpointStats> statsByEndpoint = new TreeMap<>();
+
+    public LoadTestClient(String baseUri) {
+        this.baseUri = baseUri;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        for (String endpoint : new String[]{"createGameSession", "getGameSession", "getGameState", "joinGame",
+                "makeMove", "deleteGameSession"}) {
+            statsByEndpoint.put(endpoint, new EndpointStats());
+        }
+    }
+
+    public GameSessionResponse createGameSession(MapTemplate template, long seed) throws InterruptedException {
+        GameSessionRequest request = new GameSessionRequest();
+        request.setTemplate(template);
+        request.setSeed(seed);
+        return parse(send("createGameSession", post("/api/gamesession", request)), GameSessionResponse.class);
+    }
+
+    public GameSessionResponse getGameSession(String sessionId) throws InterruptedException {
+        return parse(send("getGameSession", get("/api/gamesession/" + sessionId)), GameSessionResponse.class);
+    }
+
+    public GameState getGameState(String sessionId) throws InterruptedException {
+        return parse(send("getGameState", get("/api/gamesession/" + sessionId + "/state")), GameState.class);
+    }
+
+    public JoinGameResponse joinGame(String sessionId, String teamId) throws InterruptedException {
+        JoinGameRequest request = new JoinGameRequest();
+        request.setTeamId(teamId);
+        return parse(send("joinGame", post("/api/gamesession/" + sessionId + "/join", request)), JoinGameResponse.class);
+    }
+
+    /**
+     * @return true if the move was accepted by the server
+     */
+    public boolean makeMove(String sessionId, MoveRequest request) throws InterruptedException {
+        return send("makeMove", post("/api/gamesession/" + sessionId + "/move", request)) != null;
+    }
+
+    public void deleteGameSession(String sessionId) throws InterruptedException {
+        send("deleteGameSession", HttpRequest.newBuilder(URI.create(baseUri + "/api/gamesession/" + sessionId)).DELETE());
+    }
+
+    public Map<String, EndpointStats> getStatsByEndpoint() {
+        return statsByEndpoint;
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUri + path)).GET();
+    }
+
+    private HttpRequest.Builder post(String path, Object body) {
+        return HttpRequest.newBuilder(URI.create(baseUri + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(gson.toJson(body)));
+    }
+
+    /**
+     * Sends the request and records its latency.
+     *
+     * @return the response or null if the request failed or the server answered with a status other than 2xx
+     */
+    private HttpResponse<String> send(String endpoint, HttpRequest.Builder builder) throws InterruptedException {
+        HttpRequest request = builder.timeout(Duration.ofSeconds(30)).build();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            boolean success = response.statusCode() / 100 == 2;
+            statsByEndpoint.get(endpoint).record(System.nanoTime() - start, success);
+            return success ? response : null;
+        } catch (IOException e) {
+            statsByEndpoint.get(endpoint).record(System.nanoTime() - start, false);
+            return null;
+        }
+    }
+
+    private <T> T parse(HttpResponse<String> response, Class<T> type) {
+        return response == null ? null : gson.fromJson(response.body(), type);
+    }
+}
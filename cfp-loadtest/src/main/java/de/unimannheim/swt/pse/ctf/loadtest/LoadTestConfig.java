@@ -0,0 +1,120 @@
+package de.unimannheim.swt.pse.ctf.loadtest;
+
+import com.google.gson.Gson;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class holds the configuration of a load test run.
+ * All values are given as key=value program arguments, e.g. {@code sessions=50 thinkTimeMillis=20}.
+ *
+ * @version 19.10.2026
+ */
+public class LoadTestConfig {
+
+    // map template which is used if no template files are given
+    private static final String DEFAULT_TEMPLATE = "/maptemplates/10x10_2teams_example.json";
+
+    // number of game sessions which are played at the same time
+    private int sessions = 10;
+
+    // duration of the whole run, sessions which are over are replaced by new ones until then
+    private int durationSeconds = 60;
+
+    // time a simulated player waits before submitting its move
+    private long thinkTimeMillis = 100;
+
+    // time between two polls of the session and the state by a simulated player
+    private long pollIntervalMillis = 250;
+
+    // seed of the game sessions and of the random move selection of the simulated players
+    private long seed = 42;
+
+    // file the summary is written to, it is always printed to stdout as well
+    private Path output;
+
+    private final List<MapTemplate> templates = new ArrayList<>();
+
+    /**
+     * Parses the program arguments.
+     *
+     * @param args key=value pairs, unknown keys are rejected
+     * @return the configuration
+     * @throws IOException if a template file cannot be read
+     */
+    public static LoadTestConfig parse(String[] args) throws IOException {
+        LoadTestConfig config = new LoadTestConfig();
+        Gson gson = new Gson();
+
+        for (String arg : args) {
+            String[] keyValue = arg.split("=", 2);
+            if (keyValue.length != 2) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            String value = keyValue[1];
+            switch (keyValue[0]) {
+                case "sessions" -> config.sessions = Integer.parseInt(value);
+                case "durationSeconds" -> config.durationSeconds = Integer.parseInt(value);
+                case "thinkTimeMillis" -> config.thinkTimeMillis = Long.parseLong(value);
+                case "pollIntervalMillis" -> config.pollIntervalMillis = Long.parseLong(value);
+                case "seed" -> config.seed = Long.parseLong(value);
+                case "output" -> config.output = Path.of(value);
+                case "templates" -> {
+                    for (String file : value.split(",")) {
+                        try (Reader reader = Files.newBufferedReader(Path.of(file.trim()), StandardCharsets.UTF_8)) {
+                            config.templates.add(gson.fromJson(reader, MapTemplate.class));
+                        }
+                    }
+                }
+                default -> throw new IllegalArgumentException("Unknown option: " + keyValue[0]);
+            }
+        }
+
+        if (config.templates.isEmpty()) {
+            try (InputStream in = LoadTestConfig.class.getResourceAsStream(DEFAULT_TEMPLATE)) {
+                if (in == null) {
+                    throw new IOException("Default map template not found: " + DEFAULT_TEMPLATE);
+                }
+                config.templates.add(gson.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), MapTemplate.class));
+            }
+        }
+        return config;
+    }
+
+    public int getSessions() {
+        return sessions;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public long getThinkTimeMillis() {
+        return thinkTimeMillis;
+    }
+
+    public long getPollIntervalMillis() {
+        return pollIntervalMillis;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public Path getOutput() {
+        return output;
+    }
+
+    public List<MapTemplate> getTemplates() {
+        return templates;
+    }
+}
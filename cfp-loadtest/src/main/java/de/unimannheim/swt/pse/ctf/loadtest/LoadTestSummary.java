@@ -0,0 +1,64 @@
+package de.unimannheim.swt.pse.ctf.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This class is the machine-readable result of a load test run, it is written as JSON.
+ * Heap and thread figures cover the whole JVM, i.e. the server and the simulated players.
+ *
+ * @version 19.10.2026
+ */
+public class LoadTestSummary {
+
+    /**
+     * Latency and error figures of one REST endpoint.
+     */
+    public static class Endpoint {
+        int requests;
+        int errors;
+        double throughputPerSecond;
+        double p50Millis;
+        double p99Millis;
+        double p999Millis;
+    }
+
+    int sessions;
+    int gamesStarted;
+    int gamesFinished;
+    double durationSeconds;
+    int totalRequests;
+    int totalErrors;
+    double throughputPerSecond;
+    long heapUsedBytes;
+    long heapPeakUsedBytes;
+    long heapMaxBytes;
+    int liveThreads;
+    int peakThreads;
+    final Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    /**
+     * Fills the per endpoint figures and the totals from the recorded statistics.
+     *
+     * @param statsByEndpoint the statistics recorded by the {@link LoadTestClient}
+     * @param durationSeconds the measured duration of the run
+     */
+    void addEndpoints(Map<String, EndpointStats> statsByEndpoint, double durationSeconds) {
+        this.durationSeconds = durationSeconds;
+        for (Map.Entry<String, EndpointStats> entry : statsByEndpoint.entrySet()) {
+            EndpointStats stats = entry.getValue();
+            Endpoint endpoint = new Endpoint();
+            endpoint.requests = stats.getCount();
+            endpoint.errors = stats.getErrors();
+            endpoint.throughputPerSecond = stats.getCount() / durationSeconds;
+            endpoint.p50Millis = stats.percentileMillis(50);
+            endpoint.p99Millis = stats.percentileMillis(99);
+            endpoint.p999Millis = stats.percentileMillis(99.9);
+            endpoints.put(entry.getKey(), endpoint);
+
+            totalRequests += endpoint.requests;
+            totalErrors += endpoint.errors;
+        }
+        throughputPerSecond = totalRequests / durationSeconds;
+    }
+}
@@ -0,0 +1,110 @@
+package de.unimannheim.swt.pse.ctf.loadtest;
+
+import de.unimannheim.swt.pse.ctf.controller.data.GameSessionResponse;
+import de.unimannheim.swt.pse.ctf.controller.data.MoveRequest;
+import de.unimannheim.swt.pse.ctf.game.engine.ValidMoveHelperMethods;
+import de.unimannheim.swt.pse.ctf.game.state.GameState;
+import de.unimannheim.swt.pse.ctf.game.state.Piece;
+import de.unimannheim.swt.pse.ctf.game.state.Team;
+
+import java.util.HashMap;
+import java.util.Random;
+
+/**
+ * This class simulates one player of a game session, like a bot of the client would do.
+ * It polls the session and the state, and whenever it is its turn it waits for the think time
+ * and submits a random legal move. It stops as soon as the game is over or the run ends.
+ *
+ * @version 19.10.2026
+ */
+public class SimulatedPlayer implements Runnable {
+
+    private final LoadTestClient client;
+    private final LoadTestConfig config;
+    private final String sessionId;
+    private final String teamId;
+    private final String teamSecret;
+    private final long deadlineNanos;
+    private final Random random;
+
+    // the move validation of the engine is reused to find the legal moves on the polled state
+    private final ValidMoveHelperMethods validMoveHelperMethods = new ValidMoveHelperMethods();
+
+    public SimulatedPlayer(LoadTestClient client, LoadTestConfig config, String sessionId, String teamId,
+                           String teamSecret, long deadlineNanos, long seed) {
+        this.client = client;
+        this.config = config;
+        this.sessionId = sessionId;
+        this.teamId = teamId;
+        this.teamSecret = teamSecret;
+        this.deadlineNanos = deadlineNanos;
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (System.nanoTime() < deadlineNanos) {
+                GameSessionResponse session = client.getGameSession(sessionId);
+                if (session == null || session.isGameOver()) {
+                    return;
+                }
+                GameState state = client.getGameState(sessionId);
+                if (state == null) {
+                    return;
+                }
+
+                Team current = state.getTeams()[state.getCurrentTeam()];
+                if (current != null && teamId.equals(current.getId())) {
+                    MoveRequest move = randomLegalMove(state, current);
+                    if (move != null) {
+                        Thread.sleep(config.getThinkTimeMillis());
+                        client.makeMove(sessionId, move);
+                        continue;
+                    }
+                }
+                Thread.sleep(config.getPollIntervalMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Picks one of all legal moves of the team with equal probability (reservoir sampling).
+     *
+     * @param state {@link GameState} the polled state
+     * @param team  {@link Team} the team of this player
+     * @return the move or null if the team cannot move
+     */
+    private MoveRequest randomLegalMove(GameState state, Team team) {
+        // the engine expects the oriented pieces of all teams, keyed by their name on the grid
+        HashMap<String, Piece> pieceByGridName = new HashMap<>();
+        for (Team t : state.getTeams()) {
+            if (t != null) {
+                for (Piece p : t.getPieces()) {
+                    pieceByGridName.put("p:" + p.getTeamId() + "_" + p.getId(), validMoveHelperMethods.orientedPiece(p, state));
+                }
+            }
+        }
+
+        MoveRequest chosen = null;
+        int candidates = 0;
+        for (Piece p : team.getPieces()) {
+            Piece piece = pieceByGridName.get("p:" + p.getTeamId() + "_" + p.getId());
+            int[][] possibleSquares = validMoveHelperMethods.possibleSquares(piece, state, pieceByGridName);
+            for (int row = 0; row < possibleSquares.length; row++) {
+                for (int column = 0; column < possibleSquares[row].length; column++) {
+                    if (possibleSquares[row][column] != -1 && random.nextInt(++candidates) == 0) {
+                        chosen = new MoveRequest();
+                        chosen.setTeamId(teamId);
+                        chosen.setTeamSecret(teamSecret);
+                        chosen.setPieceId(piece.getId());
+                        chosen.setNewPosition(new int[]{row, column});
+                    }
+                }
+            }
+        }
+        return chosen;
+    }
+}
@@ -1,28 +1,52 @@
 package de.unimannheim.swt.pse.ctf;
 
 import de.unimannheim.swt.pse.ctf.game.engine.Game;
-import de.unimannheim.swt.pse.ctf.game.engine.GameEngine;
+import de.unimannheim.swt.pse.ctf.game.engine.EngineFactory;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.ConfigurableApplicationContext;
 
+import java.util.function.UnaryOperator;
+
 /**
  * This is the main class (entry point) of your webservice.
  */
 @SpringBootApplication
 public class CtfApplication {
 	private static ConfigurableApplicationContext context;
+	// replaced by the EngineConfiguration as soon as the properties are read
+	private static EngineFactory engineFactory = EngineFactory.reference();
+	// applied to every new engine, the SessionTracker uses it to learn the game of a new session
+	private static UnaryOperator<Game> engineHook = UnaryOperator.identity();
 	public static void main(String[] args) {
 		context = SpringApplication.run(CtfApplication.class, args);
 	}
 
 	/**
-	 * FIXME You need to return your game engine implementation here. Return an instance here.
+	 * Creates the game engine of a new session as configured with {@code ctf.engine.mode}.
 	 *
 	 * @return your {@link Game} engine.
 	 */
 	public static Game createGameEngine() {
-		return new GameEngine();
+		return engineHook.apply(engineFactory.create());
+	}
+
+	/**
+	 * Sets the operation applied to every engine created by {@link #createGameEngine()}, before the engine is used.
+	 *
+	 * @param hook returns the engine to use, usually the given one
+	 */
+	public static void setEngineHook(UnaryOperator<Game> hook) {
+		engineHook = hook;
+	}
+
+	/**
+	 * Sets the factory used by {@link #createGameEngine()}.
+	 *
+	 * @param factory the {@link EngineFactory} of all new sessions
+	 */
+	static void setEngineFactory(EngineFactory factory) {
+		engineFactory = factory;
 	}
 
 	 /**
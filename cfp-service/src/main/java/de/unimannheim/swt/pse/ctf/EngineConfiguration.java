@@ -0,0 +1,66 @@
+package de.unimannheim.swt.pse.ctf;
+
+import de.unimannheim.swt.pse.ctf.game.engine.EngineFactory;
+import de.unimannheim.swt.pse.ctf.game.engine.EngineMode;
+import de.unimannheim.swt.pse.ctf.game.engine.GameEngine;
+import de.unimannheim.swt.pse.ctf.game.engine.ShadowMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Selects the game engine of new sessions with the following properties:
+ *
+ * <ul>
+ *  <li>{@code ctf.engine.mode} reference, optimized or shadow,</li>
+ *  <li>{@code ctf.engine.optimized-class} the {@link de.unimannheim.swt.pse.ctf.game.engine.Game} implementation
+ *  used as optimized engine,</li>
+ *  <li>{@code ctf.engine.shadow.threads} the threads replaying the sessions on the optimized engine in shadow mode, and</li>
+ *  <li>{@code ctf.engine.shadow.queue-capacity} the operations waiting for these threads, before games are dropped.</li>
+ * </ul>
+ *
+ * @version 19.10.2026
+ */
+@Configuration
+public class EngineConfiguration {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EngineConfiguration.class);
+
+    @Bean
+    public ShadowMetrics shadowMetrics() {
+        return new ShadowMetrics();
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ThreadPoolExecutor shadowExecutor(@Value("${ctf.engine.shadow.threads:2}") int threads,
+                                             @Value("${ctf.engine.shadow.queue-capacity:10000}") int queueCapacity) {
+        AtomicInteger count = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "shadow-engine-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Bean
+    public EngineFactory engineFactory(@Value("${ctf.engine.mode:reference}") String mode,
+                                       @Value("${ctf.engine.optimized-class:}") String optimizedClass,
+                                       ThreadPoolExecutor shadowExecutor, ShadowMetrics shadowMetrics) {
+        EngineMode engineMode = EngineMode.valueOf(mode.trim().toUpperCase());
+        String className = optimizedClass.isBlank() ? GameEngine.class.getName() : optimizedClass.trim();
+
+        EngineFactory factory = new EngineFactory(engineMode, GameEngine::new, EngineFactory.byClassName(className),
+                shadowExecutor, shadowMetrics);
+        CtfApplication.setEngineFactory(factory);
+        LOG.info("game engine mode {}, optimized engine {}", engineMode, className);
+        return factory;
+    }
+}
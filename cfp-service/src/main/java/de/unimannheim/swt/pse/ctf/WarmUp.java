@@ -0,0 +1,338 @@
+package de.unimannheim.swt.pse.ctf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.unimannheim.swt.pse.ctf.controller.data.MoveRequest;
+import de.unimannheim.swt.pse.ctf.game.engine.EngineFactory;
+import de.unimannheim.swt.pse.ctf.game.engine.Game;
+import de.unimannheim.swt.pse.ctf.game.engine.GameEngine;
+import de.unimannheim.swt.pse.ctf.game.engine.Seedable;
+import de.unimannheim.swt.pse.ctf.game.engine.ValidMoveHelperMethods;
+import de.unimannheim.swt.pse.ctf.game.map.Bishop;
+import de.unimannheim.swt.pse.ctf.game.map.King;
+import de.unimannheim.swt.pse.ctf.game.map.Knight;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.game.map.Pawn;
+import de.unimannheim.swt.pse.ctf.game.map.PieceDescription;
+import de.unimannheim.swt.pse.ctf.game.map.PlacementType;
+import de.unimannheim.swt.pse.ctf.game.map.Queen;
+import de.unimannheim.swt.pse.ctf.game.map.Rook;
+import de.unimannheim.swt.pse.ctf.game.state.GameState;
+import de.unimannheim.swt.pse.ctf.game.state.Move;
+import de.unimannheim.swt.pse.ctf.game.state.Piece;
+import de.unimannheim.swt.pse.ctf.game.state.Team;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Plays synthetic games in-process at startup, so that the paths through the game engine, the
+ * {@link ValidMoveHelperMethods}, the piece placement and Jackson are compiled before the first real game.
+ * The engines are created by the {@link EngineFactory} of the sessions, so the warm-up runs the engine configured
+ * with {@code ctf.engine.mode}, in shadow mode wrapped in the same {@link de.unimannheim.swt.pse.ctf.game.engine.ShadowGame}.
+ * Spring Boot only signals readiness after all {@link ApplicationRunner}s are done, so the server reports
+ * itself ready after the warm-up.
+ * <p>
+ * The games cycle through every placement type with 2-4 teams and two flags per team. Captures are preferred,
+ * so that pieces are beaten and respawn after a base capture. Teams of games with more than two teams give up
+ * from time to time, and games which are not over after the maximum number of moves are ended by give-ups.
+ * <p>
+ * The warm-up is disabled by default and enabled with {@code ctf.warmup.games}, further properties are
+ * {@code ctf.warmup.seed}, {@code ctf.warmup.max-moves} and {@code ctf.warmup.tolerance}.
+ *
+ * @version 19.10.2026
+ */
+@Component
+public class WarmUp implements ApplicationRunner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WarmUp.class);
+
+    private static final int[] GRID_SIZES = {10, 20};
+    // one game per combination of placement type, number of teams and grid size, so that two windows are comparable
+    private static final int WINDOW = PlacementType.values().length * 3 * GRID_SIZES.length;
+    private static final PieceDescription[] PIECE_TYPES = {
+            new Pawn(), new Rook(), new Knight(), new Bishop(), new Queen(), new King()
+    };
+
+    private final ObjectMapper objectMapper;
+    private final EngineFactory engineFactory;
+    private final WarmUpReport report;
+    private final int games;
+    private final long seed;
+    private final int maxMoves;
+    private final double tolerance;
+
+    public WarmUp(ObjectMapper objectMapper, EngineFactory engineFactory, WarmUpReport report,
+                  @Value("${ctf.warmup.games:0}") int games,
+                  @Value("${ctf.warmup.seed:2024}") long seed,
+                  @Value("${ctf.warmup.max-moves:400}") int maxMoves,
+                  @Value("${ctf.warmup.tolerance:0.1}") double tolerance) {
+        this.objectMapper = objectMapper;
+        this.engineFactory = engineFactory;
+        this.report = report;
+        this.games = games;
+        this.seed = seed;
+        this.maxMoves = maxMoves;
+        this.tolerance = tolerance;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (this.games <= 0) {
+            return;
+        }
+        LOG.info("warm-up with {} games started", this.games);
+        this.report.started(this.games);
+
+        CompilationMXBean compilation = ManagementFactory.getCompilationMXBean();
+        boolean compilationTimed = compilation != null && compilation.isCompilationTimeMonitoringSupported();
+        long compilationStart = compilationTimed ? compilation.getTotalCompilationTime() : 0;
+        long start = System.nanoTime();
+
+        SplittableRandom random = new SplittableRandom(this.seed);
+        List<Double> microsPerMove = new ArrayList<>();
+        for (int game = 0; game < this.games; game++) {
+            try {
+                long gameStart = System.nanoTime();
+                int moves = play(template(game), random.split());
+                double micros = (System.nanoTime() - gameStart) / 1000.0 / Math.max(1, moves);
+                this.report.gamePlayed(moves, micros);
+                microsPerMove.add(micros);
+            } catch (RuntimeException e) {
+                // a broken synthetic game must not prevent the server from starting
+                this.report.gameFailed();
+                LOG.debug("warm-up game {} failed", game, e);
+            }
+            if (isSteady(microsPerMove)) {
+                this.report.steadyStateReached(game + 1);
+            }
+        }
+
+        long durationMillis = (System.nanoTime() - start) / 1_000_000;
+        long compilationMillis = compilationTimed ? compilation.getTotalCompilationTime() - compilationStart : -1;
+        this.report.finished(durationMillis, compilationMillis);
+        LOG.info("warm-up finished after {} ms: {}", durationMillis, this.report.snapshot());
+    }
+
+    /**
+     * This method is used to check if the mean time per move of the last window of games is within the tolerance
+     * of the window before.
+     *
+     * @param microsPerMove {@link List} the time per move of every played game
+     * @return true if the steady state is reached
+     */
+    private boolean isSteady(List<Double> microsPerMove) {
+        int size = microsPerMove.size();
+        if (size < 2 * WINDOW) {
+            return false;
+        }
+        double last = microsPerMove.subList(size - WINDOW, size).stream().mapToDouble(Double::doubleValue).average().orElse(0);
+        double before = microsPerMove.subList(size - 2 * WINDOW, size - WINDOW).stream().mapToDouble(Double::doubleValue).average().orElse(0);
+        return before > 0 && Math.abs(last - before) / before <= this.tolerance;
+    }
+
+    /**
+     * This method is used to create the template of a warm-up game. The games cycle through the placement types,
+     * the number of teams and the grid sizes, so that every combination is played.
+     *
+     * @param game {@link int} the index of the game
+     * @return the map template
+     */
+    private static MapTemplate template(int game) {
+        PlacementType[] placements = PlacementType.values();
+        PlacementType placement = placements[game % placements.length];
+        int teams = 2 + (game / placements.length) % 3;
+        int gridSize = GRID_SIZES[(game / (placements.length * 3)) % GRID_SIZES.length];
+        // the placement types cannot position more pieces on small grids
+        int pieces = Math.max(1, Math.min(2 * PIECE_TYPES.length, gridSize * gridSize / (teams * 8)));
+
+        List<PieceDescription> descriptions = new ArrayList<>();
+        for (int i = 0; i < PIECE_TYPES.length; i++) {
+            int count = pieces / PIECE_TYPES.length + (i < pieces % PIECE_TYPES.length ? 1 : 0);
+            if (count > 0) {
+                PieceDescription description = new PieceDescription();
+                description.setType(PIECE_TYPES[i].getType());
+                description.setAttackPower(PIECE_TYPES[i].getAttackPower());
+                description.setMovement(PIECE_TYPES[i].getMovement());
+                description.setCount(count);
+                descriptions.add(description);
+            }
+        }
+
+        MapTemplate template = new MapTemplate();
+        template.setGridSize(new int[]{gridSize, gridSize});
+        template.setTeams(teams);
+        template.setFlags(2);
+        template.setBlocks(gridSize / 2);
+        template.setPlacement(placement);
+        template.setPieces(descriptions.toArray(new PieceDescription[0]));
+        template.setTotalTimeLimitInSeconds(-1);
+        template.setMoveTimeLimitInSeconds(-1);
+        return template;
+    }
+
+    /**
+     * This method is used to play a warm-up game until it is over. Every state is serialized and every move
+     * deserialized as a request, as the controller does.
+     *
+     * @param template {@link MapTemplate} the map template
+     * @param random   {@link SplittableRandom} the source of the seed and the choice of the moves
+     * @return the number of moves made
+     */
+    private int play(MapTemplate template, SplittableRandom random) {
+        Game engine = this.engineFactory.create();
+        long seed = random.nextLong();
+        if (engine instanceof Seedable seedable) {
+            seedable.setSeed(seed);
+        }
+        try {
+            engine.create(template);
+            for (int i = 0; i < template.getTeams(); i++) {
+                engine.joinGame("team" + i);
+            }
+
+            int moves = 0;
+            while (!engine.isGameOver()) {
+                GameState state = engine.getCurrentGameState();
+                serialize(state);
+                Team team = state.getTeams()[state.getCurrentTeam()];
+                if (team == null) {
+                    throw new IllegalStateException("the current team has left the game");
+                }
+
+                Move move = moves < this.maxMoves ? chooseMove(engine, team, random) : null;
+                if (move == null || (state.getTeams().length > 2 && random.nextInt(50) == 0)) {
+                    engine.giveUp(team.getId());
+                } else {
+                    engine.makeMove(deserialize(move));
+                    moves++;
+                }
+            }
+            serialize(engine.getCurrentGameState());
+            engine.getWinner();
+            return moves;
+        } finally {
+            // a game that is over has stopped its timers already, a failed one is left behind like an abandoned session
+            if (engine instanceof GameEngine gameEngine) {
+                gameEngine.shutdownScheduler();
+            }
+        }
+    }
+
+    /**
+     * This method is used to choose a random legal move of a team, captures are preferred. The pieces are taken
+     * from the grid of the game state, so that every {@link Game} implementation can be warmed up.
+     *
+     * @param engine {@link Game} the running game
+     * @param team   {@link Team} the team whose turn it is
+     * @param random {@link SplittableRandom} the source of the choice
+     * @return the move or null if the team cannot move
+     */
+    private static Move chooseMove(Game engine, Team team, SplittableRandom random) {
+        ValidMoveHelperMethods validMoveHelperMethods = new ValidMoveHelperMethods();
+        GameState state = engine.getCurrentGameState();
+        HashMap<String, Piece> pieceByGridName = piecesOnGrid(state, validMoveHelperMethods);
+        List<Move> moves = new ArrayList<>();
+        List<Move> captures = new ArrayList<>();
+        for (Piece p : team.getPieces()) {
+            Piece piece = pieceByGridName.get("p:" + p.getTeamId() + "_" + p.getId());
+            if (piece == null) {
+                continue;
+            }
+            int[][] possibleSquares = validMoveHelperMethods.possibleSquares(piece, state, pieceByGridName);
+            for (int row = 0; row < possibleSquares.length; row++) {
+                for (int column = 0; column < possibleSquares[row].length; column++) {
+                    if (possibleSquares[row][column] != -1) {
+                        Move move = new Move();
+                        move.setTeamId(team.getId());
+                        move.setPieceId(piece.getId());
+                        move.setNewPosition(new int[]{row, column});
+                        (possibleSquares[row][column] > 0 ? captures : moves).add(move);
+                    }
+                }
+            }
+        }
+        if (!captures.isEmpty() && (moves.isEmpty() || random.nextBoolean())) {
+            return captures.get(random.nextInt(captures.size()));
+        }
+        return moves.isEmpty() ? null : moves.get(random.nextInt(moves.size()));
+    }
+
+    /**
+     * This method is used to map the grid names of the pieces on the grid to oriented copies of them, positioned
+     * where the grid shows them. The pieces of the game state are not changed.
+     *
+     * @param state                  {@link GameState} the current game state
+     * @param validMoveHelperMethods {@link ValidMoveHelperMethods} orients the pieces
+     * @return the pieces by their grid name, as {@link GameEngine#pieceByGridName} holds them
+     */
+    private static HashMap<String, Piece> piecesOnGrid(GameState state, ValidMoveHelperMethods validMoveHelperMethods) {
+        HashMap<String, Piece> pieces = new HashMap<>();
+        for (Team team : state.getTeams()) {
+            if (team == null) {
+                continue;
+            }
+            for (Piece p : team.getPieces()) {
+                pieces.put("p:" + p.getTeamId() + "_" + p.getId(), p);
+            }
+        }
+
+        HashMap<String, Piece> pieceByGridName = new HashMap<>();
+        String[][] grid = state.getGrid();
+        for (int row = 0; row < grid.length; row++) {
+            for (int column = 0; column < grid[row].length; column++) {
+                Piece p = pieces.get(grid[row][column]);
+                if (p == null) {
+                    continue;
+                }
+                Piece piece = new Piece();
+                piece.setTeamId(p.getTeamId());
+                piece.setId(p.getId());
+                piece.setDescription(p.getDescription());
+                piece.setPosition(new int[]{row, column});
+                pieceByGridName.put(grid[row][column], validMoveHelperMethods.orientedPiece(piece, state));
+            }
+        }
+        return pieceByGridName;
+    }
+
+    private void serialize(GameState state) {
+        try {
+            this.objectMapper.writeValueAsBytes(state);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * This method is used to send a move through Jackson as a {@link MoveRequest}, as it arrives at the controller.
+     *
+     * @param move {@link Move} the chosen move
+     * @return the move built from the deserialized request
+     */
+    private Move deserialize(Move move) {
+        MoveRequest request = new MoveRequest();
+        request.setTeamId(move.getTeamId());
+        request.setPieceId(move.getPieceId());
+        request.setNewPosition(move.getNewPosition());
+        try {
+            MoveRequest parsed = this.objectMapper.readValue(this.objectMapper.writeValueAsBytes(request), MoveRequest.class);
+            Move result = new Move();
+            result.setTeamId(parsed.getTeamId());
+            result.setPieceId(parsed.getPieceId());
+            result.setNewPosition(parsed.getNewPosition());
+            return result;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package de.unimannheim.swt.pse.ctf;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This class is being used to report the progress of the warm-up at startup, as it is returned by the
+ * metrics endpoint. The steady state is reached as soon as the mean time per move of the last round of
+ * warm-up templates stays within the configured tolerance of the round before.
+ *
+ * @version 19.10.2026
+ */
+@Component
+public class WarmUpReport {
+
+    private int plannedGames;
+    private int playedGames;
+    private int failedGames;
+    private long moves;
+    private double firstGameMicrosPerMove;
+    private double lastGameMicrosPerMove;
+    // the number of games after which the steady state was reached, -1 if it was not reached
+    private int steadyStateAfterGames = -1;
+    private long compilationMillis = -1;
+    private long durationMillis;
+    private boolean finished;
+
+    synchronized void started(int plannedGames) {
+        this.plannedGames = plannedGames;
+    }
+
+    synchronized void gamePlayed(long moves, double microsPerMove) {
+        this.playedGames++;
+        this.moves += moves;
+        if (this.playedGames == 1) {
+            this.firstGameMicrosPerMove = microsPerMove;
+        }
+        this.lastGameMicrosPerMove = microsPerMove;
+    }
+
+    synchronized void gameFailed() {
+        this.failedGames++;
+    }
+
+    synchronized void steadyStateReached(int games) {
+        if (this.steadyStateAfterGames < 0) {
+            this.steadyStateAfterGames = games;
+        }
+    }
+
+    synchronized void finished(long durationMillis, long compilationMillis) {
+        this.durationMillis = durationMillis;
+        this.compilationMillis = compilationMillis;
+        this.finished = true;
+    }
+
+    public synchronized boolean isSteadyState() {
+        return this.steadyStateAfterGames >= 0;
+    }
+
+    /**
+     * This method is used to create a snapshot of the report.
+     *
+     * @return the values by name
+     */
+    public synchronized Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("plannedGames", this.plannedGames);
+        snapshot.put("playedGames", this.playedGames);
+        snapshot.put("failedGames", this.failedGames);
+        snapshot.put("moves", this.moves);
+        snapshot.put("firstGameMicrosPerMove", this.firstGameMicrosPerMove);
+        snapshot.put("lastGameMicrosPerMove", this.lastGameMicrosPerMove);
+        snapshot.put("steadyState", isSteadyState());
+        snapshot.put("steadyStateAfterGames", this.steadyStateAfterGames);
+        snapshot.put("compilationMillis", this.compilationMillis);
+        snapshot.put("durationMillis", this.durationMillis);
+        snapshot.put("finished", this.finished);
+        return snapshot;
+    }
+}
@@ -0,0 +1,196 @@
+package de.unimannheim.swt.pse.ctf.admission;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.unimannheim.swt.pse.ctf.controller.data.GameSessionRequest;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.session.SessionStore;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Protects the game session endpoints from clients sending more requests than the server can serve:
+ *
+ * <ul>
+ *  <li>at most {@code ctf.admission.max-concurrent-requests} requests are served at the same time, further
+ *  requests are rejected with 429 Too Many Requests and a Retry-After header,</li>
+ *  <li>the requests to a game session are limited by a token bucket per session and client address, with
+ *  {@code ctf.admission.bucket.capacity} and {@code ctf.admission.bucket.refill-per-second}. Requests carrying the
+ *  secret of a team of the session get a bucket per team, so that teams playing from the same address do not share
+ *  one; other secrets are ignored, as a client could get a new bucket with every made-up secret, and</li>
+ *  <li>new game sessions are rejected with 422 Unprocessable Entity if their map template exceeds the budgets
+ *  {@code ctf.admission.max-cpu-cost} or {@code ctf.admission.max-memory-bytes} of the {@link TemplateCostModel}.
+ *  Templates referenced by id were checked against the same budgets when they were registered.</li>
+ * </ul>
+ * <p>
+ * The filter is placed in front of the controller, which must not be modified, and is switched off with
+ * {@code ctf.admission.enabled=false}.
+ *
+ * @version 19.10.2026
+ */
+@Component
+public class AdmissionFilter extends OncePerRequestFilter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdmissionFilter.class);
+
+    private static final String SESSIONS_PATH = "/api/gamesession";
+
+    private final ObjectMapper objectMapper;
+    private final SessionStore sessionStore;
+    private final boolean enabled;
+    private final int maxConcurrentRequests;
+    private final Semaphore concurrentRequests;
+    private final RateLimiter rateLimiter;
+    private final TemplateCostModel costModel;
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder overloaded = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder templatesRejected = new LongAdder();
+
+    public AdmissionFilter(ObjectMapper objectMapper, SessionStore sessionStore,
+                           @Value("${ctf.admission.enabled:true}") boolean enabled,
+                           @Value("${ctf.admission.max-concurrent-requests:256}") int maxConcurrentRequests,
+                           @Value("${ctf.admission.bucket.capacity:50}") double bucketCapacity,
+                           @Value("${ctf.admission.bucket.refill-per-second:25}") double refillPerSecond,
+                           @Value("${ctf.admission.max-cpu-cost:25000000}") long maxCpuCost,
+                           @Value("${ctf.admission.max-memory-bytes:268435456}") long maxMemoryBytes) {
+        this.objectMapper = objectMapper;
+        this.sessionStore = sessionStore;
+        this.enabled = enabled;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.concurrentRequests = new Semaphore(maxConcurrentRequests);
+        this.rateLimiter = new RateLimiter(bucketCapacity, refillPerSecond);
+        this.costModel = new TemplateCostModel(maxCpuCost, maxMemoryBytes);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !this.enabled || !path(request).startsWith(SESSIONS_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!this.concurrentRequests.tryAcquire()) {
+            this.overloaded.increment();
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, 1, "Server overloaded");
+            return;
+        }
+        try {
+            HttpServletRequest admittedRequest = this.admit(request, response);
+            if (admittedRequest != null) {
+                this.admitted.increment();
+                filterChain.doFilter(admittedRequest, response);
+            }
+        } finally {
+            this.concurrentRequests.release();
+        }
+    }
+
+    /**
+     * Applies the template budgets and the rate limit.
+     *
+     * @return the request to pass on, with its body cached if it was read, or null if the request was rejected
+     */
+    private HttpServletRequest admit(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String path = path(request);
+        boolean post = "POST".equalsIgnoreCase(request.getMethod());
+        CachedBodyRequest cached = post ? new CachedBodyRequest(request) : null;
+
+        // creation of a new session: POST /api/gamesession
+        if (path.length() <= SESSIONS_PATH.length() + 1) {
+            if (cached != null) {
+                String reason = this.costModel.rejectionReason(this.readTemplate(cached.getBody()));
+                if (reason != null) {
+                    this.templatesRejected.increment();
+                    LOG.info("rejected game session: {}", reason);
+                    reject(response, HttpStatus.UNPROCESSABLE_ENTITY, 0, reason);
+                    return null;
+                }
+            }
+            return cached == null ? request : cached;
+        }
+
+        // requests to an existing session: /api/gamesession/{sessionId}/...
+        String sessionId = path.substring(SESSIONS_PATH.length() + 1).split("/", 2)[0];
+        String teamSecret = cached == null ? null : this.readTeamSecret(cached.getBody());
+        String key = sessionId + "/address:" + request.getRemoteAddr();
+        if (this.sessionStore.isTeamSecret(sessionId, teamSecret)) {
+            key += "/secret:" + teamSecret;
+        }
+        long wait = this.rateLimiter.tryAcquire(key, System.nanoTime());
+        if (wait > 0) {
+            this.rateLimited.increment();
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, TimeUnit.NANOSECONDS.toSeconds(wait) + 1, "Rate limit exceeded");
+            return null;
+        }
+        return cached == null ? request : cached;
+    }
+
+    /**
+     * @return the template of a game session request, or null if the body can not be read (the controller reports that)
+     */
+    private MapTemplate readTemplate(byte[] body) {
+        try {
+            return this.objectMapper.readValue(body, GameSessionRequest.class).getTemplate();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the team secret of a move or give up request, or null if there is none
+     */
+    private String readTeamSecret(byte[] body) {
+        try {
+            JsonNode teamSecret = this.objectMapper.readTree(body).get("teamSecret");
+            return teamSecret != null && teamSecret.isTextual() ? teamSecret.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String reason)
+            throws IOException {
+        if (retryAfterSeconds > 0) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        }
+        response.sendError(status.value(), reason);
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    /**
+     * @return the counts of admitted and rejected requests and the number of rate limited keys
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("enabled", this.enabled);
+        snapshot.put("admitted", this.admitted.sum());
+        snapshot.put("overloaded", this.overloaded.sum());
+        snapshot.put("rateLimited", this.rateLimited.sum());
+        snapshot.put("templatesRejected", this.templatesRejected.sum());
+        snapshot.put("inFlight", this.maxConcurrentRequests - this.concurrentRequests.availablePermits());
+        snapshot.put("buckets", this.rateLimiter.size());
+        return snapshot;
+    }
+}
@@ -0,0 +1,56 @@
+package de.unimannheim.swt.pse.ctf.admission;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps a {@link TokenBucket} per key, e.g. per game session and team. Buckets that refilled completely are
+ * dropped from time to time, so that ended sessions do not accumulate.
+ *
+ * @version 19.10.2026
+ */
+public class RateLimiter {
+
+    // the number of requests after which full buckets are dropped
+    private static final long SWEEP_INTERVAL = 10_000;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong requests = new AtomicLong();
+    private final double capacity;
+    private final double tokensPerSecond;
+
+    /**
+     * Creates a rate limiter.
+     *
+     * @param capacity        the burst every key is allowed
+     * @param tokensPerSecond the sustained requests per second every key is allowed
+     */
+    public RateLimiter(double capacity, double tokensPerSecond) {
+        this.capacity = capacity;
+        this.tokensPerSecond = tokensPerSecond;
+    }
+
+    /**
+     * Takes a token from the bucket of the key.
+     *
+     * @param key the key, e.g. the session id and team secret
+     * @param now the current time in nanoseconds
+     * @return 0 if the request is admitted, otherwise the nanoseconds until the key is admitted again
+     */
+    public long tryAcquire(String key, long now) {
+        long wait = this.buckets.computeIfAbsent(key, k -> new TokenBucket(this.capacity, this.tokensPerSecond, now))
+                .tryAcquire(now);
+        if (this.requests.incrementAndGet() % SWEEP_INTERVAL == 0) {
+            this.buckets.values().removeIf(bucket -> bucket.isFull(now));
+        }
+        return wait;
+    }
+
+    /**
+     * @return the number of keys with a bucket
+     */
+    public int size() {
+        return this.buckets.size();
+    }
+}
@@ -0,0 +1,101 @@
+package de.unimannheim.swt.pse.ctf.admission;
+
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.game.map.PieceDescription;
+
+/**
+ * Estimates the cost of a game session from its {@link MapTemplate}, so that templates whose games would take
+ * too much CPU or memory are rejected before an engine is created.
+ * <p>
+ * The CPU cost is the number of grid cells times the pieces per team times the number of teams, as the move
+ * validation and the game over checks look at the reachable cells of every piece. The memory is estimated with
+ * rough sizes for a grid cell and a piece including its position and lookup entries.
+ *
+ * @version 19.10.2026
+ */
+public class TemplateCostModel {
+
+    // a reference in the grid plus its share of the cell label strings
+    static final long BYTES_PER_CELL = 48;
+    // a piece, its position array and its entries in the lookup maps of the engine
+    static final long BYTES_PER_PIECE = 192;
+
+    private final long maxCpuCost;
+    private final long maxMemoryBytes;
+
+    /**
+     * Creates a cost model.
+     *
+     * @param maxCpuCost     the highest accepted CPU cost, 0 or less for no limit
+     * @param maxMemoryBytes the highest accepted memory estimate in bytes, 0 or less for no limit
+     */
+    public TemplateCostModel(long maxCpuCost, long maxMemoryBytes) {
+        this.maxCpuCost = maxCpuCost;
+        this.maxMemoryBytes = maxMemoryBytes;
+    }
+
+    /**
+     * @param template the map template
+     * @return the number of grid cells times the pieces per team times the number of teams
+     */
+    public static long cpuCost(MapTemplate template) {
+        return saturatedMultiply(saturatedMultiply(cells(template), piecesPerTeam(template)), Math.max(0, template.getTeams()));
+    }
+
+    /**
+     * @param template the map template
+     * @return the estimated memory of a game with this template in bytes
+     */
+    public static long memoryBytes(MapTemplate template) {
+        long pieces = saturatedMultiply(piecesPerTeam(template), Math.max(0, template.getTeams()));
+        long bytes = saturatedMultiply(cells(template), BYTES_PER_CELL) + saturatedMultiply(pieces, BYTES_PER_PIECE);
+        return bytes < 0 ? Long.MAX_VALUE : bytes;
+    }
+
+    /**
+     * Checks a template against the budgets.
+     *
+     * @param template the map template
+     * @return the reason the template is rejected or null if it is within the budgets
+     */
+    public String rejectionReason(MapTemplate template) {
+        if (template == null) {
+            return null;
+        }
+        long cpuCost = cpuCost(template);
+        if (this.maxCpuCost > 0 && cpuCost > this.maxCpuCost) {
+            return "Map template too expensive: CPU cost " + cpuCost + " exceeds " + this.maxCpuCost;
+        }
+        long memoryBytes = memoryBytes(template);
+        if (this.maxMemoryBytes > 0 && memoryBytes > this.maxMemoryBytes) {
+            return "Map template too expensive: estimated memory " + memoryBytes + " bytes exceeds " + this.maxMemoryBytes;
+        }
+        return null;
+    }
+
+    private static long cells(MapTemplate template) {
+        int[] gridSize = template.getGridSize();
+        if (gridSize == null || gridSize.length < 2) {
+            return 0;
+        }
+        return (long) Math.max(0, gridSize[0]) * Math.max(0, gridSize[1]);
+    }
+
+    private static long piecesPerTeam(MapTemplate template) {
+        long pieces = 0;
+        if (template.getPieces() != null) {
+            for (PieceDescription description : template.getPieces()) {
+                if (description != null) {
+                    pieces += Math.max(0, description.getCount());
+                }
+            }
+        }
+        return pieces;
+    }
+
+    private static long saturatedMultiply(long a, long b) {
+        long high = Math.multiplyHigh(a, b);
+        long product = a * b;
+        return high != 0 || product < 0 ? Long.MAX_VALUE : product;
+    }
+}
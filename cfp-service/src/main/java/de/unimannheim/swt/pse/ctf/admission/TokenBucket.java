@@ -0,0 +1,62 @@
+package de.unimannheim.swt.pse.ctf.admission;
+
+/**
+ * A token bucket, which allows bursts of up to its capacity and refills at a constant rate.
+ * The time is passed in by the caller in nanoseconds, as returned by {@link System#nanoTime()}.
+ *
+ * @version 19.10.2026
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefill;
+
+    /**
+     * Creates a full token bucket.
+     *
+     * @param capacity        the maximum number of tokens
+     * @param tokensPerSecond the tokens added per second
+     * @param now             the current time in nanoseconds
+     */
+    public TokenBucket(double capacity, double tokensPerSecond, long now) {
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / 1e9;
+        this.tokens = capacity;
+        this.lastRefill = now;
+    }
+
+    /**
+     * Takes a token from the bucket if there is one.
+     *
+     * @param now the current time in nanoseconds
+     * @return 0 if a token was taken, otherwise the nanoseconds until the next token is available
+     */
+    public synchronized long tryAcquire(long now) {
+        this.refill(now);
+        if (this.tokens >= 1) {
+            this.tokens--;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - this.tokens) / this.tokensPerNano));
+    }
+
+    /**
+     * Checks if the bucket refilled completely, in which case it behaves like a new bucket and can be dropped.
+     *
+     * @param now the current time in nanoseconds
+     * @return true if the bucket is full
+     */
+    public synchronized boolean isFull(long now) {
+        this.refill(now);
+        return this.tokens >= this.capacity;
+    }
+
+    private void refill(long now) {
+        if (now > this.lastRefill) {
+            this.tokens = Math.min(this.capacity, this.tokens + (now - this.lastRefill) * this.tokensPerNano);
+            this.lastRefill = now;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package de.unimannheim.swt.pse.ctf.controller;
+
+import de.unimannheim.swt.pse.ctf.WarmUpReport;
+import de.unimannheim.swt.pse.ctf.admission.AdmissionFilter;
+import de.unimannheim.swt.pse.ctf.game.engine.EngineFactory;
+import de.unimannheim.swt.pse.ctf.game.engine.ShadowMetrics;
+import de.unimannheim.swt.pse.ctf.spectator.SpectatorHub;
+import de.unimannheim.swt.pse.ctf.template.TemplateRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This controller class defines the endpoint GET `/api/engine/metrics` for retrieving the configured engine mode,
+ * the metrics of the shadow mode, the progress of the warm-up, the admission control, the spectator streams and
+ * the registered map templates.
+ *
+ * @version 19.10.2026
+ */
+@RestController
+@RequestMapping("/api")
+public class EngineMetricsController {
+
+    private final EngineFactory engineFactory;
+    private final ShadowMetrics shadowMetrics;
+    private final WarmUpReport warmUpReport;
+    private final AdmissionFilter admissionFilter;
+    private final SpectatorHub spectatorHub;
+    private final TemplateRegistry templateRegistry;
+
+    public EngineMetricsController(EngineFactory engineFactory, ShadowMetrics shadowMetrics, WarmUpReport warmUpReport,
+                                   AdmissionFilter admissionFilter, SpectatorHub spectatorHub,
+                                   TemplateRegistry templateRegistry) {
+        this.engineFactory = engineFactory;
+        this.shadowMetrics = shadowMetrics;
+        this.warmUpReport = warmUpReport;
+        this.admissionFilter = admissionFilter;
+        this.spectatorHub = spectatorHub;
+        this.templateRegistry = templateRegistry;
+    }
+
+    /**
+     * You can retrieve the engine metrics by sending a `GET` request to the `/api/engine/metrics` endpoint.
+     * In shadow mode, they contain the divergences of the optimized engine and the mean latencies of both engines.
+     * If the warm-up is enabled, they show whether its games reached the steady state of the compiled code.
+     * The admission counts show how many requests were rejected because of overload, rate limits or map templates.
+     *
+     * @return the metrics by name
+     */
+    @Operation(summary = "Get the engine metrics")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Engine metrics returned"),
+            @ApiResponse(responseCode = "500", description = "Unknown error occurred")
+    })
+    @GetMapping("/engine/metrics")
+    public Map<String, Object> getEngineMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("mode", this.engineFactory.getMode().name().toLowerCase());
+        metrics.put("shadow", this.shadowMetrics.snapshot());
+        metrics.put("warmup", this.warmUpReport.snapshot());
+        metrics.put("admission", this.admissionFilter.snapshot());
+        metrics.put("spectators", this.spectatorHub.snapshot());
+        metrics.put("templates", this.templateRegistry.snapshot());
+        return metrics;
+    }
+}
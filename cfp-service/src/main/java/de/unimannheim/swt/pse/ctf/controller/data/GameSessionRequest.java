@@ -13,6 +13,16 @@ public class GameSessionRequest {
     )
     private MapTemplate template;
 
+    @Schema(
+            description = "id of a map template registered with /api/template, used if no template is given"
+    )
+    private String templateId;
+
+    @Schema(
+            description = "optional seed for all random decisions of the game (placement, respawn, starting team)"
+    )
+    private Long seed;
+
     public MapTemplate getTemplate() {
         return template;
     }
@@ -20,5 +30,21 @@ public class GameSessionRequest {
     public void setTemplate(MapTemplate template) {
         this.template = template;
     }
+
+    public String getTemplateId() {
+        return templateId;
+    }
+
+    public void setTemplateId(String templateId) {
+        this.templateId = templateId;
+    }
+
+    public Long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
 }
 
@@ -0,0 +1,46 @@
+package de.unimannheim.swt.pse.ctf.controller.data;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * This class is used to represent a registered map template.
+ */
+public class TemplateResponse {
+
+    @Schema(
+            description = "unique template identifier, used as templateId to create game sessions"
+    )
+    private String id;
+    @Schema(
+            description = "number of pieces of every team"
+    )
+    private int piecesPerTeam;
+    @Schema(
+            description = "number of game sessions created from this template"
+    )
+    private long sessions;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public int getPiecesPerTeam() {
+        return piecesPerTeam;
+    }
+
+    public void setPiecesPerTeam(int piecesPerTeam) {
+        this.piecesPerTeam = piecesPerTeam;
+    }
+
+    public long getSessions() {
+        return sessions;
+    }
+
+    public void setSessions(long sessions) {
+        this.sessions = sessions;
+    }
+}
@@ -0,0 +1,99 @@
+package de.unimannheim.swt.pse.ctf.embedded;
+
+import com.sun.net.httpserver.HttpServer;
+import de.unimannheim.swt.pse.ctf.game.engine.EngineFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This is an alternative entry point of the webservice for bot tournaments and tests. It serves the game session
+ * endpoints on the JDK HTTP server without starting Spring, so it starts in a fraction of the time of the
+ * {@link de.unimannheim.swt.pse.ctf.CtfApplication} and with a small footprint. The engine metrics, the warm-up
+ * and springdoc are not available.
+ * <p>
+ * Arguments are given as key=value pairs: {@code port} (default 8888, 0 for a free port), {@code address}
+ * (default all interfaces) and {@code threads} (default twice the number of processors).
+ *
+ * @version 19.10.2026
+ */
+public class EmbeddedServer {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private EmbeddedServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    public static void main(String[] args) throws IOException {
+        long start = System.nanoTime();
+        String address = null;
+        int port = 8888;
+        int threads = 2 * Runtime.getRuntime().availableProcessors();
+        for (String arg : args) {
+            String[] keyValue = arg.split("=", 2);
+            if (keyValue.length != 2) {
+                throw new IllegalArgumentException("Arguments have to be given as key=value: " + arg);
+            }
+            switch (keyValue[0]) {
+                case "address" -> address = keyValue[1];
+                case "port" -> port = Integer.parseInt(keyValue[1]);
+                case "threads" -> threads = Integer.parseInt(keyValue[1]);
+                default -> throw new IllegalArgumentException("Unknown argument: " + keyValue[0]);
+            }
+        }
+
+        EmbeddedServer server = start(address, port, threads, EngineFactory.reference());
+        System.out.printf("Embedded server listening on port %d, started in %d ms%n",
+                server.getPort(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * This method is used to start the server.
+     *
+     * @param address       {@link String} the address to bind, null for all interfaces
+     * @param port          {@link int} the port, 0 for a free port
+     * @param threads       {@link int} the number of threads handling the requests
+     * @param engineFactory {@link EngineFactory} creates the engines of new sessions
+     * @return the running server
+     * @throws IOException if the port cannot be bound
+     */
+    public static EmbeddedServer start(String address, int port, int threads, EngineFactory engineFactory) throws IOException {
+        InetSocketAddress socketAddress = address == null ? new InetSocketAddress(port) : new InetSocketAddress(address, port);
+        HttpServer server = HttpServer.create(socketAddress, 0);
+
+        AtomicInteger count = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "embedded-server-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/api/gamesession", new GameSessionHandler(engineFactory));
+        server.start();
+        return new EmbeddedServer(server, executor);
+    }
+
+    public int getPort() {
+        return this.server.getAddress().getPort();
+    }
+
+    /**
+     * This method is used to stop the server. Running requests get one second to complete.
+     */
+    public void stop() {
+        this.server.stop(1);
+        this.executor.shutdown();
+        try {
+            this.executor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
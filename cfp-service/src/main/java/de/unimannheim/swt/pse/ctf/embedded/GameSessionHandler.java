@@ -0,0 +1,288 @@
+package de.unimannheim.swt.pse.ctf.embedded;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import de.unimannheim.swt.pse.ctf.controller.GameSession;
+import de.unimannheim.swt.pse.ctf.controller.data.GameSessionRequest;
+import de.unimannheim.swt.pse.ctf.controller.data.GameSessionResponse;
+import de.unimannheim.swt.pse.ctf.controller.data.GiveupRequest;
+import de.unimannheim.swt.pse.ctf.controller.data.JoinGameRequest;
+import de.unimannheim.swt.pse.ctf.controller.data.JoinGameResponse;
+import de.unimannheim.swt.pse.ctf.controller.data.MoveRequest;
+import de.unimannheim.swt.pse.ctf.game.engine.EngineFactory;
+import de.unimannheim.swt.pse.ctf.game.engine.Game;
+import de.unimannheim.swt.pse.ctf.game.engine.Seedable;
+import de.unimannheim.swt.pse.ctf.game.exceptions.ForbiddenMove;
+import de.unimannheim.swt.pse.ctf.game.exceptions.GameOver;
+import de.unimannheim.swt.pse.ctf.game.exceptions.GameSessionNotFound;
+import de.unimannheim.swt.pse.ctf.game.exceptions.InvalidMove;
+import de.unimannheim.swt.pse.ctf.game.exceptions.NoMoreTeamSlots;
+import de.unimannheim.swt.pse.ctf.game.state.Move;
+import de.unimannheim.swt.pse.ctf.game.state.Team;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * This handler serves the same endpoints as the {@link de.unimannheim.swt.pse.ctf.controller.GameSessionController}
+ * on the JDK HTTP server:
+ *
+ * <ul>
+ *  <li>POST `/api/gamesession` for creating a new game session,</li>
+ *  <li>GET `/api/gamesession/{sessionId}` for retrieving a game session and its status,</li>
+ *  <li>POST `/api/gamesession/{sessionId}/join` for a new team to join the game session,</li>
+ *  <li>GET `/api/gamesession/{sessionId}/state` for retrieving the current game state for a specific game session,</li>
+ *  <li>POST `/api/gamesession/{sessionId}/move` for making a move request for a specific game session, and</li>
+ *  <li>POST `/api/gamesession/{sessionId}/giveup` for making a request to give up the game for a specific game session, and</li>
+ *  <li>DELETE `/api/gamesession/{sessionId}` for deleting a specific game session.</li>
+ * </ul>
+ *
+ * The status codes of the exceptions are the ones of their {@code @ResponseStatus} annotations,
+ * requests which cannot be read are answered with 400 as in Spring.
+ *
+ * @version 19.10.2026
+ */
+public class GameSessionHandler implements HttpHandler {
+
+    private static final String PREFIX = "/api/gamesession";
+
+    private final Map<String, GameSession> gameSessions = new ConcurrentHashMap<>();
+    private final EngineFactory engineFactory;
+
+    /**
+     * Constructor for the GameSessionHandler class
+     *
+     * @param engineFactory {@link EngineFactory} creates the engines of new sessions
+     */
+    public GameSessionHandler(EngineFactory engineFactory) {
+        this.engineFactory = engineFactory;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        try {
+            String[] segments = segments(path);
+            if (segments == null) {
+                send(exchange, 404, JsonCodec.writeError(404, "Not Found", path));
+                return;
+            }
+            String response = route(exchange, exchange.getRequestMethod(), segments);
+            send(exchange, 200, response);
+        } catch (RequestException e) {
+            send(exchange, e.status, JsonCodec.writeError(e.status, e.getMessage(), path));
+        } catch (RuntimeException e) {
+            int status = status(e);
+            if (status == 500) {
+                Log.LOG.error("request {} {} failed", exchange.getRequestMethod(), path, e);
+            }
+            send(exchange, status, JsonCodec.writeError(status, e.getClass().getSimpleName(), path));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * This method is used to call the endpoint of a request.
+     *
+     * @param exchange {@link HttpExchange} the request
+     * @param method   {@link String} the HTTP method
+     * @param segments {@link String[]} the session id and the action after the prefix, both may be null
+     * @return the JSON response or null for an empty response
+     */
+    private String route(HttpExchange exchange, String method, String[] segments) throws IOException {
+        String sessionId = segments[0];
+        String action = segments[1];
+
+        if (sessionId == null) {
+            requireMethod(method, "POST");
+            return JsonCodec.write(createGameSession(read(exchange, JsonCodec::readGameSessionRequest)));
+        }
+        if (action == null) {
+            if ("GET".equals(method)) {
+                return JsonCodec.write(createGameSessionResponse(sessionId, getGameSession(sessionId).getGame()));
+            }
+            requireMethod(method, "DELETE");
+            if (this.gameSessions.remove(sessionId) == null) {
+                throw new GameSessionNotFound();
+            }
+            return null;
+        }
+        switch (action) {
+            case "state" -> {
+                requireMethod(method, "GET");
+                return JsonCodec.write(getGameSession(sessionId).getGame().getCurrentGameState());
+            }
+            case "join" -> {
+                requireMethod(method, "POST");
+                return JsonCodec.write(joinGame(sessionId, read(exchange, JsonCodec::readJoinGameRequest)));
+            }
+            case "move" -> {
+                requireMethod(method, "POST");
+                makeMove(sessionId, read(exchange, JsonCodec::readMoveRequest));
+                return null;
+            }
+            case "giveup" -> {
+                requireMethod(method, "POST");
+                giveUp(sessionId, read(exchange, JsonCodec::readGiveupRequest));
+                return null;
+            }
+            default -> throw new RequestException(404, "Not Found");
+        }
+    }
+
+    private GameSessionResponse createGameSession(GameSessionRequest request) {
+        String sessionId = UUID.randomUUID().toString();
+
+        Game game = this.engineFactory.create();
+        if (request.getSeed() != null && game instanceof Seedable seedable) {
+            seedable.setSeed(request.getSeed());
+        }
+        game.create(request.getTemplate());
+        this.gameSessions.put(sessionId, new GameSession(game));
+
+        return createGameSessionResponse(sessionId, game);
+    }
+
+    private JoinGameResponse joinGame(String sessionId, JoinGameRequest joinRequest) {
+        GameSession gameSession = getGameSession(sessionId);
+        Team team = gameSession.getGame().joinGame(joinRequest.getTeamId());
+
+        JoinGameResponse response = new JoinGameResponse();
+        response.setGameSessionId(sessionId);
+        response.setTeamId(team.getId());
+        response.setTeamColor(team.getColor());
+        response.setTeamSecret(gameSession.createTeamSecret(team.getId()));
+        return response;
+    }
+
+    private void makeMove(String sessionId, MoveRequest moveRequest) {
+        GameSession gameSession = getGameSession(sessionId);
+        if (!gameSession.isAllowed(moveRequest.getTeamId(), moveRequest.getTeamSecret())) {
+            throw new ForbiddenMove();
+        }
+
+        Move move = new Move();
+        move.setPieceId(moveRequest.getPieceId());
+        move.setNewPosition(moveRequest.getNewPosition());
+        move.setTeamId(moveRequest.getTeamId());
+        gameSession.getGame().makeMove(move);
+    }
+
+    private void giveUp(String sessionId, GiveupRequest giveupRequest) {
+        GameSession gameSession = getGameSession(sessionId);
+        if (!gameSession.isAllowed(giveupRequest.getTeamId(), giveupRequest.getTeamSecret())) {
+            throw new ForbiddenMove();
+        }
+        gameSession.getGame().giveUp(giveupRequest.getTeamId());
+    }
+
+    private GameSession getGameSession(String sessionId) {
+        GameSession gameSession = this.gameSessions.get(sessionId);
+        if (gameSession == null) {
+            throw new GameSessionNotFound();
+        }
+        return gameSession;
+    }
+
+    private static GameSessionResponse createGameSessionResponse(String sessionId, Game game) {
+        GameSessionResponse sessionResponse = new GameSessionResponse();
+        sessionResponse.setId(sessionId);
+        sessionResponse.setGameStarted(game.getStartedDate());
+        sessionResponse.setGameEnded(game.getEndDate());
+        sessionResponse.setRemainingGameTimeInSeconds(game.getRemainingGameTimeInSeconds());
+        sessionResponse.setRemainingMoveTimeInSeconds(game.getRemainingMoveTimeInSeconds());
+        sessionResponse.setGameOver(game.isGameOver());
+        sessionResponse.setWinner(game.getWinner());
+        return sessionResponse;
+    }
+
+    /**
+     * This method is used to split a path into the session id and the action.
+     *
+     * @param path {@link String} the requested path
+     * @return the session id and the action (both may be null), or null if the path is no game session path
+     */
+    private static String[] segments(String path) {
+        if (!path.startsWith(PREFIX)) {
+            return null;
+        }
+        String rest = path.substring(PREFIX.length());
+        if (rest.isEmpty() || rest.equals("/")) {
+            return new String[]{null, null};
+        }
+        if (rest.charAt(0) != '/') {
+            return null;
+        }
+        String[] parts = rest.substring(1).split("/", -1);
+        if (parts.length > 2 || parts[0].isEmpty() || (parts.length == 2 && parts[1].isEmpty())) {
+            return null;
+        }
+        return new String[]{parts[0], parts.length == 2 ? parts[1] : null};
+    }
+
+    private static void requireMethod(String method, String expected) {
+        if (!expected.equals(method)) {
+            throw new RequestException(405, "Method Not Allowed");
+        }
+    }
+
+    private static <T> T read(HttpExchange exchange, Function<String, T> parser) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        try {
+            return parser.apply(body);
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            throw new RequestException(400, e.getMessage());
+        }
+    }
+
+    private static int status(RuntimeException e) {
+        if (e instanceof GameSessionNotFound) {
+            return 404;
+        } else if (e instanceof ForbiddenMove) {
+            return 403;
+        } else if (e instanceof InvalidMove) {
+            return 409;
+        } else if (e instanceof GameOver) {
+            return 410;
+        } else if (e instanceof NoMoreTeamSlots) {
+            return 429;
+        }
+        return 500;
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    // initializing the logging takes longer than starting the server, so it is deferred until the first error
+    private static final class Log {
+        private static final Logger LOG = LoggerFactory.getLogger(GameSessionHandler.class);
+    }
+
+    // a request which is answered with the given status without reaching the game
+    private static class RequestException extends RuntimeException {
+        private final int status;
+
+        RequestException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,371 @@
+package de.unimannheim.swt.pse.ctf.embedded;
+
+import de.unimannheim.swt.pse.ctf.controller.data.GameSessionRequest;
+import de.unimannheim.swt.pse.ctf.controller.data.GameSessionResponse;
+import de.unimannheim.swt.pse.ctf.controller.data.GiveupRequest;
+import de.unimannheim.swt.pse.ctf.controller.data.JoinGameRequest;
+import de.unimannheim.swt.pse.ctf.controller.data.JoinGameResponse;
+import de.unimannheim.swt.pse.ctf.controller.data.MoveRequest;
+import de.unimannheim.swt.pse.ctf.game.map.Directions;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.game.map.Movement;
+import de.unimannheim.swt.pse.ctf.game.map.PieceDescription;
+import de.unimannheim.swt.pse.ctf.game.map.PlacementType;
+import de.unimannheim.swt.pse.ctf.game.map.Shape;
+import de.unimannheim.swt.pse.ctf.game.map.ShapeType;
+import de.unimannheim.swt.pse.ctf.game.state.GameState;
+import de.unimannheim.swt.pse.ctf.game.state.Move;
+import de.unimannheim.swt.pse.ctf.game.state.Piece;
+import de.unimannheim.swt.pse.ctf.game.state.Team;
+
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class is being used to convert the requests and responses of the REST API from and to JSON without Jackson.
+ * The documents are the same as the ones Jackson writes in the Spring Boot server: every property of the getters
+ * is written (also null values and the directionsAsArray of the {@link Directions}), dates are written in ISO 8601
+ * and unknown properties are ignored when reading.
+ *
+ * @version 19.10.2026
+ */
+public final class JsonCodec {
+
+    // the date format of Jackson in Spring Boot, e.g. 1970-01-01T00:00:00.000+00:00
+    private static final DateTimeFormatter DATE_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSxxx").withZone(ZoneOffset.UTC);
+
+    private JsonCodec() {
+    }
+
+    public static GameSessionRequest readGameSessionRequest(String json) {
+        Map<String, Object> object = object(JsonReader.parse(json), "request");
+        GameSessionRequest request = new GameSessionRequest();
+        request.setTemplate(readMapTemplate(object.get("template")));
+        Object seed = object.get("seed");
+        request.setSeed(seed == null ? null : number(seed, "seed").longValue());
+        return request;
+    }
+
+    public static JoinGameRequest readJoinGameRequest(String json) {
+        Map<String, Object> object = object(JsonReader.parse(json), "request");
+        JoinGameRequest request = new JoinGameRequest();
+        request.setTeamId(string(object, "teamId"));
+        return request;
+    }
+
+    public static MoveRequest readMoveRequest(String json) {
+        Map<String, Object> object = object(JsonReader.parse(json), "request");
+        MoveRequest request = new MoveRequest();
+        request.setTeamId(string(object, "teamId"));
+        request.setTeamSecret(string(object, "teamSecret"));
+        request.setPieceId(string(object, "pieceId"));
+        request.setNewPosition(intArray(object, "newPosition"));
+        return request;
+    }
+
+    public static GiveupRequest readGiveupRequest(String json) {
+        Map<String, Object> object = object(JsonReader.parse(json), "request");
+        GiveupRequest request = new GiveupRequest();
+        request.setTeamId(string(object, "teamId"));
+        request.setTeamSecret(string(object, "teamSecret"));
+        return request;
+    }
+
+    public static String write(GameSessionResponse response) {
+        JsonWriter writer = new JsonWriter();
+        writer.beginObject()
+                .name("id").value(response.getId())
+                .name("gameStarted").value(date(response.getGameStarted()))
+                .name("gameEnded").value(date(response.getGameEnded()))
+                .name("remainingGameTimeInSeconds").value(response.getRemainingGameTimeInSeconds())
+                .name("remainingMoveTimeInSeconds").value(response.getRemainingMoveTimeInSeconds())
+                .name("gameOver").value(response.isGameOver())
+                .name("winner").value(response.getWinner());
+        return writer.endObject().toString();
+    }
+
+    public static String write(JoinGameResponse response) {
+        JsonWriter writer = new JsonWriter();
+        writer.beginObject()
+                .name("gameSessionId").value(response.getGameSessionId())
+                .name("teamSecret").value(response.getTeamSecret())
+                .name("teamId").value(response.getTeamId())
+                .name("teamColor").value(response.getTeamColor());
+        return writer.endObject().toString();
+    }
+
+    public static String write(GameState state) {
+        JsonWriter writer = new JsonWriter(new StringBuilder(4096));
+        if (state == null) {
+            return writer.nullValue().toString();
+        }
+        writer.beginObject().name("grid");
+        if (state.getGrid() == null) {
+            writer.nullValue();
+        } else {
+            writer.beginArray();
+            for (String[] row : state.getGrid()) {
+                writer.value(row);
+            }
+            writer.endArray();
+        }
+
+        writer.name("teams");
+        if (state.getTeams() == null) {
+            writer.nullValue();
+        } else {
+            writer.beginArray();
+            for (Team team : state.getTeams()) {
+                writeTeam(writer, team);
+            }
+            writer.endArray();
+        }
+
+        writer.name("currentTeam").value(state.getCurrentTeam());
+        writer.name("lastMove");
+        Move move = state.getLastMove();
+        if (move == null) {
+            writer.nullValue();
+        } else {
+            writer.beginObject()
+                    .name("pieceId").value(move.getPieceId())
+                    .name("teamId").value(move.getTeamId())
+                    .name("newPosition").value(move.getNewPosition())
+                    .endObject();
+        }
+        return writer.endObject().toString();
+    }
+
+    /**
+     * This method is used to write an error document, similar to the one of Spring Boot.
+     *
+     * @param status  {@link int} the HTTP status
+     * @param message {@link String} the reason
+     * @param path    {@link String} the requested path
+     * @return the JSON document
+     */
+    public static String writeError(int status, String message, String path) {
+        JsonWriter writer = new JsonWriter();
+        writer.beginObject()
+                .name("timestamp").value(date(new Date()))
+                .name("status").value(status)
+                .name("error").value(message)
+                .name("path").value(path);
+        return writer.endObject().toString();
+    }
+
+    private static void writeTeam(JsonWriter writer, Team team) {
+        if (team == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject()
+                .name("id").value(team.getId())
+                .name("color").value(team.getColor())
+                .name("base").value(team.getBase())
+                .name("flags").value(team.getFlags())
+                .name("pieces");
+        if (team.getPieces() == null) {
+            writer.nullValue();
+        } else {
+            writer.beginArray();
+            for (Piece piece : team.getPieces()) {
+                writePiece(writer, piece);
+            }
+            writer.endArray();
+        }
+        writer.endObject();
+    }
+
+    private static void writePiece(JsonWriter writer, Piece piece) {
+        if (piece == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject()
+                .name("id").value(piece.getId())
+                .name("teamId").value(piece.getTeamId())
+                .name("description");
+        writeDescription(writer, piece.getDescription());
+        writer.name("position").value(piece.getPosition()).endObject();
+    }
+
+    private static void writeDescription(JsonWriter writer, PieceDescription description) {
+        if (description == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject()
+                .name("type").value(description.getType())
+                .name("attackPower").value(description.getAttackPower())
+                .name("count").value(description.getCount())
+                .name("movement");
+        Movement movement = description.getMovement();
+        if (movement == null) {
+            writer.nullValue();
+        } else {
+            writer.beginObject().name("directions");
+            Directions directions = movement.getDirections();
+            if (directions == null) {
+                writer.nullValue();
+            } else {
+                writer.beginObject()
+                        .name("left").value(directions.getLeft())
+                        .name("right").value(directions.getRight())
+                        .name("up").value(directions.getUp())
+                        .name("down").value(directions.getDown())
+                        .name("upLeft").value(directions.getUpLeft())
+                        .name("upRight").value(directions.getUpRight())
+                        .name("downLeft").value(directions.getDownLeft())
+                        .name("downRight").value(directions.getDownRight())
+                        .name("directionsAsArray").value(directions.getDirectionsAsArray())
+                        .endObject();
+            }
+            writer.name("shape");
+            Shape shape = movement.getShape();
+            if (shape == null) {
+                writer.nullValue();
+            } else {
+                writer.beginObject()
+                        .name("type").value(shape.getType() == null ? null : shape.getType().name())
+                        .endObject();
+            }
+            writer.endObject();
+        }
+        writer.endObject();
+    }
+
+    private static MapTemplate readMapTemplate(Object value) {
+        if (value == null) {
+            return null;
+        }
+        Map<String, Object> object = object(value, "template");
+        MapTemplate template = new MapTemplate();
+        template.setGridSize(intArray(object, "gridSize"));
+        template.setTeams(integer(object, "teams"));
+        template.setFlags(integer(object, "flags"));
+        template.setBlocks(integer(object, "blocks"));
+        template.setTotalTimeLimitInSeconds(integer(object, "totalTimeLimitInSeconds"));
+        template.setMoveTimeLimitInSeconds(integer(object, "moveTimeLimitInSeconds"));
+        String placement = string(object, "placement");
+        template.setPlacement(placement == null ? null : enumValue(PlacementType.class, placement));
+
+        List<Object> pieces = array(object.get("pieces"), "pieces");
+        if (pieces != null) {
+            PieceDescription[] descriptions = new PieceDescription[pieces.size()];
+            for (int i = 0; i < descriptions.length; i++) {
+                descriptions[i] = readDescription(pieces.get(i));
+            }
+            template.setPieces(descriptions);
+        }
+        return template;
+    }
+
+    private static PieceDescription readDescription(Object value) {
+        if (value == null) {
+            return null;
+        }
+        Map<String, Object> object = object(value, "pieces");
+        PieceDescription description = new PieceDescription();
+        description.setType(string(object, "type"));
+        description.setAttackPower(integer(object, "attackPower"));
+        description.setCount(integer(object, "count"));
+
+        Object movementValue = object.get("movement");
+        if (movementValue != null) {
+            Map<String, Object> movementObject = object(movementValue, "movement");
+            Movement movement = new Movement();
+            Object directionsValue = movementObject.get("directions");
+            if (directionsValue != null) {
+                Map<String, Object> directionsObject = object(directionsValue, "directions");
+                Directions directions = new Directions();
+                directions.setLeft(integer(directionsObject, "left"));
+                directions.setRight(integer(directionsObject, "right"));
+                directions.setUp(integer(directionsObject, "up"));
+                directions.setDown(integer(directionsObject, "down"));
+                directions.setUpLeft(integer(directionsObject, "upLeft"));
+                directions.setUpRight(integer(directionsObject, "upRight"));
+                directions.setDownLeft(integer(directionsObject, "downLeft"));
+                directions.setDownRight(integer(directionsObject, "downRight"));
+                movement.setDirections(directions);
+            }
+            Object shapeValue = movementObject.get("shape");
+            if (shapeValue != null) {
+                Shape shape = new Shape();
+                String type = string(object(shapeValue, "shape"), "type");
+                shape.setType(type == null ? null : enumValue(ShapeType.class, type));
+                movement.setShape(shape);
+            }
+            description.setMovement(movement);
+        }
+        return description;
+    }
+
+    private static String date(Date date) {
+        return date == null ? null : DATE_FORMAT.format(date.toInstant());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> object(Object value, String name) {
+        if (!(value instanceof Map)) {
+            throw new IllegalArgumentException(name + " has to be an object");
+        }
+        return (Map<String, Object>) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> array(Object value, String name) {
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof List)) {
+            throw new IllegalArgumentException(name + " has to be an array");
+        }
+        return (List<Object>) value;
+    }
+
+    private static Number number(Object value, String name) {
+        if (!(value instanceof Number number) || (value instanceof Double d && d != Math.rint(d))) {
+            throw new IllegalArgumentException(name + " has to be an integer");
+        }
+        return number;
+    }
+
+    // missing or null numbers are read as 0, as Jackson does for primitives
+    private static int integer(Map<String, Object> object, String name) {
+        Object value = object.get(name);
+        return value == null ? 0 : Math.toIntExact(number(value, name).longValue());
+    }
+
+    private static String string(Map<String, Object> object, String name) {
+        Object value = object.get(name);
+        if (value != null && !(value instanceof String)) {
+            throw new IllegalArgumentException(name + " has to be a string");
+        }
+        return (String) value;
+    }
+
+    private static int[] intArray(Map<String, Object> object, String name) {
+        List<Object> values = array(object.get(name), name);
+        if (values == null) {
+            return null;
+        }
+        int[] result = new int[values.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = Math.toIntExact(number(values.get(i), name).longValue());
+        }
+        return result;
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String name) {
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(name + " is no " + type.getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package de.unimannheim.swt.pse.ctf.embedded;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class is being used to parse a JSON document into plain Java values, as the embedded server does not
+ * depend on Jackson. Objects become a {@link Map}, arrays a {@link List}, numbers a {@link Long} or {@link Double},
+ * and strings, booleans and null their Java counterparts.
+ *
+ * @version 19.10.2026
+ */
+public final class JsonReader {
+
+    private final String json;
+    private int index;
+
+    private JsonReader(String json) {
+        this.json = json;
+    }
+
+    /**
+     * This method is used to parse a complete JSON document.
+     *
+     * @param json {@link String} the document
+     * @return the parsed value
+     * @throws IllegalArgumentException if the document is no valid JSON
+     */
+    public static Object parse(String json) {
+        JsonReader reader = new JsonReader(json);
+        reader.skipWhitespace();
+        Object value = reader.readValue();
+        reader.skipWhitespace();
+        if (reader.index != json.length()) {
+            throw reader.error("unexpected content after the value");
+        }
+        return value;
+    }
+
+    private Object readValue() {
+        if (this.index >= this.json.length()) {
+            throw error("unexpected end of document");
+        }
+        char c = this.json.charAt(this.index);
+        return switch (c) {
+            case '{' -> readObject();
+            case '[' -> readArray();
+            case '"' -> readString();
+            case 't' -> literal("true", Boolean.TRUE);
+            case 'f' -> literal("false", Boolean.FALSE);
+            case 'n' -> literal("null", null);
+            default -> {
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    yield readNumber();
+                }
+                throw error("unexpected character '" + c + "'");
+            }
+        };
+    }
+
+    private Map<String, Object> readObject() {
+        Map<String, Object> object = new LinkedHashMap<>();
+        this.index++;
+        skipWhitespace();
+        if (peek() == '}') {
+            this.index++;
+            return object;
+        }
+        while (true) {
+            skipWhitespace();
+            if (peek() != '"') {
+                throw error("expected a property name");
+            }
+            String name = readString();
+            skipWhitespace();
+            if (peek() != ':') {
+                throw error("expected ':'");
+            }
+            this.index++;
+            skipWhitespace();
+            object.put(name, readValue());
+            skipWhitespace();
+            char c = next();
+            if (c == '}') {
+                return object;
+            }
+            if (c != ',') {
+                throw error("expected ',' or '}'");
+            }
+        }
+    }
+
+    private List<Object> readArray() {
+        List<Object> array = new ArrayList<>();
+        this.index++;
+        skipWhitespace();
+        if (peek() == ']') {
+            this.index++;
+            return array;
+        }
+        while (true) {
+            skipWhitespace();
+            array.add(readValue());
+            skipWhitespace();
+            char c = next();
+            if (c == ']') {
+                return array;
+            }
+            if (c != ',') {
+                throw error("expected ',' or ']'");
+            }
+        }
+    }
+
+    private String readString() {
+        this.index++;
+        StringBuilder builder = null;
+        int start = this.index;
+        while (true) {
+            char c = next();
+            if (c == '"') {
+                if (builder == null) {
+                    return this.json.substring(start, this.index - 1);
+                }
+                return builder.append(this.json, start, this.index - 1).toString();
+            }
+            if (c == '\\') {
+                if (builder == null) {
+                    builder = new StringBuilder();
+                }
+                builder.append(this.json, start, this.index - 1);
+                builder.append(readEscape());
+                start = this.index;
+            } else if (c < 0x20) {
+                throw error("control character in string");
+            }
+        }
+    }
+
+    private char readEscape() {
+        char c = next();
+        return switch (c) {
+            case '"', '\\', '/' -> c;
+            case 'b' -> '\b';
+            case 'f' -> '\f';
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            case 't' -> '\t';
+            case 'u' -> readUnicode();
+            default -> throw error("invalid escape '\\" + c + "'");
+        };
+    }
+
+    private char readUnicode() {
+        if (this.index + 4 > this.json.length()) {
+            throw error("incomplete unicode escape");
+        }
+        try {
+            char unicode = (char) Integer.parseInt(this.json.substring(this.index, this.index + 4), 16);
+            this.index += 4;
+            return unicode;
+        } catch (NumberFormatException e) {
+            throw error("invalid unicode escape");
+        }
+    }
+
+    private Number readNumber() {
+        int start = this.index;
+        boolean decimal = false;
+        if (peek() == '-') {
+            this.index++;
+        }
+        while (this.index < this.json.length()) {
+            char c = this.json.charAt(this.index);
+            if (c == '.' || c == 'e' || c == 'E' || c == '+' || (c == '-' && this.index > start)) {
+                decimal = true;
+            } else if (c < '0' || c > '9') {
+                break;
+            }
+            this.index++;
+        }
+        String number = this.json.substring(start, this.index);
+        try {
+            return decimal ? Double.valueOf(number) : Long.valueOf(number);
+        } catch (NumberFormatException e) {
+            throw error("invalid number " + number);
+        }
+    }
+
+    private Object literal(String literal, Object value) {
+        if (!this.json.startsWith(literal, this.index)) {
+            throw error("expected " + literal);
+        }
+        this.index += literal.length();
+        return value;
+    }
+
+    private void skipWhitespace() {
+        while (this.index < this.json.length()) {
+            char c = this.json.charAt(this.index);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                return;
+            }
+            this.index++;
+        }
+    }
+
+    private char peek() {
+        if (this.index >= this.json.length()) {
+            throw error("unexpected end of document");
+        }
+        return this.json.charAt(this.index);
+    }
+
+    private char next() {
+        char c = peek();
+        this.index++;
+        return c;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("Invalid JSON at position " + this.index + ": " + message);
+    }
+}
@@ -0,0 +1,148 @@
+package de.unimannheim.swt.pse.ctf.embedded;
+
+/**
+ * This class is being used to write a JSON document into a single buffer, as the embedded server does not
+ * depend on Jackson. Commas between the members of objects and arrays are inserted automatically.
+ *
+ * @version 19.10.2026
+ */
+public final class JsonWriter {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final StringBuilder builder;
+    // true if the next value or name is the first one in the current object or array
+    private boolean first = true;
+
+    public JsonWriter() {
+        this(new StringBuilder(256));
+    }
+
+    public JsonWriter(StringBuilder builder) {
+        this.builder = builder;
+    }
+
+    public JsonWriter beginObject() {
+        separate();
+        this.builder.append('{');
+        this.first = true;
+        return this;
+    }
+
+    public JsonWriter endObject() {
+        this.builder.append('}');
+        this.first = false;
+        return this;
+    }
+
+    public JsonWriter beginArray() {
+        separate();
+        this.builder.append('[');
+        this.first = true;
+        return this;
+    }
+
+    public JsonWriter endArray() {
+        this.builder.append(']');
+        this.first = false;
+        return this;
+    }
+
+    /**
+     * This method is used to write the name of the next member of an object. The value has to follow.
+     *
+     * @param name {@link String} the name of the member
+     * @return this writer
+     */
+    public JsonWriter name(String name) {
+        separate();
+        writeString(name);
+        this.builder.append(':');
+        // the value of a member is not separated from its name
+        this.first = true;
+        return this;
+    }
+
+    public JsonWriter value(String value) {
+        separate();
+        if (value == null) {
+            this.builder.append("null");
+        } else {
+            writeString(value);
+        }
+        return this;
+    }
+
+    public JsonWriter value(long value) {
+        separate();
+        this.builder.append(value);
+        return this;
+    }
+
+    public JsonWriter value(boolean value) {
+        separate();
+        this.builder.append(value);
+        return this;
+    }
+
+    public JsonWriter nullValue() {
+        separate();
+        this.builder.append("null");
+        return this;
+    }
+
+    public JsonWriter value(int[] values) {
+        if (values == null) {
+            return nullValue();
+        }
+        beginArray();
+        for (int value : values) {
+            value(value);
+        }
+        return endArray();
+    }
+
+    public JsonWriter value(String[] values) {
+        if (values == null) {
+            return nullValue();
+        }
+        beginArray();
+        for (String value : values) {
+            value(value);
+        }
+        return endArray();
+    }
+
+    @Override
+    public String toString() {
+        return this.builder.toString();
+    }
+
+    private void separate() {
+        if (!this.first) {
+            this.builder.append(',');
+        }
+        this.first = false;
+    }
+
+    private void writeString(String value) {
+        this.builder.append('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                this.builder.append(value, start, i);
+                start = i + 1;
+                switch (c) {
+                    case '"' -> this.builder.append("\\\"");
+                    case '\\' -> this.builder.append("\\\\");
+                    case '\n' -> this.builder.append("\\n");
+                    case '\r' -> this.builder.append("\\r");
+                    case '\t' -> this.builder.append("\\t");
+                    default -> this.builder.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                }
+            }
+        }
+        this.builder.append(value, start, value.length()).append('"');
+    }
+}
@@ -6,6 +6,8 @@ import de.unimannheim.swt.pse.ctf.game.state.Piece;
 import de.unimannheim.swt.pse.ctf.game.state.Team;
 
 import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * This class is being used to represents the possible piece placements on the map
@@ -29,8 +31,8 @@ public class PiecePlacement {
     // the maximum amount of pieces that can be placed on the teams half of the map
     private final int maxPieces;
 
-    // initialize an instance of the PlacementHelperMethods class
-    private final PlacementHelperMethods helperMethods = new PlacementHelperMethods();
+    // an instance of the PlacementHelperMethods class, holding the random generator of the placement
+    private final PlacementHelperMethods helperMethods;
 
     /**
      * Constructor for the PiecePlacement class
@@ -39,6 +41,19 @@ public class PiecePlacement {
      * @param teams {@link Team[]} the teams playing the game
      */
     public PiecePlacement(MapTemplate template, String[][] grid, Team[] teams) {
+        this(template, grid, teams, new SplittableRandom());
+    }
+
+    /**
+     * Constructor for the PiecePlacement class with a given source of randomness
+     * The same random generator state leads to the same placement of pieces and blocks
+     *
+     * @param template {@link MapTemplate} the game specific configuration
+     * @param teams {@link Team[]} the teams playing the game
+     * @param random {@link RandomGenerator} the source of all random decisions of the placement
+     */
+    public PiecePlacement(MapTemplate template, String[][] grid, Team[] teams, RandomGenerator random) {
+        this.helperMethods = new PlacementHelperMethods(random);
         this.constants = new Const(template);
         // the initial grid (game board) as a two-dimensional list (array)
         this.grid =  grid;
@@ -98,24 +113,39 @@ public class PiecePlacement {
         } else if (this.grid.length < 6) {
             placeRandomly(pieces, this.teams);
         } else {
-            switch (placementType) {
-                case symmetrical:
-                    // place piece symmetrically
-                    placeSymmetrically(pieces, this.teams);
-                    break;
-                case spaced_out:
-                    // place pieces spaced out
-                    placeSpacedOut(pieces, this.teams);
-                    break;
-                case defensive:
-                    // place pieces defensively
-                    placeDefensively(pieces, this.teams);
-                    break;
-                default:
-                    // no fulfillment of the functionality
-                    // might be possible to use 'placeRandomly(pieces, this.teams)'
-                    break;
+            /* the placement types are deterministic, so their layout is taken from the cache if the same
+             * grid, teams and pieces were placed before; only the blocks are placed anew for every game
+             */
+            PlacementCache.Key key = PlacementCache.key(this.grid, this.teams, pieces, this.maxPieces, placementType);
+            if (!PlacementCache.stamp(key, this.grid, this.teams)) {
+                switch (placementType) {
+                    case symmetrical:
+                        // place piece symmetrically
+                        placeSymmetrically(pieces, this.teams);
+                        break;
+                    case spaced_out:
+                        // place pieces spaced out
+                        placeSpacedOut(pieces, this.teams);
+                        break;
+                    case defensive:
+                        // place pieces defensively
+                        placeDefensively(pieces, this.teams);
+                        break;
+                    default:
+                        // no fulfillment of the functionality
+                        // might be possible to use 'placeRandomly(pieces, this.teams)'
+                        break;
+                }
+
+                // update external pieces' and bases' positions before the blocks, which do not change them
+                updatePiecePosition();
+                updateBasePosition();
+                PlacementCache.store(key, this.grid, this.teams);
             }
+
+            // place the blocks on the map
+            this.helperMethods.placeBlock(this.grid, constants);
+            return;
         }
 
         // place the blocks on the map
@@ -0,0 +1,193 @@
+package de.unimannheim.swt.pse.ctf.game.PiecePlacement;
+
+import de.unimannheim.swt.pse.ctf.game.map.PlacementType;
+import de.unimannheim.swt.pse.ctf.game.state.Piece;
+import de.unimannheim.swt.pse.ctf.game.state.Team;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This class is being used to cache the layouts of the deterministic placement types (symmetrical, spaced_out and
+ * defensive), which are the same for every game with the same grid, teams and pieces.
+ * A layout holds the grid with the bases and pieces but without the blocks, which are still placed randomly
+ * for every game, and the positions of all pieces and bases, so that a new game is stamped from it with one
+ * copy per row instead of placing, mirroring and rescanning the grid.
+ * The layouts are kept in least recently used order and bounded by their number of grid cells, so that the layouts
+ * of one-off templates are evicted and make room for the maps that are played again.
+ *
+ * @version 19.10.2026
+ */
+final class PlacementCache {
+
+    // the cached layouts hold at most this many grid cells in total, the least recently used ones are evicted
+    static final long MAX_CELLS = 4_000_000;
+
+    // in access order, guarded by itself
+    private static final LinkedHashMap<Key, Layout> LAYOUTS = new LinkedHashMap<>(16, 0.75f, true);
+    private static long cells;
+
+    private PlacementCache() {
+    }
+
+    /**
+     * The structure of a placement: everything the deterministic placement types depend on.
+     *
+     * @param rows      the number of rows of the grid
+     * @param columns   the number of columns of the grid
+     * @param maxPieces the maximum amount of pieces on a team's part of the grid, depends on the blocks
+     * @param type      the placement type
+     * @param pieces    the ids of the teams and of their pieces, and the ids of the pieces to be placed
+     */
+    record Key(int rows, int columns, int maxPieces, PlacementType type, String pieces) {
+    }
+
+    /**
+     * The placed grid without blocks and the positions of the pieces and bases by team and piece index,
+     * null for the pieces and bases not found on the grid.
+     */
+    private record Layout(String[][] grid, int[][][] piecePositions, int[][] basePositions) {
+    }
+
+    /**
+     * This method is used to create the key of a placement.
+     *
+     * @param grid      {@link String[][]} the grid of the game
+     * @param teams     {@link Team[]} the teams playing the game
+     * @param pieces    {@link Piece[]} the pieces to be placed
+     * @param maxPieces {@link int} the maximum amount of pieces on a team's part of the grid
+     * @param type      {@link PlacementType} the placement type
+     * @return the key of the placement
+     */
+    static Key key(String[][] grid, Team[] teams, Piece[] pieces, int maxPieces, PlacementType type) {
+        StringBuilder builder = new StringBuilder();
+        for (Team team : teams) {
+            builder.append(team.getId()).append(':');
+            for (Piece piece : team.getPieces()) {
+                builder.append(piece.getId()).append(',');
+            }
+            builder.append(';');
+        }
+        for (Piece piece : pieces) {
+            builder.append(piece.getId()).append(',');
+        }
+        return new Key(grid.length, grid[0].length, maxPieces, type, builder.toString());
+    }
+
+    /**
+     * This method is used to fill the grid and the positions of the pieces and bases from a cached layout.
+     *
+     * @param key   {@link Key} the key of the placement
+     * @param grid  {@link String[][]} the grid to be filled
+     * @param teams {@link Team[]} the teams whose pieces and bases get their positions
+     * @return true if a layout was cached, false if the placement has to be computed
+     */
+    static boolean stamp(Key key, String[][] grid, Team[] teams) {
+        Layout layout;
+        synchronized (LAYOUTS) {
+            layout = LAYOUTS.get(key);
+        }
+        if (layout == null) {
+            return false;
+        }
+
+        for (int i = 0; i < grid.length; i++) {
+            System.arraycopy(layout.grid()[i], 0, grid[i], 0, grid[i].length);
+        }
+        for (int t = 0; t < teams.length; t++) {
+            Piece[] pieces = teams[t].getPieces();
+            for (int p = 0; p < pieces.length; p++) {
+                int[] position = layout.piecePositions()[t][p];
+                if (position != null) {
+                    pieces[p].setPosition(position.clone());
+                }
+            }
+            if (layout.basePositions()[t] != null) {
+                teams[t].setBase(layout.basePositions()[t].clone());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * This method is used to cache the layout of a computed placement, evicting the least recently used layouts
+     * until the cache has room for it. A layout larger than the whole cache is not cached.
+     *
+     * @param key   {@link Key} the key of the placement
+     * @param grid  {@link String[][]} the grid with the placed pieces and bases, but without blocks
+     * @param teams {@link Team[]} the teams playing the game
+     */
+    static void store(Key key, String[][] grid, Team[] teams) {
+        long layoutCells = (long) grid.length * grid[0].length;
+        if (layoutCells > MAX_CELLS) {
+            return;
+        }
+
+        // one scan of the grid instead of looking up every piece, the later square wins like in the placement
+        Map<String, int[]> squares = new HashMap<>();
+        String[][] copy = new String[grid.length][];
+        for (int i = 0; i < grid.length; i++) {
+            copy[i] = grid[i].clone();
+            for (int j = 0; j < grid[i].length; j++) {
+                if (grid[i][j].startsWith("p:") || grid[i][j].startsWith("b:")) {
+                    squares.put(grid[i][j], new int[]{i, j});
+                }
+            }
+        }
+
+        int[][][] piecePositions = new int[teams.length][][];
+        int[][] basePositions = new int[teams.length][];
+        for (int t = 0; t < teams.length; t++) {
+            Piece[] pieces = teams[t].getPieces();
+            piecePositions[t] = new int[pieces.length][];
+            for (int p = 0; p < pieces.length; p++) {
+                piecePositions[t][p] = squares.get("p:" + teams[t].getId() + "_" + pieces[p].getId());
+            }
+            basePositions[t] = squares.get("b:" + teams[t].getId());
+        }
+
+        Layout layout = new Layout(copy, piecePositions, basePositions);
+        synchronized (LAYOUTS) {
+            if (LAYOUTS.putIfAbsent(key, layout) != null) {
+                return;
+            }
+            cells += layoutCells;
+            Iterator<Layout> eldest = LAYOUTS.values().iterator();
+            while (cells > MAX_CELLS) {
+                Layout evicted = eldest.next();
+                cells -= (long) evicted.grid().length * evicted.grid()[0].length;
+                eldest.remove();
+            }
+        }
+    }
+
+    /**
+     * @return the number of cached layouts
+     */
+    static int size() {
+        synchronized (LAYOUTS) {
+            return LAYOUTS.size();
+        }
+    }
+
+    /**
+     * @return the number of grid cells of the cached layouts
+     */
+    static long cells() {
+        synchronized (LAYOUTS) {
+            return cells;
+        }
+    }
+
+    /**
+     * This method is used to remove all cached layouts.
+     */
+    static void clear() {
+        synchronized (LAYOUTS) {
+            LAYOUTS.clear();
+            cells = 0;
+        }
+    }
+}
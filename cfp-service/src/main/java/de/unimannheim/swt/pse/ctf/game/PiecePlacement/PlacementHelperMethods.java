@@ -3,7 +3,9 @@ package de.unimannheim.swt.pse.ctf.game.PiecePlacement;
 import de.unimannheim.swt.pse.ctf.game.state.Piece;
 import de.unimannheim.swt.pse.ctf.game.state.Team;
 
-import java.util.Random;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * This class is being used to store the helper methods for the placement of the pieces in the grid.
@@ -13,8 +15,29 @@ import java.util.Random;
  */
 public class PlacementHelperMethods {
 
+    // the source of all random decisions of the placement, seeded by the game engine if a seed is given
+    private final RandomGenerator random;
+
+    /**
+     * Constructor for the PlacementHelperMethods class with an unseeded random generator
+     */
+    public PlacementHelperMethods() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructor for the PlacementHelperMethods class
+     *
+     * @param random {@link RandomGenerator} the source of all random decisions of the placement
+     */
+    public PlacementHelperMethods(RandomGenerator random) {
+        this.random = random;
+    }
+
     /**
      * This method is used to arrange the pieces in the grid in a random way.
+     * The pieces are placed on a random selection of the free squares, so that no square is taken twice;
+     * pieces for which no free square is left are not placed.
      *
      * @param halfGrid  {@link String[][]} the half of the grid to be filled
      * @param pieces    {@link Piece[]} the pieces to be placed in the grid
@@ -25,24 +48,13 @@ public class PlacementHelperMethods {
         // place the team's base in the center of the halfGrid
         halfGrid[halfGrid.length / 2 - 1][halfGrid[0].length / 2] = "b:" + teams[0].getId();
 
-        // random placement of the pieces in the halfGrid
-        Random random = new Random();
-        for (int i = 0; i < pieces.length && i < maxPieces; i++) {
-            int randomRow = random.nextInt(halfGrid.length);
-            int randomCol = random.nextInt(halfGrid[0].length);
-
-            int totalAttempts = 0;
-            while (!halfGrid[randomRow][randomCol].isEmpty()) {
-                randomRow = random.nextInt(halfGrid.length);
-                randomCol = random.nextInt(halfGrid[0].length);
-                totalAttempts++;
-
-                if (totalAttempts > halfGrid.length * halfGrid[0].length) {
-                    break;
-                }
-            }
-
-            halfGrid[randomRow][randomCol] = "p:" + teams[0].getId() + "_" + pieces[i].getId();
+        // random placement of the pieces on the free squares of the halfGrid
+        int columns = halfGrid[0].length;
+        int[] freeSquares = freeSquares(halfGrid);
+        int count = Math.min(Math.min(pieces.length, maxPieces), freeSquares.length);
+        shuffle(freeSquares, count);
+        for (int i = 0; i < count; i++) {
+            halfGrid[freeSquares[i] / columns][freeSquares[i] % columns] = "p:" + teams[0].getId() + "_" + pieces[i].getId();
         }
     }
 
@@ -239,31 +251,54 @@ public class PlacementHelperMethods {
     }
 
     /**
-     * This method is used to find an empty position in the grid to place the block.
+     * This method is used to place the blocks on a random selection of the empty positions in the grid.
+     * If there are fewer empty positions than blocks, all of them get a block.
      *
      * @param grid {@link String[][]} the half of the grid to be filled
      */
     public void placeBlock(String[][] grid, Const constants) {
-        Random random = new Random();
-
-        int totalPositions = grid.length * grid[0].length;
-        int tmpCounter = 0;
-
-        for (int borderNum = 0; borderNum < constants.getMinBordersNumber(); borderNum++) {
-            int randomBlockRow, randomBlockCol;
-
-            do {
-                randomBlockRow = random.nextInt(grid.length);
-                randomBlockCol = random.nextInt(grid[0].length);
+        int columns = grid[0].length;
+        int[] freeSquares = freeSquares(grid);
+        int count = Math.min(Math.max(0, constants.getMinBordersNumber()), freeSquares.length);
+        shuffle(freeSquares, count);
+        for (int i = 0; i < count; i++) {
+            grid[freeSquares[i] / columns][freeSquares[i] % columns] = "b";
+        }
+    }
 
-                tmpCounter++;
-                if (tmpCounter > totalPositions) {
-                    break;
+    /**
+     * This method is used to collect the empty squares of a grid.
+     *
+     * @param grid {@link String[][]} the grid
+     * @return the indices (row * columns + column) of the empty squares in row order
+     */
+    private static int[] freeSquares(String[][] grid) {
+        int columns = grid[0].length;
+        int[] squares = new int[grid.length * columns];
+        int count = 0;
+        for (int i = 0; i < grid.length; i++) {
+            for (int j = 0; j < columns; j++) {
+                if (grid[i][j].isEmpty()) {
+                    squares[count++] = i * columns + j;
                 }
-            } while (!grid[randomBlockRow][randomBlockCol].isEmpty());
-            if (tmpCounter <= totalPositions) {
-                grid[randomBlockRow][randomBlockCol] = "b";
             }
         }
+        return count == squares.length ? squares : Arrays.copyOf(squares, count);
+    }
+
+    /**
+     * This method is used to move a uniformly random selection of count squares to the front of the array
+     * (partial Fisher-Yates shuffle), in linear time of count.
+     *
+     * @param squares {@link int[]} the squares to select from
+     * @param count   {@link int} the number of squares to select
+     */
+    private void shuffle(int[] squares, int count) {
+        for (int i = 0; i < count; i++) {
+            int j = i + random.nextInt(squares.length - i);
+            int square = squares[j];
+            squares[j] = squares[i];
+            squares[i] = square;
+        }
     }
 }
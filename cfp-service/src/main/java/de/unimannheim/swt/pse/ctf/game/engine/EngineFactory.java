@@ -0,0 +1,91 @@
+package de.unimannheim.swt.pse.ctf.game.engine;
+
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * This class is being used to create the game engine of every new game session, depending on the configured
+ * {@link EngineMode}. In shadow mode every session is served by the reference engine and mirrored to the optimized
+ * engine by a {@link ShadowGame}, so that a new engine can be verified on real traffic without risking live games.
+ *
+ * @version 19.10.2026
+ */
+public class EngineFactory {
+
+    private final EngineMode mode;
+    private final Supplier<Game> reference;
+    private final Supplier<Game> optimized;
+    private final Executor shadowExecutor;
+    private final ShadowMetrics metrics;
+
+    /**
+     * Constructor for the EngineFactory class
+     *
+     * @param mode           {@link EngineMode} the mode in which the engines are created
+     * @param reference      {@link Supplier} creates the reference engine
+     * @param optimized      {@link Supplier} creates the optimized engine
+     * @param shadowExecutor {@link Executor} runs the optimized engine in shadow mode
+     * @param metrics        {@link ShadowMetrics} collects the divergences and latencies in shadow mode
+     */
+    public EngineFactory(EngineMode mode, Supplier<Game> reference, Supplier<Game> optimized,
+                         Executor shadowExecutor, ShadowMetrics metrics) {
+        this.mode = mode;
+        this.reference = reference;
+        this.optimized = optimized;
+        this.shadowExecutor = shadowExecutor;
+        this.metrics = metrics;
+    }
+
+    /**
+     * This method is used to create the factory that serves every session with the reference {@link GameEngine}.
+     *
+     * @return the factory
+     */
+    public static EngineFactory reference() {
+        return new EngineFactory(EngineMode.REFERENCE, GameEngine::new, GameEngine::new, null, null);
+    }
+
+    /**
+     * This method is used to create a supplier for an engine class with a public no-argument constructor.
+     *
+     * @param className {@link String} the fully qualified name of a {@link Game} implementation
+     * @return the supplier creating a new engine on every call
+     * @throws IllegalArgumentException if the class does not exist or is no {@link Game}
+     */
+    public static Supplier<Game> byClassName(String className) {
+        Class<? extends Game> engineClass;
+        try {
+            engineClass = Class.forName(className).asSubclass(Game.class);
+            engineClass.getConstructor();
+        } catch (ClassNotFoundException | ClassCastException | NoSuchMethodException e) {
+            throw new IllegalArgumentException("No game engine with a public no-argument constructor: " + className, e);
+        }
+        return () -> {
+            try {
+                return engineClass.getConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Game engine could not be created: " + className, e);
+            }
+        };
+    }
+
+    /**
+     * This method is used to create the engine of a new game session.
+     *
+     * @return the game engine
+     */
+    public Game create() {
+        switch (this.mode) {
+            case OPTIMIZED:
+                return this.optimized.get();
+            case SHADOW:
+                return new ShadowGame(this.reference.get(), this.optimized.get(), this.shadowExecutor, this.metrics);
+            default:
+                return this.reference.get();
+        }
+    }
+
+    public EngineMode getMode() {
+        return mode;
+    }
+}
@@ -0,0 +1,17 @@
+package de.unimannheim.swt.pse.ctf.game.engine;
+
+/**
+ * The modes in which the {@link EngineFactory} creates the game engines of new sessions.
+ * Selected with the property {@code ctf.engine.mode}.
+ *
+ * @version 19.10.2026
+ */
+public enum EngineMode {
+
+    // the reference GameEngine serves all sessions
+    REFERENCE,
+    // the engine configured with ctf.engine.optimized-class serves all sessions
+    OPTIMIZED,
+    // the reference engine serves all sessions, the optimized engine replays them in the background
+    SHADOW
+}
@@ -14,11 +14,12 @@ import org.apache.commons.lang3.StringUtils;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.SplittableRandom;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
-public class GameEngine implements Game{
+public class GameEngine implements Game, Seedable{
 
     private GameState gameState;
 
@@ -50,6 +51,15 @@ public class GameEngine implements Game{
 
     private ScheduledExecutorService scheduler;  // Executor service for handling scheduled tasks
 
+    /*
+    single source of all random decisions of the game: piece and block placement, respawn and starting team.
+    The placement gets a split of it, so that its consumption does not shift the respawn and starting team.
+    Only a seeded game picks its starting team at random, unseeded games keep the first team starting,
+    as the clients and tests rely on that.
+     */
+    private SplittableRandom random = new SplittableRandom();
+    private boolean seeded;
+
 
 
     public GameEngine(){
@@ -70,6 +80,31 @@ public class GameEngine implements Game{
          */
     }
 
+    /**
+     * Makes all random decisions of this game depend on the given seed.
+     * Has to be called before {@link #create(MapTemplate)}.
+     *
+     * @param seed the seed of the game
+     */
+    @Override
+    public void setSeed(long seed) {
+        this.random = new SplittableRandom(seed);
+        this.seeded = true;
+    }
+
+    /**
+     * Makes the placement and respawn of this game depend on the given seed, the first team keeps starting
+     * as in an unseeded game.
+     * Has to be called before {@link #create(MapTemplate)}.
+     *
+     * @param seed the seed of the placement and respawn
+     */
+    @Override
+    public void setRandomSeed(long seed) {
+        this.random = new SplittableRandom(seed);
+        this.seeded = false;
+    }
+
     public void fillHashMap(){
 
         //is called from the joinGame method, as soon as all teams have joined
@@ -168,7 +203,7 @@ public class GameEngine implements Game{
         PlacementType placement = template.getPlacement();
         String[][] grid = new String[template.getGridSize()[0]][template.getGridSize()[1]];
 
-        PiecePlacement piecePlacement = new PiecePlacement(template, grid, teams);
+        PiecePlacement piecePlacement = new PiecePlacement(template, grid, teams, this.random.split());
         piecePlacement.placePieces(teams[0].getPieces(), placement);
         this.gameState.setGrid(grid);
 
@@ -254,6 +289,11 @@ public class GameEngine implements Game{
             scheduler = Executors.newSingleThreadScheduledExecutor();
             startScheduler();  // Start the scheduling of the time decrement tasks
             this.fillHashMap();
+            if(this.seeded){
+                //seeded games pick the starting team at random, skipping it if it cannot move
+                this.gameState.setCurrentTeam(this.random.nextInt(teams.length));
+                skipMove();
+            }
         }
 
         return teams[teamIndex];
@@ -355,7 +395,7 @@ public class GameEngine implements Game{
 
                         if (t.getFlags() > 0) {
                             //piece needs to respawn, and game is probably not yet over
-                            int[] positionToRespawn = new RespawnHelperMethods().getSquareToSpawn(this.gameState.getGrid(), movingPiece.getTeamId());
+                            int[] positionToRespawn = new RespawnHelperMethods(this.random).getSquareToSpawn(this.gameState.getGrid(), movingPiece.getTeamId());
                             this.gameState.getGrid()[positionToRespawn[0]][positionToRespawn[1]] = "p:" + move.getTeamId() + "_" + move.getPieceId();
                             movingPiece.setPosition(positionToRespawn);
                         }
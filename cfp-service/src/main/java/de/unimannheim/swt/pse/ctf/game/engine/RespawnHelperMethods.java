@@ -1,6 +1,7 @@
 package de.unimannheim.swt.pse.ctf.game.engine;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 
 public class RespawnHelperMethods {
@@ -26,6 +27,16 @@ public class RespawnHelperMethods {
     private Square baseOfTeam;
     private List<List<Square>> adjacencyList;
     private List<Square> candidatesForSpawning;
+    //source of the random choice among the candidates, the GameEngine passes its seeded generator
+    private final RandomGenerator random;
+
+    public RespawnHelperMethods(){
+        this(new SplittableRandom());
+    }
+
+    public RespawnHelperMethods(RandomGenerator random){
+        this.random = random;
+    }
 
     /*
     getters and setters primarily for testing,
@@ -218,14 +229,13 @@ public class RespawnHelperMethods {
 
         }
 
-        //randomly choose a square out of the candidates
-        int chosenSquare = (int) (Math.random() * candidatesForSpawning.size());
-        try{
-            return candidatesForSpawning.get(chosenSquare).getPositionInGridArray();
-        }catch(IndexOutOfBoundsException indexOutOfBoundsException){
-            //no square to respawn, as no square was empty. (the .get above does not work)
+        if(candidatesForSpawning.isEmpty()){
+            //no square to respawn, as no square was empty
             return null;
         }
+        //randomly choose a square out of the candidates
+        int chosenSquare = this.random.nextInt(candidatesForSpawning.size());
+        return candidatesForSpawning.get(chosenSquare).getPositionInGridArray();
     }
 
     public List<Square> getCandidatesForSpawning() {
@@ -0,0 +1,26 @@
+package de.unimannheim.swt.pse.ctf.game.engine;
+
+/**
+ * Implemented by game engines whose random decisions (piece and block placement, respawn and starting team)
+ * can be driven by a seed. Two games created with the same seed and {@link de.unimannheim.swt.pse.ctf.game.map.MapTemplate}
+ * and played with the same moves are equal in every step, which makes them replayable for benchmarks,
+ * load tests and replay verification.
+ */
+public interface Seedable {
+
+    /**
+     * Sets the seed of the game. Has to be called before {@link Game#create(de.unimannheim.swt.pse.ctf.game.map.MapTemplate)}.
+     *
+     * @param seed the seed of all random decisions of the game
+     */
+    void setSeed(long seed);
+
+    /**
+     * Sets the seed of the piece and block placement and the respawn only. Unlike {@link #setSeed(long)}, the
+     * starting team is picked as in an unseeded game, so that seeding does not change the game the players see.
+     * Has to be called before {@link Game#create(de.unimannheim.swt.pse.ctf.game.map.MapTemplate)}.
+     *
+     * @param seed the seed of the placement and respawn of the game
+     */
+    void setRandomSeed(long seed);
+}
@@ -0,0 +1,295 @@
+package de.unimannheim.swt.pse.ctf.game.engine;
+
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.game.state.GameState;
+import de.unimannheim.swt.pse.ctf.game.state.Move;
+import de.unimannheim.swt.pse.ctf.game.state.Team;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * This class is being used to run a secondary game engine in the shadow of the primary one.
+ * The primary engine answers every call. Every state changing call (create, joinGame, makeMove and giveUp) is
+ * replayed in the same order on the secondary engine on the shadow executor, where its outcome and the resulting
+ * state are compared with the ones of the primary engine. The first divergence is logged and counted in the
+ * {@link ShadowMetrics}, afterwards the game is no longer mirrored.
+ * <p>
+ * Both engines get the same seed, so that their random placement matches. A game created with a seed is fully seeded,
+ * a game without one only gets a random seed for its placement and respawn ({@link Seedable#setRandomSeed(long)}),
+ * so that it starts with the same team as without shadow mode. Engines which are not {@link Seedable} diverge on the
+ * first random decision.
+ * The move and game timers run independently in both engines, so games with time limits can diverge on a timeout.
+ *
+ * @version 19.10.2026
+ */
+public class ShadowGame implements Game, Seedable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ShadowGame.class);
+
+    private final Game primary;
+    private final Game secondary;
+    private final Executor executor;
+    private final ShadowMetrics metrics;
+    private final AtomicBoolean mirrored = new AtomicBoolean(true);
+
+    // the last operation queued for the secondary engine, the next one runs after it
+    private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+    private boolean seeded;
+
+    /**
+     * Constructor for the ShadowGame class
+     *
+     * @param primary   {@link Game} the engine answering all calls
+     * @param secondary {@link Game} the engine being compared with the primary one
+     * @param executor  {@link Executor} runs the operations of the secondary engine
+     * @param metrics   {@link ShadowMetrics} collects the divergences and latencies
+     */
+    public ShadowGame(Game primary, Game secondary, Executor executor, ShadowMetrics metrics) {
+        this.primary = primary;
+        this.secondary = secondary;
+        this.executor = executor;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public synchronized void setSeed(long seed) {
+        this.seeded = true;
+        if (this.primary instanceof Seedable seedable) {
+            seedable.setSeed(seed);
+        }
+        if (this.secondary instanceof Seedable seedable) {
+            seedable.setSeed(seed);
+        }
+    }
+
+    @Override
+    public synchronized void setRandomSeed(long seed) {
+        this.seeded = true;
+        if (this.primary instanceof Seedable seedable) {
+            seedable.setRandomSeed(seed);
+        }
+        if (this.secondary instanceof Seedable seedable) {
+            seedable.setRandomSeed(seed);
+        }
+    }
+
+    @Override
+    public synchronized GameState create(MapTemplate template) {
+        if (!this.seeded) {
+            setRandomSeed(ThreadLocalRandom.current().nextLong());
+        }
+        this.metrics.gameStarted();
+        return mirror("create", () -> this.primary.create(template), () -> this.secondary.create(template));
+    }
+
+    @Override
+    public synchronized Team joinGame(String teamId) {
+        return mirror("joinGame", () -> this.primary.joinGame(teamId), () -> this.secondary.joinGame(teamId));
+    }
+
+    @Override
+    public synchronized void makeMove(Move move) {
+        // the engines keep the last move, so each of them gets its own copy
+        Move copy = new Move();
+        copy.setTeamId(move.getTeamId());
+        copy.setPieceId(move.getPieceId());
+        copy.setNewPosition(move.getNewPosition() == null ? null : move.getNewPosition().clone());
+
+        mirror("makeMove", () -> {
+            this.primary.makeMove(move);
+            return null;
+        }, () -> this.secondary.makeMove(copy));
+    }
+
+    @Override
+    public synchronized void giveUp(String teamId) {
+        mirror("giveUp", () -> {
+            this.primary.giveUp(teamId);
+            return null;
+        }, () -> this.secondary.giveUp(teamId));
+    }
+
+    @Override
+    public GameState getCurrentGameState() {
+        return this.primary.getCurrentGameState();
+    }
+
+    @Override
+    public int getRemainingTeamSlots() {
+        return this.primary.getRemainingTeamSlots();
+    }
+
+    @Override
+    public int getRemainingGameTimeInSeconds() {
+        return this.primary.getRemainingGameTimeInSeconds();
+    }
+
+    @Override
+    public int getRemainingMoveTimeInSeconds() {
+        return this.primary.getRemainingMoveTimeInSeconds();
+    }
+
+    @Override
+    public boolean isValidMove(Move move) {
+        return this.primary.isValidMove(move);
+    }
+
+    @Override
+    public boolean isStarted() {
+        return this.primary.isStarted();
+    }
+
+    @Override
+    public boolean isGameOver() {
+        return this.primary.isGameOver();
+    }
+
+    @Override
+    public String[] getWinner() {
+        return this.primary.getWinner();
+    }
+
+    @Override
+    public Date getStartedDate() {
+        return this.primary.getStartedDate();
+    }
+
+    @Override
+    public Date getEndDate() {
+        return this.primary.getEndDate();
+    }
+
+    @Override
+    public int getTurnTimeLimit() {
+        return this.primary.getTurnTimeLimit();
+    }
+
+    /**
+     * This method is used to execute an operation on the primary engine and to queue it for the secondary engine.
+     * Exceptions of the primary engine are rethrown after the operation has been queued, as the secondary engine
+     * has to reject the same calls.
+     *
+     * @param operation   {@link String} the name of the operation
+     * @param onPrimary   {@link Supplier} executes the operation on the primary engine
+     * @param onSecondary {@link Runnable} executes the operation on the secondary engine
+     * @return the result of the primary engine
+     */
+    private <T> T mirror(String operation, Supplier<T> onPrimary, Runnable onSecondary) {
+        T result = null;
+        RuntimeException failure = null;
+        long start = System.nanoTime();
+        try {
+            result = onPrimary.get();
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        long primaryNanos = System.nanoTime() - start;
+
+        if (this.mirrored.get()) {
+            String expectedOutcome = outcome(failure);
+            long expectedFingerprint = fingerprint(this.primary);
+            this.tail = this.tail.thenRunAsync(() ->
+                    replay(operation, onSecondary, expectedOutcome, expectedFingerprint, primaryNanos), this.executor);
+            this.tail.whenComplete((ignored, e) -> {
+                // a rejected operation breaks the order of the replay, so the game is no longer mirrored
+                if (e != null && this.mirrored.compareAndSet(true, false)) {
+                    this.metrics.dropped();
+                    LOG.warn("shadow engine stopped mirroring a game after {}", operation, e);
+                }
+            });
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+        return result;
+    }
+
+    /**
+     * This method is used to execute an operation on the secondary engine and to compare it with the primary one.
+     *
+     * @param operation           {@link String} the name of the operation
+     * @param onSecondary         {@link Runnable} executes the operation on the secondary engine
+     * @param expectedOutcome     {@link String} the outcome of the primary engine
+     * @param expectedFingerprint {@link long} the fingerprint of the primary state after the operation
+     * @param primaryNanos        {@link long} the time the primary engine took
+     */
+    private void replay(String operation, Runnable onSecondary, String expectedOutcome, long expectedFingerprint,
+                        long primaryNanos) {
+        if (!this.mirrored.get()) {
+            return;
+        }
+        RuntimeException failure = null;
+        long start = System.nanoTime();
+        try {
+            onSecondary.run();
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        long secondaryNanos = System.nanoTime() - start;
+        this.metrics.record(operation, primaryNanos, secondaryNanos);
+
+        String actualOutcome = outcome(failure);
+        long actualFingerprint = fingerprint(this.secondary);
+        if ((!expectedOutcome.equals(actualOutcome) || expectedFingerprint != actualFingerprint)
+                && this.mirrored.compareAndSet(true, false)) {
+            this.metrics.divergence();
+            LOG.warn("shadow engine diverged at {}: primary {}, secondary {}, states {}", operation,
+                    expectedOutcome, actualOutcome, expectedFingerprint == actualFingerprint ? "equal" : "different");
+        }
+    }
+
+    /**
+     * This method is used to describe the outcome of an operation.
+     *
+     * @param failure {@link RuntimeException} the exception thrown by the operation or null
+     * @return "ok" or the name of the exception
+     */
+    private static String outcome(RuntimeException failure) {
+        return failure == null ? "ok" : failure.getClass().getName();
+    }
+
+    /**
+     * This method is used to calculate a fingerprint of the observable game state: the grid, the current team and
+     * the flags and pieces left of every team. It is calculated right after an operation, so that the primary
+     * engine can go on while the secondary engine catches up. The spectator streams use it to notice state changes.
+     *
+     * @param game {@link Game} the engine
+     * @return the fingerprint or 0 if the engine has no state
+     */
+    public static long fingerprint(Game game) {
+        GameState state;
+        try {
+            state = game.getCurrentGameState();
+        } catch (RuntimeException e) {
+            // the GameEngine has no state before create
+            return 0;
+        }
+        if (state == null || state.getGrid() == null) {
+            return 0;
+        }
+        long hash = Arrays.deepHashCode(state.getGrid());
+        hash = 31 * hash + state.getCurrentTeam();
+        if (state.getTeams() != null) {
+            for (Team team : state.getTeams()) {
+                if (team == null) {
+                    hash = 31 * hash;
+                    continue;
+                }
+                hash = 31 * hash + Objects.hashCode(team.getId());
+                hash = 31 * hash + team.getFlags();
+                hash = 31 * hash + (team.getPieces() == null ? 0 : team.getPieces().length);
+            }
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,105 @@
+package de.unimannheim.swt.pse.ctf.game.engine;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class is being used to collect the metrics of the shadow mode: how many operations were compared, how often
+ * the secondary engine diverged from the primary one and how long both engines took per operation.
+ * All counters are safe to be updated from the request threads and the shadow executor at the same time.
+ *
+ * @version 19.10.2026
+ */
+public class ShadowMetrics {
+
+    private final LongAdder games = new LongAdder();
+    private final LongAdder divergences = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Map<String, OperationStats> operations = new ConcurrentHashMap<>();
+
+    /**
+     * This method is used to count a new game mirrored to the secondary engine.
+     */
+    public void gameStarted() {
+        this.games.increment();
+    }
+
+    /**
+     * This method is used to record one operation executed by both engines.
+     *
+     * @param operation      {@link String} the name of the {@link Game} method
+     * @param primaryNanos   {@link long} the time the primary engine took
+     * @param secondaryNanos {@link long} the time the secondary engine took
+     */
+    public void record(String operation, long primaryNanos, long secondaryNanos) {
+        OperationStats stats = this.operations.computeIfAbsent(operation, key -> new OperationStats());
+        stats.count.increment();
+        stats.primaryNanos.add(primaryNanos);
+        stats.secondaryNanos.add(secondaryNanos);
+    }
+
+    /**
+     * This method is used to count a game whose secondary engine diverged from the primary one.
+     */
+    public void divergence() {
+        this.divergences.increment();
+    }
+
+    /**
+     * This method is used to count a game that is no longer mirrored, as the shadow executor rejected its operations.
+     */
+    public void dropped() {
+        this.dropped.increment();
+    }
+
+    public long getGames() {
+        return games.sum();
+    }
+
+    public long getDivergences() {
+        return divergences.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * This method is used to create a snapshot of all metrics, as it is returned by the metrics endpoint.
+     * The ratio of an operation is the mean latency of the secondary engine divided by the one of the primary engine.
+     *
+     * @return the metrics by name
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("games", getGames());
+        snapshot.put("divergences", getDivergences());
+        snapshot.put("dropped", getDropped());
+
+        Map<String, Object> perOperation = new TreeMap<>();
+        this.operations.forEach((operation, stats) -> {
+            long count = stats.count.sum();
+            double primaryMicros = stats.primaryNanos.sum() / 1000.0 / count;
+            double secondaryMicros = stats.secondaryNanos.sum() / 1000.0 / count;
+
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("count", count);
+            values.put("primaryMeanMicros", primaryMicros);
+            values.put("secondaryMeanMicros", secondaryMicros);
+            values.put("ratio", primaryMicros > 0 ? secondaryMicros / primaryMicros : 0.0);
+            perOperation.put(operation, values);
+        });
+        snapshot.put("operations", perOperation);
+        return snapshot;
+    }
+
+    // the counters of a single operation
+    private static class OperationStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder primaryNanos = new LongAdder();
+        private final LongAdder secondaryNanos = new LongAdder();
+    }
+}
@@ -0,0 +1,16 @@
+package de.unimannheim.swt.pse.ctf.game.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Represents a special exception (map template can not be played or exceeds the budgets)
+ * that is marked with a HTTP status if thrown.
+ */
+@ResponseStatus(value = HttpStatus.UNPROCESSABLE_ENTITY, reason="Map template is invalid")
+public class InvalidTemplate extends RuntimeException {
+
+    public InvalidTemplate(String message) {
+        super(message);
+    }
+}
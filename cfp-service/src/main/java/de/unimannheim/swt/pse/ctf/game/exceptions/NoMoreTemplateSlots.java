@@ -0,0 +1,11 @@
+package de.unimannheim.swt.pse.ctf.game.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Represents a special exception (template registry is full)
+ * that is marked with a HTTP status if thrown.
+ */
+@ResponseStatus(value = HttpStatus.TOO_MANY_REQUESTS, reason="No template slots free")
+public class NoMoreTemplateSlots extends RuntimeException {}
@@ -0,0 +1,11 @@
+package de.unimannheim.swt.pse.ctf.game.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Represents a special exception (map template not registered)
+ * that is marked with a HTTP status if thrown.
+ */
+@ResponseStatus(value = HttpStatus.NOT_FOUND, reason="Map template not found")
+public class TemplateNotFound extends RuntimeException {}
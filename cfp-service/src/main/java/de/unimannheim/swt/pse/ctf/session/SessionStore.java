@@ -0,0 +1,89 @@
+package de.unimannheim.swt.pse.ctf.session;
+
+import de.unimannheim.swt.pse.ctf.game.engine.Game;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the games and team secrets of the game sessions for the components in front of and beside the
+ * {@link de.unimannheim.swt.pse.ctf.controller.GameSessionController}, such as the spectator streams and the
+ * admission control. The controller keeps its own sessions and must not be modified, so the {@link SessionTracker}
+ * fills this store from the requests and responses of the controller.
+ *
+ * @version 19.10.2026
+ */
+@Component
+public class SessionStore {
+
+    /**
+     * A game session as seen from outside the controller.
+     *
+     * @param game        the game of the session
+     * @param teamSecrets the secrets handed to the teams that joined the session
+     */
+    private record StoredSession(Game game, Set<String> teamSecrets) {
+    }
+
+    private final Map<String, StoredSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Adds a new game session.
+     *
+     * @param sessionId unique session id
+     * @param game      {@link Game} the game of the session
+     */
+    public void register(String sessionId, Game game) {
+        this.sessions.put(sessionId, new StoredSession(game, ConcurrentHashMap.newKeySet()));
+    }
+
+    /**
+     * Adds the secret of a team that joined a game session.
+     *
+     * @param sessionId  unique session id
+     * @param teamSecret the secret of the team
+     */
+    public void addTeamSecret(String sessionId, String teamSecret) {
+        StoredSession session = this.sessions.get(sessionId);
+        if (session != null && teamSecret != null) {
+            session.teamSecrets().add(teamSecret);
+        }
+    }
+
+    /**
+     * Removes a deleted game session.
+     *
+     * @param sessionId unique session id
+     */
+    public void remove(String sessionId) {
+        this.sessions.remove(sessionId);
+    }
+
+    /**
+     * @param sessionId unique session id
+     * @return the game of the session or null if the session does not exist
+     */
+    public Game findGame(String sessionId) {
+        StoredSession session = this.sessions.get(sessionId);
+        return session == null ? null : session.game();
+    }
+
+    /**
+     * @param sessionId  unique session id
+     * @param teamSecret a secret sent by a client
+     * @return true if the secret was handed to a team of the session, false otherwise
+     */
+    public boolean isTeamSecret(String sessionId, String teamSecret) {
+        StoredSession session = this.sessions.get(sessionId);
+        return session != null && teamSecret != null && session.teamSecrets().contains(teamSecret);
+    }
+
+    /**
+     * @return the number of game sessions
+     */
+    public int size() {
+        return this.sessions.size();
+    }
+}
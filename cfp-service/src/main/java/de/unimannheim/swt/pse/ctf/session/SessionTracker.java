@@ -0,0 +1,146 @@
+package de.unimannheim.swt.pse.ctf.session;
+
+import de.unimannheim.swt.pse.ctf.CtfApplication;
+import de.unimannheim.swt.pse.ctf.controller.GameSessionController;
+import de.unimannheim.swt.pse.ctf.controller.data.GameSessionRequest;
+import de.unimannheim.swt.pse.ctf.controller.data.GameSessionResponse;
+import de.unimannheim.swt.pse.ctf.controller.data.JoinGameResponse;
+import de.unimannheim.swt.pse.ctf.game.engine.Game;
+import de.unimannheim.swt.pse.ctf.game.engine.Seedable;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * Fills the {@link SessionStore} from the requests and responses of the {@link GameSessionController}, which must
+ * not be modified:
+ *
+ * <ul>
+ *  <li>the engine created while a request creates a game session gets the seed of the request, if it has one, and
+ *  is registered with the session id of the response,</li>
+ *  <li>the secret of every team that joins a session is added to it, and</li>
+ *  <li>a session is removed once it was deleted.</li>
+ * </ul>
+ *
+ * @version 19.10.2026
+ */
+@ControllerAdvice(assignableTypes = GameSessionController.class)
+public class SessionTracker extends RequestBodyAdviceAdapter
+        implements ResponseBodyAdvice<Object>, HandlerInterceptor, WebMvcConfigurer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SessionTracker.class);
+
+    // the request attribute holding the seed of a game session request
+    static final String SEED_ATTRIBUTE = SessionTracker.class.getName() + ".seed";
+    // the request attribute holding the engine created by the current request
+    static final String GAME_ATTRIBUTE = SessionTracker.class.getName() + ".game";
+
+    private final SessionStore sessionStore;
+
+    public SessionTracker(SessionStore sessionStore) {
+        this.sessionStore = sessionStore;
+        CtfApplication.setEngineHook(this::engineCreated);
+    }
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return targetType == GameSessionRequest.class;
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                Class<? extends HttpMessageConverter<?>> converterType) {
+        Long seed = ((GameSessionRequest) body).getSeed();
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (seed != null && attributes != null) {
+            attributes.setAttribute(SEED_ATTRIBUTE, seed, RequestAttributes.SCOPE_REQUEST);
+        }
+        return body;
+    }
+
+    /**
+     * Seeds an engine created while serving a request with the seed of the request and remembers it, the response
+     * of the request tells its session id.
+     *
+     * @param game {@link Game} the new engine
+     * @return the same engine
+     */
+    Game engineCreated(Game game) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return game;
+        }
+        if (attributes.getAttribute(SEED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Long seed
+                && game instanceof Seedable seedable) {
+            LOG.info("new game session uses seed {}", seed);
+            seedable.setSeed(seed);
+        }
+        attributes.setAttribute(GAME_ATTRIBUTE, game, RequestAttributes.SCOPE_REQUEST);
+        return game;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        Class<?> type = returnType.getParameterType();
+        return type == GameSessionResponse.class || type == JoinGameResponse.class;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body instanceof GameSessionResponse sessionResponse) {
+            // only set if this request created the session, not if it read it
+            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+            Object game = attributes == null ? null
+                    : attributes.getAttribute(GAME_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (game instanceof Game created) {
+                this.sessionStore.register(sessionResponse.getId(), created);
+            }
+        } else if (body instanceof JoinGameResponse joinResponse) {
+            this.sessionStore.addTeamSecret(joinResponse.getGameSessionId(), joinResponse.getTeamSecret());
+        }
+        return body;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!"DELETE".equalsIgnoreCase(request.getMethod()) || ex != null || response.getStatus() >= 400
+                || !(handler instanceof HandlerMethod method)
+                || !GameSessionController.class.isAssignableFrom(method.getBeanType())) {
+            return;
+        }
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables instanceof Map<?, ?> map && map.get("sessionId") instanceof String sessionId) {
+            this.sessionStore.remove(sessionId);
+        }
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // the deletion of a session has no response body, so it is seen by the interceptor only
+        registry.addInterceptor(this).addPathPatterns("/api/gamesession/*");
+    }
+}
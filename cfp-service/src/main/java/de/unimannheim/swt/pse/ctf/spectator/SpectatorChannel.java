@@ -0,0 +1,137 @@
+package de.unimannheim.swt.pse.ctf.spectator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.unimannheim.swt.pse.ctf.game.engine.Game;
+import de.unimannheim.swt.pse.ctf.game.engine.ShadowGame;
+import de.unimannheim.swt.pse.ctf.game.state.GameState;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The spectators of one session. The state is serialized once per change and the same frame is handed to every
+ * subscriber, so the cost of a move does not depend on the number of spectators.
+ *
+ * @version 19.10.2026
+ */
+class SpectatorChannel {
+
+    private final String sessionId;
+    private final ObjectMapper objectMapper;
+    private final List<SpectatorSubscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    private long fingerprint;
+    private String snapshotJson;
+    private SpectatorFrame snapshot;
+    private boolean ended;
+
+    SpectatorChannel(String sessionId, ObjectMapper objectMapper) {
+        this.sessionId = sessionId;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Adds a subscriber, which gets the last state at once.
+     *
+     * @param subscriber the subscriber
+     * @return false if the channel ended and the subscriber was not added
+     */
+    synchronized boolean add(SpectatorSubscriber subscriber) {
+        if (this.ended) {
+            return false;
+        }
+        this.subscribers.add(subscriber);
+        if (this.snapshot != null) {
+            subscriber.offer(this.snapshot);
+        }
+        return true;
+    }
+
+    void remove(SpectatorSubscriber subscriber) {
+        this.subscribers.remove(subscriber);
+    }
+
+    /**
+     * Ends the channel if no subscriber is left, later subscribers have to open a new channel.
+     *
+     * @return true if the channel ended
+     */
+    synchronized boolean endIfIdle() {
+        this.subscribers.removeIf(SpectatorSubscriber::isClosed);
+        if (this.subscribers.isEmpty()) {
+            this.ended = true;
+        }
+        return this.ended;
+    }
+
+    int size() {
+        return this.subscribers.size();
+    }
+
+    /**
+     * Publishes the state of the game if it changed since the last poll, and ends the streams if the game is over
+     * or the session was deleted.
+     *
+     * @param game the game of the session or null if the session was deleted
+     * @return true if the streams ended
+     */
+    synchronized boolean poll(Game game) throws JsonProcessingException {
+        if (this.ended) {
+            return true;
+        }
+        if (game == null) {
+            String json = "{\"id\":" + this.objectMapper.writeValueAsString(this.sessionId) + "}";
+            this.end(new SpectatorFrame(SpectatorFrame.event("deleted", json), true));
+            return true;
+        }
+
+        long current = ShadowGame.fingerprint(game);
+        if (current != this.fingerprint || this.snapshot == null) {
+            GameState state = game.getCurrentGameState();
+            String json;
+            synchronized (state) {
+                json = this.objectMapper.writeValueAsString(state);
+            }
+            this.fingerprint = current;
+            this.snapshotJson = json;
+            this.snapshot = new SpectatorFrame(SpectatorFrame.event("state", json), false);
+            if (!isGameOver(game)) {
+                for (SpectatorSubscriber subscriber : this.subscribers) {
+                    subscriber.offer(this.snapshot);
+                }
+            }
+        }
+
+        if (isGameOver(game)) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("id", this.sessionId);
+            result.put("gameOver", true);
+            result.put("winner", game.getWinner());
+            // the final state goes with the end of the stream, so that it is not replaced in the pending slot
+            this.end(new SpectatorFrame(SpectatorFrame.event("state", this.snapshotJson)
+                    + SpectatorFrame.event("gameover", this.objectMapper.writeValueAsString(result)), true));
+            return true;
+        }
+        return false;
+    }
+
+    private void end(SpectatorFrame last) {
+        this.ended = true;
+        for (SpectatorSubscriber subscriber : this.subscribers) {
+            subscriber.offer(last);
+        }
+        this.subscribers.clear();
+    }
+
+    private static boolean isGameOver(Game game) {
+        try {
+            return game.isGameOver();
+        } catch (RuntimeException e) {
+            // the engine can fail on states it has not finished setting up, the next poll tries again
+            return false;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package de.unimannheim.swt.pse.ctf.spectator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.unimannheim.swt.pse.ctf.session.SessionStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Configures the spectator streams with the following properties:
+ *
+ * <ul>
+ *  <li>{@code ctf.spectator.interval-millis} the time between two checks of the watched sessions,</li>
+ *  <li>{@code ctf.spectator.writer-threads} the threads writing to the spectators,</li>
+ *  <li>{@code ctf.spectator.max-skipped} the states a spectator may skip in a row before it is dropped, and</li>
+ *  <li>{@code ctf.spectator.timeout-millis} the time after which a stream is closed.</li>
+ * </ul>
+ *
+ * @version 19.10.2026
+ */
+@Configuration
+public class SpectatorConfiguration {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ThreadPoolExecutor spectatorWriters(@Value("${ctf.spectator.writer-threads:4}") int threads) {
+        AtomicInteger count = new AtomicInteger();
+        // every spectator has at most one write queued, the bound only protects against floods of new streams
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(100_000), runnable -> {
+                    Thread thread = new Thread(runnable, "spectator-writer-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public SpectatorHub spectatorHub(ObjectMapper objectMapper, SessionStore sessionStore,
+                                     ThreadPoolExecutor spectatorWriters,
+                                     @Value("${ctf.spectator.interval-millis:100}") long intervalMillis,
+                                     @Value("${ctf.spectator.max-skipped:50}") int maxSkipped,
+                                     @Value("${ctf.spectator.timeout-millis:1800000}") long timeoutMillis) {
+        return new SpectatorHub(objectMapper, sessionStore::findGame, spectatorWriters, intervalMillis,
+                maxSkipped, timeoutMillis);
+    }
+}
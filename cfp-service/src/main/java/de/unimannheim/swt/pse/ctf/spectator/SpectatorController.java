@@ -0,0 +1,49 @@
+package de.unimannheim.swt.pse.ctf.spectator;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * This controller class defines the endpoint GET `/api/spectator/{sessionId}` for watching a game session as a
+ * stream of Server-Sent Events, instead of polling its state.
+ *
+ * @version 19.10.2026
+ */
+@RestController
+@RequestMapping("/api")
+public class SpectatorController {
+
+    private final SpectatorHub spectatorHub;
+
+    public SpectatorController(SpectatorHub spectatorHub) {
+        this.spectatorHub = spectatorHub;
+    }
+
+    /**
+     * You can watch a game session by sending a `GET` request to the `/api/spectator/{sessionId}` endpoint.
+     * The response is a `text/event-stream` with a "state" event carrying the {@link
+     * de.unimannheim.swt.pse.ctf.game.state.GameState} for the current state and every change, and a final
+     * "gameover" event with the winners or "deleted" event if the session is deleted.
+     *
+     * @param sessionId unique session id
+     * @return the event stream
+     */
+    @Operation(summary = "Watch a game session")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @ApiResponse(responseCode = "404", description = "Game session not found"),
+            @ApiResponse(responseCode = "500", description = "Unknown error occurred")
+    })
+    @GetMapping(value = "/spectator/{sessionId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter spectate(@Parameter(description = "existing game session id") @PathVariable String sessionId) {
+        return this.spectatorHub.subscribe(sessionId);
+    }
+}
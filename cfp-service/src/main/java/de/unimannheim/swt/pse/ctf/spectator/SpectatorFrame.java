@@ -0,0 +1,45 @@
+package de.unimannheim.swt.pse.ctf.spectator;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * One or more Server-Sent Events, encoded once and written as the same bytes to every subscriber.
+ *
+ * @version 19.10.2026
+ */
+final class SpectatorFrame {
+
+    private final Set<DataWithMediaType> data;
+    private final boolean last;
+
+    /**
+     * @param events the events, see {@link #event(String, String)}
+     * @param last   true if the stream ends after these events
+     */
+    SpectatorFrame(String events, boolean last) {
+        byte[] bytes = events.getBytes(StandardCharsets.UTF_8);
+        this.data = Set.of(new DataWithMediaType(bytes, MediaType.TEXT_EVENT_STREAM));
+        this.last = last;
+    }
+
+    /**
+     * @param name the name of the event
+     * @param json the data of the event, JSON without line breaks
+     * @return the event in the text/event-stream format
+     */
+    static String event(String name, String json) {
+        return "event:" + name + "\ndata:" + json + "\n\n";
+    }
+
+    Set<DataWithMediaType> getData() {
+        return this.data;
+    }
+
+    boolean isLast() {
+        return this.last;
+    }
+}
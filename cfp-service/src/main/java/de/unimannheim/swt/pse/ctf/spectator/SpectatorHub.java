@@ -0,0 +1,128 @@
+package de.unimannheim.swt.pse.ctf.spectator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.unimannheim.swt.pse.ctf.game.engine.Game;
+import de.unimannheim.swt.pse.ctf.game.exceptions.GameSessionNotFound;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Streams the states of game sessions to spectators as Server-Sent Events. A single poller checks the watched
+ * sessions for changes, serializes a changed state once and hands the same frame to all spectators of the session.
+ * The frames are written by a small pool of writers, so a slow spectator does not hold up the poller or the
+ * others; it gets the newest state once it catches up, or is dropped if it falls too far behind.
+ *
+ * @version 19.10.2026
+ */
+public class SpectatorHub {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SpectatorHub.class);
+
+    private final Map<String, SpectatorChannel> channels = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final Function<String, Game> sessions;
+    private final Executor writers;
+    private final int maxSkipped;
+    private final long timeoutMillis;
+    private final ScheduledExecutorService poller;
+
+    /**
+     * Creates the hub and starts its poller.
+     *
+     * @param objectMapper   serializes the game states
+     * @param sessions       looks up the game of a session, null if the session does not exist
+     * @param writers        writes the frames to the spectators
+     * @param intervalMillis the time between two polls of the watched sessions
+     * @param maxSkipped     the number of states a spectator may skip in a row before it is dropped
+     * @param timeoutMillis  the time after which a stream is closed, the spectator reconnects then
+     */
+    public SpectatorHub(ObjectMapper objectMapper, Function<String, Game> sessions, Executor writers,
+                        long intervalMillis, int maxSkipped, long timeoutMillis) {
+        this.objectMapper = objectMapper;
+        this.sessions = sessions;
+        this.writers = writers;
+        this.maxSkipped = maxSkipped;
+        this.timeoutMillis = timeoutMillis;
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "spectator-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.poller.scheduleWithFixedDelay(this::pollAll, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens a stream of the states of a session. The stream starts with the current state, continues with every
+     * change and ends with a "gameover" or "deleted" event.
+     *
+     * @param sessionId the session to watch
+     * @return the stream
+     * @throws GameSessionNotFound if the session does not exist
+     */
+    public SseEmitter subscribe(String sessionId) {
+        if (this.sessions.apply(sessionId) == null) {
+            throw new GameSessionNotFound();
+        }
+        SseEmitter emitter = new SseEmitter(this.timeoutMillis);
+        SpectatorSubscriber subscriber = new SpectatorSubscriber(emitter, this.writers, this.maxSkipped);
+
+        SpectatorChannel channel;
+        while (true) {
+            channel = this.channels.computeIfAbsent(sessionId, id -> new SpectatorChannel(id, this.objectMapper));
+            if (channel.add(subscriber)) {
+                break;
+            }
+            // the channel ended in the meantime, a new one starts with the current state
+            this.channels.remove(sessionId, channel);
+        }
+
+        SpectatorChannel subscribed = channel;
+        emitter.onCompletion(() -> subscribed.remove(subscriber));
+        emitter.onTimeout(() -> subscribed.remove(subscriber));
+        emitter.onError(e -> subscribed.remove(subscriber));
+        // a new spectator should not wait for the next poll to see the board
+        this.poller.execute(() -> this.poll(sessionId, subscribed));
+        return emitter;
+    }
+
+    private void pollAll() {
+        this.channels.forEach(this::poll);
+    }
+
+    private void poll(String sessionId, SpectatorChannel channel) {
+        try {
+            if (channel.endIfIdle() || channel.poll(this.sessions.apply(sessionId))) {
+                this.channels.remove(sessionId, channel);
+            }
+        } catch (Exception e) {
+            LOG.warn("spectator stream of game session {} failed", sessionId, e);
+        }
+    }
+
+    /**
+     * @return the number of watched sessions and spectators
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("sessions", this.channels.size());
+        snapshot.put("spectators", this.channels.values().stream().mapToInt(SpectatorChannel::size).sum());
+        return snapshot;
+    }
+
+    /**
+     * Stops the poller.
+     */
+    public void shutdown() {
+        this.poller.shutdownNow();
+    }
+}
@@ -0,0 +1,108 @@
+package de.unimannheim.swt.pse.ctf.spectator;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A spectator of a session. It holds at most one pending frame: as every state frame is a complete snapshot, a
+ * subscriber that is still busy with an older frame simply gets the newest one next. Subscribers that skip more
+ * than the allowed number of frames in a row, or whose connection fails, are dropped.
+ *
+ * @version 19.10.2026
+ */
+class SpectatorSubscriber {
+
+    private final SseEmitter emitter;
+    private final Executor writers;
+    private final int maxSkipped;
+
+    private final AtomicReference<SpectatorFrame> pending = new AtomicReference<>();
+    private final AtomicBoolean writing = new AtomicBoolean();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    SpectatorSubscriber(SseEmitter emitter, Executor writers, int maxSkipped) {
+        this.emitter = emitter;
+        this.writers = writers;
+        this.maxSkipped = maxSkipped;
+    }
+
+    SseEmitter getEmitter() {
+        return this.emitter;
+    }
+
+    boolean isClosed() {
+        return this.closed.get();
+    }
+
+    /**
+     * Hands a frame to the subscriber without blocking the caller.
+     *
+     * @param frame the frame
+     */
+    void offer(SpectatorFrame frame) {
+        if (this.closed.get()) {
+            return;
+        }
+        SpectatorFrame replaced = this.pending.getAndSet(frame);
+        if (replaced != null && !replaced.isLast() && this.skipped.incrementAndGet() > this.maxSkipped) {
+            this.close(new IOException("spectator too slow"));
+            return;
+        }
+        this.scheduleWrite();
+    }
+
+    private void scheduleWrite() {
+        if (this.writing.compareAndSet(false, true)) {
+            try {
+                this.writers.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                this.writing.set(false);
+                this.close(e);
+            }
+        }
+    }
+
+    /**
+     * Writes the pending frames until there is none left.
+     */
+    private void drain() {
+        try {
+            SpectatorFrame frame;
+            while (!this.closed.get() && (frame = this.pending.getAndSet(null)) != null) {
+                this.emitter.send(frame.getData());
+                this.skipped.set(0);
+                if (frame.isLast()) {
+                    this.closed.set(true);
+                    this.emitter.complete();
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            this.close(e);
+        } finally {
+            this.writing.set(false);
+        }
+        // a frame offered after the loop found none, but before the flag was reset
+        if (!this.closed.get() && this.pending.get() != null) {
+            this.scheduleWrite();
+        }
+    }
+
+    /**
+     * Drops the subscriber.
+     *
+     * @param cause why the subscriber is dropped
+     */
+    void close(Throwable cause) {
+        if (this.closed.compareAndSet(false, true)) {
+            this.pending.set(null);
+            this.emitter.completeWithError(cause);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package de.unimannheim.swt.pse.ctf.template;
+
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A validated {@link MapTemplate} held by the {@link TemplateRegistry}. The template is a private copy of the
+ * uploaded one whose piece descriptions are shared with all other registered templates describing the same pieces,
+ * so that it can not be changed by the client after the validation and is parsed only once.
+ * <p>
+ * Every game session gets its own shallow copy from {@link #newSessionTemplate()}. The piece descriptions are
+ * shared by these copies, which is safe as the engine only reads them.
+ *
+ * @version 19.10.2026
+ */
+public final class CompiledTemplate {
+
+    private final String id;
+    private final MapTemplate template;
+    private final int piecesPerTeam;
+    private final long cpuCost;
+    private final long memoryBytes;
+
+    // the game sessions created from this template
+    private final LongAdder sessions = new LongAdder();
+
+    CompiledTemplate(String id, MapTemplate template, int piecesPerTeam, long cpuCost, long memoryBytes) {
+        this.id = id;
+        this.template = template;
+        this.piecesPerTeam = piecesPerTeam;
+        this.cpuCost = cpuCost;
+        this.memoryBytes = memoryBytes;
+    }
+
+    /**
+     * @return the id of the template, derived from its content
+     */
+    public String getId() {
+        return this.id;
+    }
+
+    /**
+     * @return the number of pieces of every team
+     */
+    public int getPiecesPerTeam() {
+        return this.piecesPerTeam;
+    }
+
+    /**
+     * @return the CPU cost of a game with this template, see {@link de.unimannheim.swt.pse.ctf.admission.TemplateCostModel}
+     */
+    public long getCpuCost() {
+        return this.cpuCost;
+    }
+
+    /**
+     * @return the estimated memory of a game with this template in bytes
+     */
+    public long getMemoryBytes() {
+        return this.memoryBytes;
+    }
+
+    /**
+     * @return the number of game sessions created from this template
+     */
+    public long getSessions() {
+        return this.sessions.sum();
+    }
+
+    /**
+     * Creates the template of a new game session and counts the session.
+     *
+     * @return a copy of the template sharing the piece descriptions
+     */
+    public MapTemplate newSessionTemplate() {
+        this.sessions.increment();
+        return this.toTemplate();
+    }
+
+    /**
+     * @return a copy of the template sharing the piece descriptions
+     */
+    public MapTemplate toTemplate() {
+        MapTemplate copy = new MapTemplate();
+        copy.setGridSize(this.template.getGridSize().clone());
+        copy.setTeams(this.template.getTeams());
+        copy.setFlags(this.template.getFlags());
+        copy.setBlocks(this.template.getBlocks());
+        copy.setPlacement(this.template.getPlacement());
+        copy.setPieces(this.template.getPieces().clone());
+        copy.setTotalTimeLimitInSeconds(this.template.getTotalTimeLimitInSeconds());
+        copy.setMoveTimeLimitInSeconds(this.template.getMoveTimeLimitInSeconds());
+        return copy;
+    }
+}
@@ -0,0 +1,32 @@
+package de.unimannheim.swt.pse.ctf.template;
+
+import de.unimannheim.swt.pse.ctf.admission.TemplateCostModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configures the {@link TemplateRegistry} with the following properties:
+ *
+ * <ul>
+ *  <li>{@code ctf.template.max-templates} the maximum number of registered templates, and</li>
+ *  <li>{@code ctf.admission.max-cpu-cost} and {@code ctf.admission.max-memory-bytes} the budgets a template has
+ *  to stay within, as sessions created by template id are not checked by the admission filter again.</li>
+ * </ul>
+ *
+ * @version 19.10.2026
+ */
+@Configuration
+public class TemplateConfiguration {
+
+    @Bean
+    public TemplateRegistry templateRegistry(@Value("${ctf.template.max-templates:1000}") int maxTemplates,
+                                             @Value("${ctf.admission.enabled:true}") boolean admissionEnabled,
+                                             @Value("${ctf.admission.max-cpu-cost:25000000}") long maxCpuCost,
+                                             @Value("${ctf.admission.max-memory-bytes:268435456}") long maxMemoryBytes) {
+        TemplateCostModel costModel = admissionEnabled
+                ? new TemplateCostModel(maxCpuCost, maxMemoryBytes)
+                : new TemplateCostModel(0, 0);
+        return new TemplateRegistry(costModel, maxTemplates);
+    }
+}
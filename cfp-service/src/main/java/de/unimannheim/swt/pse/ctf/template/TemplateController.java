@@ -0,0 +1,112 @@
+package de.unimannheim.swt.pse.ctf.template;
+
+import de.unimannheim.swt.pse.ctf.controller.data.TemplateResponse;
+import de.unimannheim.swt.pse.ctf.game.exceptions.InvalidTemplate;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * This controller class defines several RESTful endpoints for managing the registered map templates:
+ *
+ * <ul>
+ *  <li>POST `/api/template` for registering a map template,</li>
+ *  <li>GET `/api/template/{templateId}` for retrieving a registered map template, and</li>
+ *  <li>DELETE `/api/template/{templateId}` for removing a registered map template.</li>
+ * </ul>
+ *
+ * A game session is created from a registered template by sending its id as `templateId` to `/api/gamesession`.
+ *
+ * @version 19.10.2026
+ */
+@RestController
+@RequestMapping("/api")
+public class TemplateController {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TemplateController.class);
+
+    private final TemplateRegistry templateRegistry;
+
+    public TemplateController(TemplateRegistry templateRegistry) {
+        this.templateRegistry = templateRegistry;
+    }
+
+    /**
+     * You can register a map template by sending a `POST` request to the `/api/template` endpoint with the
+     * {@link MapTemplate} as payload. The template is validated once, registering it again returns the same id.
+     *
+     * @param template {@link MapTemplate}
+     * @return the id of the registered template
+     */
+    @Operation(summary = "Register a map template")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Map template registered"),
+            @ApiResponse(responseCode = "422", description = "Map template is invalid"),
+            @ApiResponse(responseCode = "429", description = "No more template slots available"),
+            @ApiResponse(responseCode = "500", description = "Unknown error occurred")
+    })
+    @PostMapping("/template")
+    public TemplateResponse registerTemplate(@RequestBody MapTemplate template) {
+        LOG.info("registerTemplate request");
+
+        CompiledTemplate compiled;
+        try {
+            compiled = this.templateRegistry.register(template);
+        } catch (InvalidTemplate e) {
+            LOG.info("rejected map template: {}", e.getMessage());
+            throw e;
+        }
+
+        return createTemplateResponse(compiled);
+    }
+
+    /**
+     * You can retrieve a registered map template by sending a `GET` request to the `/api/template/{templateId}`
+     * endpoint with the template id.
+     *
+     * @param templateId unique template id
+     * @return MapTemplate
+     */
+    @Operation(summary = "Get a registered map template")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Map template returned"),
+            @ApiResponse(responseCode = "404", description = "Map template not found"),
+            @ApiResponse(responseCode = "500", description = "Unknown error occurred")
+    })
+    @GetMapping("/template/{templateId}")
+    public MapTemplate getTemplate(@Parameter(description = "registered template id") @PathVariable String templateId) {
+        return this.templateRegistry.get(templateId).toTemplate();
+    }
+
+    /**
+     * You can remove a registered map template by sending a `DELETE` request to the `/api/template/{templateId}`
+     * endpoint with the template id. Running game sessions of the template are not affected.
+     *
+     * @param templateId unique template id
+     */
+    @Operation(summary = "Remove a registered map template")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Map template removed"),
+            @ApiResponse(responseCode = "404", description = "Map template not found"),
+            @ApiResponse(responseCode = "500", description = "Unknown error occurred")
+    })
+    @DeleteMapping("/template/{templateId}")
+    public void deleteTemplate(@Parameter(description = "registered template id") @PathVariable String templateId) {
+        LOG.info("deleteTemplate request");
+
+        this.templateRegistry.remove(templateId);
+    }
+
+    private static TemplateResponse createTemplateResponse(CompiledTemplate compiled) {
+        TemplateResponse response = new TemplateResponse();
+        response.setId(compiled.getId());
+        response.setPiecesPerTeam(compiled.getPiecesPerTeam());
+        response.setSessions(compiled.getSessions());
+        return response;
+    }
+}
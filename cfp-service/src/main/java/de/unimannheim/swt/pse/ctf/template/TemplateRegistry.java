@@ -0,0 +1,348 @@
+package de.unimannheim.swt.pse.ctf.template;
+
+import de.unimannheim.swt.pse.ctf.admission.TemplateCostModel;
+import de.unimannheim.swt.pse.ctf.game.engine.GameEngine;
+import de.unimannheim.swt.pse.ctf.game.exceptions.InvalidTemplate;
+import de.unimannheim.swt.pse.ctf.game.exceptions.NoMoreTemplateSlots;
+import de.unimannheim.swt.pse.ctf.game.exceptions.TemplateNotFound;
+import de.unimannheim.swt.pse.ctf.game.map.Directions;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.game.map.Movement;
+import de.unimannheim.swt.pse.ctf.game.map.PieceDescription;
+import de.unimannheim.swt.pse.ctf.game.map.Shape;
+import de.unimannheim.swt.pse.ctf.game.state.GameState;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the map templates uploaded by the clients, so that game sessions can be created by a template id instead
+ * of sending the whole template with every request.
+ * <p>
+ * A template is validated once when it is registered: its values are checked, it has to be within the budgets of
+ * the {@link TemplateCostModel}, and a trial game is created to make sure that the engine places all pieces and
+ * bases. The id is derived from the content of the template, so registering the same template again returns the
+ * same id. Equal piece descriptions are interned over all templates.
+ *
+ * @version 19.10.2026
+ */
+public class TemplateRegistry {
+
+    // bounds the interned piece descriptions, as templates can be removed and registered again
+    private static final int MAX_INTERNED_DESCRIPTIONS = 10_000;
+
+    private final Map<String, CompiledTemplate> templates = new ConcurrentHashMap<>();
+    private final Map<String, PieceDescription> descriptions = new ConcurrentHashMap<>();
+    private final TemplateCostModel costModel;
+    private final int maxTemplates;
+
+    /**
+     * Creates an empty registry.
+     *
+     * @param costModel    the budgets every template has to stay within
+     * @param maxTemplates the maximum number of registered templates
+     */
+    public TemplateRegistry(TemplateCostModel costModel, int maxTemplates) {
+        this.costModel = costModel;
+        this.maxTemplates = maxTemplates;
+    }
+
+    /**
+     * Validates and registers a template.
+     *
+     * @param template {@link MapTemplate} the uploaded template
+     * @return the compiled template, which is the already registered one if the same template was registered before
+     * @throws InvalidTemplate      if the template can not be played or exceeds the budgets
+     * @throws NoMoreTemplateSlots if the registry is full
+     */
+    public CompiledTemplate register(MapTemplate template) throws InvalidTemplate, NoMoreTemplateSlots {
+        String reason = validate(template);
+        if (reason == null) {
+            reason = this.costModel.rejectionReason(template);
+        }
+        if (reason != null) {
+            throw new InvalidTemplate(reason);
+        }
+
+        String canonical = canonical(template);
+        String id = id(canonical);
+        CompiledTemplate registered = this.templates.get(id);
+        if (registered != null) {
+            return registered;
+        }
+        if (this.templates.size() >= this.maxTemplates) {
+            throw new NoMoreTemplateSlots();
+        }
+
+        CompiledTemplate compiled = this.compile(id, template);
+        return this.templates.computeIfAbsent(id, key -> compiled);
+    }
+
+    /**
+     * @param id the id of a registered template
+     * @return the compiled template
+     * @throws TemplateNotFound if no template is registered with this id
+     */
+    public CompiledTemplate get(String id) throws TemplateNotFound {
+        CompiledTemplate compiled = id == null ? null : this.templates.get(id);
+        if (compiled == null) {
+            throw new TemplateNotFound();
+        }
+        return compiled;
+    }
+
+    /**
+     * Creates the template of a new game session from a registered template.
+     *
+     * @param id the id of a registered template
+     * @return a copy of the template for the new session
+     * @throws TemplateNotFound if no template is registered with this id
+     */
+    public MapTemplate newSessionTemplate(String id) throws TemplateNotFound {
+        return this.get(id).newSessionTemplate();
+    }
+
+    /**
+     * Removes a template. Running game sessions keep their copy of it.
+     *
+     * @param id the id of a registered template
+     * @throws TemplateNotFound if no template is registered with this id
+     */
+    public void remove(String id) throws TemplateNotFound {
+        if (id == null || this.templates.remove(id) == null) {
+            throw new TemplateNotFound();
+        }
+    }
+
+    /**
+     * @return the number of registered templates
+     */
+    public int size() {
+        return this.templates.size();
+    }
+
+    /**
+     * @return the number of registered templates and of the game sessions created from them
+     */
+    public Map<String, Object> snapshot() {
+        long sessions = 0;
+        for (CompiledTemplate compiled : this.templates.values()) {
+            sessions += compiled.getSessions();
+        }
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("templates", this.templates.size());
+        snapshot.put("maxTemplates", this.maxTemplates);
+        snapshot.put("pieceDescriptions", this.descriptions.size());
+        snapshot.put("sessions", sessions);
+        return snapshot;
+    }
+
+    /**
+     * Copies the template with interned piece descriptions and checks with a trial game that the engine can place it.
+     */
+    private CompiledTemplate compile(String id, MapTemplate template) throws InvalidTemplate {
+        PieceDescription[] pieces = new PieceDescription[template.getPieces().length];
+        int piecesPerTeam = 0;
+        for (int i = 0; i < pieces.length; i++) {
+            pieces[i] = this.intern(template.getPieces()[i]);
+            piecesPerTeam += pieces[i].getCount();
+        }
+
+        MapTemplate copy = new MapTemplate();
+        copy.setGridSize(template.getGridSize().clone());
+        copy.setTeams(template.getTeams());
+        copy.setFlags(template.getFlags());
+        copy.setBlocks(template.getBlocks());
+        copy.setPlacement(template.getPlacement());
+        copy.setPieces(pieces);
+        copy.setTotalTimeLimitInSeconds(template.getTotalTimeLimitInSeconds());
+        copy.setMoveTimeLimitInSeconds(template.getMoveTimeLimitInSeconds());
+
+        CompiledTemplate compiled = new CompiledTemplate(id, copy, piecesPerTeam,
+                TemplateCostModel.cpuCost(copy), TemplateCostModel.memoryBytes(copy));
+        trialGame(compiled.toTemplate(), piecesPerTeam);
+        return compiled;
+    }
+
+    private PieceDescription intern(PieceDescription description) {
+        String key = canonical(description);
+        PieceDescription interned = this.descriptions.get(key);
+        if (interned != null) {
+            return interned;
+        }
+        PieceDescription copy = copy(description);
+        if (this.descriptions.size() >= MAX_INTERNED_DESCRIPTIONS) {
+            return copy;
+        }
+        return this.descriptions.computeIfAbsent(key, k -> copy);
+    }
+
+    /**
+     * Creates a game with the reference engine and checks that every piece and base is on the grid,
+     * as the placement silently leaves pieces out if the map is too crowded.
+     */
+    private static void trialGame(MapTemplate template, int piecesPerTeam) throws InvalidTemplate {
+        GameState state;
+        try {
+            state = new GameEngine().create(template);
+        } catch (RuntimeException e) {
+            throw new InvalidTemplate("The engine can not create a game with this template: " + e);
+        }
+        int pieces = 0;
+        int bases = 0;
+        for (String[] row : state.getGrid()) {
+            for (String square : row) {
+                if (square.startsWith("p:")) {
+                    pieces++;
+                } else if (square.startsWith("b:")) {
+                    bases++;
+                }
+            }
+        }
+        if (bases != template.getTeams()) {
+            throw new InvalidTemplate("The bases of all teams can not be placed on the map");
+        }
+        if (pieces != piecesPerTeam * template.getTeams()) {
+            throw new InvalidTemplate("Only " + pieces + " of " + piecesPerTeam * template.getTeams()
+                    + " pieces can be placed on the map");
+        }
+    }
+
+    /**
+     * Checks the values of a template.
+     *
+     * @param template {@link MapTemplate} the uploaded template
+     * @return the reason the template is invalid or null if it is valid
+     */
+    static String validate(MapTemplate template) {
+        if (template == null) {
+            return "Map template missing";
+        }
+        int[] gridSize = template.getGridSize();
+        if (gridSize == null || gridSize.length != 2 || gridSize[0] < 2 || gridSize[1] < 2) {
+            return "The grid size must be given as [rows, columns] with at least 2 rows and columns";
+        }
+        if (template.getTeams() < 2 || template.getTeams() > 4) {
+            return "The number of teams must be between 2 and 4";
+        }
+        if (template.getTeams() > 2 && gridSize[0] != gridSize[1]) {
+            return "Maps for more than 2 teams must be square";
+        }
+        if (template.getFlags() < 1) {
+            return "Every team needs at least one flag";
+        }
+        if (template.getBlocks() < 0) {
+            return "The number of blocks must not be negative";
+        }
+        if (template.getPlacement() == null) {
+            return "The placement type is missing";
+        }
+        if (!isTimeLimit(template.getTotalTimeLimitInSeconds()) || !isTimeLimit(template.getMoveTimeLimitInSeconds())) {
+            return "The time limits must be positive or -1 for none";
+        }
+        if (template.getPieces() == null || template.getPieces().length == 0) {
+            return "The template has no pieces";
+        }
+        for (PieceDescription description : template.getPieces()) {
+            if (description == null || description.getType() == null || description.getCount() < 1) {
+                return "Every piece description needs a type and a count of at least 1";
+            }
+            if (description.getAttackPower() < 0) {
+                return "The attack power of " + description.getType() + " must not be negative";
+            }
+            Movement movement = description.getMovement();
+            if (movement == null || (movement.getDirections() == null
+                    && (movement.getShape() == null || movement.getShape().getType() == null))) {
+                return "The piece " + description.getType() + " needs directions or a shape to move";
+            }
+        }
+        return null;
+    }
+
+    private static boolean isTimeLimit(int seconds) {
+        return seconds == -1 || seconds > 0;
+    }
+
+    private static PieceDescription copy(PieceDescription description) {
+        Movement movement = new Movement();
+        Directions directions = description.getMovement().getDirections();
+        if (directions != null) {
+            Directions copy = new Directions();
+            copy.setLeft(directions.getLeft());
+            copy.setRight(directions.getRight());
+            copy.setUp(directions.getUp());
+            copy.setDown(directions.getDown());
+            copy.setUpLeft(directions.getUpLeft());
+            copy.setUpRight(directions.getUpRight());
+            copy.setDownLeft(directions.getDownLeft());
+            copy.setDownRight(directions.getDownRight());
+            movement.setDirections(copy);
+        }
+        Shape shape = description.getMovement().getShape();
+        if (shape != null) {
+            Shape copy = new Shape();
+            copy.setType(shape.getType());
+            movement.setShape(copy);
+        }
+
+        PieceDescription copy = new PieceDescription();
+        copy.setType(description.getType());
+        copy.setAttackPower(description.getAttackPower());
+        copy.setCount(description.getCount());
+        copy.setMovement(movement);
+        return copy;
+    }
+
+    /**
+     * @return a string with all values of the template in a fixed order, equal for equal templates
+     */
+    static String canonical(MapTemplate template) {
+        StringBuilder builder = new StringBuilder()
+                .append(template.getGridSize()[0]).append('x').append(template.getGridSize()[1])
+                .append(";teams=").append(template.getTeams())
+                .append(";flags=").append(template.getFlags())
+                .append(";blocks=").append(template.getBlocks())
+                .append(";placement=").append(template.getPlacement())
+                .append(";total=").append(template.getTotalTimeLimitInSeconds())
+                .append(";move=").append(template.getMoveTimeLimitInSeconds());
+        for (PieceDescription description : template.getPieces()) {
+            builder.append(";[").append(canonical(description)).append(']');
+        }
+        return builder.toString();
+    }
+
+    private static String canonical(PieceDescription description) {
+        StringBuilder builder = new StringBuilder()
+                .append(description.getType().length()).append(':').append(description.getType())
+                .append(",attack=").append(description.getAttackPower())
+                .append(",count=").append(description.getCount());
+        Directions directions = description.getMovement().getDirections();
+        if (directions != null) {
+            builder.append(",directions=")
+                    .append(directions.getLeft()).append('/').append(directions.getRight()).append('/')
+                    .append(directions.getUp()).append('/').append(directions.getDown()).append('/')
+                    .append(directions.getUpLeft()).append('/').append(directions.getUpRight()).append('/')
+                    .append(directions.getDownLeft()).append('/').append(directions.getDownRight());
+        }
+        Shape shape = description.getMovement().getShape();
+        if (shape != null) {
+            builder.append(",shape=").append(shape.getType());
+        }
+        return builder.toString();
+    }
+
+    private static String id(String canonical) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            // 128 bits are enough to make collisions of different templates practically impossible
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package de.unimannheim.swt.pse.ctf.template;
+
+import de.unimannheim.swt.pse.ctf.controller.GameSessionController;
+import de.unimannheim.swt.pse.ctf.controller.data.GameSessionRequest;
+import de.unimannheim.swt.pse.ctf.game.exceptions.TemplateNotFound;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+
+/**
+ * Resolves the `templateId` of a {@link GameSessionRequest} before it reaches the {@link GameSessionController},
+ * which must not be modified: a request without a template gets a copy of the registered template, so that the
+ * controller creates the game session as if the template had been sent. An unknown id is answered with 404.
+ *
+ * @version 19.10.2026
+ */
+@ControllerAdvice(assignableTypes = GameSessionController.class)
+public class TemplateRequestAdvice extends RequestBodyAdviceAdapter {
+
+    private final TemplateRegistry templateRegistry;
+
+    public TemplateRequestAdvice(TemplateRegistry templateRegistry) {
+        this.templateRegistry = templateRegistry;
+    }
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return targetType == GameSessionRequest.class;
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                Class<? extends HttpMessageConverter<?>> converterType) {
+        return this.resolve((GameSessionRequest) body);
+    }
+
+    /**
+     * Replaces the template id of a request by the registered template.
+     *
+     * @param request {@link GameSessionRequest}
+     * @return the same request
+     * @throws TemplateNotFound if the request has no template and no template is registered with its id
+     */
+    GameSessionRequest resolve(GameSessionRequest request) throws TemplateNotFound {
+        if (request.getTemplate() == null && request.getTemplateId() != null) {
+            request.setTemplate(this.templateRegistry.newSessionTemplate(request.getTemplateId()));
+        }
+        return request;
+    }
+}
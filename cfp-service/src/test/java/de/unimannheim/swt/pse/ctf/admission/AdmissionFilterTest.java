@@ -0,0 +1,253 @@
+package de.unimannheim.swt.pse.ctf.admission;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.unimannheim.swt.pse.ctf.controller.data.GameSessionRequest;
+import de.unimannheim.swt.pse.ctf.controller.data.MoveRequest;
+import de.unimannheim.swt.pse.ctf.game.engine.GameEngine;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.game.map.Pawn;
+import de.unimannheim.swt.pse.ctf.game.map.PieceDescription;
+import de.unimannheim.swt.pse.ctf.session.SessionStore;
+import jakarta.servlet.ServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests the admission control in front of the game session endpoints.
+ */
+public class AdmissionFilterTest {
+
+    /**
+     * Tests in the class:
+     * --- TokenBucket_BurstThenWait()
+     *      a bucket admits its capacity at once, then reports the time until the next token and refills over time.
+     * --- RateLimiter_DropsFullBuckets()
+     *      buckets that refilled completely are dropped from the rate limiter.
+     * --- CostModel_RejectsLargeTemplates()
+     *      the cost model accepts a small template and rejects a template over the CPU or memory budget.
+     * --- Filter_RateLimitPerTeamSecret()
+     *      moves of one team are rejected with 429 and Retry-After once its bucket is empty,
+     *      while another team of the same session and the controller still get the request body.
+     * --- Filter_RateLimitIgnoresUnknownSecrets()
+     *      secrets that belong to no team of the session share the bucket of the client address.
+     * --- Filter_RejectsExpensiveTemplate()
+     *      a new session with a template over the budget is rejected with 422 without reaching the controller.
+     * --- Filter_ConcurrencyCap()
+     *      a request arriving while the only slot is taken is rejected with 429.
+     * --- Filter_Disabled()
+     *      with the admission control disabled, all requests reach the controller.
+     */
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    // configured like the ObjectMapper of Spring Boot, which ignores the derived properties of the game classes
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final SessionStore sessionStore = new SessionStore();
+
+    public AdmissionFilterTest() {
+        this.sessionStore.register("s1", new GameEngine());
+        this.sessionStore.addTeamSecret("s1", "secret1");
+        this.sessionStore.addTeamSecret("s1", "secret2");
+    }
+
+    @Test
+    public void TokenBucket_BurstThenWait() {
+        TokenBucket bucket = new TokenBucket(3, 2, 0);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.tryAcquire(0));
+        }
+        long wait = bucket.tryAcquire(0);
+        assertEquals(SECOND / 2, wait, 1);
+        assertTrue(bucket.tryAcquire(SECOND / 4) > 0);
+        assertEquals(0, bucket.tryAcquire(SECOND / 2));
+        assertFalse(bucket.isFull(SECOND));
+        assertTrue(bucket.isFull(3 * SECOND));
+    }
+
+    @Test
+    public void RateLimiter_DropsFullBuckets() {
+        RateLimiter limiter = new RateLimiter(5, 1);
+        for (int i = 0; i < 9_999; i++) {
+            limiter.tryAcquire("key" + i, 0);
+        }
+        assertEquals(9_999, limiter.size());
+        // the 10000th request sweeps the buckets, all but its own are full again after 10 seconds
+        limiter.tryAcquire("other", 10 * SECOND);
+        assertEquals(1, limiter.size());
+    }
+
+    @Test
+    public void CostModel_RejectsLargeTemplates() {
+        MapTemplate small = template(10, 2, 10);
+        MapTemplate large = template(1000, 4, 100);
+        assertEquals(10 * 10 * 10 * 2, TemplateCostModel.cpuCost(small));
+
+        TemplateCostModel costModel = new TemplateCostModel(1_000_000, 1 << 20);
+        assertNull(costModel.rejectionReason(small));
+        assertTrue(costModel.rejectionReason(large).contains("CPU"));
+        assertTrue(new TemplateCostModel(0, 1 << 20).rejectionReason(large).contains("memory"));
+        assertNull(new TemplateCostModel(0, 0).rejectionReason(large));
+    }
+
+    @Test
+    public void Filter_RateLimitPerTeamSecret() throws Exception {
+        AdmissionFilter filter = filter(true, 10, 2);
+
+        for (int i = 0; i < 2; i++) {
+            MockFilterChain chain = new MockFilterChain();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(move("s1", "secret1"), response, chain);
+            assertEquals(200, response.getStatus());
+            // the controller can still read the body
+            ServletRequest passed = chain.getRequest();
+            MoveRequest moveRequest = objectMapper.readValue(passed.getInputStream(), MoveRequest.class);
+            assertEquals("secret1", moveRequest.getTeamSecret());
+        }
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(move("s1", "secret1"), rejected, chain);
+        assertEquals(429, rejected.getStatus());
+        assertNotNull(rejected.getHeader("Retry-After"));
+        assertNull(chain.getRequest());
+
+        MockHttpServletResponse otherTeam = new MockHttpServletResponse();
+        filter.doFilter(move("s1", "secret2"), otherTeam, new MockFilterChain());
+        assertEquals(200, otherTeam.getStatus());
+
+        assertEquals(1L, filter.snapshot().get("rateLimited"));
+    }
+
+    @Test
+    public void Filter_RateLimitIgnoresUnknownSecrets() throws Exception {
+        AdmissionFilter filter = filter(true, 10, 2);
+
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(move("s1", "made-up" + i), response, new MockFilterChain());
+            assertEquals(200, response.getStatus());
+        }
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(move("s1", "made-up2"), rejected, new MockFilterChain());
+        assertEquals(429, rejected.getStatus());
+
+        MockHttpServletResponse team = new MockHttpServletResponse();
+        filter.doFilter(move("s1", "secret1"), team, new MockFilterChain());
+        assertEquals(200, team.getStatus());
+    }
+
+    @Test
+    public void Filter_RejectsExpensiveTemplate() throws Exception {
+        AdmissionFilter filter = filter(true, 10, 100);
+
+        MockFilterChain accepted = new MockFilterChain();
+        filter.doFilter(createSession(template(10, 2, 10)), new MockHttpServletResponse(), accepted);
+        assertNotNull(accepted.getRequest());
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(createSession(template(2000, 4, 200)), response, chain);
+        assertEquals(422, response.getStatus());
+        assertNull(chain.getRequest());
+        assertEquals(1L, filter.snapshot().get("templatesRejected"));
+    }
+
+    @Test
+    public void Filter_ConcurrencyCap() throws Exception {
+        AdmissionFilter filter = filter(true, 1, 100);
+        CountDownLatch inController = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread slow = new Thread(() -> {
+            try {
+                filter.doFilter(state("s1"), new MockHttpServletResponse(), (request, response) -> {
+                    inController.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        slow.start();
+        assertTrue(inController.await(5, TimeUnit.SECONDS));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(state("s2"), response, new MockFilterChain());
+        assertEquals(429, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+
+        release.countDown();
+        slow.join();
+        MockHttpServletResponse afterwards = new MockHttpServletResponse();
+        filter.doFilter(state("s2"), afterwards, new MockFilterChain());
+        assertEquals(200, afterwards.getStatus());
+    }
+
+    @Test
+    public void Filter_Disabled() throws Exception {
+        AdmissionFilter filter = filter(false, 1, 1);
+        for (int i = 0; i < 5; i++) {
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(move("s1", "secret1"), new MockHttpServletResponse(), chain);
+            assertNotNull(chain.getRequest());
+        }
+    }
+
+    private AdmissionFilter filter(boolean enabled, int maxConcurrentRequests, double bucketCapacity) {
+        return new AdmissionFilter(objectMapper, sessionStore, enabled, maxConcurrentRequests, bucketCapacity, 0.001,
+                1_000_000, 1 << 24);
+    }
+
+    private MockHttpServletRequest move(String sessionId, String teamSecret) throws Exception {
+        MoveRequest moveRequest = new MoveRequest();
+        moveRequest.setTeamId("team");
+        moveRequest.setTeamSecret(teamSecret);
+        moveRequest.setPieceId("1");
+        moveRequest.setNewPosition(new int[]{0, 0});
+        return post("/api/gamesession/" + sessionId + "/move", objectMapper.writeValueAsBytes(moveRequest));
+    }
+
+    private MockHttpServletRequest createSession(MapTemplate template) throws Exception {
+        GameSessionRequest request = new GameSessionRequest();
+        request.setTemplate(template);
+        return post("/api/gamesession", objectMapper.writeValueAsBytes(request));
+    }
+
+    private static MockHttpServletRequest state(String sessionId) {
+        return new MockHttpServletRequest("GET", "/api/gamesession/" + sessionId + "/state");
+    }
+
+    private static MockHttpServletRequest post(String uri, byte[] body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setContentType("application/json");
+        request.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        request.setContent(body);
+        return request;
+    }
+
+    private static MapTemplate template(int gridSize, int teams, int pieces) {
+        PieceDescription pawn = new Pawn();
+        pawn.setCount(pieces);
+        MapTemplate template = new MapTemplate();
+        template.setGridSize(new int[]{gridSize, gridSize});
+        template.setTeams(teams);
+        template.setFlags(1);
+        template.setPieces(new PieceDescription[]{pawn});
+        return template;
+    }
+}
@@ -0,0 +1,165 @@
+package de.unimannheim.swt.pse.ctf.embedded;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.unimannheim.swt.pse.ctf.controller.data.GameSessionRequest;
+import de.unimannheim.swt.pse.ctf.controller.data.GameSessionResponse;
+import de.unimannheim.swt.pse.ctf.controller.data.GiveupRequest;
+import de.unimannheim.swt.pse.ctf.controller.data.JoinGameRequest;
+import de.unimannheim.swt.pse.ctf.controller.data.JoinGameResponse;
+import de.unimannheim.swt.pse.ctf.controller.data.MoveRequest;
+import de.unimannheim.swt.pse.ctf.game.engine.EngineFactory;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.game.state.GameState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests the endpoints and status codes of the EmbeddedServer. The requests and responses are
+ * converted with Jackson, as the clients of the Spring Boot server do.
+ */
+public class EmbeddedServerTest {
+
+    /**
+     * Tests in the class:
+     * --- GameSession_FullLifecycle()
+     *      creates, joins, reads, plays, gives up and deletes a game session like the GameSessionControllerTests.
+     * --- Errors_SameStatusCodes()
+     *      unknown sessions (404), wrong secrets (403), invalid moves (409), full games (429), finished games (410),
+     *      unreadable requests (400) and wrong methods (405) are answered as by the Spring Boot server.
+     */
+
+    // the server writes the directionsAsArray of the piece movements, which cannot be read back
+    private final ObjectMapper objectMapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private final HttpClient client = HttpClient.newHttpClient();
+    private EmbeddedServer server;
+
+    @BeforeEach
+    public void start() throws Exception {
+        this.server = EmbeddedServer.start("127.0.0.1", 0, 2, EngineFactory.reference());
+    }
+
+    @AfterEach
+    public void stop() {
+        this.server.stop();
+    }
+
+    private HttpResponse<String> send(String method, String path, Object body) throws Exception {
+        String json = body == null ? "" : body instanceof String s ? s : this.objectMapper.writeValueAsString(body);
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://127.0.0.1:" + this.server.getPort() + path))
+                .header("Content-Type", "application/json")
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        return this.client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private String createSession() throws Exception {
+        GameSessionRequest request = new GameSessionRequest();
+        request.setTemplate(this.objectMapper.readValue(
+                getClass().getResourceAsStream("/maptemplates/10x10_2teams_example.json"), MapTemplate.class));
+        request.setSeed(3L);
+        HttpResponse<String> response = send("POST", "/api/gamesession", request);
+        assertEquals(200, response.statusCode());
+        return this.objectMapper.readValue(response.body(), GameSessionResponse.class).getId();
+    }
+
+    private JoinGameResponse join(String sessionId, String teamId) throws Exception {
+        JoinGameRequest request = new JoinGameRequest();
+        request.setTeamId(teamId);
+        HttpResponse<String> response = send("POST", "/api/gamesession/" + sessionId + "/join", request);
+        assertEquals(200, response.statusCode());
+        return this.objectMapper.readValue(response.body(), JoinGameResponse.class);
+    }
+
+    /**
+     * Seeded games start with a random team, only the team whose turn it is may give up.
+     */
+    private JoinGameResponse currentTeam(String sessionId, JoinGameResponse... teams) throws Exception {
+        GameState state = this.objectMapper.readValue(
+                send("GET", "/api/gamesession/" + sessionId + "/state", null).body(), GameState.class);
+        String currentTeamId = state.getTeams()[state.getCurrentTeam()].getId();
+        for (JoinGameResponse team : teams) {
+            if (team.getTeamId().equals(currentTeamId)) {
+                return team;
+            }
+        }
+        throw new AssertionError("unknown current team " + currentTeamId);
+    }
+
+    @Test
+    public void GameSession_FullLifecycle() throws Exception {
+        String sessionId = createSession();
+
+        HttpResponse<String> response = send("GET", "/api/gamesession/" + sessionId, null);
+        assertEquals(200, response.statusCode());
+        assertEquals(sessionId, this.objectMapper.readValue(response.body(), GameSessionResponse.class).getId());
+
+        JoinGameResponse team1 = join(sessionId, "team1");
+        JoinGameResponse team2 = join(sessionId, "team2");
+        assertEquals(sessionId, team1.getGameSessionId());
+        assertNotEquals(team1.getTeamSecret(), team2.getTeamSecret());
+
+        response = send("GET", "/api/gamesession/" + sessionId + "/state", null);
+        assertEquals(200, response.statusCode());
+        GameState state = this.objectMapper.readValue(response.body(), GameState.class);
+        assertEquals(10, state.getGrid().length);
+        assertEquals(2, state.getTeams().length);
+
+        JoinGameResponse loser = currentTeam(sessionId, team1, team2);
+        GiveupRequest giveupRequest = new GiveupRequest();
+        giveupRequest.setTeamId(loser.getTeamId());
+        giveupRequest.setTeamSecret(loser.getTeamSecret());
+        assertEquals(200, send("POST", "/api/gamesession/" + sessionId + "/giveup", giveupRequest).statusCode());
+
+        response = send("GET", "/api/gamesession/" + sessionId, null);
+        GameSessionResponse session = this.objectMapper.readValue(response.body(), GameSessionResponse.class);
+        assertTrue(session.isGameOver());
+        String winner = loser == team1 ? team2.getTeamId() : team1.getTeamId();
+        assertArrayEquals(new String[]{winner}, session.getWinner());
+
+        assertEquals(200, send("DELETE", "/api/gamesession/" + sessionId, null).statusCode());
+        assertEquals(404, send("GET", "/api/gamesession/" + sessionId, null).statusCode());
+    }
+
+    @Test
+    public void Errors_SameStatusCodes() throws Exception {
+        assertEquals(404, send("GET", "/api/gamesession/unknown/state", null).statusCode());
+        assertEquals(404, send("GET", "/api/unknown", null).statusCode());
+        assertEquals(405, send("GET", "/api/gamesession", null).statusCode());
+        assertEquals(400, send("POST", "/api/gamesession", "{\"template\":").statusCode());
+
+        String sessionId = createSession();
+        JoinGameResponse team1 = join(sessionId, "team1");
+        JoinGameResponse team2 = join(sessionId, "team2");
+        JoinGameRequest team3 = new JoinGameRequest();
+        team3.setTeamId("team3");
+        assertEquals(429, send("POST", "/api/gamesession/" + sessionId + "/join", team3).statusCode());
+
+        MoveRequest move = new MoveRequest();
+        move.setTeamId(team1.getTeamId());
+        move.setTeamSecret("wrong");
+        move.setPieceId("1");
+        move.setNewPosition(new int[]{0, 0});
+        assertEquals(403, send("POST", "/api/gamesession/" + sessionId + "/move", move).statusCode());
+
+        move.setTeamSecret(team1.getTeamSecret());
+        move.setPieceId("unknown");
+        assertEquals(409, send("POST", "/api/gamesession/" + sessionId + "/move", move).statusCode());
+
+        JoinGameResponse loser = currentTeam(sessionId, team1, team2);
+        GiveupRequest giveupRequest = new GiveupRequest();
+        giveupRequest.setTeamId(loser.getTeamId());
+        giveupRequest.setTeamSecret(loser.getTeamSecret());
+        assertEquals(200, send("POST", "/api/gamesession/" + sessionId + "/giveup", giveupRequest).statusCode());
+        assertEquals(410, send("POST", "/api/gamesession/" + sessionId + "/move", move).statusCode());
+    }
+}
@@ -0,0 +1,122 @@
+package de.unimannheim.swt.pse.ctf.embedded;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import de.unimannheim.swt.pse.ctf.controller.data.GameSessionRequest;
+import de.unimannheim.swt.pse.ctf.controller.data.GameSessionResponse;
+import de.unimannheim.swt.pse.ctf.controller.data.JoinGameResponse;
+import de.unimannheim.swt.pse.ctf.controller.data.MoveRequest;
+import de.unimannheim.swt.pse.ctf.game.engine.GameEngine;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.game.state.Move;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests that the JsonCodec of the embedded server reads and writes the same documents as Jackson
+ * in the Spring Boot server.
+ */
+public class JsonCodecTest {
+
+    /**
+     * Tests in the class:
+     * --- GameState_WrittenAsJackson()
+     *      the state of a running game (with a last move and a team slot left empty) is written like Jackson does.
+     * --- Responses_WrittenAsJackson()
+     *      the game session response with dates and winners and the join response are written like Jackson does.
+     * --- GameSessionRequest_ReadAsJackson()
+     *      a map template written by Jackson is read with all pieces, movements and the seed.
+     * --- MoveRequest_ReadAsJackson()
+     *      a move request written by Jackson is read, unknown properties are ignored.
+     * --- InvalidDocuments_Rejected()
+     *      broken JSON, wrong types and unknown placement types are rejected with an IllegalArgumentException.
+     */
+
+    private final ObjectMapper objectMapper = new ObjectMapper().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private MapTemplate template() throws Exception {
+        return this.objectMapper.readValue(
+                getClass().getResourceAsStream("/maptemplates/10x10_2teams_example.json"), MapTemplate.class);
+    }
+
+    private void assertSameAsJackson(Object expected, String actual) throws Exception {
+        JsonNode expectedTree = this.objectMapper.valueToTree(expected);
+        assertEquals(expectedTree, this.objectMapper.readTree(actual));
+    }
+
+    @Test
+    public void GameState_WrittenAsJackson() throws Exception {
+        GameEngine engine = new GameEngine();
+        engine.setSeed(7);
+        engine.create(template());
+        assertSameAsJackson(engine.getCurrentGameState(), JsonCodec.write(engine.getCurrentGameState()));
+
+        engine.joinGame("team \"1\"");
+        engine.joinGame("team2");
+        engine.shutdownScheduler();
+        Move move = new Move();
+        move.setTeamId("team2");
+        move.setPieceId("1");
+        move.setNewPosition(new int[]{1, 2});
+        engine.getCurrentGameState().setLastMove(move);
+        assertSameAsJackson(engine.getCurrentGameState(), JsonCodec.write(engine.getCurrentGameState()));
+    }
+
+    @Test
+    public void Responses_WrittenAsJackson() throws Exception {
+        GameSessionResponse sessionResponse = new GameSessionResponse();
+        sessionResponse.setId("id");
+        sessionResponse.setGameStarted(new Date(1_700_000_000_123L));
+        sessionResponse.setRemainingGameTimeInSeconds(-1);
+        sessionResponse.setRemainingMoveTimeInSeconds(5);
+        sessionResponse.setGameOver(true);
+        sessionResponse.setWinner(new String[]{"team1", "team\n2"});
+        assertSameAsJackson(sessionResponse, JsonCodec.write(sessionResponse));
+
+        JoinGameResponse joinResponse = new JoinGameResponse();
+        joinResponse.setGameSessionId("id");
+        joinResponse.setTeamId("team1");
+        joinResponse.setTeamColor("#FFFFFF");
+        joinResponse.setTeamSecret("secret");
+        assertSameAsJackson(joinResponse, JsonCodec.write(joinResponse));
+    }
+
+    @Test
+    public void GameSessionRequest_ReadAsJackson() throws Exception {
+        GameSessionRequest request = new GameSessionRequest();
+        request.setTemplate(template());
+        request.setSeed(-42L);
+
+        GameSessionRequest read = JsonCodec.readGameSessionRequest(this.objectMapper.writeValueAsString(request));
+        assertEquals(this.objectMapper.valueToTree(request), this.objectMapper.valueToTree(read));
+
+        assertNull(JsonCodec.readGameSessionRequest("{\"template\":null}").getSeed());
+    }
+
+    @Test
+    public void MoveRequest_ReadAsJackson() throws Exception {
+        MoveRequest request = new MoveRequest();
+        request.setTeamId("team1");
+        request.setTeamSecret("secret");
+        request.setPieceId("p\u00fcece");
+        request.setNewPosition(new int[]{3, 4});
+
+        String json = this.objectMapper.writeValueAsString(request).replace("}", ",\"unknown\":[1,{\"a\":null}]}");
+        MoveRequest read = JsonCodec.readMoveRequest(json);
+        assertEquals(this.objectMapper.valueToTree(request), this.objectMapper.valueToTree(read));
+    }
+
+    @Test
+    public void InvalidDocuments_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> JsonCodec.readMoveRequest("{\"teamId\":"));
+        assertThrows(IllegalArgumentException.class, () -> JsonCodec.readMoveRequest("{\"teamId\":1}"));
+        assertThrows(IllegalArgumentException.class, () -> JsonCodec.readMoveRequest("{\"newPosition\":[1.5,2]}"));
+        assertThrows(IllegalArgumentException.class, () -> JsonCodec.readMoveRequest("[]"));
+        assertThrows(IllegalArgumentException.class,
+                () -> JsonCodec.readGameSessionRequest("{\"template\":{\"placement\":\"everywhere\"}}"));
+    }
+}
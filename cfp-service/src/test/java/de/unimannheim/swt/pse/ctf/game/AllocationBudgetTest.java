@@ -0,0 +1,161 @@
+package de.unimannheim.swt.pse.ctf.game;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import de.unimannheim.swt.pse.ctf.game.engine.GameEngine;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.game.state.Move;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * This class checks the bytes allocated by the hot paths of the GameEngine against a checked-in budget.
+ */
+public class AllocationBudgetTest {
+
+    /**
+     * The recorded games in recorded_games.json are replayed move by move through a GameEngine. Around every call
+     * of makeMove, isValidMove and getCurrentGameState the bytes allocated by the test thread are read via
+     * com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes, and the average per call is compared
+     * with allocation_budget.properties. The games use maps without blocks, a single flag and no time limits,
+     * so they replay identically. All games are replayed a few times before measuring, so that the hot paths
+     * are JIT compiled and escape analysis is applied as in production.
+     * -
+     * If a change lowers the allocation of an operation, lower its budget as well, so that it stays there.
+     * -
+     * Tests in the class:
+     * --- makeMove_WithinBudget()
+     *      average bytes allocated per makeMove, including captures and the end of the game
+     * --- isValidMove_WithinBudget()
+     *      average bytes allocated per isValidMove of the recorded (valid) moves
+     * --- getCurrentGameState_WithinBudget()
+     *      average bytes allocated per getCurrentGameState
+     */
+
+    private static final String RESOURCES = "/de/sep/cfp4/gameService/";
+    private static final int WARM_UP_ROUNDS = 30;
+    private static final int MEASURED_ROUNDS = 10;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static Properties budget;
+    private static double bytesPerMakeMove, bytesPerIsValidMove, bytesPerGetCurrentGameState;
+
+    /**
+     * A game as stored in recorded_games.json
+     */
+    private static class RecordedGame {
+        String name;
+        MapTemplate template;
+        List<Move> moves;
+    }
+
+    /**
+     * Sums up the measured bytes and calls of one replay
+     */
+    private static class Measurement {
+        long makeMoveBytes, isValidMoveBytes, getCurrentGameStateBytes;
+        long calls;
+    }
+
+    @BeforeAll
+    public static void measureRecordedGames() throws IOException {
+        assumeTrue(THREADS.isThreadAllocatedMemorySupported(), "JVM cannot measure allocated bytes per thread");
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+
+        List<RecordedGame> games;
+        try (Reader reader = new InputStreamReader(
+                Objects.requireNonNull(AllocationBudgetTest.class.getResourceAsStream(RESOURCES + "recorded_games.json")))) {
+            games = new Gson().fromJson(reader, new TypeToken<List<RecordedGame>>() {}.getType());
+        }
+        budget = new Properties();
+        try (Reader reader = new InputStreamReader(
+                Objects.requireNonNull(AllocationBudgetTest.class.getResourceAsStream(RESOURCES + "allocation_budget.properties")))) {
+            budget.load(reader);
+        }
+
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            for (RecordedGame game : games) {
+                replay(game, new Measurement());
+            }
+        }
+
+        Measurement total = new Measurement();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            for (RecordedGame game : games) {
+                replay(game, total);
+            }
+        }
+        bytesPerMakeMove = (double) total.makeMoveBytes / total.calls;
+        bytesPerIsValidMove = (double) total.isValidMoveBytes / total.calls;
+        bytesPerGetCurrentGameState = (double) total.getCurrentGameStateBytes / total.calls;
+    }
+
+    /**
+     * Plays the recorded game and adds the bytes allocated by the measured operations to the measurement.
+     * The overhead of reading the counter itself is measured once per move and subtracted.
+     */
+    private static void replay(RecordedGame game, Measurement measurement) {
+        GameEngine gameEngine = new GameEngine();
+        gameEngine.create(game.template);
+        for (int i = 0; i < game.template.getTeams(); i++) {
+            gameEngine.joinGame("team" + i);
+        }
+        gameEngine.shutdownScheduler();
+
+        for (Move move : game.moves) {
+            long start = THREADS.getCurrentThreadAllocatedBytes();
+            long overhead = THREADS.getCurrentThreadAllocatedBytes() - start;
+
+            start = THREADS.getCurrentThreadAllocatedBytes();
+            gameEngine.getCurrentGameState();
+            measurement.getCurrentGameStateBytes += THREADS.getCurrentThreadAllocatedBytes() - start - overhead;
+
+            start = THREADS.getCurrentThreadAllocatedBytes();
+            boolean valid = gameEngine.isValidMove(move);
+            measurement.isValidMoveBytes += THREADS.getCurrentThreadAllocatedBytes() - start - overhead;
+            assertTrue(valid, "Recorded move is not valid anymore in " + game.name);
+
+            start = THREADS.getCurrentThreadAllocatedBytes();
+            gameEngine.makeMove(move);
+            measurement.makeMoveBytes += THREADS.getCurrentThreadAllocatedBytes() - start - overhead;
+
+            measurement.calls++;
+        }
+        assertTrue(gameEngine.isGameOver(), "Recorded game does not end anymore: " + game.name);
+    }
+
+    private static double budgetOf(String operation) {
+        return Double.parseDouble(budget.getProperty(operation));
+    }
+
+    @Test
+    public void makeMove_WithinBudget() {
+        assertTrue(bytesPerMakeMove <= budgetOf("makeMove"),
+                "makeMove allocates " + bytesPerMakeMove + " bytes per call, budget is " + budgetOf("makeMove"));
+    }
+
+    @Test
+    public void isValidMove_WithinBudget() {
+        assertTrue(bytesPerIsValidMove <= budgetOf("isValidMove"),
+                "isValidMove allocates " + bytesPerIsValidMove + " bytes per call, budget is " + budgetOf("isValidMove"));
+    }
+
+    @Test
+    public void getCurrentGameState_WithinBudget() {
+        assertTrue(bytesPerGetCurrentGameState <= budgetOf("getCurrentGameState"),
+                "getCurrentGameState allocates " + bytesPerGetCurrentGameState + " bytes per call, budget is " + budgetOf("getCurrentGameState"));
+    }
+}
@@ -0,0 +1,369 @@
+package de.unimannheim.swt.pse.ctf.game;
+
+import de.unimannheim.swt.pse.ctf.game.engine.Game;
+import de.unimannheim.swt.pse.ctf.game.engine.GameEngine;
+import de.unimannheim.swt.pse.ctf.game.engine.Seedable;
+import de.unimannheim.swt.pse.ctf.game.engine.ValidMoveHelperMethods;
+import de.unimannheim.swt.pse.ctf.game.map.*;
+import de.unimannheim.swt.pse.ctf.game.state.GameState;
+import de.unimannheim.swt.pse.ctf.game.state.Move;
+import de.unimannheim.swt.pse.ctf.game.state.Piece;
+import de.unimannheim.swt.pse.ctf.game.state.Team;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * This class plays random games simultaneously through the reference GameEngine and a candidate {@link Game}
+ * and compares both after every step.
+ */
+public class DifferentialHarness {
+
+    /**
+     * How the harness works:
+     * --- randomTemplate(Random)
+     *      generates a map template with 6x6 to 14x14 squares, 2-4 teams, 1-3 flags, blocks and all placement types.
+     *      Time limits are disabled, so no timer changes the game between two steps.
+     * --- play(MapTemplate, long, int)
+     *      creates both games with the same seed (the candidate has to implement {@link Seedable} and consume the
+     *      random generator like the GameEngine), joins all teams and plays random legal moves of the reference game,
+     *      now and then a team gives up. After every step grid, teams, current team, game over and winners are compared.
+     * --- replay(MapTemplate, long, List)
+     *      plays a fixed list of steps and returns the first divergence. Steps which have become invalid are still
+     *      played, both games have to reject them in the same way.
+     * --- shrink(Divergence)
+     *      removes steps (delta debugging) as long as the games still diverge, which leaves a minimal sequence.
+     */
+
+    /**
+     * A single action of a team: a move or giving up (move is null)
+     */
+    public record Step(String teamId, Move move) {
+        @Override
+        public String toString() {
+            return move == null ? teamId + " gives up"
+                    : teamId + " moves " + move.getPieceId() + " to " + Arrays.toString(move.getNewPosition());
+        }
+    }
+
+    /**
+     * The first difference between the reference and the candidate when playing the steps
+     */
+    public record Divergence(MapTemplate template, long seed, List<Step> steps, int stepIndex, String difference) {
+        @Override
+        public String toString() {
+            return "Divergence after step " + stepIndex + " of " + steps.size() + " (seed " + seed + ", grid "
+                    + template.getGridSize()[0] + "x" + template.getGridSize()[1] + ", " + template.getTeams() + " teams): "
+                    + difference + "\nsteps: " + steps;
+        }
+    }
+
+    private static final PieceDescription[] PIECE_TYPES = {
+            new Pawn(), new Rook(), new Knight(), new Bishop(), new Queen(), new King()
+    };
+
+    private final Supplier<Game> candidateFactory;
+
+    /**
+     * @param candidateFactory creates a new instance of the engine which is compared with the GameEngine
+     */
+    public DifferentialHarness(Supplier<Game> candidateFactory) {
+        this.candidateFactory = candidateFactory;
+    }
+
+    /**
+     * Generates a random map template. Pieces are limited, so that every placement type can place them.
+     */
+    public static MapTemplate randomTemplate(Random random) {
+        int size = 6 + random.nextInt(9);
+        int teams = 2 + random.nextInt(3);
+        int pieces = 1 + random.nextInt(Math.max(1, size * size / (teams * 8)));
+
+        List<PieceDescription> descriptions = new ArrayList<>();
+        for (int i = 0; i < pieces; i++) {
+            PieceDescription type = PIECE_TYPES[random.nextInt(PIECE_TYPES.length)];
+            PieceDescription description = descriptions.stream()
+                    .filter(d -> d.getType().equals(type.getType())).findFirst().orElse(null);
+            if (description == null) {
+                description = new PieceDescription();
+                description.setType(type.getType());
+                description.setAttackPower(type.getAttackPower());
+                description.setMovement(type.getMovement());
+                descriptions.add(description);
+            }
+            description.setCount(description.getCount() + 1);
+        }
+
+        MapTemplate template = new MapTemplate();
+        template.setGridSize(new int[]{size, size});
+        template.setTeams(teams);
+        template.setFlags(1 + random.nextInt(3));
+        template.setBlocks(random.nextInt(size / 2));
+        template.setPlacement(PlacementType.values()[random.nextInt(PlacementType.values().length)]);
+        template.setPieces(descriptions.toArray(new PieceDescription[0]));
+        template.setTotalTimeLimitInSeconds(-1);
+        template.setMoveTimeLimitInSeconds(-1);
+        return template;
+    }
+
+    /**
+     * Plays a random game and compares both games after every step.
+     *
+     * @param template the map template of the game
+     * @param seed     the seed of both games and of the choice of the steps
+     * @param maxSteps the number of steps after which the game is stopped if it is not over
+     * @return the divergence or null if both games were equal in every step
+     */
+    public Divergence play(MapTemplate template, long seed, int maxSteps) {
+        Random random = new Random(seed);
+        GameEngine reference = newReference(seed);
+        Game candidate = newCandidate(seed);
+        List<Step> steps = new ArrayList<>();
+
+        String difference = start(template, reference, candidate);
+        while (difference == null && steps.size() < maxSteps && !observe(reference::isGameOver).equals("true")) {
+            Step step = randomStep(reference, random);
+            if (step == null) {
+                break;
+            }
+            steps.add(step);
+            difference = apply(step, reference, candidate);
+        }
+        return difference == null ? null : new Divergence(template, seed, steps, steps.size(), difference);
+    }
+
+    /**
+     * Plays the given steps and returns the first divergence.
+     */
+    public Divergence replay(MapTemplate template, long seed, List<Step> steps) {
+        GameEngine reference = newReference(seed);
+        Game candidate = newCandidate(seed);
+
+        String difference = start(template, reference, candidate);
+        if (difference != null) {
+            return new Divergence(template, seed, steps, 0, difference);
+        }
+        for (int i = 0; i < steps.size(); i++) {
+            difference = apply(steps.get(i), reference, candidate);
+            if (difference != null) {
+                return new Divergence(template, seed, steps, i + 1, difference);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reduces the steps of a divergence to a sequence from which no single chunk can be removed
+     * without the divergence disappearing.
+     */
+    public Divergence shrink(Divergence divergence) {
+        // steps after the divergence are never needed
+        List<Step> steps = new ArrayList<>(divergence.steps().subList(0, divergence.stepIndex()));
+        Divergence smallest = replay(divergence.template(), divergence.seed(), steps);
+        if (smallest == null) {
+            return divergence;
+        }
+
+        int chunks = 2;
+        while (steps.size() >= 2) {
+            int chunkSize = (int) Math.ceil(steps.size() / (double) chunks);
+            boolean reduced = false;
+            for (int start = 0; start < steps.size(); start += chunkSize) {
+                List<Step> candidateSteps = new ArrayList<>(steps.subList(0, start));
+                candidateSteps.addAll(steps.subList(Math.min(steps.size(), start + chunkSize), steps.size()));
+                Divergence result = replay(divergence.template(), divergence.seed(), candidateSteps);
+                if (result != null) {
+                    steps = new ArrayList<>(candidateSteps.subList(0, result.stepIndex()));
+                    smallest = new Divergence(result.template(), result.seed(), steps, result.stepIndex(), result.difference());
+                    chunks = Math.max(chunks - 1, 2);
+                    reduced = true;
+                    break;
+                }
+            }
+            if (!reduced) {
+                if (chunkSize == 1) {
+                    break;
+                }
+                chunks = Math.min(chunks * 2, steps.size());
+            }
+        }
+        // a divergence before the first step needs no steps at all
+        if (smallest.stepIndex() == 0) {
+            return new Divergence(smallest.template(), smallest.seed(), List.of(), 0, smallest.difference());
+        }
+        return smallest;
+    }
+
+    private GameEngine newReference(long seed) {
+        GameEngine reference = new GameEngine();
+        reference.setSeed(seed);
+        return reference;
+    }
+
+    private Game newCandidate(long seed) {
+        Game candidate = candidateFactory.get();
+        if (candidate instanceof Seedable seedable) {
+            seedable.setSeed(seed);
+        }
+        return candidate;
+    }
+
+    /**
+     * Creates both games, joins all teams and compares the started games.
+     */
+    private String start(MapTemplate template, GameEngine reference, Game candidate) {
+        String difference = compareOutcome(() -> reference.create(template), () -> candidate.create(template));
+        for (int i = 0; difference == null && i < template.getTeams(); i++) {
+            String teamId = "team" + i;
+            difference = compareOutcome(() -> reference.joinGame(teamId), () -> candidate.joinGame(teamId));
+        }
+        reference.shutdownScheduler();
+        if (candidate instanceof GameEngine candidateEngine) {
+            candidateEngine.shutdownScheduler();
+        }
+        return difference == null ? compare(reference, candidate) : difference;
+    }
+
+    private String apply(Step step, Game reference, Game candidate) {
+        String difference;
+        if (step.move() == null) {
+            difference = compareOutcome(() -> reference.giveUp(step.teamId()), () -> candidate.giveUp(step.teamId()));
+        } else {
+            difference = compareOutcome(() -> reference.makeMove(step.move()), () -> candidate.makeMove(step.move()));
+        }
+        return difference == null ? compare(reference, candidate) : difference;
+    }
+
+    /**
+     * Runs an action on both games, both have to succeed or throw the same type of exception.
+     */
+    private static String compareOutcome(Runnable onReference, Runnable onCandidate) {
+        String referenceOutcome = outcome(onReference);
+        String candidateOutcome = outcome(onCandidate);
+        if (!referenceOutcome.equals(candidateOutcome)) {
+            return "reference " + referenceOutcome + ", candidate " + candidateOutcome;
+        }
+        return null;
+    }
+
+    /**
+     * Reads a value from a game. Some states make the GameEngine throw, which is recorded like a value.
+     */
+    private static String observe(Supplier<Object> query) {
+        try {
+            Object value = query.get();
+            return value instanceof Object[] array ? Arrays.toString(array) : String.valueOf(value);
+        } catch (RuntimeException e) {
+            return "threw " + e.getClass().getSimpleName();
+        }
+    }
+
+    private static String outcome(Runnable action) {
+        try {
+            action.run();
+            return "succeeded";
+        } catch (RuntimeException e) {
+            return "threw " + e.getClass().getSimpleName();
+        }
+    }
+
+    /**
+     * Compares grid, teams, current team, game over and winners of both games.
+     */
+    private static String compare(Game reference, Game candidate) {
+        String referenceOver = observe(reference::isGameOver);
+        String candidateOver = observe(candidate::isGameOver);
+        if (!referenceOver.equals(candidateOver)) {
+            return "game over: reference " + referenceOver + ", candidate " + candidateOver;
+        }
+        String referenceWinner = observe(reference::getWinner);
+        String candidateWinner = observe(candidate::getWinner);
+        if (!referenceWinner.equals(candidateWinner)) {
+            return "winner: reference " + referenceWinner + ", candidate " + candidateWinner;
+        }
+
+        GameState expected = reference.getCurrentGameState();
+        GameState actual = candidate.getCurrentGameState();
+        if (expected.getCurrentTeam() != actual.getCurrentTeam()) {
+            return "current team: reference " + expected.getCurrentTeam() + ", candidate " + actual.getCurrentTeam();
+        }
+        for (int row = 0; row < expected.getGrid().length; row++) {
+            if (!Arrays.equals(expected.getGrid()[row], actual.getGrid()[row])) {
+                return "grid row " + row + ": reference " + Arrays.toString(expected.getGrid()[row])
+                        + ", candidate " + Arrays.toString(actual.getGrid()[row]);
+            }
+        }
+        if (expected.getTeams().length != actual.getTeams().length) {
+            return "number of teams: reference " + expected.getTeams().length + ", candidate " + actual.getTeams().length;
+        }
+        for (int i = 0; i < expected.getTeams().length; i++) {
+            String referenceTeam = describe(expected.getTeams()[i]);
+            String candidateTeam = describe(actual.getTeams()[i]);
+            if (!referenceTeam.equals(candidateTeam)) {
+                return "team " + i + ": reference " + referenceTeam + ", candidate " + candidateTeam;
+            }
+        }
+        return null;
+    }
+
+    private static String describe(Team team) {
+        if (team == null) {
+            return "null";
+        }
+        StringBuilder description = new StringBuilder(team.getId())
+                .append(" flags=").append(team.getFlags())
+                .append(" base=").append(Arrays.toString(team.getBase()))
+                .append(" pieces=");
+        for (Piece piece : team.getPieces()) {
+            description.append(piece == null ? "null" : piece.getId() + "@" + Arrays.toString(piece.getPosition())).append(' ');
+        }
+        return description.toString();
+    }
+
+    /**
+     * Chooses a random legal move of the current team of the reference game.
+     * In games with more than two teams, a team gives up instead with a small probability.
+     *
+     * @return the step or null if the current team cannot move
+     */
+    static Step randomStep(GameEngine reference, Random random) {
+        GameState state = reference.getCurrentGameState();
+        Team team = state.getTeams()[state.getCurrentTeam()];
+        if (team == null) {
+            return null;
+        }
+        if (state.getTeams().length > 2 && random.nextInt(50) == 0) {
+            return new Step(team.getId(), null);
+        }
+
+        ValidMoveHelperMethods validMoveHelperMethods = new ValidMoveHelperMethods();
+        List<Move> moves = new ArrayList<>();
+        List<Move> captures = new ArrayList<>();
+        for (Piece p : team.getPieces()) {
+            Piece piece = reference.pieceByGridName.get("p:" + p.getTeamId() + "_" + p.getId());
+            if (piece == null) {
+                continue;
+            }
+            int[][] possibleSquares = validMoveHelperMethods.possibleSquares(piece, state, reference.pieceByGridName);
+            for (int row = 0; row < possibleSquares.length; row++) {
+                for (int column = 0; column < possibleSquares[row].length; column++) {
+                    if (possibleSquares[row][column] != -1) {
+                        Move move = new Move();
+                        move.setTeamId(team.getId());
+                        move.setPieceId(piece.getId());
+                        move.setNewPosition(new int[]{row, column});
+                        (possibleSquares[row][column] > 0 ? captures : moves).add(move);
+                    }
+                }
+            }
+        }
+        // captures are preferred, so that flags, respawns and the end of the game are reached
+        if (!captures.isEmpty() && (moves.isEmpty() || random.nextBoolean())) {
+            return new Step(team.getId(), captures.get(random.nextInt(captures.size())));
+        }
+        return moves.isEmpty() ? null : new Step(team.getId(), moves.get(random.nextInt(moves.size())));
+    }
+}
@@ -0,0 +1,79 @@
+package de.unimannheim.swt.pse.ctf.game;
+
+import de.unimannheim.swt.pse.ctf.game.engine.GameEngine;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.game.state.Move;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests the DifferentialHarness and runs it against the GameEngine itself.
+ */
+public class DifferentialTest {
+
+    /**
+     * A new engine implementation is checked by passing its constructor to the DifferentialHarness
+     * in GameEngine_AgainstCandidate_NoDivergence instead of GameEngine::new.
+     * -
+     * Tests in the class:
+     * --- GameEngine_AgainstCandidate_NoDivergence()
+     *      plays random games on random templates (2-4 teams, several flags, respawns, give-ups)
+     *      and expects no divergence. With the GameEngine as candidate this checks that seeded games are replayable.
+     * --- BrokenCandidate_DivergenceIsShrunk()
+     *      a candidate which loses its fifth valid move has to be found and shrunk to exactly five steps.
+     */
+
+    private static final int NUMBER_OF_GAMES = 100;
+    private static final int MAX_STEPS = 300;
+
+    /**
+     * A candidate which ignores its fifth valid move
+     */
+    private static class LosingMoveEngine extends GameEngine {
+        private int validMoves;
+
+        @Override
+        public void makeMove(Move move) {
+            if (isValidMove(move) && ++validMoves == 5) {
+                return;
+            }
+            super.makeMove(move);
+        }
+    }
+
+    @Test
+    public void GameEngine_AgainstCandidate_NoDivergence() {
+        DifferentialHarness harness = new DifferentialHarness(GameEngine::new);
+        Random random = new Random(20240501);
+
+        for (int game = 0; game < NUMBER_OF_GAMES; game++) {
+            MapTemplate template = DifferentialHarness.randomTemplate(random);
+            DifferentialHarness.Divergence divergence = harness.play(template, random.nextLong(), MAX_STEPS);
+            if (divergence != null) {
+                fail(harness.shrink(divergence).toString());
+            }
+        }
+    }
+
+    @Test
+    public void BrokenCandidate_DivergenceIsShrunk() {
+        DifferentialHarness harness = new DifferentialHarness(LosingMoveEngine::new);
+        Random random = new Random(7);
+
+        DifferentialHarness.Divergence divergence = null;
+        for (int game = 0; game < 20 && divergence == null; game++) {
+            MapTemplate template = DifferentialHarness.randomTemplate(random);
+            template.setTeams(2);
+            template.setFlags(3);
+            divergence = harness.play(template, random.nextLong(), MAX_STEPS);
+        }
+        assertNotNull(divergence);
+
+        DifferentialHarness.Divergence shrunk = harness.shrink(divergence);
+        assertEquals(5, shrunk.steps().size());
+        assertNotNull(harness.replay(shrunk.template(), shrunk.seed(), shrunk.steps()));
+    }
+}
@@ -86,6 +86,10 @@ public class GameEngineTests {
      * ---  MoveTimeOver_SkipMove()
      *      This test checks the scenario where the move time runs out and the move is skipped. It sets up a game,
      *      simulates the passage of move time, and verifies if the current team's move is skipped.
+     *
+     * ---  SeededGames_AreEqual()
+     *      This test checks that two games created with the same seed place pieces and blocks on the same squares
+     *      and start with the same team.
      */
 
 
@@ -831,4 +835,33 @@ public class GameEngineTests {
             assertEquals(t2.getId(), this.gameEngine.getCurrentGameState().getTeams()[this.gameEngine.getCurrentGameState().getCurrentTeam()].getId());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void SeededGames_AreEqual() throws IOException {
+
+        Gson gson = new Gson();
+        GameEngine[] gameEngines = new GameEngine[2];
+
+        for (int g = 0; g < gameEngines.length; g++) {
+            try (Reader reader = new InputStreamReader(
+                    Objects.requireNonNull(getClass().getResourceAsStream("/de/sep/cfp4/gameService/10x10_2teams_example.json")))) {
+                MapTemplate template = gson.fromJson(reader, MapTemplate.class);
+
+                // Blocks are placed at random, so they show whether the seed is used
+                template.setBlocks(10);
+                template.setTotalTimeLimitInSeconds(-1);
+                template.setMoveTimeLimitInSeconds(-1);
+
+                gameEngines[g] = new GameEngine();
+                gameEngines[g].setSeed(4711);
+                gameEngines[g].create(template);
+                gameEngines[g].joinGame("a");
+                gameEngines[g].joinGame("b");
+                gameEngines[g].shutdownScheduler();
+            }
+        }
+
+        assertArrayEquals(gameEngines[0].getCurrentGameState().getGrid(), gameEngines[1].getCurrentGameState().getGrid());
+        assertEquals(gameEngines[0].getCurrentGameState().getCurrentTeam(), gameEngines[1].getCurrentGameState().getCurrentTeam());
+    }
+}
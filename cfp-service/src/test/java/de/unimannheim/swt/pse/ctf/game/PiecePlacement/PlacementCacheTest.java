@@ -0,0 +1,153 @@
+package de.unimannheim.swt.pse.ctf.game.PiecePlacement;
+
+import de.unimannheim.swt.pse.ctf.game.engine.GameEngine;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.game.map.Pawn;
+import de.unimannheim.swt.pse.ctf.game.map.PieceDescription;
+import de.unimannheim.swt.pse.ctf.game.map.PlacementType;
+import de.unimannheim.swt.pse.ctf.game.map.Rook;
+import de.unimannheim.swt.pse.ctf.game.state.GameState;
+import de.unimannheim.swt.pse.ctf.game.state.Piece;
+import de.unimannheim.swt.pse.ctf.game.state.Team;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests the cache of the deterministic piece placements.
+ */
+public class PlacementCacheTest {
+
+    /**
+     * Tests in the class:
+     * --- CachedPlacement_EqualsComputedPlacement()
+     *      for every placement type and 2 or 4 teams, a seeded game stamped from the cache equals the game
+     *      with the same seed whose placement was computed, including the blocks and all positions.
+     * --- CachedPlacement_IndependentGames()
+     *      changing the grid and positions of a game does not change the games stamped afterwards.
+     * --- RandomPlacement_NotCached()
+     *      the random placement of small grids is not cached.
+     * --- FullCache_EvictsLeastRecentlyUsed()
+     *      a layout that does not fit anymore evicts the least recently used layouts, and a layout larger than the
+     *      whole cache is not cached.
+     */
+
+    private static MapTemplate template(int gridSize, int teams, PlacementType placement) {
+        PieceDescription pawns = new Pawn();
+        pawns.setCount(4);
+        PieceDescription rooks = new Rook();
+        rooks.setCount(2);
+
+        MapTemplate template = new MapTemplate();
+        template.setGridSize(new int[]{gridSize, gridSize});
+        template.setTeams(teams);
+        template.setFlags(1);
+        template.setBlocks(3);
+        template.setPlacement(placement);
+        template.setPieces(new PieceDescription[]{pawns, rooks});
+        template.setTotalTimeLimitInSeconds(-1);
+        template.setMoveTimeLimitInSeconds(-1);
+        return template;
+    }
+
+    private static GameState create(MapTemplate template, long seed) {
+        GameEngine engine = new GameEngine();
+        engine.setSeed(seed);
+        return engine.create(template);
+    }
+
+    private static void assertSameGame(GameState expected, GameState actual) {
+        assertArrayEquals(expected.getGrid(), actual.getGrid());
+        for (int t = 0; t < expected.getTeams().length; t++) {
+            Team expectedTeam = expected.getTeams()[t];
+            Team actualTeam = actual.getTeams()[t];
+            assertArrayEquals(expectedTeam.getBase(), actualTeam.getBase());
+            for (int p = 0; p < expectedTeam.getPieces().length; p++) {
+                assertArrayEquals(expectedTeam.getPieces()[p].getPosition(), actualTeam.getPieces()[p].getPosition());
+            }
+        }
+    }
+
+    @Test
+    public void CachedPlacement_EqualsComputedPlacement() {
+        for (PlacementType placement : PlacementType.values()) {
+            for (int teams : new int[]{2, 4}) {
+                PlacementCache.clear();
+                MapTemplate template = template(10, teams, placement);
+
+                GameState computed = create(template, 42);
+                assertEquals(1, PlacementCache.size());
+                GameState stamped = create(template, 42);
+                assertEquals(1, PlacementCache.size());
+
+                assertSameGame(computed, stamped);
+            }
+        }
+    }
+
+    @Test
+    public void CachedPlacement_IndependentGames() {
+        PlacementCache.clear();
+        MapTemplate template = template(8, 2, PlacementType.defensive);
+
+        GameState first = create(template, 1);
+        GameState expected = create(template, 1);
+        for (String[] row : first.getGrid()) {
+            java.util.Arrays.fill(row, "");
+        }
+        first.getTeams()[0].getPieces()[0].getPosition()[0] = -1;
+        first.getTeams()[1].getBase()[0] = -1;
+
+        assertSameGame(expected, create(template, 1));
+    }
+
+    @Test
+    public void RandomPlacement_NotCached() {
+        PlacementCache.clear();
+
+        create(template(5, 2, PlacementType.symmetrical), 3);
+
+        assertEquals(0, PlacementCache.size());
+    }
+
+    private static String[][] emptyGrid(int rows, int columns) {
+        String[][] grid = new String[rows][columns];
+        for (String[] row : grid) {
+            java.util.Arrays.fill(row, "");
+        }
+        return grid;
+    }
+
+    @Test
+    public void FullCache_EvictsLeastRecentlyUsed() {
+        PlacementCache.clear();
+        Team team = new Team();
+        team.setId("0");
+        team.setPieces(new Piece[0]);
+        Team[] teams = {team};
+        int rows = (int) (PlacementCache.MAX_CELLS / 2 / 1000);
+        String[][] grid = emptyGrid(rows, 1000);
+        PlacementCache.Key first = new PlacementCache.Key(rows, 1000, 0, PlacementType.defensive, "first");
+        PlacementCache.Key second = new PlacementCache.Key(rows, 1000, 0, PlacementType.defensive, "second");
+        PlacementCache.Key third = new PlacementCache.Key(rows, 1000, 0, PlacementType.defensive, "third");
+
+        PlacementCache.store(first, grid, teams);
+        PlacementCache.store(second, grid, teams);
+        assertEquals(2, PlacementCache.size());
+        // the first layout is used again, so the second one is the least recently used
+        assertTrue(PlacementCache.stamp(first, grid, teams));
+        PlacementCache.store(third, grid, teams);
+
+        assertEquals(2, PlacementCache.size());
+        assertEquals(PlacementCache.MAX_CELLS, PlacementCache.cells());
+        assertTrue(PlacementCache.stamp(first, grid, teams));
+        assertFalse(PlacementCache.stamp(second, grid, teams));
+        assertTrue(PlacementCache.stamp(third, grid, teams));
+
+        PlacementCache.Key huge = new PlacementCache.Key(rows * 2 + 1, 1000, 0, PlacementType.defensive, "huge");
+        PlacementCache.store(huge, emptyGrid(rows * 2 + 1, 1000), teams);
+        assertFalse(PlacementCache.stamp(huge, emptyGrid(rows * 2 + 1, 1000), teams));
+        assertEquals(2, PlacementCache.size());
+        PlacementCache.clear();
+    }
+}
@@ -0,0 +1,148 @@
+package de.unimannheim.swt.pse.ctf.game.PiecePlacement;
+
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.game.state.Piece;
+import de.unimannheim.swt.pse.ctf.game.state.Team;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests the random placement of pieces and blocks.
+ */
+public class PlacementHelperMethodsTest {
+
+    /**
+     * Tests in the class:
+     * --- ArrangeRandomly_DenseGrid()
+     *      at 95 % fill every piece gets its own square and the base is not overwritten.
+     * --- ArrangeRandomly_MorePiecesThanSquares()
+     *      pieces for which no square is left are not placed, instead of overwriting other pieces.
+     * --- PlaceBlock_LargeGrid()
+     *      on a 500x500 grid exactly the requested blocks are placed on empty squares only.
+     * --- PlaceBlock_FullGrid()
+     *      with fewer empty squares than blocks, all empty squares get a block and nothing else is overwritten.
+     * --- Placement_Seeded()
+     *      the same seed leads to the same placement of pieces and blocks.
+     */
+
+    private static String[][] emptyGrid(int rows, int columns) {
+        String[][] grid = new String[rows][columns];
+        for (String[] row : grid) {
+            Arrays.fill(row, "");
+        }
+        return grid;
+    }
+
+    private static Piece[] pieces(int count) {
+        Piece[] pieces = new Piece[count];
+        for (int i = 0; i < count; i++) {
+            pieces[i] = new Piece();
+            pieces[i].setId(String.valueOf(i + 1));
+        }
+        return pieces;
+    }
+
+    private static Team[] teams() {
+        Team team = new Team();
+        team.setId("0");
+        return new Team[]{team};
+    }
+
+    private static Const blocks(int blocks) {
+        MapTemplate template = new MapTemplate();
+        template.setBlocks(blocks);
+        return new Const(template);
+    }
+
+    private static int count(String[][] grid, String square) {
+        int count = 0;
+        for (String[] row : grid) {
+            for (String s : row) {
+                if (s.equals(square)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static Set<String> placedPieces(String[][] grid) {
+        Set<String> placed = new HashSet<>();
+        for (String[] row : grid) {
+            for (String s : row) {
+                if (s.startsWith("p:")) {
+                    assertTrue(placed.add(s), s + " placed twice");
+                }
+            }
+        }
+        return placed;
+    }
+
+    @Test
+    public void ArrangeRandomly_DenseGrid() {
+        String[][] halfGrid = emptyGrid(5, 4);
+        new PlacementHelperMethods(new SplittableRandom(1)).arrangeRandomly(halfGrid, pieces(19), teams(), 19);
+
+        assertEquals(19, placedPieces(halfGrid).size());
+        assertEquals("b:0", halfGrid[1][2]);
+    }
+
+    @Test
+    public void ArrangeRandomly_MorePiecesThanSquares() {
+        String[][] halfGrid = emptyGrid(5, 4);
+        new PlacementHelperMethods(new SplittableRandom(2)).arrangeRandomly(halfGrid, pieces(30), teams(), 30);
+
+        assertEquals(19, placedPieces(halfGrid).size());
+        assertEquals("b:0", halfGrid[1][2]);
+        assertEquals(0, count(halfGrid, ""));
+    }
+
+    @Test
+    public void PlaceBlock_LargeGrid() {
+        String[][] grid = emptyGrid(500, 500);
+        for (int i = 0; i < 500; i++) {
+            grid[i][i] = "p:0_" + i;
+        }
+
+        new PlacementHelperMethods(new SplittableRandom(3)).placeBlock(grid, blocks(200_000));
+
+        assertEquals(200_000, count(grid, "b"));
+        for (int i = 0; i < 500; i++) {
+            assertEquals("p:0_" + i, grid[i][i]);
+        }
+    }
+
+    @Test
+    public void PlaceBlock_FullGrid() {
+        String[][] grid = emptyGrid(4, 4);
+        grid[0][0] = "b:0";
+        grid[3][3] = "p:1_1";
+
+        new PlacementHelperMethods(new SplittableRandom(4)).placeBlock(grid, blocks(100));
+
+        assertEquals(14, count(grid, "b"));
+        assertEquals("b:0", grid[0][0]);
+        assertEquals("p:1_1", grid[3][3]);
+    }
+
+    @Test
+    public void Placement_Seeded() {
+        String[][] first = emptyGrid(5, 4);
+        String[][] second = emptyGrid(5, 4);
+        PlacementHelperMethods firstHelper = new PlacementHelperMethods(new SplittableRandom(5));
+        PlacementHelperMethods secondHelper = new PlacementHelperMethods(new SplittableRandom(5));
+
+        firstHelper.arrangeRandomly(first, pieces(8), teams(), 8);
+        firstHelper.placeBlock(first, blocks(4));
+        secondHelper.arrangeRandomly(second, pieces(8), teams(), 8);
+        secondHelper.placeBlock(second, blocks(4));
+
+        assertArrayEquals(first, second);
+    }
+}
@@ -0,0 +1,152 @@
+package de.unimannheim.swt.pse.ctf.game;
+
+import de.unimannheim.swt.pse.ctf.game.engine.GameEngine;
+import de.unimannheim.swt.pse.ctf.game.engine.ShadowGame;
+import de.unimannheim.swt.pse.ctf.game.engine.ShadowMetrics;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.game.state.Move;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests the ShadowGame, which mirrors a game to a secondary engine in shadow mode.
+ */
+public class ShadowGameTest {
+
+    /**
+     * The secondary engine runs on the calling thread, so that the metrics are complete after every call.
+     * -
+     * Tests in the class:
+     * --- SameEngines_NoDivergence()
+     *      a GameEngine shadowed by another GameEngine is replayed without divergence and the latencies are recorded.
+     * --- DivergingSecondary_DivergenceCounted()
+     *      a secondary engine which loses its fifth valid move is counted once as divergence,
+     *      while the primary engine goes on answering.
+     * --- RejectingExecutor_GameDropped()
+     *      if the shadow executor rejects the operations, the game is dropped and the primary engine is not affected.
+     * --- UnseededGame_FirstTeamStarts()
+     *      a game created without a seed starts with the first team, as it does without shadow mode.
+     */
+
+    private static final Executor SAME_THREAD = Runnable::run;
+    private static final int MAX_STEPS = 200;
+
+    /**
+     * A secondary engine which ignores its fifth valid move
+     */
+    private static class LosingMoveEngine extends GameEngine {
+        private int validMoves;
+
+        @Override
+        public void makeMove(Move move) {
+            if (isValidMove(move) && ++validMoves == 5) {
+                return;
+            }
+            super.makeMove(move);
+        }
+    }
+
+    /**
+     * Plays a random game on the shadow game, the moves are chosen on the primary engine.
+     *
+     * @return the number of moves made
+     */
+    private static int play(GameEngine primary, ShadowGame shadow, long seed) {
+        Random random = new Random(seed);
+        MapTemplate template = DifferentialHarness.randomTemplate(random);
+        // the placement depends on the seed as well, so that every run plays the same games
+        shadow.setRandomSeed(seed);
+        shadow.create(template);
+        for (int i = 0; i < template.getTeams(); i++) {
+            shadow.joinGame("team" + i);
+        }
+
+        int moves = 0;
+        while (moves < MAX_STEPS && !primary.isGameOver()) {
+            DifferentialHarness.Step step = DifferentialHarness.randomStep(primary, random);
+            if (step == null || step.move() == null) {
+                break;
+            }
+            shadow.makeMove(step.move());
+            moves++;
+        }
+        primary.shutdownScheduler();
+        return moves;
+    }
+
+    @Test
+    public void SameEngines_NoDivergence() {
+        ShadowMetrics metrics = new ShadowMetrics();
+        for (long seed = 1; seed <= 10; seed++) {
+            GameEngine primary = new GameEngine();
+            GameEngine secondary = new GameEngine();
+            play(primary, new ShadowGame(primary, secondary, SAME_THREAD, metrics), seed);
+            secondary.shutdownScheduler();
+        }
+
+        assertEquals(10, metrics.getGames());
+        assertEquals(0, metrics.getDivergences());
+        assertEquals(0, metrics.getDropped());
+        Map<?, ?> operations = (Map<?, ?>) metrics.snapshot().get("operations");
+        assertTrue(operations.containsKey("create"));
+        assertTrue(operations.containsKey("joinGame"));
+        assertTrue(operations.containsKey("makeMove"));
+    }
+
+    @Test
+    public void DivergingSecondary_DivergenceCounted() {
+        ShadowMetrics metrics = new ShadowMetrics();
+        GameEngine primary = new GameEngine();
+        LosingMoveEngine secondary = new LosingMoveEngine();
+        int moves = play(primary, new ShadowGame(primary, secondary, SAME_THREAD, metrics), 3);
+        secondary.shutdownScheduler();
+
+        assertTrue(moves >= 5);
+        assertEquals(1, metrics.getDivergences());
+        assertEquals(0, metrics.getDropped());
+    }
+
+    @Test
+    public void RejectingExecutor_GameDropped() {
+        ShadowMetrics metrics = new ShadowMetrics();
+        Executor rejecting = runnable -> {
+            throw new RejectedExecutionException("queue full");
+        };
+        GameEngine primary = new GameEngine();
+        GameEngine secondary = new GameEngine();
+        int moves = play(primary, new ShadowGame(primary, secondary, rejecting, metrics), 5);
+        secondary.shutdownScheduler();
+
+        assertTrue(moves > 0);
+        assertEquals(1, metrics.getDropped());
+        assertEquals(0, metrics.getDivergences());
+        assertTrue(((Map<?, ?>) metrics.snapshot().get("operations")).isEmpty());
+    }
+
+    @Test
+    public void UnseededGame_FirstTeamStarts() {
+        ShadowMetrics metrics = new ShadowMetrics();
+        for (long seed = 1; seed <= 10; seed++) {
+            GameEngine primary = new GameEngine();
+            GameEngine secondary = new GameEngine();
+            ShadowGame shadow = new ShadowGame(primary, secondary, SAME_THREAD, metrics);
+            MapTemplate template = DifferentialHarness.randomTemplate(new Random(seed));
+            shadow.create(template);
+            for (int i = 0; i < template.getTeams(); i++) {
+                shadow.joinGame("team" + i);
+            }
+
+            assertEquals(0, shadow.getCurrentGameState().getCurrentTeam());
+            assertEquals(0, secondary.getCurrentGameState().getCurrentTeam());
+            primary.shutdownScheduler();
+            secondary.shutdownScheduler();
+        }
+        assertEquals(0, metrics.getDivergences());
+    }
+}
@@ -0,0 +1,83 @@
+package de.unimannheim.swt.pse.ctf.session;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.unimannheim.swt.pse.ctf.controller.data.GameSessionRequest;
+import de.unimannheim.swt.pse.ctf.controller.data.GameSessionResponse;
+import de.unimannheim.swt.pse.ctf.controller.data.JoinGameRequest;
+import de.unimannheim.swt.pse.ctf.controller.data.JoinGameResponse;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests that the session store follows the game sessions of the controller.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+public class SessionTrackerTest {
+
+    /**
+     * Tests in the class:
+     * --- Store_FollowsSessions()
+     *      a created session is stored with its game, reading it stores nothing new, the secrets of the joined teams
+     *      are known and a deleted session is removed again.
+     * --- Seed_AppliedToNewSession()
+     *      two sessions created with the same seed have the same grid.
+     */
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private SessionStore sessionStore;
+
+    private GameSessionRequest request() throws Exception {
+        GameSessionRequest request = new GameSessionRequest();
+        request.setTemplate(new ObjectMapper().readValue(
+                getClass().getResourceAsStream("/maptemplates/10x10_2teams_example.json"), MapTemplate.class));
+        return request;
+    }
+
+    @Test
+    public void Store_FollowsSessions() throws Exception {
+        String url = "http://localhost:" + port + "/api/gamesession";
+        GameSessionRequest request = request();
+
+        int stored = this.sessionStore.size();
+        String sessionId = restTemplate.postForObject(url, request, GameSessionResponse.class).getId();
+        assertNotNull(this.sessionStore.findGame(sessionId));
+        restTemplate.getForObject(url + "/{sessionId}", GameSessionResponse.class, sessionId);
+        assertEquals(stored + 1, this.sessionStore.size());
+
+        JoinGameRequest join = new JoinGameRequest();
+        join.setTeamId("team1");
+        JoinGameResponse joined = restTemplate.postForObject(url + "/{sessionId}/join", join, JoinGameResponse.class,
+                sessionId);
+        assertTrue(this.sessionStore.isTeamSecret(sessionId, joined.getTeamSecret()));
+        assertFalse(this.sessionStore.isTeamSecret(sessionId, "made-up"));
+
+        restTemplate.delete(url + "/{sessionId}", sessionId);
+        assertNull(this.sessionStore.findGame(sessionId));
+        assertFalse(this.sessionStore.isTeamSecret(sessionId, joined.getTeamSecret()));
+    }
+
+    @Test
+    public void Seed_AppliedToNewSession() throws Exception {
+        String url = "http://localhost:" + port + "/api/gamesession";
+        GameSessionRequest request = request();
+        request.setSeed(42L);
+
+        String first = restTemplate.postForObject(url, request, GameSessionResponse.class).getId();
+        String second = restTemplate.postForObject(url, request, GameSessionResponse.class).getId();
+        assertArrayEquals(this.sessionStore.findGame(first).getCurrentGameState().getGrid(),
+                this.sessionStore.findGame(second).getCurrentGameState().getGrid());
+    }
+}
@@ -0,0 +1,211 @@
+package de.unimannheim.swt.pse.ctf.spectator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.unimannheim.swt.pse.ctf.game.engine.GameEngine;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.game.map.Pawn;
+import de.unimannheim.swt.pse.ctf.game.map.PieceDescription;
+import de.unimannheim.swt.pse.ctf.game.map.PlacementType;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests the fan-out of game states to the spectators of a session.
+ */
+public class SpectatorStreamTest {
+
+    /**
+     * The frames are written on the calling thread unless a test holds them back, so that the subscribers can be
+     * checked right after a poll.
+     * -
+     * Tests in the class:
+     * --- Poll_SerializesOncePerChange()
+     *      all subscribers get the same encoded frame, and only when the state changed.
+     * --- Add_LateSubscriberGetsSnapshot()
+     *      a subscriber joining later gets the current state at once.
+     * --- Poll_GameOver_EndsStreams()
+     *      a game over sends the final state with the gameover event and completes the streams.
+     * --- Poll_Deleted_EndsStreams()
+     *      a deleted session sends the deleted event and completes the streams.
+     * --- SlowSubscriber_GetsNewestSnapshot()
+     *      a subscriber that is still writing skips to the newest state instead of queueing all of them.
+     * --- SlowSubscriber_Dropped()
+     *      a subscriber skipping more states in a row than allowed is dropped.
+     */
+
+    private static final Executor SAME_THREAD = Runnable::run;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * An emitter recording what is sent to it instead of writing to a response
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<byte[]> frames = new ArrayList<>();
+        private boolean completed;
+        private Throwable error;
+
+        @Override
+        public synchronized void send(Set<DataWithMediaType> items) {
+            for (DataWithMediaType item : items) {
+                frames.add((byte[]) item.getData());
+            }
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+
+        @Override
+        public synchronized void completeWithError(Throwable ex) {
+            error = ex;
+        }
+
+        private String text() {
+            StringBuilder text = new StringBuilder();
+            frames.forEach(frame -> text.append(new String(frame, StandardCharsets.UTF_8)));
+            return text.toString();
+        }
+    }
+
+    /**
+     * An executor holding the writes back until they are run explicitly
+     */
+    private static class HeldExecutor implements Executor {
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        private void runAll() {
+            List<Runnable> run = new ArrayList<>(tasks);
+            tasks.clear();
+            run.forEach(Runnable::run);
+        }
+    }
+
+    @Test
+    public void Poll_SerializesOncePerChange() throws Exception {
+        GameEngine game = createdGame();
+        SpectatorChannel channel = new SpectatorChannel("s1", objectMapper);
+        List<RecordingEmitter> emitters = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            RecordingEmitter emitter = new RecordingEmitter();
+            emitters.add(emitter);
+            assertTrue(channel.add(new SpectatorSubscriber(emitter, SAME_THREAD, 10)));
+        }
+
+        assertFalse(channel.poll(game));
+        assertFalse(channel.poll(game));
+        for (RecordingEmitter emitter : emitters) {
+            assertEquals(1, emitter.frames.size());
+            assertSame(emitters.get(0).frames.get(0), emitter.frames.get(0));
+        }
+
+        game.joinGame("a");
+        assertFalse(channel.poll(game));
+        for (RecordingEmitter emitter : emitters) {
+            assertEquals(2, emitter.frames.size());
+            assertSame(emitters.get(0).frames.get(1), emitter.frames.get(1));
+        }
+        assertTrue(emitters.get(0).text().startsWith("event:state\ndata:{"));
+    }
+
+    @Test
+    public void Add_LateSubscriberGetsSnapshot() throws Exception {
+        GameEngine game = createdGame();
+        SpectatorChannel channel = new SpectatorChannel("s1", objectMapper);
+        RecordingEmitter first = new RecordingEmitter();
+        channel.add(new SpectatorSubscriber(first, SAME_THREAD, 10));
+        channel.poll(game);
+
+        RecordingEmitter late = new RecordingEmitter();
+        channel.add(new SpectatorSubscriber(late, SAME_THREAD, 10));
+        assertEquals(1, late.frames.size());
+        assertSame(first.frames.get(0), late.frames.get(0));
+    }
+
+    @Test
+    public void Poll_GameOver_EndsStreams() throws Exception {
+        GameEngine game = createdGame();
+        game.joinGame("a");
+        game.joinGame("b");
+        SpectatorChannel channel = new SpectatorChannel("s1", objectMapper);
+        RecordingEmitter emitter = new RecordingEmitter();
+        channel.add(new SpectatorSubscriber(emitter, SAME_THREAD, 10));
+        channel.poll(game);
+
+        String current = game.getCurrentGameState().getTeams()[game.getCurrentGameState().getCurrentTeam()].getId();
+        game.giveUp(current);
+        assertTrue(channel.poll(game));
+        assertTrue(emitter.completed);
+        assertTrue(emitter.text().contains("event:gameover\ndata:{\"id\":\"s1\",\"gameOver\":true"));
+        assertEquals(2, emitter.text().split("event:state").length - 1);
+        assertFalse(channel.add(new SpectatorSubscriber(new RecordingEmitter(), SAME_THREAD, 10)));
+    }
+
+    @Test
+    public void Poll_Deleted_EndsStreams() throws Exception {
+        SpectatorChannel channel = new SpectatorChannel("s1", objectMapper);
+        RecordingEmitter emitter = new RecordingEmitter();
+        channel.add(new SpectatorSubscriber(emitter, SAME_THREAD, 10));
+        assertTrue(channel.poll(null));
+        assertTrue(emitter.completed);
+        assertEquals("event:deleted\ndata:{\"id\":\"s1\"}\n\n", emitter.text());
+    }
+
+    @Test
+    public void SlowSubscriber_GetsNewestSnapshot() {
+        HeldExecutor writers = new HeldExecutor();
+        RecordingEmitter emitter = new RecordingEmitter();
+        SpectatorSubscriber subscriber = new SpectatorSubscriber(emitter, writers, 10);
+        for (int i = 0; i < 3; i++) {
+            subscriber.offer(new SpectatorFrame(SpectatorFrame.event("state", "{\"n\":" + i + "}"), false));
+        }
+        assertEquals(1, writers.tasks.size());
+        writers.runAll();
+        assertEquals("event:state\ndata:{\"n\":2}\n\n", emitter.text());
+        assertFalse(subscriber.isClosed());
+    }
+
+    @Test
+    public void SlowSubscriber_Dropped() {
+        HeldExecutor writers = new HeldExecutor();
+        RecordingEmitter emitter = new RecordingEmitter();
+        SpectatorSubscriber subscriber = new SpectatorSubscriber(emitter, writers, 3);
+        for (int i = 0; i < 5; i++) {
+            subscriber.offer(new SpectatorFrame(SpectatorFrame.event("state", "{}"), false));
+        }
+        assertTrue(subscriber.isClosed());
+        assertNotNull(emitter.error);
+        writers.runAll();
+        assertTrue(emitter.frames.isEmpty());
+    }
+
+    private static GameEngine createdGame() {
+        PieceDescription pawn = new Pawn();
+        pawn.setCount(4);
+        MapTemplate template = new MapTemplate();
+        template.setGridSize(new int[]{8, 8});
+        template.setTeams(2);
+        template.setFlags(1);
+        template.setPlacement(PlacementType.symmetrical);
+        template.setPieces(new PieceDescription[]{pawn});
+        template.setTotalTimeLimitInSeconds(-1);
+        template.setMoveTimeLimitInSeconds(-1);
+        GameEngine game = new GameEngine();
+        game.create(template);
+        return game;
+    }
+}
@@ -0,0 +1,166 @@
+package de.unimannheim.swt.pse.ctf.template;
+
+import de.unimannheim.swt.pse.ctf.admission.TemplateCostModel;
+import de.unimannheim.swt.pse.ctf.controller.GameSessionController;
+import de.unimannheim.swt.pse.ctf.controller.data.GameSessionRequest;
+import de.unimannheim.swt.pse.ctf.controller.data.GameSessionResponse;
+import de.unimannheim.swt.pse.ctf.game.exceptions.InvalidTemplate;
+import de.unimannheim.swt.pse.ctf.game.exceptions.NoMoreTemplateSlots;
+import de.unimannheim.swt.pse.ctf.game.exceptions.TemplateNotFound;
+import de.unimannheim.swt.pse.ctf.game.map.Knight;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.game.map.Pawn;
+import de.unimannheim.swt.pse.ctf.game.map.PieceDescription;
+import de.unimannheim.swt.pse.ctf.game.map.PlacementType;
+import de.unimannheim.swt.pse.ctf.game.map.Rook;
+import de.unimannheim.swt.pse.ctf.game.state.GameState;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This class tests the registry of the map templates referenced by id.
+ */
+public class TemplateRegistryTest {
+
+    /**
+     * Tests in the class:
+     * --- Register_SameTemplate_SameId()
+     *      registering an equal template again returns the registered one, a different template gets another id.
+     * --- Register_InternsPieceDescriptions()
+     *      equal piece descriptions of different templates are the same instance, and changing the uploaded
+     *      template afterwards does not change the registered one.
+     * --- Register_RejectsInvalidTemplates()
+     *      templates with missing values, over the budgets or with pieces the placement can not place are rejected.
+     * --- Register_Full()
+     *      a new template is rejected once the registry is full, while a registered one is still returned.
+     * --- GameSession_ByTemplateId()
+     *      the request advice resolves a template id, so that the controller creates the game session from it and
+     *      the session is counted, an unknown id is not found.
+     * --- Remove_Template()
+     *      a removed template can not be used for new sessions anymore.
+     */
+
+    private static MapTemplate template(int gridSize, PlacementType placement, PieceDescription... pieces) {
+        MapTemplate template = new MapTemplate();
+        template.setGridSize(new int[]{gridSize, gridSize});
+        template.setTeams(2);
+        template.setFlags(1);
+        template.setBlocks(2);
+        template.setPlacement(placement);
+        template.setPieces(pieces);
+        template.setTotalTimeLimitInSeconds(-1);
+        template.setMoveTimeLimitInSeconds(-1);
+        return template;
+    }
+
+    private static PieceDescription counted(PieceDescription description, int count) {
+        description.setCount(count);
+        return description;
+    }
+
+    private static TemplateRegistry registry() {
+        return new TemplateRegistry(new TemplateCostModel(0, 0), 10);
+    }
+
+    @Test
+    public void Register_SameTemplate_SameId() {
+        TemplateRegistry registry = registry();
+        CompiledTemplate first = registry.register(template(10, PlacementType.symmetrical, counted(new Pawn(), 4)));
+        CompiledTemplate again = registry.register(template(10, PlacementType.symmetrical, counted(new Pawn(), 4)));
+        CompiledTemplate other = registry.register(template(10, PlacementType.defensive, counted(new Pawn(), 4)));
+
+        assertSame(first, again);
+        assertNotEquals(first.getId(), other.getId());
+        assertEquals(2, registry.size());
+        assertEquals(4, first.getPiecesPerTeam());
+    }
+
+    @Test
+    public void Register_InternsPieceDescriptions() {
+        TemplateRegistry registry = registry();
+        MapTemplate uploaded = template(10, PlacementType.symmetrical, counted(new Pawn(), 4), counted(new Rook(), 2));
+        CompiledTemplate first = registry.register(uploaded);
+        CompiledTemplate second = registry.register(template(8, PlacementType.spaced_out, counted(new Rook(), 2)));
+
+        assertSame(first.toTemplate().getPieces()[1], second.toTemplate().getPieces()[0]);
+        assertNotSame(uploaded.getPieces()[0], first.toTemplate().getPieces()[0]);
+
+        uploaded.getPieces()[0].setAttackPower(99);
+        uploaded.getGridSize()[0] = 3;
+        assertEquals(new Pawn().getAttackPower(), first.toTemplate().getPieces()[0].getAttackPower());
+        assertEquals(10, first.toTemplate().getGridSize()[0]);
+    }
+
+    @Test
+    public void Register_RejectsInvalidTemplates() {
+        TemplateRegistry registry = registry();
+
+        MapTemplate noPlacement = template(10, null, counted(new Pawn(), 4));
+        assertThrows(InvalidTemplate.class, () -> registry.register(noPlacement));
+
+        MapTemplate oneTeam = template(10, PlacementType.symmetrical, counted(new Pawn(), 4));
+        oneTeam.setTeams(1);
+        assertThrows(InvalidTemplate.class, () -> registry.register(oneTeam));
+
+        PieceDescription immobile = counted(new Pawn(), 4);
+        immobile.setMovement(null);
+        assertThrows(InvalidTemplate.class, () -> registry.register(template(10, PlacementType.symmetrical, immobile)));
+
+        // more pieces than the symmetrical placement has positions for
+        MapTemplate crowded = template(6, PlacementType.symmetrical, counted(new Knight(), 20));
+        assertThrows(InvalidTemplate.class, () -> registry.register(crowded));
+
+        TemplateRegistry budgeted = new TemplateRegistry(new TemplateCostModel(100, 0), 10);
+        assertThrows(InvalidTemplate.class, () -> budgeted.register(template(10, PlacementType.symmetrical, counted(new Pawn(), 4))));
+
+        assertEquals(0, registry.size());
+        assertEquals(0, budgeted.size());
+    }
+
+    @Test
+    public void Register_Full() {
+        TemplateRegistry registry = new TemplateRegistry(new TemplateCostModel(0, 0), 1);
+        CompiledTemplate registered = registry.register(template(10, PlacementType.symmetrical, counted(new Pawn(), 4)));
+
+        assertThrows(NoMoreTemplateSlots.class,
+                () -> registry.register(template(10, PlacementType.defensive, counted(new Pawn(), 4))));
+        assertSame(registered, registry.register(template(10, PlacementType.symmetrical, counted(new Pawn(), 4))));
+    }
+
+    @Test
+    public void GameSession_ByTemplateId() {
+        TemplateRegistry registry = registry();
+        CompiledTemplate compiled = registry.register(template(10, PlacementType.defensive, counted(new Pawn(), 4)));
+        TemplateRequestAdvice advice = new TemplateRequestAdvice(registry);
+        GameSessionController controller = new GameSessionController();
+
+        GameSessionRequest request = new GameSessionRequest();
+        request.setTemplateId(compiled.getId());
+        GameSessionResponse response = controller.createGameSession(advice.resolve(request));
+        request.setTemplate(null);
+        controller.createGameSession(advice.resolve(request));
+
+        GameState state = controller.getGameState(response.getId());
+        assertEquals(10, state.getGrid().length);
+        assertEquals(2, state.getTeams().length);
+        assertEquals(4, state.getTeams()[0].getPieces().length);
+        assertEquals(2, compiled.getSessions());
+
+        GameSessionRequest unknown = new GameSessionRequest();
+        unknown.setTemplateId("unknown");
+        assertThrows(TemplateNotFound.class, () -> advice.resolve(unknown));
+    }
+
+    @Test
+    public void Remove_Template() {
+        TemplateRegistry registry = registry();
+        CompiledTemplate compiled = registry.register(template(10, PlacementType.symmetrical, counted(new Pawn(), 4)));
+
+        registry.remove(compiled.getId());
+
+        assertEquals(0, registry.size());
+        assertThrows(TemplateNotFound.class, () -> registry.newSessionTemplate(compiled.getId()));
+        assertThrows(TemplateNotFound.class, () -> registry.remove(compiled.getId()));
+    }
+}
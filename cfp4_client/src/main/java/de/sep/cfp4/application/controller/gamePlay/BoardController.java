@@ -3,13 +3,15 @@ package de.sep.cfp4.application.controller.gamePlay;
 import de.sep.cfp4.technicalServices.database.DatabaseHandler;
 import de.sep.cfp4.technicalServices.database.interfaces.Database;
 import de.sep.cfp4.application.model.BoardModel;
-import de.sep.cfp4.ui.customComponents.BoardView;
+import de.sep.cfp4.ui.customComponents.BoardRenderer;
+import de.sep.cfp4.ui.customComponents.CanvasBoardView;
 import de.unimannheim.swt.pse.ctf.game.exceptions.ForbiddenMove;
 import de.unimannheim.swt.pse.ctf.game.exceptions.GameOver;
 import de.unimannheim.swt.pse.ctf.game.exceptions.GameSessionNotFound;
 import de.unimannheim.swt.pse.ctf.game.exceptions.InvalidMove;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Function;
 import javafx.animation.PauseTransition;
 import javafx.application.Platform;
@@ -25,7 +27,6 @@ import javafx.scene.control.Tooltip;
 import javafx.scene.input.Clipboard;
 import javafx.scene.input.ClipboardContent;
 import javafx.scene.layout.AnchorPane;
-import javafx.scene.layout.GridPane;
 import javafx.scene.layout.StackPane;
 import javafx.util.Duration;
 
@@ -37,9 +38,10 @@ import javafx.util.Duration;
  */
 public class BoardController {
   // FXML elements
-  // The board view rendering the current state of the game.
+  // The board view rendering the current state of the game. Replaced by a CanvasBoardView for large
+  // boards.
   @FXML
-  private BoardView gameBoard;
+  private BoardRenderer gameBoard;
 
   // Help zu make game board resizable and keep it square.
   @FXML
@@ -72,6 +74,8 @@ public class BoardController {
   private BoardModel boardModel;
   // Database access for access to the currently selected BoardTheme etc.
   private final Database database = DatabaseHandler.getInstance();
+  // Runs the updates of the labels at most once per frame, however often the model fires events.
+  private final UpdateDispatcher dispatcher = new UpdateDispatcher();
   //----------------------------------------------------------------
 
   // Initialize the BoardController
@@ -92,23 +96,31 @@ public class BoardController {
    * @param boardModel The boardModel that is being represented by the view and controller
    * @throws IllegalArgumentException If the boardModel has already been initialized in the past.
    */
+  @SuppressWarnings("unchecked")
   public void initModel(BoardModel boardModel) throws IllegalArgumentException {
     if (this.boardModel != null) {
       throw new IllegalArgumentException("The BoardModel can not be initialized twice.");
     }
     this.boardModel = boardModel;
 
+    // Large boards are drawn on a canvas instead of using a node per square.
+    if (BoardRenderer.usesCanvas(boardModel)) {
+      this.useCanvasBoard();
+    }
     // Give View access to the boardModel in order to render it.
     this.gameBoard.initModel(boardModel);
     // Tell view which method to call in the controller in case of a user input.
-    this.gameBoard.setOnSquareClick(e -> handleSquareClick(GridPane.getRowIndex((Node) e.getSource()), GridPane.getColumnIndex((Node) e.getSource())));
+    this.gameBoard.setOnSquareClick(this::handleSquareClick);
 
     this.boardModel.addPropertyChangeListener(evt -> {
       switch (evt.getPropertyName()) {
-        case "gameState" -> Platform.runLater(() -> {
-          this.gameBoard.renderBoard();
-          this.setUpLabels();
-        });
+        case "gameState" -> {
+          // Rebuilds the squares if the size of the board changed.
+          this.gameBoard.updateSquares(List.of());
+          this.dispatcher.post("labels", this::setUpLabels);
+        }
+        case "cellsChanged" -> this.gameBoard.updateSquares((List<int[]>) evt.getNewValue());
+        // Dialogs are not dispatched per pulse, showAndWait is not allowed during animation processing.
         case "winner" -> Platform.runLater(() -> {
           Alert alert = new Alert(AlertType.INFORMATION);
           String[] winners = (String[]) evt.getNewValue();
@@ -128,7 +140,7 @@ public class BoardController {
           alert.showAndWait().ifPresent(response -> this.database.removeGameSessionFromDatabase(
               this.boardModel.getGameSessionID(), this.boardModel.getTeamID()));
         });
-        case "teamNames", "remainingMoveTime" -> Platform.runLater(this::setUpLabels);
+        case "teamNames", "remainingMoveTime", "currentTeam" -> this.dispatcher.post("labels", this::setUpLabels);
         case "ownTeamLost" -> Platform.runLater(() -> {
           Alert alert = new Alert(AlertType.CONFIRMATION);
           alert.setTitle("Game Over");
@@ -140,7 +152,7 @@ public class BoardController {
                   this.boardModel.getTeamID());
             } else {
               // Reset the onSquareClick event to prevent further interactions with the board.
-              this.gameBoard.setOnSquareClick(e -> {
+              this.gameBoard.setOnSquareClick((row, column) -> {
               });
               this.forfeitButton.setText("Leave");
               this.forfeitButton.setOnAction(e -> {
@@ -151,7 +163,7 @@ public class BoardController {
             }
           });
         });
-        case "remainingGameTime" -> Platform.runLater(() -> {
+        case "remainingGameTime" -> this.dispatcher.post("remainingGameTime", () -> {
           this.gameTimeLabel.setDisable(false);
           java.time.Duration duration = java.time.Duration.ofSeconds((int) evt.getNewValue());
           long minutes = duration.toMinutes();
@@ -165,6 +177,20 @@ public class BoardController {
     this.setUpLabels();
   }
 
+  /**
+   * Replaces the board view of the FXML file with a CanvasBoardView at the same position.
+   */
+  private void useCanvasBoard() {
+    Node boardView = this.gameBoard.asNode();
+    CanvasBoardView canvasBoardView = new CanvasBoardView();
+    AnchorPane.setTopAnchor(canvasBoardView, AnchorPane.getTopAnchor(boardView));
+    AnchorPane.setRightAnchor(canvasBoardView, AnchorPane.getRightAnchor(boardView));
+    AnchorPane.setBottomAnchor(canvasBoardView, AnchorPane.getBottomAnchor(boardView));
+    AnchorPane.setLeftAnchor(canvasBoardView, AnchorPane.getLeftAnchor(boardView));
+    this.anchor.getChildren().set(this.anchor.getChildren().indexOf(boardView), canvasBoardView);
+    this.gameBoard = canvasBoardView;
+  }
+
   /**
    * Handles the click event on a square. If a piece is selected and eligible square is clicked, a
    * move request is send to the server.
@@ -216,8 +242,6 @@ public class BoardController {
       this.makeMove(row, column);
       this.gameBoard.deselectSquare(this.selectedSquare[0], this.selectedSquare[1]);
       this.selectedSquare = null;
-
-      this.gameBoard.renderBoard();
     }
 
   }
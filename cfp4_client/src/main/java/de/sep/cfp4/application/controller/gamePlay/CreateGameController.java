@@ -10,7 +10,7 @@ import de.sep.cfp4.technicalServices.database.interfaces.Database;
 import de.sep.cfp4.application.model.BoardModel;
 import de.sep.cfp4.application.model.listItems.MapItem;
 import de.sep.cfp4.application.model.listItems.Server;
-import de.sep.cfp4.ui.customComponents.BoardView;
+import de.sep.cfp4.ui.customComponents.BoardRenderer;
 import de.sep.cfp4.technicalServices.ai.mcts.MCTSClient;
 import de.unimannheim.swt.pse.ctf.game.exceptions.GameSessionNotFound;
 import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
@@ -20,6 +20,7 @@ import java.net.URISyntaxException;
 
 
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.control.TextField;
@@ -202,7 +203,7 @@ public class CreateGameController {
         BoardModel boardModel = new BoardModel(URI.create("http://" + server.getUrl()),
             mapItem.getMapTemplate());
         boardModel.deleteGameSession();
-        BoardView boardView = new BoardView(boardModel);
+        Node boardView = BoardRenderer.create(boardModel).asNode();
         AnchorPane.setTopAnchor(boardView, 0.0);
         AnchorPane.setRightAnchor(boardView, 0.0);
         AnchorPane.setBottomAnchor(boardView, 0.0);
@@ -0,0 +1,73 @@
+package de.sep.cfp4.application.controller.gamePlay;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+/**
+ * Dispatches updates of the user interface from background threads to the JavaFX thread. Updates
+ * are posted with a key, an update replaces a pending update with the same key, and all pending
+ * updates are run together once per animation pulse. However fast the model fires events, the
+ * JavaFX thread runs each kind of update at most once per frame with the latest state.
+ * <p>
+ * Updates must not open dialogs with showAndWait, which is not allowed during animation processing.
+ *
+ * @version 0.0.1
+ * @see BoardController
+ */
+class UpdateDispatcher {
+
+  // The pending updates by key, in the order they were first posted.
+  private final Map<String, Runnable> pendingUpdates = new LinkedHashMap<>();
+  // Runs the pending updates on the next pulse and stops itself when there are none left.
+  private final AnimationTimer timer = new AnimationTimer() {
+    @Override
+    public void handle(long now) {
+      runPendingUpdates(this);
+    }
+  };
+  // Whether the timer is running or about to be started.
+  private boolean running;
+
+  /**
+   * Posts an update to be run on the next animation pulse, replacing a pending update with the same
+   * key. Can be called from any thread.
+   *
+   * @param key The key of the update, e.g. the part of the user interface it updates.
+   * @param update The update to run on the JavaFX thread.
+   */
+  void post(String key, Runnable update) {
+    synchronized (this.pendingUpdates) {
+      this.pendingUpdates.put(key, update);
+      if (this.running) {
+        return;
+      }
+      this.running = true;
+    }
+    // The timer has to be started on the JavaFX thread.
+    Platform.runLater(this.timer::start);
+  }
+
+  /**
+   * Runs all pending updates, or stops the timer if there are none.
+   *
+   * @param timer The timer calling this method.
+   */
+  private void runPendingUpdates(AnimationTimer timer) {
+    Runnable[] updates;
+    synchronized (this.pendingUpdates) {
+      if (this.pendingUpdates.isEmpty()) {
+        this.running = false;
+        timer.stop();
+        return;
+      }
+      updates = this.pendingUpdates.values().toArray(new Runnable[0]);
+      this.pendingUpdates.clear();
+    }
+    for (Runnable update : updates) {
+      update.run();
+    }
+  }
+
+}
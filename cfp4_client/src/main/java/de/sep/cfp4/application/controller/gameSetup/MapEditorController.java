@@ -3,12 +3,13 @@ package de.sep.cfp4.application.controller.gameSetup;
 import de.sep.cfp4.application.exceptions.MapTemplateNameTaken;
 import de.sep.cfp4.application.model.BoardModel;
 import de.sep.cfp4.application.model.MapEditorModel;
-import de.sep.cfp4.ui.customComponents.BoardView;
+import de.sep.cfp4.ui.customComponents.BoardRenderer;
 import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
 import de.unimannheim.swt.pse.ctf.game.map.PlacementType;
 import java.io.IOException;
 import java.net.URI;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.control.ComboBox;
@@ -285,7 +286,7 @@ public class MapEditorController {
       try {
         BoardModel boardModel = new BoardModel(URI.create("http://" + this.serverListController.getSelectedServer().getUrl()), mapTemplate);
         boardModel.stopUpdateThread();
-        BoardView boardView = new BoardView(boardModel);
+        Node boardView = BoardRenderer.create(boardModel).asNode();
         AnchorPane.setTopAnchor(boardView, 0.0);
         AnchorPane.setBottomAnchor(boardView, 0.0);
         AnchorPane.setLeftAnchor(boardView, 0.0);
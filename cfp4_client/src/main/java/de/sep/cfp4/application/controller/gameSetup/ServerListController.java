@@ -1,19 +1,11 @@
 package de.sep.cfp4.application.controller.gameSetup;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonSyntaxException;
-import com.google.gson.TypeAdapter;
 import de.sep.cfp4.application.Launcher;
 import de.sep.cfp4.application.model.listItems.Server;
-import java.io.IOException;
+import de.sep.cfp4.technicalServices.network.ServerHealthCheck;
 import java.net.URI;
 import java.net.URL;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.net.http.HttpResponse.BodyHandlers;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
+import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -195,47 +187,20 @@ public class ServerListController {
 
   /**
    * Checks whether a given server url hosts a valid running capture the flag server
-   * and updates the server stats accordingly.
+   * and updates the server stats accordingly. The check runs in the background, recent results are
+   * reused.
    *
    * @param server The server object
    */
   public void updateServerOnline(Server server) {
-    // Internal class which represents the capture the flag status page for invalid GET 404 requests.
-    class ServerStatus {
-
-      private String timestamp;
-      private int status;
-      private String error;
-      private String path;
-    }
-    // Start a new Thread to handle the HttpRequest to avoid blocking the application thread.
-    Thread thread = new Thread(() -> {
-      // Adapted from https://baeldung.com/java-validate-json-string , validation with Gson, strict validation.
-      TypeAdapter<ServerStatus> checkJson = new Gson().getAdapter(ServerStatus.class);
-      HttpRequest httpRequest = HttpRequest.newBuilder()
-          .uri(URI.create("http://" + server.getUrl() + "/api/gamesession/"))
-          .header("Content-Type", "application/json")
-          .GET()
-          .build();
-      HttpClient httpClient = HttpClient.newHttpClient();
-      try {
-        // Asynchronous HttpRequest updates the server status noticeably faster.
-        CompletableFuture<HttpResponse<String>> httpResponse = httpClient.sendAsync(httpRequest,
-            BodyHandlers.ofString());
-        checkJson.fromJson(httpResponse.get().body());
-        server.setStatus(true);
-      } catch (JsonSyntaxException | IOException | InterruptedException | ExecutionException e) {
-        server.setStatus(false);
-      }
-    });
-    thread.setDaemon(true);
-    thread.start();
-
+    ServerHealthCheck.check(server.getUrl())
+        .thenAccept(online -> Platform.runLater(() -> server.setStatus(online)));
   }
 
 
   /**
-   * Refreshed the server status of each server currently stored in the server list.
+   * Refreshed the server status of each server currently stored in the server list. The table is
+   * updated for each server as soon as its check is done.
    */
   @FXML
   public void refreshServerStatus() {
@@ -0,0 +1,24 @@
+package de.sep.cfp4.application.exceptions;
+
+/**
+ * Thrown if the server rejected a request because it is overloaded or the client sent too many
+ * requests, the request can be sent again after the time given by the server.
+ *
+ * @version 0.0.1
+ */
+public class TooManyRequests extends RuntimeException {
+
+  private final long retryAfterMillis;
+
+  public TooManyRequests(long retryAfterMillis) {
+    super("Too many requests, retry after " + retryAfterMillis + " ms");
+    this.retryAfterMillis = retryAfterMillis;
+  }
+
+  /**
+   * @return The time after which the request can be sent again, in milliseconds.
+   */
+  public long getRetryAfterMillis() {
+    return this.retryAfterMillis;
+  }
+}
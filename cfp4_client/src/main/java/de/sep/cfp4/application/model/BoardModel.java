@@ -3,6 +3,7 @@ package de.sep.cfp4.application.model;
 import com.google.gson.Gson;
 import de.sep.cfp4.technicalServices.network.GameAPI;
 import de.sep.cfp4.technicalServices.network.GameClient;
+import de.sep.cfp4.technicalServices.network.SessionPoller;
 import de.unimannheim.swt.pse.ctf.controller.data.*;
 import de.unimannheim.swt.pse.ctf.game.exceptions.ForbiddenMove;
 import de.unimannheim.swt.pse.ctf.game.exceptions.GameOver;
@@ -18,9 +19,14 @@ import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
 import java.io.IOException;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -39,9 +45,10 @@ public class BoardModel {
   // The current game state the model is representing.
   private GameState gameState;
   // The game board from the player's perspective (upside down if the player is on the upper side of the board).
-  private String[][] grid;
-  // Maps piece IDs from the grid to their respective pieces.
-  private HashMap<String, Piece> pieceByID;
+  // Every update that changes the board publishes a new grid, a published grid is never written again.
+  private volatile String[][] grid;
+  // Maps piece IDs from the grid to their respective pieces, read by the GUI while being updated.
+  private final Map<String, Piece> pieceByID = new ConcurrentHashMap<>();
 
   // ---------------------------------------------------------------------------
   // Internal storage of relevant data
@@ -57,8 +64,10 @@ public class BoardModel {
   // PropertyChangeSupport for notifying the GUI of changes in the game state.
   private final PropertyChangeSupport support = new PropertyChangeSupport(this);
   // ---------------------------------------------------------------------------
-  // Auxiliary lock object used to notify the update Thread when e.g. a move has been made.
+  // Auxiliary lock object guarding the updates of the model, notified after every update.
   private final Object lock = new Object();
+  // The subscription to the updates of the game session.
+  private SessionPoller.Subscription subscription;
   private boolean gameInProgress = true;
 
 
@@ -75,7 +84,22 @@ public class BoardModel {
    */
   public BoardModel(URI serverURL, MapTemplate mapTemplate)
       throws IOException, InterruptedException {
-    this.API = new GameClient(serverURL);
+    this(new GameClient(serverURL), mapTemplate);
+  }
+
+  /**
+   * Creates a new BoardModel by registering a new game session through the given API without
+   * joining the game.
+   *
+   * @param api         The API to communicate with the server or the local game sessions.
+   * @param mapTemplate The map template to use for the game session.
+   * @throws IOException          If an error occurs while trying to create the game session.
+   * @throws InterruptedException If the thread is interrupted while trying to create the game
+   *                              session.
+   */
+  public BoardModel(GameAPI api, MapTemplate mapTemplate)
+      throws IOException, InterruptedException {
+    this.API = api;
     GameSessionResponse gameSessionResponse = this.API.createGameSession(mapTemplate);
     this.gameSessionID = gameSessionResponse.getId();
 
@@ -104,7 +128,25 @@ public class BoardModel {
    */
   public BoardModel(URI serverURL, MapTemplate mapTemplate, String teamID)
       throws IOException, InterruptedException, GameSessionNotFound, NoMoreTeamSlots {
-    this.API = new GameClient(serverURL);
+    this(new GameClient(serverURL), mapTemplate, teamID);
+  }
+
+  /**
+   * Creates a new BoardModel by registering a new game session through the given API.
+   *
+   * @param api         The API to communicate with the server or the local game sessions.
+   * @param mapTemplate The map template to use for the game session.
+   * @param teamID      The desired team name of the player.
+   * @throws IOException          If an error occurs while trying to create the game session.
+   * @throws InterruptedException If the thread is interrupted while trying to create the game
+   *                              session.
+   * @throws GameSessionNotFound  If the game session could not be found right after creating it.
+   * @throws NoMoreTeamSlots      If there are no more team slots available in the game session even
+   *                              though the game session was just created.
+   */
+  public BoardModel(GameAPI api, MapTemplate mapTemplate, String teamID)
+      throws IOException, InterruptedException, GameSessionNotFound, NoMoreTeamSlots {
+    this.API = api;
     GameSessionResponse gameSessionResponse = this.API.createGameSession(mapTemplate);
     this.gameSessionID = gameSessionResponse.getId();
     this.joinGame(teamID);
@@ -127,7 +169,22 @@ public class BoardModel {
    */
   public BoardModel(URI serverURL, String gameSessionID)
       throws IOException, InterruptedException, GameSessionNotFound {
-    this.API = new GameClient(serverURL);
+    this(new GameClient(serverURL), gameSessionID);
+  }
+
+  /**
+   * Creates a new BoardModel by joining an existing game session through the given API as a
+   * spectator.
+   *
+   * @param api           The API to communicate with the server or the local game sessions.
+   * @param gameSessionID The ID of the game session to join.
+   * @throws IOException          If an error occurs while trying to get the game state.
+   * @throws InterruptedException If the thread is interrupted while trying to get the game state.
+   * @throws GameSessionNotFound  If the game session could not be found.
+   */
+  public BoardModel(GameAPI api, String gameSessionID)
+      throws IOException, InterruptedException, GameSessionNotFound {
+    this.API = api;
     this.gameSessionID = gameSessionID;
 
     // Sets the teamID to the first team in the game session as a spectator.
@@ -150,7 +207,23 @@ public class BoardModel {
    */
   public BoardModel(URI serverURL, String gameSessionID, String teamID)
       throws IOException, InterruptedException, GameSessionNotFound, NoMoreTeamSlots {
-    this.API = new GameClient(serverURL);
+    this(new GameClient(serverURL), gameSessionID, teamID);
+  }
+
+  /**
+   * Creates a new BoardModel by joining an existing game session through the given API.
+   *
+   * @param api           The API to communicate with the server or the local game sessions.
+   * @param gameSessionID The ID of the game session to join.
+   * @param teamID        The desired team name of the player.
+   * @throws IOException          If an error occurs while trying to get the game state.
+   * @throws InterruptedException If the thread is interrupted while trying to get the game state.
+   * @throws GameSessionNotFound  If the game session could not be found.
+   * @throws NoMoreTeamSlots      If there are no more team slots available in the game session.
+   */
+  public BoardModel(GameAPI api, String gameSessionID, String teamID)
+      throws IOException, InterruptedException, GameSessionNotFound, NoMoreTeamSlots {
+    this.API = api;
     this.gameSessionID = gameSessionID;
     this.joinGame(teamID);
     this.startUpdateThread();
@@ -158,11 +231,11 @@ public class BoardModel {
 
 
   /**
-   * Starts a new thread that consistently checks for updates in the game state and updates the
-   * model accordingly.
+   * Subscribes to the updates of the game session from the {@link SessionPoller} shared by all
+   * board models of the same server, and updates the model accordingly.
    */
   private void startUpdateThread() {
-    // We need to call the updateGameState method once before starting the thread to avoid
+    // We need to call the updateGameState method once before subscribing to avoid
     // NullPointerExceptions with the grid caused by race conditions.
     try {
       this.updateGameState();
@@ -173,48 +246,64 @@ public class BoardModel {
       this.gameInProgress = false;
       return;
     }
-    Thread thread = new Thread(() -> {
-      while (this.gameInProgress) {
-        synchronized (this.lock) {
-          try {
-            // Get the latest game session response from the server.
-            GameSessionResponse oldGameSessionResponse = this.gameSessionResponse;
-            this.gameSessionResponse = this.API.getGameSession(this.gameSessionID);
-
-            if (this.useGameTimeLimit) {
-              int oldRemainingGameTime = oldGameSessionResponse == null ? -1 : oldGameSessionResponse.getRemainingGameTimeInSeconds();
-              this.support.firePropertyChange("remainingGameTime", oldRemainingGameTime, this.gameSessionResponse.getRemainingGameTimeInSeconds());
-            }
-            if (this.useMoveTimeLimit) {
-              int oldRemainingMoveTime = oldGameSessionResponse == null ? -1 : oldGameSessionResponse.getRemainingMoveTimeInSeconds();
-              this.support.firePropertyChange("remainingMoveTime", oldRemainingMoveTime, this.gameSessionResponse.getRemainingMoveTimeInSeconds());
+    synchronized (this.lock) {
+      // Spectators have no team of their own, whose turn would make the poller slow down.
+      this.subscription = SessionPoller.subscribe(this.API, this.gameSessionID,
+          this.teamSecret == null ? null : this.teamID, new SessionPoller.Listener() {
+            @Override
+            public void update(GameSessionResponse response, GameState state) {
+              BoardModel.this.update(response, state);
             }
 
-            // Check if the game is over.
-            if (this.gameSessionResponse.isGameOver()) {
-              this.support.firePropertyChange("winner", null,
-                  this.gameSessionResponse.getWinner());
-              this.gameInProgress = false;
-              break;
-            }
-            // Only update the game state if it has changed.
-            // TODO: Change grid check to comparing the last move once the server sends the last move.
-            // The server currently does not update the last move after a piece has been captured.
-            GameState newGameState = this.API.getGameState(this.gameSessionID);
-            if (this.gameState == null || !Arrays.deepEquals(this.gameState.getGrid(),
-                newGameState.getGrid())) {
-              this.updateGameState();
+            @Override
+            public void failed(Throwable error) {
+              // The game session can not be updated anymore, e.g. because it was deleted.
+              synchronized (BoardModel.this.lock) {
+                BoardModel.this.subscription.close();
+              }
             }
+          });
+    }
+  }
 
-            this.lock.wait(1000);
-          } catch (IOException | InterruptedException | GameSessionNotFound e) {
-            break;
-          }
-        }
+  /**
+   * Updates the model with the latest game session response and game state from the server.
+   *
+   * @param response     The latest game session response.
+   * @param newGameState The latest game state.
+   */
+  private void update(GameSessionResponse response, GameState newGameState) {
+    synchronized (this.lock) {
+      if (!this.gameInProgress) {
+        return;
+      }
+      GameSessionResponse oldGameSessionResponse = this.gameSessionResponse;
+      this.gameSessionResponse = response;
+
+      if (this.useGameTimeLimit) {
+        int oldRemainingGameTime = oldGameSessionResponse == null ? -1 : oldGameSessionResponse.getRemainingGameTimeInSeconds();
+        this.support.firePropertyChange("remainingGameTime", oldRemainingGameTime, this.gameSessionResponse.getRemainingGameTimeInSeconds());
+      }
+      if (this.useMoveTimeLimit) {
+        int oldRemainingMoveTime = oldGameSessionResponse == null ? -1 : oldGameSessionResponse.getRemainingMoveTimeInSeconds();
+        this.support.firePropertyChange("remainingMoveTime", oldRemainingMoveTime, this.gameSessionResponse.getRemainingMoveTimeInSeconds());
       }
-    });
-    thread.setDaemon(true);
-    thread.start();
+
+      // Check if the game is over.
+      if (this.gameSessionResponse.isGameOver()) {
+        this.support.firePropertyChange("winner", null,
+            this.gameSessionResponse.getWinner());
+        this.gameInProgress = false;
+        this.subscription.close();
+        this.support.firePropertyChange("gameInProgress", true, false);
+      } else {
+        // Only the changes to the previous game state are applied and announced.
+        this.updateGameState(newGameState);
+      }
+
+      // Notify the threads waiting for their turn, e.g. the bots.
+      this.lock.notifyAll();
+    }
   }
 
   /**
@@ -251,64 +340,104 @@ public class BoardModel {
    * @throws GameSessionNotFound  If the game session could not be found by the server.
    */
   public void updateGameState() throws IOException, InterruptedException, GameSessionNotFound {
+    this.updateGameState(this.API.getGameState(this.gameSessionID));
+  }
+
+  /**
+   * Updates the board model with a game state already received from the server. A new grid is
+   * only allocated if the board changed and is published once it is complete, the grids published
+   * before are never written again, so readers without the lock can keep them. The index of the
+   * pieces is updated in place. Besides the whole game state, the listeners are told which squares
+   * changed, which pieces were removed and whether the turn changed.
+   *
+   * @param newGameState The latest game state.
+   */
+  private void updateGameState(GameState newGameState) {
 
     //System.out.println("Updating game state");
     GameState oldGameState = this.gameState;
-    this.gameState = this.API.getGameState(this.gameSessionID);
+    this.gameState = newGameState;
 
     String[][] grid = this.gameState.getGrid();
     int gridHeight = grid.length;
     int gridWidth = grid[0].length;
     //this.upsideDown = this.calculateUpsideDown();
 
-    // Rotate the board 180 degrees if the player is on the upper side of the board.
-    if (this.upsideDown) {
-      String[][] upsideDownGrid = new String[gridHeight][gridWidth];
+    // Compare the new grid with the current grid square by square. The board is rotated 180 degrees
+    // if the player is on the upper side of the board.
+    String[][] current = this.grid;
+    List<int[]> changedSquares = null;
+    if (current != null && current.length == gridHeight && current[0].length == gridWidth) {
+      changedSquares = new ArrayList<>();
       for (int i = 0; i < gridHeight; i++) {
+        String[] newRow = this.upsideDown ? grid[gridHeight - i - 1] : grid[i];
         for (int j = 0; j < gridWidth; j++) {
-          upsideDownGrid[i][j] = grid[gridHeight - i - 1][gridWidth - j - 1];
+          String square = newRow[this.upsideDown ? gridWidth - j - 1 : j];
+          // The cells of the game states are mostly interned, so equal squares are usually identical.
+          if (current[i][j] != square && !square.equals(current[i][j])) {
+            changedSquares.add(new int[]{i, j});
+          }
         }
       }
-      grid = upsideDownGrid;
     }
-    this.grid = grid;
+    // An unchanged board keeps its grid, a changed board gets a new one.
+    if (changedSquares == null || !changedSquares.isEmpty()) {
+      String[][] next = new String[gridHeight][gridWidth];
+      for (int i = 0; i < gridHeight; i++) {
+        String[] newRow = this.upsideDown ? grid[gridHeight - i - 1] : grid[i];
+        for (int j = 0; j < gridWidth; j++) {
+          next[i][j] = newRow[this.upsideDown ? gridWidth - j - 1 : j];
+        }
+      }
+      this.grid = next;
+    }
 
-    this.pieceByID = new HashMap<>();
+    // Update the index of the pieces with the pieces of the new game state and remove the pieces
+    // that are not on the board anymore.
+    Set<String> removedPieces = new HashSet<>(this.pieceByID.keySet());
     for (Team team : this.gameState.getTeams()) {
       if (team != null) {
         for (Piece piece : team.getPieces()) {
           if (piece
               != null) { // Bandaid fix for wrong null value in gameState. Needs to be fixed in the server-module @jannis.
-            pieceByID.put("p:" + piece.getTeamId() + "_" + piece.getId(), piece);
+            String pieceID = "p:" + piece.getTeamId() + "_" + piece.getId();
+            this.pieceByID.put(pieceID, piece);
+            removedPieces.remove(pieceID);
           }
         }
       }
     }
+    this.pieceByID.keySet().removeAll(removedPieces);
 
-    this.support.firePropertyChange("gameState", oldGameState, this.gameState);
+    if (changedSquares == null || !changedSquares.isEmpty() || !removedPieces.isEmpty()) {
+      this.support.firePropertyChange("gameState", oldGameState, this.gameState);
+    }
+    if (changedSquares != null && !changedSquares.isEmpty()) {
+      this.support.firePropertyChange("cellsChanged", null, changedSquares);
+    }
+    if (!removedPieces.isEmpty()) {
+      this.support.firePropertyChange("piecesRemoved", null, removedPieces);
+    }
 
     // Can be null in the beginning
     if (oldGameState != null) {
 
+      if (oldGameState.getCurrentTeam() != this.gameState.getCurrentTeam()) {
+        this.support.firePropertyChange("currentTeam", oldGameState.getCurrentTeam(),
+            this.gameState.getCurrentTeam());
+      }
+
+      String[] oldTeamNames = teamNames(oldGameState);
+      String[] newTeamNames = teamNames(this.gameState);
+
       // Check game over for own team in a multi-player game
-      if (Arrays.stream(oldGameState.getTeams()).filter(Objects::nonNull).map(Team::getId)
-          .anyMatch(teamID::equals) && Arrays.stream(this.gameState.getTeams())
-          .filter(Objects::nonNull).map(Team::getId).noneMatch(teamID::equals)) {
+      if (Arrays.asList(oldTeamNames).contains(this.teamID) && !Arrays.asList(newTeamNames)
+          .contains(this.teamID)) {
         System.out.println("Own team lost");
         this.support.firePropertyChange("ownTeamLost", false, true);
       }
 
       // Notify observers if the team names have changed.
-      String[] oldTeamNames = Arrays.stream(oldGameState.getTeams())
-          .filter(Objects::nonNull)  // This will filter out null teams
-          .map(Team::getId)
-          .toArray(String[]::new);
-
-      String[] newTeamNames = Arrays.stream(this.gameState.getTeams())
-          .filter(Objects::nonNull)  // Add this line to filter out null teams
-          .map(Team::getId)
-          .toArray(String[]::new);
-
       if (!Arrays.equals(oldTeamNames, newTeamNames)) {
         this.support.firePropertyChange("teamNames", oldTeamNames, newTeamNames);
       }
@@ -316,6 +445,24 @@ public class BoardModel {
 
   }
 
+  /**
+   * Returns the IDs of the teams of a game state, without the teams that are null.
+   *
+   * @param gameState The game state.
+   * @return The IDs of the teams.
+   */
+  private static String[] teamNames(GameState gameState) {
+    Team[] teams = gameState.getTeams();
+    String[] teamNames = new String[teams.length];
+    int count = 0;
+    for (Team team : teams) {
+      if (team != null) {
+        teamNames[count++] = team.getId();
+      }
+    }
+    return count == teamNames.length ? teamNames : Arrays.copyOf(teamNames, count);
+  }
+
   /**
    * Deletes the game session from the server.
    */
@@ -330,14 +477,19 @@ public class BoardModel {
   }
 
   /**
-   * Stops the update thread that consistently checks for updates in the game state.
+   * Stops the updates of the game state.
    */
   public void stopUpdateThread() {
+    boolean wasInProgress = this.gameInProgress;
     this.gameInProgress = false;
-    // Notify the update thread that the game is over and the board model does not need to be updated anymore.
+    // Notify the waiting threads that the game is over and the board model is not updated anymore.
     synchronized (this.lock) {
-      this.lock.notify();
+      if (this.subscription != null) {
+        this.subscription.close();
+      }
+      this.lock.notifyAll();
     }
+    this.support.firePropertyChange("gameInProgress", wasInProgress, false);
   }
 
   /**
@@ -374,9 +526,9 @@ public class BoardModel {
 
     this.API.makeMove(this.gameSessionID, moveRequest);
 
-    // Notify the update thread that a move has been made and the board model needs to be updated with a new game state.
-    synchronized (this.lock) {
-      this.lock.notify();
+    // A move has been made and the board model needs to be updated with a new game state.
+    if (this.subscription != null) {
+      this.subscription.refresh();
     }
 
   }
@@ -581,11 +733,15 @@ public class BoardModel {
    * Adds a PropertyChangeListener to the BoardModel to listen for changes in the game state.
    * The following properties can be listened for:
    * - gameState: The game state has changed.
+   * - cellsChanged: Squares of the grid have changed, the new value is the list of their {row, column}.
+   * - piecesRemoved: Pieces have been removed from the board, the new value is the set of their IDs.
+   * - currentTeam: The turn has passed to another team, the values are the team numbers.
    * - teamNames: The team names have changed.
    * - winner: The game has ended and a winner has been determined.
    * - ownTeamLost: The own team has lost the game.
    * - remainingGameTime: The remaining game time has changed.
    * - remainingMoveTime: The remaining move time has changed.
+   * - gameInProgress: The game is over or the model is not updated anymore.
    * @param listener The PropertyChangeListener to add.
    */
   public void addPropertyChangeListener(PropertyChangeListener listener) {
@@ -616,7 +772,9 @@ public class BoardModel {
   }
 
   /**
-   * Returns the current oriented grid.
+   * Returns the current oriented grid. The arrays are complete and never changed afterwards, a
+   * change of the board publishes a new grid, so callers may keep them without copying but must not
+   * write to them.
    *
    * @return The current oriented grid.
    */
@@ -679,7 +837,7 @@ public class BoardModel {
   }
 
   /**
-   * Returns the lock Object used to notify the update Thread when e.g. a move has been made.
+   * Returns the lock Object guarding the updates of the model, which is notified after every update.
    * @return The lock Object.
    */
   public Object getLock() {
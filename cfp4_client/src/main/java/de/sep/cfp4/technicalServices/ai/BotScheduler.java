@@ -0,0 +1,192 @@
+package de.sep.cfp4.technicalServices.ai;
+
+import de.sep.cfp4.application.exceptions.TooManyRequests;
+import de.sep.cfp4.application.model.BoardModel;
+import de.unimannheim.swt.pse.ctf.game.exceptions.GameOver;
+import de.unimannheim.swt.pse.ctf.game.exceptions.GameSessionNotFound;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Plays the turns of the bots when their board models announce that it is their turn. The turns of
+ * all bots are played on one shared pool of threads (the system property cfp.bots.threads, by
+ * default the number of processors), a bot waiting for its turn does not occupy a thread at all.
+ * A failed turn is tried again with a growing delay, a bot stops playing after four failed turns
+ * in a row. A turn throttled by the server is tried again after the time the server
+ * asked for.
+ *
+ * @version 0.0.1
+ */
+public final class BotScheduler {
+
+  // The time after which a failed turn is tried again the first time, doubled with every further try.
+  private static final long RETRY_MILLIS = 500;
+  // The longest time waited before a failed turn is tried again.
+  private static final long MAX_RETRY_MILLIS = 30000;
+  // The number of failed turns in a row after which a bot stops playing.
+  private static final int MAX_ATTEMPTS = 4;
+
+  private static final ScheduledExecutorService EXECUTOR = newExecutor();
+
+  /**
+   * A turn of a bot, choosing and making its move on the board model.
+   */
+  @FunctionalInterface
+  public interface Turn {
+
+    /**
+     * Chooses and makes the next move of the bot.
+     *
+     * @throws Exception If the move could not be made, the turn is tried again later unless it
+     *                   failed too often in a row.
+     */
+    void play() throws Exception;
+  }
+
+  private BotScheduler() {
+  }
+
+  /**
+   * Plays the turns of a bot on the board model until the game is over. Returns at once, the first
+   * turn is played right away if it is the turn of the bot already. Nothing is scheduled if the
+   * board model is not updated anymore.
+   *
+   * @param board The board model of the bot.
+   * @param turn  The turn of the bot.
+   */
+  public static void schedule(BoardModel board, Turn turn) {
+    if (!board.isGameInProgress()) {
+      return;
+    }
+    ScheduledBot bot = new ScheduledBot(board, turn);
+    board.addPropertyChangeListener(bot);
+    bot.check();
+  }
+
+  /**
+   * Blocks until the game of the board model is over, for running a bot from a main method, which
+   * would otherwise end before the bot has played.
+   *
+   * @param board The board model of the bot.
+   * @throws InterruptedException If the thread is interrupted while waiting.
+   */
+  public static void awaitGameOver(BoardModel board) throws InterruptedException {
+    synchronized (board.getLock()) {
+      while (board.isGameInProgress()) {
+        board.getLock().wait();
+      }
+    }
+  }
+
+  /**
+   * A bot waiting for its turns.
+   */
+  private static final class ScheduledBot implements PropertyChangeListener {
+
+    private final BoardModel board;
+    private final Turn turn;
+    // Whether a turn of the bot is waiting to be played or being played.
+    private final AtomicBoolean playing = new AtomicBoolean();
+    // Whether the turn of the bot was announced while a turn was being played.
+    private final AtomicBoolean missed = new AtomicBoolean();
+    // The number of failed turns in a row, only used by the turn being played.
+    private int failures;
+
+    ScheduledBot(BoardModel board, Turn turn) {
+      this.board = board;
+      this.turn = turn;
+    }
+
+    @Override
+    public void propertyChange(PropertyChangeEvent evt) {
+      switch (evt.getPropertyName()) {
+        // Only announced when the board really changed, so the board models update after a move
+        // of the bot, which still show its turn, do not start another turn.
+        case "gameState", "currentTeam" -> this.check();
+        case "gameInProgress" -> this.board.removePropertyChangeListener(this);
+        default -> {
+        }
+      }
+    }
+
+    /**
+     * Plays a turn if it is the turn of the bot, or after the turn being played.
+     */
+    void check() {
+      if (!this.isTurn()) {
+        return;
+      }
+      if (this.playing.compareAndSet(false, true)) {
+        EXECUTOR.execute(this::play);
+      } else {
+        // e.g. the other team moved before the last turn had returned
+        this.missed.set(true);
+      }
+    }
+
+    private boolean isTurn() {
+      return this.board.isGameInProgress()
+          && this.board.getCurrentTeam() == this.board.getTeamNumberByID(this.board.getTeamID());
+    }
+
+    private void play() {
+      long retryMillis;
+      try {
+        if (this.isTurn()) {
+          this.turn.play();
+        }
+        this.failures = 0;
+        retryMillis = -1;
+      } catch (GameOver | GameSessionNotFound e) {
+        this.stop();
+        return;
+      } catch (TooManyRequests e) {
+        // Not a failure of the bot, the server tells when to try again.
+        retryMillis = e.getRetryAfterMillis() > 0 ? e.getRetryAfterMillis() : RETRY_MILLIS;
+      } catch (Exception e) {
+        if (++this.failures >= MAX_ATTEMPTS) {
+          System.err.println("Bot " + this.board.getTeamID() + " stops after " + this.failures
+              + " failed turns: " + e);
+          this.stop();
+          return;
+        }
+        retryMillis = Math.min(RETRY_MILLIS << (this.failures - 1), MAX_RETRY_MILLIS);
+      }
+      if (retryMillis >= 0) {
+        // The bot keeps playing until the retry, so that announcements of its turn in between do not
+        // play the turn earlier.
+        this.missed.set(false);
+        EXECUTOR.schedule(this::play, retryMillis, TimeUnit.MILLISECONDS);
+        return;
+      }
+      this.playing.set(false);
+      if (this.missed.getAndSet(false)) {
+        this.check();
+      }
+    }
+
+    // The bot stays playing, so that an announcement of its turn arriving late does not play again.
+    private void stop() {
+      this.board.removePropertyChangeListener(this);
+    }
+  }
+
+  private static ScheduledExecutorService newExecutor() {
+    AtomicInteger count = new AtomicInteger();
+    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
+        Integer.getInteger("cfp.bots.threads", Runtime.getRuntime().availableProcessors()),
+        runnable -> {
+          // Daemon threads, so that the bots do not keep the client running after the GUI was closed.
+          Thread thread = new Thread(runnable, "cfp-bot-" + count.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+    executor.setRemoveOnCancelPolicy(true);
+    return executor;
+  }
+}
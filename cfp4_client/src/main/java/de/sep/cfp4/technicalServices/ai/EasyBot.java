@@ -38,39 +38,36 @@ public class EasyBot implements AIBot{
 
     /**
      * Starts the AI-Client, triggers getNextMove() when it's the turn of the AI-Client and sends the MoveRequest.
+     * Returns at once, the turns are played by the {@link BotScheduler} when the board model announces them.
      *
      */
     public void startClient(){
-        while (this.board.isGameInProgress()) {
+        BotScheduler.schedule(this.board, () -> {
             synchronized (this.board.getLock()) {
-                if(this.board.getCurrentTeam() == this.board.getTeamNumberByID(teamID)){
-                   try {
-                       // Get next move and the corresponding piece coordinates
-                       nextMove = getNextMove();
-                       int pieceRow = 0;
-                       int pieceColumn = 0;
-                       for (int x = 0; x < board.getGrid().length; x++) {
-                           for (int y = 0; y < board.getGrid()[x].length; y++) {
-                               if (board.getGrid()[x][y].equals(
-                                   "p:" + teamID + "_" + nextMove.getPieceId())) {
-                                   pieceRow = x;
-                                   pieceColumn = y;
-                               }
-                           }
-                       }
+                try {
+                    // Get next move and the corresponding piece coordinates
+                    nextMove = getNextMove();
+                    int pieceRow = 0;
+                    int pieceColumn = 0;
+                    for (int x = 0; x < board.getGrid().length; x++) {
+                        for (int y = 0; y < board.getGrid()[x].length; y++) {
+                            if (board.getGrid()[x][y].equals(
+                                "p:" + teamID + "_" + nextMove.getPieceId())) {
+                                pieceRow = x;
+                                pieceColumn = y;
+                            }
+                        }
+                    }
 
-                       // Make move request
-                       board.makeMove(pieceRow, pieceColumn, nextMove.getNewPosition()[0],
-                           nextMove.getNewPosition()[1]);
-                       this.board.getLock().wait(1000);
-                   } catch (InvalidMove e) {
-                        System.out.println("EasyBot made an invalid move.");
-                   } catch (IOException | InterruptedException e) {
-                       throw new RuntimeException(e);
-                   }
+                    // Make move request
+                    board.makeMove(pieceRow, pieceColumn, nextMove.getNewPosition()[0],
+                        nextMove.getNewPosition()[1]);
+                } catch (InvalidMove e) {
+                    System.out.println("EasyBot made an invalid move.");
+                    throw e;
                 }
             }
-        }
+        });
     }
 
     /**
@@ -117,7 +114,7 @@ public class EasyBot implements AIBot{
         // Every piece has to be checked concerning its valid moves
         for(int x = 0; x < board.getGrid().length; x++){
             for(int y = 0; y < board.getGrid()[x].length; y++) {
-                if(board.getGrid()[x][y].startsWith("p:" + teamID)) {
+                if(board.getGrid()[x][y].startsWith("p:" + teamID + "_")) {
                     // Get all possible moves of the Piece p
                     reachableSquares = board.getReachableSquares(x, y);
                     for (int row = 0; row < reachableSquares.length; row++) {
@@ -159,6 +156,7 @@ public class EasyBot implements AIBot{
             BoardModel boardModel = new BoardModel(serverURL, gameSessionID, team);
 
             EasyBot easy = new EasyBot(boardModel);
+            BotScheduler.awaitGameOver(boardModel);
         } catch (IOException | InterruptedException | GameSessionNotFound | NoMoreTeamSlots e) {
             e.printStackTrace();
         }
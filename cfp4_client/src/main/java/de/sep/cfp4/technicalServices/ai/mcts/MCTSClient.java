@@ -4,6 +4,7 @@ import ai.djl.ndarray.NDManager;
 import ai.djl.ndarray.types.DataType;
 import ai.djl.ndarray.types.Shape;
 import de.sep.cfp4.application.model.BoardModel;
+import de.sep.cfp4.technicalServices.ai.BotScheduler;
 import de.unimannheim.swt.pse.ctf.game.state.Team;
 
 import java.io.IOException;
@@ -69,34 +70,13 @@ public class MCTSClient {
     }
 
     /**
-     * This method is used to start the Monte Carlo Tree Search (MCTS) AI.
+     * This method is used to start the Monte Carlo Tree Search (MCTS) AI. Returns at once, the best
+     * move is searched by the {@link BotScheduler} whenever the board model announces the turn of
+     * the team.
      */
     public void start() {
         System.out.println("Starting MCTS AI");
-        while (this.boardModel.isGameInProgress()) {
-            int teamNumber = this.boardModel.getTeamNumberByID(this.teamID);
-            if (this.boardModel.getGameState().getCurrentTeam() == teamNumber) {
-                makeBestMove();
-                // Wait for the next turn
-                try {
-                    synchronized (this) {
-                        wait(1000);
-                    }
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException("Thread was interrupted", e);
-                }
-            } else {
-                try {
-                    synchronized (this) {
-                        wait(1000);
-                    }
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException("Thread was interrupted", e);
-                }
-            }
-        }
+        BotScheduler.schedule(this.boardModel, this::makeBestMove);
     }
 
     /**
@@ -117,7 +97,13 @@ public class MCTSClient {
      * @return the initial state of the game
      */
     public String[][] getInitialState() {
-        return this.boardModel.getGrid();
+        // The grid of the board model is changed by its updates, the search works on a copy.
+        String[][] grid = this.boardModel.getGrid();
+        String[][] state = new String[grid.length][];
+        for (int i = 0; i < grid.length; i++) {
+            state[i] = grid[i].clone();
+        }
+        return state;
     }
 
     /**
@@ -569,5 +555,6 @@ public class MCTSClient {
         // Create a new instance of the MCTSClient
         BoardModel boardModel = new BoardModel(serverURL, gameSessionID, teamID);
         MCTSClient client = new MCTSClient(boardModel);
+        BotScheduler.awaitGameOver(boardModel);
     }
 }
@@ -10,110 +10,100 @@ import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
 import de.unimannheim.swt.pse.ctf.game.map.PieceDescription;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.lang.ref.SoftReference;
 import java.lang.reflect.Type;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javafx.scene.image.Image;
 import com.google.gson.Gson;
 
 
 public class ResourceController implements ResourceLoader {
 
-  // A map to cache the images, so we don't have to reload them from disk every time.
-  private final HashMap<String, Image> imageCache;
+  // The piece types with images in every board theme, besides the blocks and bases.
+  private static final String[] PIECE_TYPES = {"Pawn", "Rook", "Knight", "Bishop", "Queen", "King", "Unknown"};
+  // Size the images are decoded to.
+  private static final int IMAGE_SIZE = 100;
+  // Cached for images that do not exist, so the resources are not looked up again.
+  private static final SoftReference<Image> MISSING = new SoftReference<>(null);
+
+  // A map to cache the images, so we don't have to reload them from disk every time. The images are
+  // softly referenced, images that are not shown anymore, e.g. of other board themes, are removed
+  // by the garbage collector when memory gets low and loaded again when they are needed.
+  private final Map<ImageKey, SoftReference<Image>> imageCache = new ConcurrentHashMap<>();
+  // The piece types of stored pieces with the piece types whose images they use.
+  private final Map<String, String> imageTypes = new ConcurrentHashMap<>();
   private final Collection<PieceDescription> pieces;
 
   private final String PREDEFINED_PIECES_PATH = "pieces/predefinedPieces.json";
 
-  public ResourceController() {
-    // Initialize the HashMap on creation of the ResourceController.
-    imageCache = new HashMap<>();
-    pieces = loadPieces(PREDEFINED_PIECES_PATH);
-    // Preload all piece images into the cache.
-    preloadImages();
-  }
-
-  // This method loads all necessary images into the cache.
-  private void preloadImages() {
-    // Define the team numbers.
-    int[] teamNumbers = {0, 1, 2, 3};
-    String imageKey;
-
-    // Define the PieceTypes of pieces available.
-    String[] PieceTypes = {"Pawn", "Rook", "Knight", "Bishop", "Queen", "King", "Unknown", "Base"};
+  /**
+   * Key of an image in the cache.
+   *
+   * @param boardTheme The board theme of the image.
+   * @param type The piece type, "Base" or "Block".
+   * @param teamNumber The team number, always 0 for blocks.
+   */
+  private record ImageKey(BoardTheme boardTheme, String type, int teamNumber) {}
 
-    // Iterate over all board themes to load Piece images for each theme.
-    for (BoardTheme boardTheme : BoardTheme.values()) {
+  /**
+   * An image loaded by the ResourceController, knowing its key in the cache.
+   */
+  private static final class PieceImage extends Image {
 
-      //Load the Block Images. Key can only be constructed with teamNumber, so 0 is choosen.
-      imageKey = constructImageKey(boardTheme, "Block", 0);
-      try {
-        // Load the image from the resources folder.
-        Image originalImage = new Image(
-            Launcher.class.getResource("BoardThemes/" + boardTheme.name() + "/Block/Block.png")
-                .toExternalForm());
-        // Resize the image to 100x100 pixels.
-        Image resizedImage = resizeImageTo100x100(originalImage);
-        // Add the resized image to the cache.
-        imageCache.put(imageKey, resizedImage);
-      } catch (NullPointerException e) {
-        // Log an error if the image file is not found.
-        System.err.println("Image not found for: " + imageKey);
-      }
+    private final ImageKey key;
 
-      // Iterate over all PieceTypes of pieces.
-      for (String PieceType : PieceTypes) {
-        // Iterate over all team numbers.
-        for (int teamNumber : teamNumbers) {
-          // Construct a unique key for each image to be used in the map.
-          imageKey = constructImageKey(boardTheme, PieceType, teamNumber);
-          try {
-            // Load the image from the resources folder.
-            Image originalImage = new Image(Launcher.class.getResource(
-                "BoardThemes/" + boardTheme.name() + "/" + PieceType + "/" + PieceType + "_"
-                    + teamNumber + ".png").toExternalForm());
-            // Resize the image to 100x100 pixels.
-            Image resizedImage = resizeImageTo100x100(originalImage);
-            // Add the resized image to the cache.
-            imageCache.put(imageKey, resizedImage);
-          } catch (NullPointerException e) {
-            // Log an error if the image file is not found.
-            System.err.println("Image not found for: " + imageKey);
-          }
-        }
-      }
+    PieceImage(ImageKey key, String url) {
+      // Decoded directly at the size of the board squares, in the background.
+      super(url, IMAGE_SIZE, IMAGE_SIZE, false, true, true);
+      this.key = key;
     }
   }
 
-  // Resize a given image to 100x100 pixels.
-  private Image resizeImageTo100x100(Image originalImage) {
-    // Set preserveRatio to false to force a 100x100 size regardless of original aspect ratio.
-    // Set smooth to true for better image quality.
-    // The constructor does not use a higher quality filtering algorithm to improve performance.
-    Image resizedImage = new Image(originalImage.getUrl(), 100, 100, false, true, false);
-    return resizedImage;
+  public ResourceController() {
+    pieces = loadPieces(PREDEFINED_PIECES_PATH);
   }
 
-  // Construct a unique key based on the Board theme, piece type and team number.
-  private String constructImageKey(BoardTheme boardTheme, String Type, int teamNumber) {
-    return boardTheme.name()+ "_" + Type + "_" + teamNumber;
+  /**
+   * Returns the image for the key from the cache. Images that are not cached yet are loaded in the
+   * background by JavaFX, the returned image is shown as soon as it is loaded.
+   *
+   * @param key The key of the image.
+   * @return The image, or null if there is no image for the key.
+   */
+  private Image loadImage(ImageKey key) {
+    SoftReference<Image> reference = imageCache.get(key);
+    Image image = reference == null ? null : reference.get();
+    if (image == null && reference != MISSING) {
+      String path = "BoardThemes/" + key.boardTheme().name() + "/" + key.type() + "/" + key.type()
+          + (key.type().equals("Block") ? "" : "_" + key.teamNumber()) + ".png";
+      URL url = Launcher.class.getResource(path);
+      if (url == null) {
+        // Log an error if the image file is not found.
+        System.err.println("Image not found for: " + key);
+        imageCache.put(key, MISSING);
+        return null;
+      }
+      image = new PieceImage(key, url.toExternalForm());
+      imageCache.put(key, new SoftReference<>(image));
+    }
+    return image;
   }
 
   // Retrieve a piece image from the cache based on the piece type and team number.
   public Image getImage(BoardTheme boardTheme, String Type, int teamNumber) {
-    // Construct the key to search in the map.
-    String key = constructImageKey(boardTheme, Type, teamNumber);
-    // Retrieve the image from the map.
-    Image icon = imageCache.get(key);
+    Image icon = loadImage(new ImageKey(boardTheme, imageTypes.getOrDefault(Type, Type),
+        Type.equals("Block") ? 0 : teamNumber));
     if (icon != null) {
       // Return the image if found.
       return icon;
     } else {
       // Return a default image for unknown piece PieceTypes.
-      return imageCache.get(constructImageKey(boardTheme, "Unknown", teamNumber));
+      return loadImage(new ImageKey(boardTheme, "Unknown", teamNumber));
     }
   }
 
@@ -169,35 +159,36 @@ public class ResourceController implements ResourceLoader {
   }
 
   /**
-   * Returns a collection of all images loaded.
+   * Returns a collection of the piece images of all board themes for the first team.
    *
-   * @return A collection of all images loaded.
+   * @return A collection of the piece images.
    */
   public Collection<Image> getAllImages() {
-    return imageCache.entrySet().stream()
-        .filter(entry -> entry.getKey().endsWith("_0") && !entry.getKey().contains("_Block_") && !entry.getKey().contains("_Base_"))
-        .map(Map.Entry::getValue)
-        .toList();
+    List<Image> images = new ArrayList<>();
+    for (BoardTheme boardTheme : BoardTheme.values()) {
+      for (String type : PIECE_TYPES) {
+        Image image = loadImage(new ImageKey(boardTheme, type, 0));
+        if (image != null) {
+          images.add(image);
+        }
+      }
+    }
+    return images;
   }
 
   /**
-   * Adds a new Image to the cache with the specified key.
+   * Uses the images of the piece type of the given image for a new piece type, in all board themes
+   * and for all teams.
    *
-   * @param key   The key for the image to be stored.
-   * @param image The Image object to store.
+   * @param key   The piece type using the images.
+   * @param image An image of the piece type whose images are used.
    * @author dcebulla
    */
   public void storeImage(String key, Image image) {
-    String imageKey = imageCache.entrySet().stream()
-        .filter(entry -> entry.getValue().equals(image))
-        .map(e -> e.getKey().substring(0, e.getKey().length() - 1))
-        .findFirst()
-        .get();
-
-    for(BoardTheme theme : BoardTheme.values()) {
-      for (int i = 0; i < 4; i++) {
-        imageCache.put(constructImageKey(theme, key, i), imageCache.get(imageKey + i));
-      }
+    if (image instanceof PieceImage pieceImage) {
+      imageTypes.put(key, pieceImage.key.type());
+    } else {
+      System.err.println("Image of piece type " + key + " not found");
     }
   }
 
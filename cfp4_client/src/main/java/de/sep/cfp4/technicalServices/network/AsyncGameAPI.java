@@ -0,0 +1,30 @@
+package de.sep.cfp4.technicalServices.network;
+
+import de.unimannheim.swt.pse.ctf.controller.data.GameSessionResponse;
+import de.unimannheim.swt.pse.ctf.controller.data.GiveupRequest;
+import de.unimannheim.swt.pse.ctf.controller.data.JoinGameRequest;
+import de.unimannheim.swt.pse.ctf.controller.data.JoinGameResponse;
+import de.unimannheim.swt.pse.ctf.controller.data.MoveRequest;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.game.state.GameState;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous variant of the {@link GameAPI}. The calls return immediately, and the futures
+ * complete with the result or exceptionally with the exception the synchronous call would throw
+ * (e.g. {@link de.unimannheim.swt.pse.ctf.game.exceptions.GameSessionNotFound} or an
+ * {@link java.io.IOException}).
+ *
+ * @version 0.0.1
+ */
+public interface AsyncGameAPI extends GameAPI {
+
+  CompletableFuture<GameSessionResponse> createGameSessionAsync(MapTemplate template);
+  CompletableFuture<GameSessionResponse> getGameSessionAsync(String sessionId);
+  CompletableFuture<GameState> getGameStateAsync(String sessionId);
+  CompletableFuture<Void> deleteGameSessionAsync(String sessionId);
+  CompletableFuture<Void> makeMoveAsync(String sessionId, MoveRequest moveRequest);
+  CompletableFuture<JoinGameResponse> joinGameAsync(String sessionId, JoinGameRequest joinGameRequest);
+  CompletableFuture<Void> giveUpAsync(String sessionId, GiveupRequest giveupRequest);
+
+}
@@ -1,6 +1,9 @@
 package de.sep.cfp4.technicalServices.network;
 
 import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonReader;
+import de.sep.cfp4.application.exceptions.TooManyRequests;
 import de.unimannheim.swt.pse.ctf.controller.data.GameSessionRequest;
 import de.unimannheim.swt.pse.ctf.controller.data.GameSessionResponse;
 import de.unimannheim.swt.pse.ctf.controller.data.GiveupRequest;
@@ -15,27 +18,67 @@ import de.unimannheim.swt.pse.ctf.game.exceptions.NoMoreTeamSlots;
 import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
 import de.unimannheim.swt.pse.ctf.game.state.GameState;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
 import java.net.http.HttpResponse.BodyHandlers;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * This class is used to represent a client for the frontend to communicate with the backend.
+ * All clients of the same server share one {@link HttpClient} from {@link HttpClients}, so that the
+ * requests reuse the open connections. Every call is also available asynchronously. Game states are
+ * read as a stream from the response with the adapters of {@link GameStateAdapters}.
  *
  * @author dcebulla
- * @version 0.0.3
+ * @version 0.0.4
  */
-public class GameClient implements GameAPI {
+public class GameClient implements AsyncGameAPI {
+
+  // shared by all clients, so that they share the interned cells and piece descriptions as well
+  private static final Gson GSON = GameStateAdapters.register(new GsonBuilder()).create();
+
+  // only successful responses are streamed, the body of the others is not needed
+  private static final BodyHandler<InputStream> STREAM = responseInfo ->
+      responseInfo.statusCode() == 200 ? BodySubscribers.ofInputStream()
+          : BodySubscribers.replacing(InputStream.nullInputStream());
 
   private final URI SERVER_URI;
   private final Gson gson;
+  private final HttpClient httpClient;
 
   public GameClient(URI serverUrl) {
+    this(serverUrl, HttpClients.forUri(serverUrl));
+  }
+
+  /**
+   * Creates a client sending its requests with the given {@link HttpClient}.
+   *
+   * @param serverUrl  the URL of the server
+   * @param httpClient the client used for all requests
+   */
+  public GameClient(URI serverUrl, HttpClient httpClient) {
     this.SERVER_URI = serverUrl;
-    this.gson = new Gson();
+    this.gson = GSON;
+    this.httpClient = httpClient;
+  }
+
+  /**
+   * Returns the URL of the server this client sends its requests to.
+   *
+   * @return the URL of the server
+   */
+  public URI getServerURI() {
+    return this.SERVER_URI;
   }
 
   /**
@@ -48,18 +91,27 @@ public class GameClient implements GameAPI {
    */
   public GameSessionResponse createGameSession(MapTemplate template)
       throws IOException, InterruptedException {
+    return this.gson.fromJson(this.makeRequest(this.createGameSessionRequest(template)).body(), GameSessionResponse.class);
+  }
+
+  @Override
+  public CompletableFuture<GameSessionResponse> createGameSessionAsync(MapTemplate template) {
+    return this.makeRequestAsync(this.createGameSessionRequest(template))
+        .thenApply(response -> this.gson.fromJson(response.body(), GameSessionResponse.class));
+  }
+
+  private HttpRequest createGameSessionRequest(MapTemplate template) {
     GameSessionRequest request = new GameSessionRequest();
     request.setTemplate(template);
 
     String jsonRequest = this.gson.toJson(request);
     System.out.println(jsonRequest);
 
-    HttpRequest httpRequest = HttpRequest.newBuilder()
+    return HttpRequest.newBuilder()
         .uri(this.SERVER_URI.resolve("/api/gamesession"))
         .header("Content-Type", "application/json")
         .POST(BodyPublishers.ofString(jsonRequest))
         .build();
-    return this.gson.fromJson(this.makeRequest(httpRequest).body(), GameSessionResponse.class);
   }
 
 
@@ -73,12 +125,21 @@ public class GameClient implements GameAPI {
    * @throws GameSessionNotFound if the game session with the given id does not exist
    */
   public GameSessionResponse getGameSession(String sessionId) throws IOException, InterruptedException, GameSessionNotFound {
-    HttpRequest httpRequest = HttpRequest.newBuilder()
+    return this.gson.fromJson(this.makeRequest(this.getGameSessionRequest(sessionId)).body(), GameSessionResponse.class);
+  }
+
+  @Override
+  public CompletableFuture<GameSessionResponse> getGameSessionAsync(String sessionId) {
+    return this.makeRequestAsync(this.getGameSessionRequest(sessionId))
+        .thenApply(response -> this.gson.fromJson(response.body(), GameSessionResponse.class));
+  }
+
+  private HttpRequest getGameSessionRequest(String sessionId) {
+    return HttpRequest.newBuilder()
         .uri(this.SERVER_URI.resolve("/api/gamesession/" + sessionId))
         .header("Content-Type", "application/json")
         .GET()
         .build();
-    return this.gson.fromJson(this.makeRequest(httpRequest).body(), GameSessionResponse.class);
   }
 
 
@@ -92,12 +153,45 @@ public class GameClient implements GameAPI {
    * @throws GameSessionNotFound if the game session with the given id does not exist
    */
   public GameState getGameState(String sessionId) throws IOException, InterruptedException, GameSessionNotFound {
-    HttpRequest httpRequest = HttpRequest.newBuilder()
+    return this.readGameState(checkResponse(this.httpClient.send(this.getGameStateRequest(sessionId), STREAM)));
+  }
+
+  @Override
+  public CompletableFuture<GameState> getGameStateAsync(String sessionId) {
+    // The stream is read on another thread than the ones of the HttpClient, which deliver its data.
+    return this.httpClient.sendAsync(this.getGameStateRequest(sessionId), STREAM)
+        .thenApply(GameClient::checkResponse)
+        .thenApplyAsync(response -> {
+          try {
+            return this.readGameState(response);
+          } catch (IOException e) {
+            throw new CompletionException(e);
+          }
+        });
+  }
+
+  /**
+   * Auxiliary method to read a game state from the body of a response as a stream.
+   *
+   * @param response the http response with the game state
+   * @return the game state
+   * @throws IOException if the body could not be read
+   */
+  private GameState readGameState(HttpResponse<InputStream> response) throws IOException {
+    try (JsonReader reader = new JsonReader(
+        new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+      return this.gson.getAdapter(GameState.class).read(reader);
+    } catch (IllegalStateException | NumberFormatException e) {
+      throw new IOException("Invalid game state", e);
+    }
+  }
+
+  private HttpRequest getGameStateRequest(String sessionId) {
+    return HttpRequest.newBuilder()
         .uri(this.SERVER_URI.resolve("/api/gamesession/" + sessionId + "/state"))
         .header("accept", "*/*")
         .GET()
         .build();
-    return this.gson.fromJson(this.makeRequest(httpRequest).body(), GameState.class);
   }
 
 
@@ -110,12 +204,20 @@ public class GameClient implements GameAPI {
    * @throws GameSessionNotFound if the game session with the given id does not exist
    */
   public void deleteGameSession(String sessionId) throws IOException, InterruptedException, GameSessionNotFound {
-    HttpRequest httpRequest = HttpRequest.newBuilder()
+    this.makeRequest(this.deleteGameSessionRequest(sessionId));
+  }
+
+  @Override
+  public CompletableFuture<Void> deleteGameSessionAsync(String sessionId) {
+    return this.makeRequestAsync(this.deleteGameSessionRequest(sessionId)).thenApply(response -> null);
+  }
+
+  private HttpRequest deleteGameSessionRequest(String sessionId) {
+    return HttpRequest.newBuilder()
         .uri(this.SERVER_URI.resolve("/api/gamesession/" + sessionId))
         .header("Content-Type", "application/json")
         .DELETE()
         .build();
-    this.makeRequest(httpRequest);
   }
 
 
@@ -132,12 +234,20 @@ public class GameClient implements GameAPI {
    * @throws GameOver if the game session has already ended
    */
   public void makeMove(String sessionId, MoveRequest moveRequest) throws IOException, InterruptedException,ForbiddenMove, GameSessionNotFound, InvalidMove, GameOver {
-    HttpRequest httpRequest = HttpRequest.newBuilder()
+    this.makeRequest(this.makeMoveRequest(sessionId, moveRequest));
+  }
+
+  @Override
+  public CompletableFuture<Void> makeMoveAsync(String sessionId, MoveRequest moveRequest) {
+    return this.makeRequestAsync(this.makeMoveRequest(sessionId, moveRequest)).thenApply(response -> null);
+  }
+
+  private HttpRequest makeMoveRequest(String sessionId, MoveRequest moveRequest) {
+    return HttpRequest.newBuilder()
         .uri(this.SERVER_URI.resolve("/api/gamesession/" + sessionId + "/move"))
         .header("Content-Type", "application/json")
         .POST(BodyPublishers.ofString(this.gson.toJson(moveRequest)))
         .build();
-    this.makeRequest(httpRequest);
   }
 
   /**
@@ -152,12 +262,21 @@ public class GameClient implements GameAPI {
    * @throws NoMoreTeamSlots if there are no more team slots available
    */
   public JoinGameResponse joinGame(String sessionId, JoinGameRequest joinGameRequest) throws IOException, InterruptedException, GameSessionNotFound, NoMoreTeamSlots {
-    HttpRequest httpRequest = HttpRequest.newBuilder()
+    return this.gson.fromJson(this.makeRequest(this.joinGameRequest(sessionId, joinGameRequest)).body(), JoinGameResponse.class);
+  }
+
+  @Override
+  public CompletableFuture<JoinGameResponse> joinGameAsync(String sessionId, JoinGameRequest joinGameRequest) {
+    return this.makeRequestAsync(this.joinGameRequest(sessionId, joinGameRequest))
+        .thenApply(response -> this.gson.fromJson(response.body(), JoinGameResponse.class));
+  }
+
+  private HttpRequest joinGameRequest(String sessionId, JoinGameRequest joinGameRequest) {
+    return HttpRequest.newBuilder()
         .uri(this.SERVER_URI.resolve("/api/gamesession/" + sessionId + "/join"))
         .header("Content-Type", "application/json")
         .POST(BodyPublishers.ofString(this.gson.toJson(joinGameRequest)))
         .build();
-    return this.gson.fromJson(this.makeRequest(httpRequest).body(), JoinGameResponse.class);
   }
 
 
@@ -173,12 +292,20 @@ public class GameClient implements GameAPI {
    * @throws GameOver if the game session has already ended
    */
   public void giveUp(String sessionId, GiveupRequest giveupRequest) throws IOException, InterruptedException, ForbiddenMove, GameSessionNotFound, GameOver {
-    HttpRequest httpRequest = HttpRequest.newBuilder()
+    this.makeRequest(this.giveUpRequest(sessionId, giveupRequest));
+  }
+
+  @Override
+  public CompletableFuture<Void> giveUpAsync(String sessionId, GiveupRequest giveupRequest) {
+    return this.makeRequestAsync(this.giveUpRequest(sessionId, giveupRequest)).thenApply(response -> null);
+  }
+
+  private HttpRequest giveUpRequest(String sessionId, GiveupRequest giveupRequest) {
+    return HttpRequest.newBuilder()
         .uri(this.SERVER_URI.resolve("/api/gamesession/" + sessionId + "/giveup"))
         .header("Content-Type", "application/json")
         .POST(BodyPublishers.ofString(this.gson.toJson(giveupRequest)))
         .build();
-    this.gson.fromJson(this.makeRequest(httpRequest).body(), JoinGameResponse.class);
   }
 
 
@@ -192,9 +319,27 @@ public class GameClient implements GameAPI {
    */
 
   public HttpResponse<String> makeRequest(HttpRequest request) throws IOException, InterruptedException {
-    HttpClient client = HttpClient.newHttpClient();
-    HttpResponse<String> response = client.send(request, BodyHandlers.ofString());
+    return checkResponse(this.httpClient.send(request, BodyHandlers.ofString()));
+  }
+
+  /**
+   * Auxiliary method to make an asynchronous http request to the server and handle the response.
+   *
+   * @param request the http request to send to the server
+   * @return the future of the http response, completed exceptionally with the same exceptions as
+   * {@link #makeRequest(HttpRequest)}
+   */
+  public CompletableFuture<HttpResponse<String>> makeRequestAsync(HttpRequest request) {
+    return this.httpClient.sendAsync(request, BodyHandlers.ofString()).thenApply(GameClient::checkResponse);
+  }
 
+  /**
+   * Auxiliary method to translate the status code of a response into the exceptions of the server.
+   *
+   * @param response the http response from the server
+   * @return the response if the request was successful
+   */
+  private static <T> HttpResponse<T> checkResponse(HttpResponse<T> response) {
     return switch (response.statusCode()) {
       case 200 -> {
         //System.out.println("Request successful");
@@ -217,6 +362,12 @@ public class GameClient implements GameAPI {
         throw new GameOver();
       }
       case 429 -> {
+        // The admission control of the server sends a Retry-After, a full game session does not.
+        Optional<String> retryAfter = response.headers().firstValue("Retry-After");
+        if (retryAfter.isPresent()) {
+          System.out.println("Too many requests");
+          throw new TooManyRequests(retryAfterMillis(retryAfter.get()));
+        }
         System.out.println("No more team slots available");
         throw new NoMoreTeamSlots();
       }
@@ -227,6 +378,21 @@ public class GameClient implements GameAPI {
 
   }
 
+  /**
+   * Auxiliary method to read the Retry-After header, which the server sends in seconds.
+   *
+   * @param retryAfter the value of the header
+   * @return the time until the request can be sent again in milliseconds, one second if the value
+   * is no number of seconds
+   */
+  private static long retryAfterMillis(String retryAfter) {
+    try {
+      return Math.max(0, Long.parseLong(retryAfter.trim())) * 1000;
+    } catch (NumberFormatException e) {
+      return 1000;
+    }
+  }
+
   /**
    * Method to test functionality of the client during development.
    */
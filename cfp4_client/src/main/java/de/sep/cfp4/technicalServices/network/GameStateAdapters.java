@@ -0,0 +1,566 @@
+package de.sep.cfp4.technicalServices.network;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import de.unimannheim.swt.pse.ctf.game.map.Directions;
+import de.unimannheim.swt.pse.ctf.game.map.Movement;
+import de.unimannheim.swt.pse.ctf.game.map.PieceDescription;
+import de.unimannheim.swt.pse.ctf.game.map.Shape;
+import de.unimannheim.swt.pse.ctf.game.map.ShapeType;
+import de.unimannheim.swt.pse.ctf.game.state.GameState;
+import de.unimannheim.swt.pse.ctf.game.state.Move;
+import de.unimannheim.swt.pse.ctf.game.state.Piece;
+import de.unimannheim.swt.pse.ctf.game.state.Team;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hand-written Gson {@link TypeAdapter}s for the {@link GameState} and its {@link Team}s,
+ * {@link Piece}s and {@link PieceDescription}s, which read the documents of the server as a stream
+ * instead of through reflection. The documents are read like the reflective adapters of Gson do:
+ * missing properties keep the values of the constructors and unknown ones (e.g. the
+ * directionsAsArray of the {@link Directions}) are skipped.
+ *
+ * <p>The strings of the grid and the IDs are interned in a small direct-mapped cache, so that the
+ * same cell of two polls is usually the same String instance, and equal piece descriptions are read
+ * as one shared instance, cleared once there are more than {@link #MAX_CACHED} of them. Both caches
+ * are shared by all clients. The shared descriptions must therefore not be changed by the callers.
+ *
+ * @version 0.0.1
+ */
+public final class GameStateAdapters {
+
+  static final int MAX_CACHED = 4096;
+
+  // a String of the cache may be replaced by another one with the same slot at any time, which
+  // only costs a duplicate, so the cache needs neither locks nor a bound
+  private static final String[] STRINGS = new String[4096];
+  private static final Map<Object, PieceDescription> DESCRIPTIONS = new ConcurrentHashMap<>();
+
+  private GameStateAdapters() {
+  }
+
+  /**
+   * Registers the adapters with a {@link GsonBuilder}.
+   *
+   * @param builder The builder of the Gson instance.
+   * @return The same builder.
+   */
+  public static GsonBuilder register(GsonBuilder builder) {
+    return builder
+        .registerTypeAdapter(GameState.class, new GameStateAdapter().nullSafe())
+        .registerTypeAdapter(Team.class, new TeamAdapter().nullSafe())
+        .registerTypeAdapter(Piece.class, new PieceAdapter().nullSafe())
+        .registerTypeAdapter(PieceDescription.class, new PieceDescriptionAdapter().nullSafe());
+  }
+
+  /**
+   * Returns the cached instance of a String equal to the given one, or caches the given one.
+   */
+  static String intern(String value) {
+    int slot = value.hashCode() & (STRINGS.length - 1);
+    String cached = STRINGS[slot];
+    if (value.equals(cached)) {
+      return cached;
+    }
+    STRINGS[slot] = value;
+    return value;
+  }
+
+  private static String nextString(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    return intern(in.nextString());
+  }
+
+  private static int[] nextIntArray(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    // the positions of the game state have two values
+    int[] values = new int[2];
+    int size = 0;
+    in.beginArray();
+    while (in.hasNext()) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = in.nextInt();
+    }
+    in.endArray();
+    return size == values.length ? values : Arrays.copyOf(values, size);
+  }
+
+  private static void writeIntArray(JsonWriter out, int[] values) throws IOException {
+    if (values == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginArray();
+    for (int value : values) {
+      out.value(value);
+    }
+    out.endArray();
+  }
+
+  private static class GameStateAdapter extends TypeAdapter<GameState> {
+
+    private final TeamAdapter teamAdapter = new TeamAdapter();
+
+    @Override
+    public GameState read(JsonReader in) throws IOException {
+      GameState state = new GameState();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "grid" -> state.setGrid(this.readGrid(in));
+          case "teams" -> state.setTeams(this.readTeams(in));
+          case "currentTeam" -> state.setCurrentTeam(in.nextInt());
+          case "lastMove" -> state.setLastMove(this.readMove(in));
+          default -> in.skipValue();
+        }
+      }
+      in.endObject();
+      return state;
+    }
+
+    private String[][] readGrid(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+      List<String[]> rows = new ArrayList<>();
+      List<String> row = new ArrayList<>();
+      in.beginArray();
+      while (in.hasNext()) {
+        if (in.peek() == JsonToken.NULL) {
+          in.nextNull();
+          rows.add(null);
+          continue;
+        }
+        row.clear();
+        in.beginArray();
+        while (in.hasNext()) {
+          row.add(nextString(in));
+        }
+        in.endArray();
+        rows.add(row.toArray(new String[0]));
+      }
+      in.endArray();
+      return rows.toArray(new String[0][]);
+    }
+
+    private Team[] readTeams(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+      List<Team> teams = new ArrayList<>();
+      in.beginArray();
+      while (in.hasNext()) {
+        if (in.peek() == JsonToken.NULL) {
+          in.nextNull();
+          teams.add(null);
+        } else {
+          teams.add(this.teamAdapter.read(in));
+        }
+      }
+      in.endArray();
+      return teams.toArray(new Team[0]);
+    }
+
+    private Move readMove(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+      Move move = new Move();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "pieceId" -> move.setPieceId(nextString(in));
+          case "teamId" -> move.setTeamId(nextString(in));
+          case "newPosition" -> move.setNewPosition(nextIntArray(in));
+          default -> in.skipValue();
+        }
+      }
+      in.endObject();
+      return move;
+    }
+
+    @Override
+    public void write(JsonWriter out, GameState state) throws IOException {
+      out.beginObject();
+      out.name("grid");
+      if (state.getGrid() == null) {
+        out.nullValue();
+      } else {
+        out.beginArray();
+        for (String[] row : state.getGrid()) {
+          if (row == null) {
+            out.nullValue();
+            continue;
+          }
+          out.beginArray();
+          for (String cell : row) {
+            out.value(cell);
+          }
+          out.endArray();
+        }
+        out.endArray();
+      }
+      out.name("teams");
+      if (state.getTeams() == null) {
+        out.nullValue();
+      } else {
+        out.beginArray();
+        for (Team team : state.getTeams()) {
+          if (team == null) {
+            out.nullValue();
+          } else {
+            this.teamAdapter.write(out, team);
+          }
+        }
+        out.endArray();
+      }
+      out.name("currentTeam").value(state.getCurrentTeam());
+      out.name("lastMove");
+      Move move = state.getLastMove();
+      if (move == null) {
+        out.nullValue();
+      } else {
+        out.beginObject();
+        out.name("pieceId").value(move.getPieceId());
+        out.name("teamId").value(move.getTeamId());
+        out.name("newPosition");
+        writeIntArray(out, move.getNewPosition());
+        out.endObject();
+      }
+      out.endObject();
+    }
+  }
+
+  private static class TeamAdapter extends TypeAdapter<Team> {
+
+    private final PieceAdapter pieceAdapter = new PieceAdapter();
+
+    @Override
+    public Team read(JsonReader in) throws IOException {
+      Team team = new Team();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "id" -> team.setId(nextString(in));
+          case "color" -> team.setColor(nextString(in));
+          case "base" -> team.setBase(nextIntArray(in));
+          case "flags" -> team.setFlags(in.nextInt());
+          case "pieces" -> team.setPieces(this.readPieces(in));
+          default -> in.skipValue();
+        }
+      }
+      in.endObject();
+      return team;
+    }
+
+    private Piece[] readPieces(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+      List<Piece> pieces = new ArrayList<>();
+      in.beginArray();
+      while (in.hasNext()) {
+        if (in.peek() == JsonToken.NULL) {
+          in.nextNull();
+          pieces.add(null);
+        } else {
+          pieces.add(this.pieceAdapter.read(in));
+        }
+      }
+      in.endArray();
+      return pieces.toArray(new Piece[0]);
+    }
+
+    @Override
+    public void write(JsonWriter out, Team team) throws IOException {
+      out.beginObject();
+      out.name("id").value(team.getId());
+      out.name("color").value(team.getColor());
+      out.name("base");
+      writeIntArray(out, team.getBase());
+      out.name("flags").value(team.getFlags());
+      out.name("pieces");
+      if (team.getPieces() == null) {
+        out.nullValue();
+      } else {
+        out.beginArray();
+        for (Piece piece : team.getPieces()) {
+          if (piece == null) {
+            out.nullValue();
+          } else {
+            this.pieceAdapter.write(out, piece);
+          }
+        }
+        out.endArray();
+      }
+      out.endObject();
+    }
+  }
+
+  private static class PieceAdapter extends TypeAdapter<Piece> {
+
+    private final PieceDescriptionAdapter descriptionAdapter = new PieceDescriptionAdapter();
+
+    @Override
+    public Piece read(JsonReader in) throws IOException {
+      Piece piece = new Piece();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "id" -> piece.setId(nextString(in));
+          case "teamId" -> piece.setTeamId(nextString(in));
+          case "description" -> {
+            if (in.peek() == JsonToken.NULL) {
+              in.nextNull();
+              piece.setDescription(null);
+            } else {
+              piece.setDescription(this.descriptionAdapter.read(in));
+            }
+          }
+          case "position" -> piece.setPosition(nextIntArray(in));
+          default -> in.skipValue();
+        }
+      }
+      in.endObject();
+      return piece;
+    }
+
+    @Override
+    public void write(JsonWriter out, Piece piece) throws IOException {
+      out.beginObject();
+      out.name("id").value(piece.getId());
+      out.name("teamId").value(piece.getTeamId());
+      out.name("description");
+      if (piece.getDescription() == null) {
+        out.nullValue();
+      } else {
+        this.descriptionAdapter.write(out, piece.getDescription());
+      }
+      out.name("position");
+      writeIntArray(out, piece.getPosition());
+      out.endObject();
+    }
+  }
+
+  private static class PieceDescriptionAdapter extends TypeAdapter<PieceDescription> {
+
+    private static final String[] DIRECTIONS =
+        {"left", "right", "up", "down", "upLeft", "upRight", "downLeft", "downRight"};
+
+    /**
+     * The values a piece description is read from, equal for equal descriptions.
+     */
+    private record Key(String type, int attackPower, int count, boolean movement, int[] directions,
+                       String shape) {
+
+      @Override
+      public boolean equals(Object o) {
+        return o instanceof Key key && this.attackPower == key.attackPower
+            && this.count == key.count && this.movement == key.movement
+            && Objects.equals(this.type, key.type) && Objects.equals(this.shape, key.shape)
+            && Arrays.equals(this.directions, key.directions);
+      }
+
+      @Override
+      public int hashCode() {
+        return Objects.hash(this.type, this.attackPower, this.count, this.shape)
+            * 31 + Arrays.hashCode(this.directions);
+      }
+    }
+
+    @Override
+    public PieceDescription read(JsonReader in) throws IOException {
+      String type = null;
+      int attackPower = 0;
+      int count = 0;
+      boolean movement = false;
+      int[] directions = null;
+      String shape = null;
+
+      in.beginObject();
+      while (in.hasNext()) {
+        String name = in.nextName();
+        if (in.peek() == JsonToken.NULL) {
+          in.nextNull();
+          continue;
+        }
+        switch (name) {
+          case "type" -> type = in.nextString();
+          case "attackPower" -> attackPower = in.nextInt();
+          case "count" -> count = in.nextInt();
+          case "movement" -> {
+            movement = true;
+            in.beginObject();
+            while (in.hasNext()) {
+              String movementName = in.nextName();
+              if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+              } else if (movementName.equals("directions")) {
+                directions = readDirections(in);
+              } else if (movementName.equals("shape")) {
+                shape = readShape(in);
+              } else {
+                in.skipValue();
+              }
+            }
+            in.endObject();
+          }
+          default -> in.skipValue();
+        }
+      }
+      in.endObject();
+
+      // equal descriptions, e.g. of all pawns of all teams, are read as one instance
+      Key key = new Key(type, attackPower, count, movement, directions, shape);
+      PieceDescription cached = DESCRIPTIONS.get(key);
+      if (cached != null) {
+        return cached;
+      }
+      if (DESCRIPTIONS.size() > MAX_CACHED) {
+        DESCRIPTIONS.clear();
+      }
+      PieceDescription description = create(type, attackPower, count, movement, directions, shape);
+      cached = DESCRIPTIONS.putIfAbsent(key, description);
+      return cached == null ? description : cached;
+    }
+
+    private static int[] readDirections(JsonReader in) throws IOException {
+      int[] directions = new int[DIRECTIONS.length];
+      in.beginObject();
+      while (in.hasNext()) {
+        int index = switch (in.nextName()) {
+          case "left" -> 0;
+          case "right" -> 1;
+          case "up" -> 2;
+          case "down" -> 3;
+          case "upLeft" -> 4;
+          case "upRight" -> 5;
+          case "downLeft" -> 6;
+          case "downRight" -> 7;
+          default -> -1;
+        };
+        if (index >= 0 && in.peek() != JsonToken.NULL) {
+          directions[index] = in.nextInt();
+        } else {
+          in.skipValue();
+        }
+      }
+      in.endObject();
+      return directions;
+    }
+
+    private static String readShape(JsonReader in) throws IOException {
+      String type = "";
+      in.beginObject();
+      while (in.hasNext()) {
+        if (in.nextName().equals("type") && in.peek() != JsonToken.NULL) {
+          type = in.nextString();
+        } else {
+          in.skipValue();
+        }
+      }
+      in.endObject();
+      return type;
+    }
+
+    private static PieceDescription create(String type, int attackPower, int count,
+        boolean hasMovement, int[] directionValues, String shapeType) {
+      PieceDescription description = new PieceDescription();
+      description.setType(type == null ? null : intern(type));
+      description.setAttackPower(attackPower);
+      description.setCount(count);
+      if (hasMovement) {
+        Movement movement = new Movement();
+        if (directionValues != null) {
+          Directions directions = new Directions();
+          directions.setLeft(directionValues[0]);
+          directions.setRight(directionValues[1]);
+          directions.setUp(directionValues[2]);
+          directions.setDown(directionValues[3]);
+          directions.setUpLeft(directionValues[4]);
+          directions.setUpRight(directionValues[5]);
+          directions.setDownLeft(directionValues[6]);
+          directions.setDownRight(directionValues[7]);
+          movement.setDirections(directions);
+        }
+        if (shapeType != null) {
+          Shape shape = new Shape();
+          // unknown shape types are read as null, as Gson does for enums
+          for (ShapeType value : ShapeType.values()) {
+            if (value.name().equals(shapeType)) {
+              shape.setType(value);
+            }
+          }
+          movement.setShape(shape);
+        }
+        description.setMovement(movement);
+      }
+      return description;
+    }
+
+    @Override
+    public void write(JsonWriter out, PieceDescription description) throws IOException {
+      out.beginObject();
+      out.name("type").value(description.getType());
+      out.name("attackPower").value(description.getAttackPower());
+      out.name("count").value(description.getCount());
+      Movement movement = description.getMovement();
+      out.name("movement");
+      if (movement == null) {
+        out.nullValue();
+      } else {
+        out.beginObject();
+        Directions directions = movement.getDirections();
+        out.name("directions");
+        if (directions == null) {
+          out.nullValue();
+        } else {
+          int[] values = {directions.getLeft(), directions.getRight(), directions.getUp(),
+              directions.getDown(), directions.getUpLeft(), directions.getUpRight(),
+              directions.getDownLeft(), directions.getDownRight()};
+          out.beginObject();
+          for (int i = 0; i < DIRECTIONS.length; i++) {
+            out.name(DIRECTIONS[i]).value(values[i]);
+          }
+          out.endObject();
+        }
+        out.name("shape");
+        if (movement.getShape() == null) {
+          out.nullValue();
+        } else {
+          out.beginObject();
+          out.name("type");
+          if (movement.getShape().getType() == null) {
+            out.nullValue();
+          } else {
+            out.value(movement.getShape().getType().name());
+          }
+          out.endObject();
+        }
+        out.endObject();
+      }
+      out.endObject();
+    }
+  }
+}
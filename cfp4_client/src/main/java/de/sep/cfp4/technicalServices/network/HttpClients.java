@@ -0,0 +1,97 @@
+package de.sep.cfp4.technicalServices.network;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds one {@link HttpClient} per server, so that all requests to a server share its connection
+ * pool, keep-alive connections and HTTP/2 streams instead of opening a new connection and selector
+ * thread for every request. The clients are configured with the system properties
+ *
+ * <ul>
+ *   <li>{@code cfp.http.version}: {@code HTTP_2} (default, falls back to HTTP/1.1 if the server
+ *   does not support it) or {@code HTTP_1_1},</li>
+ *   <li>{@code cfp.http.connect-timeout-ms}: the timeout for opening a connection (default 5000),
+ *   and</li>
+ *   <li>{@code cfp.http.threads}: the threads handling the responses of all clients (default 4).</li>
+ * </ul>
+ *
+ * @version 0.0.1
+ */
+public final class HttpClients {
+
+  private static final Map<String, HttpClient> CLIENTS = new ConcurrentHashMap<>();
+
+  // shared by all clients, so that the number of threads does not grow with the number of servers
+  private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+      Integer.getInteger("cfp.http.threads", 4), new ThreadFactory());
+
+  private HttpClients() {
+  }
+
+  /**
+   * Returns the shared client for the server of the given URI.
+   *
+   * @param uri Any URI of the server, only its scheme, host and port are used.
+   * @return The client of this server.
+   */
+  public static HttpClient forUri(URI uri) {
+    String server = uri.getScheme() + "://" + uri.getAuthority();
+    return CLIENTS.computeIfAbsent(server.toLowerCase(), key -> newClient());
+  }
+
+  /**
+   * Returns a client shared by requests to many different servers, e.g. health checks of a list of
+   * servers, which would otherwise create a client and its selector thread per server.
+   *
+   * @return The client shared by all servers.
+   */
+  public static HttpClient shared() {
+    return Shared.CLIENT;
+  }
+
+  /**
+   * @return The number of servers a client was created for.
+   */
+  static int size() {
+    return CLIENTS.size();
+  }
+
+  private static HttpClient newClient() {
+    return HttpClient.newBuilder()
+        .version(HttpClient.Version.valueOf(System.getProperty("cfp.http.version", "HTTP_2")))
+        .connectTimeout(Duration.ofMillis(Long.getLong("cfp.http.connect-timeout-ms", 5000)))
+        .executor(EXECUTOR)
+        .build();
+  }
+
+  /**
+   * Holds the shared client, created on first use.
+   */
+  private static class Shared {
+
+    private static final HttpClient CLIENT = newClient();
+  }
+
+  /**
+   * Creates daemon threads, so that open connections do not keep the client running after the GUI
+   * was closed.
+   */
+  private static class ThreadFactory implements java.util.concurrent.ThreadFactory {
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "cfp-http-" + this.count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -0,0 +1,202 @@
+package de.sep.cfp4.technicalServices.network;
+
+import de.unimannheim.swt.pse.ctf.controller.GameSession;
+import de.unimannheim.swt.pse.ctf.controller.data.GameSessionResponse;
+import de.unimannheim.swt.pse.ctf.controller.data.GiveupRequest;
+import de.unimannheim.swt.pse.ctf.controller.data.JoinGameRequest;
+import de.unimannheim.swt.pse.ctf.controller.data.JoinGameResponse;
+import de.unimannheim.swt.pse.ctf.controller.data.MoveRequest;
+import de.unimannheim.swt.pse.ctf.game.engine.Game;
+import de.unimannheim.swt.pse.ctf.game.exceptions.ForbiddenMove;
+import de.unimannheim.swt.pse.ctf.game.exceptions.GameOver;
+import de.unimannheim.swt.pse.ctf.game.exceptions.GameSessionNotFound;
+import de.unimannheim.swt.pse.ctf.game.exceptions.InvalidMove;
+import de.unimannheim.swt.pse.ctf.game.exceptions.NoMoreTeamSlots;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.game.state.GameState;
+import de.unimannheim.swt.pse.ctf.game.state.Move;
+import de.unimannheim.swt.pse.ctf.game.state.Piece;
+import de.unimannheim.swt.pse.ctf.game.state.Team;
+
+/**
+ * Implementation of the {@link GameAPI} for games running in the same JVM as the client. The calls
+ * go directly to the game engines of a {@link LocalSessionRegistry} without HTTP and JSON, but with
+ * the same checks and exceptions as the server. Game states are returned as snapshots, so that the
+ * callers can compare them with earlier states as they do with the states received from a server.
+ *
+ * @version 0.0.1
+ */
+public class LocalGameClient implements GameAPI {
+
+  private final LocalSessionRegistry registry;
+
+  /**
+   * Creates a client for the sessions of the default registry of this JVM.
+   */
+  public LocalGameClient() {
+    this(LocalSessionRegistry.getDefault());
+  }
+
+  /**
+   * Creates a client for the sessions of a registry.
+   *
+   * @param registry The registry holding the game sessions.
+   */
+  public LocalGameClient(LocalSessionRegistry registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  public GameSessionResponse createGameSession(MapTemplate template) {
+    String sessionId = this.registry.createSession();
+    Game game = this.registry.getSession(sessionId).getGame();
+    try {
+      game.create(template);
+    } catch (RuntimeException e) {
+      this.registry.removeSession(sessionId);
+      throw e;
+    }
+    return this.createGameSessionResponse(sessionId, game);
+  }
+
+  @Override
+  public GameSessionResponse getGameSession(String sessionId) throws GameSessionNotFound {
+    return this.createGameSessionResponse(sessionId, this.registry.getSession(sessionId).getGame());
+  }
+
+  @Override
+  public GameState getGameState(String sessionId) throws GameSessionNotFound {
+    return snapshot(this.registry.getSession(sessionId).getGame().getCurrentGameState());
+  }
+
+  @Override
+  public void deleteGameSession(String sessionId) throws GameSessionNotFound {
+    this.registry.removeSession(sessionId);
+  }
+
+  @Override
+  public void makeMove(String sessionId, MoveRequest moveRequest)
+      throws ForbiddenMove, GameSessionNotFound, InvalidMove, GameOver {
+    GameSession gameSession = this.registry.getSession(sessionId);
+    if (!gameSession.isAllowed(moveRequest.getTeamId(), moveRequest.getTeamSecret())) {
+      throw new ForbiddenMove();
+    }
+
+    // The engine keeps the move as last move, so it gets its own copy.
+    Move move = new Move();
+    move.setPieceId(moveRequest.getPieceId());
+    move.setNewPosition(moveRequest.getNewPosition() == null ? null : moveRequest.getNewPosition().clone());
+    move.setTeamId(moveRequest.getTeamId());
+    gameSession.getGame().makeMove(move);
+  }
+
+  @Override
+  public JoinGameResponse joinGame(String sessionId, JoinGameRequest joinGameRequest)
+      throws GameSessionNotFound, NoMoreTeamSlots {
+    GameSession gameSession = this.registry.getSession(sessionId);
+    Team team = gameSession.getGame().joinGame(joinGameRequest.getTeamId());
+
+    JoinGameResponse response = new JoinGameResponse();
+    response.setGameSessionId(sessionId);
+    response.setTeamId(team.getId());
+    response.setTeamColor(team.getColor());
+    response.setTeamSecret(gameSession.createTeamSecret(team.getId()));
+    return response;
+  }
+
+  @Override
+  public void giveUp(String sessionId, GiveupRequest giveupRequest)
+      throws ForbiddenMove, GameSessionNotFound, GameOver {
+    GameSession gameSession = this.registry.getSession(sessionId);
+    if (!gameSession.isAllowed(giveupRequest.getTeamId(), giveupRequest.getTeamSecret())) {
+      throw new ForbiddenMove();
+    }
+    gameSession.getGame().giveUp(giveupRequest.getTeamId());
+  }
+
+  /**
+   * Creates the game session response the server would send.
+   *
+   * @param sessionId The ID of the game session.
+   * @param game      The game engine of the session.
+   * @return The game session response.
+   */
+  private GameSessionResponse createGameSessionResponse(String sessionId, Game game) {
+    GameSessionResponse response = new GameSessionResponse();
+    response.setId(sessionId);
+    response.setGameStarted(game.getStartedDate());
+    response.setGameEnded(game.getEndDate());
+    response.setRemainingGameTimeInSeconds(game.getRemainingGameTimeInSeconds());
+    response.setRemainingMoveTimeInSeconds(game.getRemainingMoveTimeInSeconds());
+    response.setGameOver(game.isGameOver());
+    response.setWinner(game.getWinner());
+    return response;
+  }
+
+  /**
+   * Copies the parts of a game state the engine changes during the game: the grid, the teams with
+   * their flags and pieces, the piece positions and the last move. The piece descriptions do not
+   * change during a game and are shared with the engine.
+   *
+   * @param state The live game state of the engine.
+   * @return The snapshot of the game state.
+   */
+  static GameState snapshot(GameState state) {
+    if (state == null) {
+      return null;
+    }
+    synchronized (state) {
+      GameState snapshot = new GameState();
+      if (state.getGrid() != null) {
+        String[][] grid = new String[state.getGrid().length][];
+        for (int row = 0; row < grid.length; row++) {
+          grid[row] = state.getGrid()[row].clone();
+        }
+        snapshot.setGrid(grid);
+      }
+      if (state.getTeams() != null) {
+        Team[] teams = new Team[state.getTeams().length];
+        for (int i = 0; i < teams.length; i++) {
+          teams[i] = copy(state.getTeams()[i]);
+        }
+        snapshot.setTeams(teams);
+      }
+      snapshot.setCurrentTeam(state.getCurrentTeam());
+      Move lastMove = state.getLastMove();
+      if (lastMove != null) {
+        Move move = new Move();
+        move.setPieceId(lastMove.getPieceId());
+        move.setTeamId(lastMove.getTeamId());
+        move.setNewPosition(lastMove.getNewPosition() == null ? null : lastMove.getNewPosition().clone());
+        snapshot.setLastMove(move);
+      }
+      return snapshot;
+    }
+  }
+
+  private static Team copy(Team team) {
+    if (team == null) {
+      return null;
+    }
+    Team copy = new Team();
+    copy.setId(team.getId());
+    copy.setColor(team.getColor());
+    copy.setBase(team.getBase() == null ? null : team.getBase().clone());
+    copy.setFlags(team.getFlags());
+    if (team.getPieces() != null) {
+      Piece[] pieces = new Piece[team.getPieces().length];
+      for (int i = 0; i < pieces.length; i++) {
+        Piece piece = team.getPieces()[i];
+        if (piece != null) {
+          pieces[i] = new Piece();
+          pieces[i].setId(piece.getId());
+          pieces[i].setTeamId(piece.getTeamId());
+          pieces[i].setDescription(piece.getDescription());
+          pieces[i].setPosition(piece.getPosition() == null ? null : piece.getPosition().clone());
+        }
+      }
+      copy.setPieces(pieces);
+    }
+    return copy;
+  }
+}
@@ -0,0 +1,96 @@
+package de.sep.cfp4.technicalServices.network;
+
+import de.unimannheim.swt.pse.ctf.controller.GameSession;
+import de.unimannheim.swt.pse.ctf.game.engine.Game;
+import de.unimannheim.swt.pse.ctf.game.engine.GameEngine;
+import de.unimannheim.swt.pse.ctf.game.exceptions.GameSessionNotFound;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Registry of the game sessions played in the same JVM as the client. Takes the role of the
+ * server's GameSessionController for the {@link LocalGameClient}, so that all models and bots
+ * sharing a registry see the same sessions.
+ *
+ * @version 0.0.1
+ */
+public class LocalSessionRegistry {
+
+  // The registry shared by all local clients that do not bring their own one.
+  private static final LocalSessionRegistry DEFAULT = new LocalSessionRegistry(GameEngine::new);
+
+  private final Map<String, GameSession> gameSessions = new ConcurrentHashMap<>();
+  private final Supplier<Game> engineFactory;
+
+  /**
+   * Creates a new registry.
+   *
+   * @param engineFactory Creates the game engine of every new session.
+   */
+  public LocalSessionRegistry(Supplier<Game> engineFactory) {
+    this.engineFactory = engineFactory;
+  }
+
+  /**
+   * Returns the registry shared by all local clients of this JVM.
+   *
+   * @return The default registry.
+   */
+  public static LocalSessionRegistry getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * Registers a new game session with a new game engine.
+   *
+   * @return The ID of the new game session.
+   */
+  public String createSession() {
+    String sessionId = UUID.randomUUID().toString();
+    this.gameSessions.put(sessionId, new GameSession(this.engineFactory.get()));
+    return sessionId;
+  }
+
+  /**
+   * Returns a game session.
+   *
+   * @param sessionId The ID of the game session.
+   * @return The game session.
+   * @throws GameSessionNotFound If the game session does not exist.
+   */
+  public GameSession getSession(String sessionId) throws GameSessionNotFound {
+    GameSession gameSession = this.gameSessions.get(sessionId);
+    if (gameSession == null) {
+      throw new GameSessionNotFound();
+    }
+    return gameSession;
+  }
+
+  /**
+   * Removes a game session and stops the timers of its game engine, which only stop on their own
+   * once the game is over.
+   *
+   * @param sessionId The ID of the game session.
+   * @throws GameSessionNotFound If the game session does not exist.
+   */
+  public void removeSession(String sessionId) throws GameSessionNotFound {
+    GameSession gameSession = this.gameSessions.remove(sessionId);
+    if (gameSession == null) {
+      throw new GameSessionNotFound();
+    }
+    if (gameSession.getGame() instanceof GameEngine gameEngine) {
+      gameEngine.shutdownScheduler();
+    }
+  }
+
+  /**
+   * Returns the number of registered game sessions.
+   *
+   * @return The number of game sessions.
+   */
+  public int size() {
+    return this.gameSessions.size();
+  }
+}
@@ -0,0 +1,143 @@
+package de.sep.cfp4.technicalServices.network;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Checks whether servers host a running capture the flag server. All checks are asynchronous
+ * requests of one shared client, so checking many servers neither starts a thread per server nor
+ * waits for the slowest one. The results are cached, a server is checked again after the time to
+ * live, a server that is offline after twice the time for every failed check in a row. The checks
+ * are configured with the system properties
+ *
+ * <ul>
+ *   <li>{@code cfp.health.timeout-ms}: the timeout of a check (default 2000),</li>
+ *   <li>{@code cfp.health.ttl-ms}: the time a result is cached (default 5000), and</li>
+ *   <li>{@code cfp.health.max-backoff-ms}: the longest time the result of a server that is offline
+ *   is cached (default 60000).</li>
+ * </ul>
+ *
+ * @version 0.0.1
+ */
+public final class ServerHealthCheck {
+
+  private static final Duration TIMEOUT = Duration.ofMillis(
+      Long.getLong("cfp.health.timeout-ms", 2000));
+  private static final long TTL_MILLIS = Long.getLong("cfp.health.ttl-ms", 5000);
+  private static final long MAX_BACKOFF_MILLIS = Long.getLong("cfp.health.max-backoff-ms", 60000);
+
+  // The last check of each server, by its host and port.
+  private static final Map<String, Status> STATUS = new ConcurrentHashMap<>();
+
+  /**
+   * The capture the flag status page for invalid GET requests, used to recognize the server.
+   */
+  private static class ServerStatus {
+
+    private String timestamp;
+    private int status;
+    private String error;
+    private String path;
+  }
+
+  // Adapted from https://baeldung.com/java-validate-json-string , validation with Gson, strict validation.
+  private static final TypeAdapter<ServerStatus> STATUS_PAGE = new Gson().getAdapter(
+      ServerStatus.class);
+
+  /**
+   * A check of a server.
+   *
+   * @param online Completes with whether the server is online.
+   * @param checkedAt The time the check was started.
+   * @param failures The number of failed checks in a row before this check.
+   */
+  private record Status(CompletableFuture<Boolean> online, long checkedAt, int failures) {
+
+    /**
+     * Checks whether the result of the check can still be used, which is also the case while the
+     * check is running.
+     */
+    boolean isFresh(long now) {
+      if (!this.online.isDone()) {
+        return true;
+      }
+      long maxAge = this.online.join() ? TTL_MILLIS
+          : Math.min(MAX_BACKOFF_MILLIS, TTL_MILLIS << Math.min(this.failures, 20));
+      return now - this.checkedAt < maxAge;
+    }
+
+    /**
+     * @return The number of failed checks in a row including this one, if it is done.
+     */
+    int failuresAfter() {
+      return this.online.isDone() && !this.online.join() ? this.failures + 1 : 0;
+    }
+  }
+
+  private ServerHealthCheck() {
+  }
+
+  /**
+   * Checks whether the server hosts a running capture the flag server. Returns the cached result if
+   * the server was checked recently or is being checked.
+   *
+   * @param server The host and port of the server.
+   * @return Completes with true if the server is online, false otherwise. Never completes
+   * exceptionally.
+   */
+  public static CompletableFuture<Boolean> check(String server) {
+    long now = System.currentTimeMillis();
+    return STATUS.compute(server, (key, status) -> status != null && status.isFresh(now) ? status
+        : new Status(probe(key), now, status == null ? 0 : status.failuresAfter())).online();
+  }
+
+  /**
+   * Removes the cached result of a server, so that the next check requests it again.
+   *
+   * @param server The host and port of the server.
+   */
+  public static void invalidate(String server) {
+    STATUS.remove(server);
+  }
+
+  /**
+   * Requests the game session list of the server, which a capture the flag server answers with its
+   * status page.
+   *
+   * @param server The host and port of the server.
+   * @return Completes with whether the server answered with the status page.
+   */
+  private static CompletableFuture<Boolean> probe(String server) {
+    try {
+      HttpRequest request = HttpRequest.newBuilder()
+          .uri(URI.create("http://" + server + "/api/gamesession/"))
+          .header("Content-Type", "application/json")
+          .timeout(TIMEOUT)
+          .GET()
+          .build();
+      return HttpClients.shared().sendAsync(request, BodyHandlers.ofString())
+          .handle((response, error) -> {
+            if (error != null) {
+              return false;
+            }
+            try {
+              STATUS_PAGE.fromJson(response.body());
+              return true;
+            } catch (Exception e) {
+              return false;
+            }
+          });
+    } catch (IllegalArgumentException e) {
+      // Invalid host or port
+      return CompletableFuture.completedFuture(false);
+    }
+  }
+
+}
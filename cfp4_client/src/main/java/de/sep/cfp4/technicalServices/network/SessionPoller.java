@@ -0,0 +1,304 @@
+package de.sep.cfp4.technicalServices.network;
+
+import de.sep.cfp4.application.exceptions.TooManyRequests;
+import de.unimannheim.swt.pse.ctf.controller.data.GameSessionResponse;
+import de.unimannheim.swt.pse.ctf.game.state.GameState;
+import de.unimannheim.swt.pse.ctf.game.state.Team;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls the game sessions of one server (or of one local {@link GameAPI}) for all subscribers in
+ * this client. Subscribers of the same session share its polls: a session is fetched once per tick
+ * and the result is handed to all of them, no matter how many players and bots of this client take
+ * part in it. All sessions of a server are polled by one thread, which is only alive while there
+ * are subscribers.
+ *
+ * <p>The interval adapts to whose turn it is. While a team of another client has to move, the
+ * change comes from the server and the session is polled every {@code cfp.poll.active-ms} (default
+ * 500). While a team subscribed in this client has to move, the change comes from this client,
+ * which calls {@link Subscription#refresh()} after its move, and the session is only polled every
+ * {@code cfp.poll.local-turn-ms} (default 2000), or every second if there is a move time limit to
+ * count down. After the game is over or the session was not found, it is not polled anymore. If the
+ * server throttles the polls, the session is polled again after the time the server asks for.
+ *
+ * @version 0.0.1
+ */
+public final class SessionPoller {
+
+  static final long ACTIVE_INTERVAL_MS = Long.getLong("cfp.poll.active-ms", 500);
+  static final long LOCAL_TURN_INTERVAL_MS = Long.getLong("cfp.poll.local-turn-ms", 2000);
+  static final long TIMER_INTERVAL_MS = 1000;
+
+  // guards the pollers and the subscriptions of all pollers
+  private static final Map<Object, SessionPoller> POLLERS = new HashMap<>();
+
+  private final Object key;
+  private final GameAPI api;
+  private final Map<String, Session> sessions = new HashMap<>();
+  private final ScheduledThreadPoolExecutor executor;
+
+  private SessionPoller(Object key, GameAPI api) {
+    this.key = key;
+    this.api = api;
+    this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+      Thread thread = new Thread(runnable, "cfp-poller-" + key);
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.executor.setKeepAliveTime(10, TimeUnit.SECONDS);
+    this.executor.allowCoreThreadTimeOut(true);
+    this.executor.setRemoveOnCancelPolicy(true);
+  }
+
+  /**
+   * Receives the results of the polls of a session.
+   */
+  public interface Listener {
+
+    /**
+     * Called with the latest session response and game state of the session.
+     *
+     * @param response The game session response.
+     * @param state    The game state.
+     */
+    void update(GameSessionResponse response, GameState state);
+
+    /**
+     * Called if the session could not be polled, e.g. because it was not found. The session is not
+     * polled anymore afterwards.
+     *
+     * @param error The exception thrown by the API.
+     */
+    void failed(Throwable error);
+  }
+
+  /**
+   * A subscription to the polls of a session, closed to stop receiving them.
+   */
+  public static final class Subscription implements AutoCloseable {
+
+    private final SessionPoller poller;
+    private final Session session;
+    private final String teamID;
+    private final Listener listener;
+
+    private Subscription(SessionPoller poller, Session session, String teamID, Listener listener) {
+      this.poller = poller;
+      this.session = session;
+      this.teamID = teamID;
+      this.listener = listener;
+    }
+
+    /**
+     * Polls the session as soon as possible, e.g. after a move has been made.
+     */
+    public void refresh() {
+      synchronized (POLLERS) {
+        this.poller.schedule(this.session, 0);
+      }
+    }
+
+    /**
+     * Stops the polls for this subscriber.
+     */
+    @Override
+    public void close() {
+      this.poller.unsubscribe(this);
+    }
+  }
+
+  /**
+   * Subscribes to the polls of a game session.
+   *
+   * @param api       The API the session is polled with. Subscribers of a {@link GameClient} share
+   *                  the poller of its server, others the poller of the API instance.
+   * @param sessionID The ID of the game session.
+   * @param teamID    The ID of the team the subscriber plays, null for spectators.
+   * @param listener  The listener receiving the results.
+   * @return The subscription.
+   */
+  public static Subscription subscribe(GameAPI api, String sessionID, String teamID,
+      Listener listener) {
+    synchronized (POLLERS) {
+      SessionPoller poller = POLLERS.computeIfAbsent(key(api), key -> new SessionPoller(key, api));
+      Session session = poller.sessions.computeIfAbsent(sessionID, Session::new);
+      Subscription subscription = new Subscription(poller, session, teamID, listener);
+      session.subscriptions.add(subscription);
+      if (session.stopped || session.subscriptions.size() == 1) {
+        session.stopped = false;
+        poller.schedule(session, 0);
+      }
+      return subscription;
+    }
+  }
+
+  /**
+   * @return The number of pollers with subscribers.
+   */
+  static int size() {
+    synchronized (POLLERS) {
+      return POLLERS.size();
+    }
+  }
+
+  private static Object key(GameAPI api) {
+    if (api instanceof GameClient client) {
+      URI uri = client.getServerURI();
+      return (uri.getScheme() + "://" + uri.getAuthority()).toLowerCase();
+    }
+    return api;
+  }
+
+  private void unsubscribe(Subscription subscription) {
+    synchronized (POLLERS) {
+      Session session = subscription.session;
+      if (!session.subscriptions.remove(subscription) || !session.subscriptions.isEmpty()) {
+        return;
+      }
+      if (session.next != null) {
+        session.next.cancel(false);
+      }
+      this.sessions.remove(session.id);
+      if (this.sessions.isEmpty()) {
+        POLLERS.remove(this.key);
+        this.executor.shutdown();
+      }
+    }
+  }
+
+  /**
+   * Schedules the next poll of a session, unless an earlier one is scheduled already. A poll
+   * requested while the session is being polled is made right after the current one. Must be
+   * called while holding the lock.
+   */
+  private void schedule(Session session, long delay) {
+    if (session.stopped || this.sessions.get(session.id) != session || this.executor.isShutdown()) {
+      return;
+    }
+    if (session.polling) {
+      session.refresh |= delay == 0;
+      return;
+    }
+    if (session.next != null) {
+      if (session.next.getDelay(TimeUnit.MILLISECONDS) <= delay) {
+        return;
+      }
+      session.next.cancel(false);
+    }
+    session.next = this.executor.schedule(() -> this.poll(session), delay, TimeUnit.MILLISECONDS);
+  }
+
+  private void poll(Session session) {
+    synchronized (POLLERS) {
+      if (session.stopped || this.sessions.get(session.id) != session) {
+        return;
+      }
+      session.polling = true;
+      session.refresh = false;
+      session.next = null;
+    }
+
+    if (this.api instanceof AsyncGameAPI asyncAPI) {
+      // Both requests are sent at once, the results are handled on the poller thread again.
+      CompletableFuture<GameState> state = asyncAPI.getGameStateAsync(session.id);
+      asyncAPI.getGameSessionAsync(session.id)
+          .thenCombine(state, Update::new)
+          .whenCompleteAsync((update, error) -> this.complete(session, update, error), this.executor);
+    } else {
+      try {
+        this.complete(session, new Update(this.api.getGameSession(session.id),
+            this.api.getGameState(session.id)), null);
+      } catch (Exception e) {
+        this.complete(session, null, e);
+      }
+    }
+  }
+
+  private void complete(Session session, Update update, Throwable error) {
+    if (error instanceof CompletionException && error.getCause() != null) {
+      error = error.getCause();
+    }
+    if (error instanceof TooManyRequests tooManyRequests) {
+      // Not a failure of the session, the subscribers get the next successful poll.
+      synchronized (POLLERS) {
+        session.polling = false;
+        this.schedule(session, Math.max(tooManyRequests.getRetryAfterMillis(), ACTIVE_INTERVAL_MS));
+      }
+      return;
+    }
+    for (Subscription subscription : session.subscriptions) {
+      try {
+        if (error == null) {
+          subscription.listener.update(update.response(), update.state());
+        } else {
+          subscription.listener.failed(error);
+        }
+      } catch (RuntimeException e) {
+        e.printStackTrace();
+      }
+    }
+
+    synchronized (POLLERS) {
+      session.polling = false;
+      if (error != null || update.response().isGameOver()) {
+        session.stopped = true;
+        return;
+      }
+      this.schedule(session, session.refresh ? 0 : interval(session, update));
+    }
+  }
+
+  /**
+   * Returns the time until the next poll of a session, depending on whose turn it is.
+   */
+  private static long interval(Session session, Update update) {
+    Team[] teams = update.state().getTeams();
+    int currentTeam = update.state().getCurrentTeam();
+    if (teams == null || currentTeam < 0 || currentTeam >= teams.length || teams[currentTeam] == null) {
+      return ACTIVE_INTERVAL_MS;
+    }
+    String currentTeamID = teams[currentTeam].getId();
+    boolean localTurn = session.subscriptions.stream()
+        .anyMatch(subscription -> currentTeamID.equals(subscription.teamID));
+    if (!localTurn) {
+      return ACTIVE_INTERVAL_MS;
+    }
+    if (update.response().getRemainingMoveTimeInSeconds() != -1) {
+      return Math.min(LOCAL_TURN_INTERVAL_MS, TIMER_INTERVAL_MS);
+    }
+    return LOCAL_TURN_INTERVAL_MS;
+  }
+
+  /**
+   * The result of one poll.
+   */
+  private record Update(GameSessionResponse response, GameState state) {
+  }
+
+  /**
+   * A polled session and its subscribers. The fields other than the subscriptions are guarded by
+   * the lock of the pollers.
+   */
+  private static final class Session {
+
+    private final String id;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private ScheduledFuture<?> next;
+    private boolean polling;
+    private boolean refresh;
+    private boolean stopped;
+
+    private Session(String id) {
+      this.id = id;
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package de.sep.cfp4.technicalServices.tournament;
+
+import de.sep.cfp4.application.model.BoardModel;
+import de.sep.cfp4.technicalServices.ai.AIBot;
+import de.sep.cfp4.technicalServices.ai.EasyBot;
+import de.sep.cfp4.technicalServices.ai.NormalBot;
+import de.sep.cfp4.technicalServices.ai.mcts.MCTSClient;
+import de.sep.cfp4.technicalServices.resource.PlayerType;
+import de.unimannheim.swt.pse.ctf.game.state.Move;
+import java.util.Locale;
+
+/**
+ * Creates tournament players for the AI bots of the client. The bots schedule their turns in their
+ * constructors as long as their board model is in progress. The tournament runner stops the update
+ * thread of the board models before creating the bots, so that no turns are scheduled and the runner
+ * decides when a bot is to move.
+ *
+ * @version 0.0.1
+ */
+public final class BotPlayers {
+
+  private BotPlayers() {
+  }
+
+  /**
+   * Creates a tournament player for a bot.
+   *
+   * @param type The type of the bot.
+   * @param name The name of the player.
+   * @return The tournament player.
+   * @throws IllegalArgumentException If the type is not a bot.
+   */
+  public static TournamentPlayer create(PlayerType type, String name) {
+    return switch (type) {
+      case EASY_BOT -> aiBot(name, type);
+      case NORMAL_BOT -> aiBot(name, type);
+      case HARD_BOT -> mcts(name);
+      case HUMAN_PLAYER -> throw new IllegalArgumentException("Human players can not play in a tournament.");
+    };
+  }
+
+  /**
+   * Parses a player type from its name in a command line argument, e.g. "easy" or "NORMAL_BOT".
+   *
+   * @param name The name of the player type.
+   * @return The player type.
+   * @throws IllegalArgumentException If the name does not denote a bot.
+   */
+  public static PlayerType parseType(String name) {
+    String normalized = name.trim().toUpperCase(Locale.ROOT);
+    return switch (normalized) {
+      case "EASY", "EASY_BOT" -> PlayerType.EASY_BOT;
+      case "NORMAL", "NORMAL_BOT" -> PlayerType.NORMAL_BOT;
+      case "HARD", "MCTS", "HARD_BOT" -> PlayerType.HARD_BOT;
+      default -> throw new IllegalArgumentException("Unknown bot: " + name);
+    };
+  }
+
+  private static TournamentPlayer aiBot(String name, PlayerType type) {
+    return new TournamentPlayer() {
+      @Override
+      public String getName() {
+        return name;
+      }
+
+      @Override
+      public Turn newGame(BoardModel board) throws Exception {
+        AIBot bot = type == PlayerType.EASY_BOT ? new EasyBot(board) : new NormalBot(board);
+        return () -> playBotMove(board, bot.getNextMove());
+      }
+    };
+  }
+
+  private static TournamentPlayer mcts(String name) {
+    return new TournamentPlayer() {
+      @Override
+      public String getName() {
+        return name;
+      }
+
+      @Override
+      public Turn newGame(BoardModel board) {
+        MCTSClient client = new MCTSClient(board);
+        return client::makeBestMove;
+      }
+    };
+  }
+
+  /**
+   * Makes the move of a bot the same way the bots do in their own game loop. The new position is
+   * given in the coordinates of the board model.
+   *
+   * @param board The board model of the bot.
+   * @param move  The move chosen by the bot.
+   */
+  private static void playBotMove(BoardModel board, Move move) throws Exception {
+    String piece = "p:" + board.getTeamID() + "_" + move.getPieceId();
+    String[][] grid = board.getGrid();
+    for (int row = 0; row < grid.length; row++) {
+      for (int column = 0; column < grid[row].length; column++) {
+        if (grid[row][column].equals(piece)) {
+          board.makeMove(row, column, move.getNewPosition()[0], move.getNewPosition()[1]);
+          return;
+        }
+      }
+    }
+    throw new IllegalStateException("Piece " + piece + " is not on the board.");
+  }
+}
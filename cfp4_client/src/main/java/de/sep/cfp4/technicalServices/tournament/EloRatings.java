@@ -0,0 +1,142 @@
+package de.sep.cfp4.technicalServices.tournament;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes Elo ratings with confidence intervals from tournament results. The ratings are the
+ * maximum likelihood estimate of the Bradley-Terry model, so unlike incremental Elo updates they do
+ * not depend on the order in which the games finished. Draws count as half a win for both players.
+ * Every pair of players that met gets one additional virtual draw, which keeps the ratings finite
+ * for players that won or lost all of their games.
+ *
+ * @version 0.0.1
+ */
+public final class EloRatings {
+
+  // The mean rating of all players.
+  public static final double MEAN_RATING = 1500;
+  // Elo points per unit of the natural logarithm of the Bradley-Terry strength.
+  private static final double ELO_PER_LOG = 400 / Math.log(10);
+  // The z value of the two-sided 95 % confidence interval.
+  private static final double Z_95 = 1.96;
+  private static final int MAX_ITERATIONS = 10_000;
+  private static final double TOLERANCE = 1e-9;
+
+  private EloRatings() {
+  }
+
+  /**
+   * The rating of a single player.
+   *
+   * @param player The name of the player.
+   * @param elo    The Elo rating.
+   * @param lower  The lower bound of the 95 % confidence interval.
+   * @param upper  The upper bound of the 95 % confidence interval.
+   * @param games  The number of games played.
+   * @param score  The points scored, 1 per win and 0.5 per draw.
+   */
+  public record Rating(String player, double elo, double lower, double upper, int games,
+                       double score) {
+
+  }
+
+  /**
+   * Computes the ratings of all players in the results.
+   *
+   * @param players The names of the players, players without results get the mean rating.
+   * @param results The game results.
+   * @return The ratings ordered from the best to the worst player.
+   */
+  public static List<Rating> compute(List<String> players, List<GameResult> results) {
+    int n = players.size();
+    Map<String, Integer> index = new HashMap<>();
+    for (int i = 0; i < n; i++) {
+      index.put(players.get(i), i);
+    }
+
+    // games[i][j]: games between i and j, wins[i]: points of i, both including the virtual draws
+    double[][] games = new double[n][n];
+    double[] wins = new double[n];
+    int[] played = new int[n];
+    double[] score = new double[n];
+    for (GameResult result : results) {
+      int first = index.get(result.first());
+      int second = index.get(result.second());
+      if (games[first][second] == 0) {
+        games[first][second] = games[second][first] = 1;
+        wins[first] += 0.5;
+        wins[second] += 0.5;
+      }
+      games[first][second]++;
+      games[second][first]++;
+      wins[first] += result.firstScore();
+      wins[second] += result.secondScore();
+      played[first]++;
+      played[second]++;
+      score[first] += result.firstScore();
+      score[second] += result.secondScore();
+    }
+
+    // Minorization-maximization iterations for the strengths (Hunter 2004)
+    double[] strength = new double[n];
+    Arrays.fill(strength, 1);
+    for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+      double change = 0;
+      double[] next = new double[n];
+      for (int i = 0; i < n; i++) {
+        double denominator = 0;
+        for (int j = 0; j < n; j++) {
+          if (games[i][j] > 0) {
+            denominator += games[i][j] / (strength[i] + strength[j]);
+          }
+        }
+        next[i] = denominator == 0 ? strength[i] : wins[i] / denominator;
+      }
+      normalize(next);
+      for (int i = 0; i < n; i++) {
+        change = Math.max(change, Math.abs(Math.log(next[i] / strength[i])));
+      }
+      strength = next;
+      if (change < TOLERANCE) {
+        break;
+      }
+    }
+
+    List<Rating> ratings = new ArrayList<>();
+    for (int i = 0; i < n; i++) {
+      // Standard error from the diagonal of the Fisher information
+      double information = 0;
+      for (int j = 0; j < n; j++) {
+        if (games[i][j] > 0) {
+          double p = strength[i] / (strength[i] + strength[j]);
+          information += games[i][j] * p * (1 - p);
+        }
+      }
+      double elo = MEAN_RATING + ELO_PER_LOG * Math.log(strength[i]);
+      double margin = information == 0 ? Double.POSITIVE_INFINITY
+          : Z_95 * ELO_PER_LOG / Math.sqrt(information);
+      ratings.add(new Rating(players.get(i), elo, elo - margin, elo + margin, played[i], score[i]));
+    }
+    ratings.sort(Comparator.comparingDouble(Rating::elo).reversed());
+    return ratings;
+  }
+
+  /**
+   * Scales the strengths to a geometric mean of 1, i.e. a mean rating of {@link #MEAN_RATING}.
+   */
+  private static void normalize(double[] strength) {
+    double logSum = 0;
+    for (double s : strength) {
+      logSum += Math.log(s);
+    }
+    double factor = Math.exp(-logSum / strength.length);
+    for (int i = 0; i < strength.length; i++) {
+      strength[i] *= factor;
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package de.sep.cfp4.technicalServices.tournament;
+
+/**
+ * The result of a single tournament game.
+ *
+ * @param first          The player that joined the game first.
+ * @param second         The player that joined the game second.
+ * @param template       The name of the map template.
+ * @param firstScore     The score of the first player: 1 for a win, 0.5 for a draw, 0 for a loss.
+ * @param reason         Why the game ended.
+ * @param moves          The number of moves made.
+ * @param durationMillis The wall clock time of the game in milliseconds.
+ * @version 0.0.1
+ */
+public record GameResult(String first, String second, String template, double firstScore,
+                         EndReason reason, int moves, long durationMillis) {
+
+  /**
+   * Why a tournament game ended.
+   */
+  public enum EndReason {
+    // The game engine declared the game over.
+    FINISHED,
+    // The move limit of the tournament was reached, the game counts as a draw.
+    MOVE_LIMIT,
+    // A player exceeded the time budget of a move and lost.
+    TIME_FORFEIT,
+    // A player made an invalid move and lost.
+    INVALID_MOVE,
+    // A player returned from its turn without moving, or failed with an error, and lost.
+    NO_MOVE
+  }
+
+  /**
+   * Returns the score of the second player.
+   *
+   * @return The score of the second player.
+   */
+  public double secondScore() {
+    return 1 - this.firstScore;
+  }
+
+  /**
+   * Returns the result as a line of the results file.
+   *
+   * @return The comma separated values of the result.
+   */
+  public String toCsv() {
+    return String.join(",", this.first, this.second, this.template, String.valueOf(this.firstScore),
+        this.reason.name(), String.valueOf(this.moves), String.valueOf(this.durationMillis));
+  }
+}
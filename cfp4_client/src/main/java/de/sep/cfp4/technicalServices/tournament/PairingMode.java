@@ -0,0 +1,13 @@
+package de.sep.cfp4.technicalServices.tournament;
+
+/**
+ * How the tournament runner pairs the players.
+ *
+ * @version 0.0.1
+ */
+public enum PairingMode {
+  // Every player plays every other player on every map template.
+  ROUND_ROBIN,
+  // Players with similar scores play each other, round by round.
+  SWISS
+}
@@ -0,0 +1,171 @@
+package de.sep.cfp4.technicalServices.tournament;
+
+import de.sep.cfp4.application.model.BoardModel;
+import de.sep.cfp4.technicalServices.network.GameAPI;
+import de.sep.cfp4.technicalServices.tournament.GameResult.EndReason;
+import de.sep.cfp4.technicalServices.tournament.TournamentPlayer.Turn;
+import de.unimannheim.swt.pse.ctf.controller.data.GameSessionResponse;
+import de.unimannheim.swt.pse.ctf.game.exceptions.GameOver;
+import de.unimannheim.swt.pse.ctf.game.exceptions.GameSessionNotFound;
+import de.unimannheim.swt.pse.ctf.game.exceptions.InvalidMove;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.game.state.GameState;
+import de.unimannheim.swt.pse.ctf.game.state.Move;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A single game between two tournament players. The game drives the turns itself: it updates the
+ * board model of the team to move, lets the player make its move on a separate thread and forfeits
+ * the game for the player if the move takes longer than the time budget, is invalid or is not made
+ * at all.
+ *
+ * @version 0.0.1
+ */
+class TournamentGame {
+
+  private final GameAPI api;
+  private final String templateName;
+  private final MapTemplate template;
+  private final TournamentPlayer[] players;
+  private final long moveBudgetMillis;
+  private final int maxMoves;
+  private final ExecutorService movePool;
+
+  /**
+   * Creates a new game.
+   *
+   * @param api              The API the game is played through.
+   * @param templateName     The name of the map template.
+   * @param template         The map template for two teams without time limits.
+   * @param first            The player joining first.
+   * @param second           The player joining second.
+   * @param moveBudgetMillis The time budget of a single move in milliseconds.
+   * @param maxMoves         The number of moves after which the game is a draw.
+   * @param movePool         The executor running the turns of the players.
+   */
+  TournamentGame(GameAPI api, String templateName, MapTemplate template, TournamentPlayer first,
+      TournamentPlayer second, long moveBudgetMillis, int maxMoves, ExecutorService movePool) {
+    this.api = api;
+    this.templateName = templateName;
+    this.template = template;
+    this.players = new TournamentPlayer[]{first, second};
+    this.moveBudgetMillis = moveBudgetMillis;
+    this.maxMoves = maxMoves;
+    this.movePool = movePool;
+  }
+
+  /**
+   * Plays the game to its end and removes its game session afterwards.
+   *
+   * @return The result of the game.
+   * @throws Exception If the game could not be set up.
+   */
+  GameResult play() throws Exception {
+    long start = System.nanoTime();
+    BoardModel[] boards = new BoardModel[2];
+    boards[0] = new BoardModel(this.api, this.template, this.players[0].getName());
+    String sessionId = boards[0].getGameSessionID();
+    try {
+      boards[1] = new BoardModel(this.api, sessionId, this.players[1].getName());
+      // The runner updates the models itself, see TournamentPlayer#newGame.
+      boards[0].stopUpdateThread();
+      boards[1].stopUpdateThread();
+      Turn[] turns = {this.players[0].newGame(boards[0]), this.players[1].newGame(boards[1])};
+
+      int moves = 0;
+      while (true) {
+        GameSessionResponse session = this.api.getGameSession(sessionId);
+        if (session.isGameOver()) {
+          return this.result(this.score(session.getWinner(), boards), EndReason.FINISHED, moves, start);
+        }
+        if (moves >= this.maxMoves) {
+          return this.result(0.5, EndReason.MOVE_LIMIT, moves, start);
+        }
+
+        GameState state = this.api.getGameState(sessionId);
+        String currentTeam = state.getTeams()[state.getCurrentTeam()].getId();
+        int seat = currentTeam.equals(boards[0].getTeamID()) ? 0 : 1;
+        boards[seat].updateGameState();
+
+        EndReason forfeit = this.playTurn(turns[seat]);
+        if (forfeit == null && !this.moved(state.getLastMove(), sessionId)) {
+          forfeit = EndReason.NO_MOVE;
+        }
+        if (forfeit != null) {
+          return this.result(seat == 0 ? 0 : 1, forfeit, moves, start);
+        }
+        moves++;
+      }
+    } finally {
+      // Also ends turns still running after a time forfeit, their moves fail with GameSessionNotFound.
+      try {
+        this.api.deleteGameSession(sessionId);
+      } catch (GameSessionNotFound ignored) {
+        // The session is gone already.
+      }
+    }
+  }
+
+  /**
+   * Runs a turn within the time budget.
+   *
+   * @param turn The turn of the player to move.
+   * @return The reason the player forfeits the game, or null if the turn went fine.
+   */
+  private EndReason playTurn(Turn turn) throws InterruptedException {
+    Future<?> future = this.movePool.submit(() -> {
+      turn.play();
+      return null;
+    });
+    try {
+      future.get(this.moveBudgetMillis, TimeUnit.MILLISECONDS);
+      return null;
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      return EndReason.TIME_FORFEIT;
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof GameOver) {
+        // The game ended before the move, which the next check of the session shows.
+        return null;
+      }
+      return e.getCause() instanceof InvalidMove ? EndReason.INVALID_MOVE : EndReason.NO_MOVE;
+    }
+  }
+
+  /**
+   * Checks whether a move was made since the given last move, or the game ended.
+   */
+  private boolean moved(Move lastMoveBefore, String sessionId) throws Exception {
+    if (this.api.getGameSession(sessionId).isGameOver()) {
+      return true;
+    }
+    Move lastMove = this.api.getGameState(sessionId).getLastMove();
+    return lastMove != null && (lastMoveBefore == null
+        || !Objects.equals(lastMove.getTeamId(), lastMoveBefore.getTeamId())
+        || !Objects.equals(lastMove.getPieceId(), lastMoveBefore.getPieceId())
+        || !Arrays.equals(lastMove.getNewPosition(), lastMoveBefore.getNewPosition()));
+  }
+
+  /**
+   * Returns the score of the first player for the winners reported by the game engine.
+   */
+  private double score(String[] winners, BoardModel[] boards) {
+    boolean firstWon = winners != null && Arrays.asList(winners).contains(boards[0].getTeamID());
+    boolean secondWon = winners != null && Arrays.asList(winners).contains(boards[1].getTeamID());
+    if (firstWon == secondWon) {
+      return 0.5;
+    }
+    return firstWon ? 1 : 0;
+  }
+
+  private GameResult result(double firstScore, EndReason reason, int moves, long start) {
+    return new GameResult(this.players[0].getName(), this.players[1].getName(), this.templateName,
+        firstScore, reason, moves, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+  }
+}
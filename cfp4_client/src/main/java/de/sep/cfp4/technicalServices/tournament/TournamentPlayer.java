@@ -0,0 +1,43 @@
+package de.sep.cfp4.technicalServices.tournament;
+
+import de.sep.cfp4.application.model.BoardModel;
+
+/**
+ * A player taking part in a tournament. For every game the player gets the board model of its
+ * team and returns the turn the tournament runner calls whenever the team is to move.
+ *
+ * @version 0.0.1
+ */
+public interface TournamentPlayer {
+
+  /**
+   * Returns the name of the player, which is also used as its team name in the games.
+   *
+   * @return The name of the player.
+   */
+  String getName();
+
+  /**
+   * Prepares the player for a new game.
+   *
+   * @param board The board model of the player's team. Its update thread is not running, the
+   *              runner updates the model before every turn.
+   * @return The turn making one move through the board model.
+   * @throws Exception If the player can not take part in the game.
+   */
+  Turn newGame(BoardModel board) throws Exception;
+
+  /**
+   * A single move of a player in a game.
+   */
+  @FunctionalInterface
+  interface Turn {
+
+    /**
+     * Makes exactly one move through the board model of the player.
+     *
+     * @throws Exception If the move could not be made.
+     */
+    void play() throws Exception;
+  }
+}
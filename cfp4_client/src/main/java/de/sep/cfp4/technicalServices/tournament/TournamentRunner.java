@@ -0,0 +1,334 @@
+package de.sep.cfp4.technicalServices.tournament;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import de.sep.cfp4.application.Launcher;
+import de.sep.cfp4.technicalServices.network.GameAPI;
+import de.sep.cfp4.technicalServices.network.LocalGameClient;
+import de.sep.cfp4.technicalServices.network.LocalSessionRegistry;
+import de.sep.cfp4.technicalServices.tournament.EloRatings.Rating;
+import de.unimannheim.swt.pse.ctf.game.engine.GameEngine;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Headless tournament between AI bots. The games run concurrently on a fixed pool of worker threads
+ * against game engines in the same JVM, see {@link LocalGameClient}. Every move has a time budget,
+ * a player exceeding it loses the game. The results are rated with {@link EloRatings}.
+ *
+ * <p>Run it with key=value arguments, e.g.
+ * {@code players=easy,normal mode=swiss rounds=5 games=4 threads=8 budget-ms=500 max-moves=400
+ * templates=a.json,b.json results=results.csv}. Without templates, the predefined map templates
+ * for two teams are used.
+ *
+ * @version 0.0.1
+ */
+public class TournamentRunner {
+
+  private final List<TournamentPlayer> players;
+  private final Map<String, MapTemplate> templates;
+  private final PairingMode mode;
+  private final int gamesPerPairing;
+  private final int rounds;
+  private final int threads;
+  private final long moveBudgetMillis;
+  private final int maxMoves;
+
+  /**
+   * Creates a new tournament.
+   *
+   * @param players          The players, their names have to be unique.
+   * @param templates        The map templates by name, all for two teams.
+   * @param mode             How the players are paired.
+   * @param gamesPerPairing  The games two paired players play on every map template, alternating
+   *                         which player joins first.
+   * @param rounds           The number of rounds of a Swiss tournament, ignored for round robin.
+   * @param threads          The number of games played at the same time.
+   * @param moveBudgetMillis The time budget of a single move in milliseconds.
+   * @param maxMoves         The number of moves after which a game is a draw.
+   * @throws IllegalArgumentException If the players or map templates are not suitable.
+   */
+  public TournamentRunner(List<TournamentPlayer> players, Map<String, MapTemplate> templates,
+      PairingMode mode, int gamesPerPairing, int rounds, int threads, long moveBudgetMillis,
+      int maxMoves) {
+    if (players.size() < 2) {
+      throw new IllegalArgumentException("A tournament needs at least two players.");
+    }
+    if (players.stream().map(TournamentPlayer::getName).distinct().count() != players.size()) {
+      throw new IllegalArgumentException("The names of the players have to be unique.");
+    }
+    if (templates.isEmpty()) {
+      throw new IllegalArgumentException("A tournament needs at least one map template.");
+    }
+    this.players = List.copyOf(players);
+    this.templates = new LinkedHashMap<>();
+    templates.forEach((name, template) -> this.templates.put(name, withoutTimeLimits(name, template)));
+    this.mode = mode;
+    this.gamesPerPairing = Math.max(1, gamesPerPairing);
+    this.rounds = Math.max(1, rounds);
+    this.threads = Math.max(1, threads);
+    this.moveBudgetMillis = moveBudgetMillis;
+    this.maxMoves = maxMoves;
+  }
+
+  /**
+   * Plays the tournament.
+   *
+   * @return The results of all games that could be played.
+   * @throws InterruptedException If the thread is interrupted while waiting for the games.
+   */
+  public List<GameResult> run() throws InterruptedException {
+    GameAPI api = new LocalGameClient(new LocalSessionRegistry(GameEngine::new));
+    ExecutorService gamePool = Executors.newFixedThreadPool(this.threads, daemonThreads("tournament-game"));
+    // Turns exceeding their budget keep running until they notice the deleted session,
+    // so the turns get their own pool instead of taking workers from the games.
+    ExecutorService movePool = Executors.newCachedThreadPool(daemonThreads("tournament-move"));
+    try {
+      List<GameResult> results = new ArrayList<>();
+      if (this.mode == PairingMode.ROUND_ROBIN) {
+        List<TournamentPlayer[]> pairings = new ArrayList<>();
+        for (int i = 0; i < this.players.size(); i++) {
+          for (int j = i + 1; j < this.players.size(); j++) {
+            pairings.add(new TournamentPlayer[]{this.players.get(i), this.players.get(j)});
+          }
+        }
+        results.addAll(this.playRound(pairings, api, gamePool, movePool));
+      } else {
+        Map<String, Double> standings = new HashMap<>();
+        Set<String> met = new HashSet<>();
+        Set<String> byes = new HashSet<>();
+        for (int round = 0; round < this.rounds; round++) {
+          List<TournamentPlayer[]> pairings = this.swissPairings(standings, met, byes);
+          List<GameResult> roundResults = this.playRound(pairings, api, gamePool, movePool);
+          for (GameResult result : roundResults) {
+            standings.merge(result.first(), result.firstScore(), Double::sum);
+            standings.merge(result.second(), result.secondScore(), Double::sum);
+          }
+          results.addAll(roundResults);
+        }
+      }
+      return results;
+    } finally {
+      gamePool.shutdownNow();
+      movePool.shutdownNow();
+    }
+  }
+
+  /**
+   * Plays all games of the given pairings concurrently and waits for them.
+   */
+  private List<GameResult> playRound(List<TournamentPlayer[]> pairings, GameAPI api,
+      ExecutorService gamePool, ExecutorService movePool) throws InterruptedException {
+    List<Future<GameResult>> games = new ArrayList<>();
+    for (TournamentPlayer[] pairing : pairings) {
+      for (Map.Entry<String, MapTemplate> template : this.templates.entrySet()) {
+        for (int game = 0; game < this.gamesPerPairing; game++) {
+          TournamentPlayer first = pairing[game % 2];
+          TournamentPlayer second = pairing[1 - game % 2];
+          TournamentGame tournamentGame = new TournamentGame(api, template.getKey(),
+              template.getValue(), first, second, this.moveBudgetMillis, this.maxMoves, movePool);
+          games.add(gamePool.submit(tournamentGame::play));
+        }
+      }
+    }
+
+    List<GameResult> results = new ArrayList<>();
+    for (Future<GameResult> game : games) {
+      try {
+        results.add(game.get());
+      } catch (ExecutionException e) {
+        System.err.println("Tournament game could not be played: " + e.getCause());
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Pairs the players of the next Swiss round. Players are ordered by their standings and each one
+   * is paired with the next player it has not met yet. With an odd number of players, the lowest
+   * ranked player without a bye so far sits the round out and gets a point.
+   */
+  private List<TournamentPlayer[]> swissPairings(Map<String, Double> standings, Set<String> met,
+      Set<String> byes) {
+    List<TournamentPlayer> ranked = new ArrayList<>(this.players);
+    Collections.shuffle(ranked);
+    ranked.sort(Comparator.comparingDouble(
+        (TournamentPlayer player) -> standings.getOrDefault(player.getName(), 0.0)).reversed());
+
+    if (ranked.size() % 2 == 1) {
+      TournamentPlayer bye = ranked.get(ranked.size() - 1);
+      for (int i = ranked.size() - 1; i >= 0; i--) {
+        if (!byes.contains(ranked.get(i).getName())) {
+          bye = ranked.get(i);
+          break;
+        }
+      }
+      ranked.remove(bye);
+      byes.add(bye.getName());
+      standings.merge(bye.getName(), 1.0, Double::sum);
+    }
+
+    List<TournamentPlayer[]> pairings = new ArrayList<>();
+    while (!ranked.isEmpty()) {
+      TournamentPlayer player = ranked.remove(0);
+      TournamentPlayer opponent = ranked.get(0);
+      for (TournamentPlayer candidate : ranked) {
+        if (!met.contains(pairKey(player, candidate))) {
+          opponent = candidate;
+          break;
+        }
+      }
+      ranked.remove(opponent);
+      met.add(pairKey(player, opponent));
+      pairings.add(new TournamentPlayer[]{player, opponent});
+    }
+    return pairings;
+  }
+
+  private static String pairKey(TournamentPlayer a, TournamentPlayer b) {
+    return a.getName().compareTo(b.getName()) < 0
+        ? a.getName() + "\n" + b.getName() : b.getName() + "\n" + a.getName();
+  }
+
+  /**
+   * Copies a map template without time limits, as the tournament enforces its own move budget.
+   */
+  private static MapTemplate withoutTimeLimits(String name, MapTemplate template) {
+    if (template.getTeams() != 2) {
+      throw new IllegalArgumentException("Map template " + name + " is not for two teams.");
+    }
+    Gson gson = new Gson();
+    MapTemplate copy = gson.fromJson(gson.toJson(template), MapTemplate.class);
+    copy.setTotalTimeLimitInSeconds(-1);
+    copy.setMoveTimeLimitInSeconds(-1);
+    return copy;
+  }
+
+  private static ThreadFactory daemonThreads(String name) {
+    AtomicInteger counter = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /**
+   * Loads the predefined map templates for two teams.
+   *
+   * @return The map templates by name.
+   * @throws IOException If the predefined map templates can not be read.
+   */
+  static Map<String, MapTemplate> predefinedTemplates() throws IOException {
+    try (Reader reader = new InputStreamReader(
+        Launcher.class.getResourceAsStream("mapTemplates/predefinedMapTemplates.json"),
+        StandardCharsets.UTF_8)) {
+      List<MapStorage> storages = new Gson().fromJson(reader,
+          new TypeToken<List<MapStorage>>() {}.getType());
+      Map<String, MapTemplate> templates = new LinkedHashMap<>();
+      for (MapStorage storage : storages) {
+        if (storage.mapTemplate.getTeams() == 2) {
+          templates.put(storage.mapName, storage.mapTemplate);
+        }
+      }
+      return templates;
+    }
+  }
+
+  // Entry of the predefined map templates, as read by the ResourceController.
+  private static class MapStorage {
+    private String mapName;
+    private MapTemplate mapTemplate;
+  }
+
+  /**
+   * Runs a tournament from the command line and prints the ratings.
+   *
+   * @param args The settings as key=value pairs, see the class description.
+   */
+  public static void main(String[] args) throws Exception {
+    Map<String, String> settings = new HashMap<>();
+    for (String arg : args) {
+      int separator = arg.indexOf('=');
+      if (separator < 0) {
+        throw new IllegalArgumentException("Expected key=value but got " + arg);
+      }
+      settings.put(arg.substring(0, separator), arg.substring(separator + 1));
+    }
+
+    List<TournamentPlayer> players = new ArrayList<>();
+    Map<String, Integer> names = new HashMap<>();
+    for (String bot : settings.getOrDefault("players", "easy,normal").split(",")) {
+      String name = bot.trim().toLowerCase(Locale.ROOT);
+      int count = names.merge(name, 1, Integer::sum);
+      players.add(BotPlayers.create(BotPlayers.parseType(bot), count == 1 ? name : name + "-" + count));
+    }
+
+    Map<String, MapTemplate> templates;
+    if (settings.containsKey("templates")) {
+      templates = new LinkedHashMap<>();
+      for (String file : settings.get("templates").split(",")) {
+        Path path = Path.of(file.trim());
+        try (Reader reader = Files.newBufferedReader(path)) {
+          templates.put(path.getFileName().toString().replace(".json", ""),
+              new Gson().fromJson(reader, MapTemplate.class));
+        }
+      }
+    } else {
+      templates = predefinedTemplates();
+    }
+
+    PairingMode mode = PairingMode.valueOf(
+        settings.getOrDefault("mode", "round-robin").toUpperCase(Locale.ROOT).replace('-', '_'));
+    int defaultRounds = (int) Math.ceil(Math.log(players.size()) / Math.log(2));
+    TournamentRunner runner = new TournamentRunner(players, templates, mode,
+        Integer.parseInt(settings.getOrDefault("games", "2")),
+        Integer.parseInt(settings.getOrDefault("rounds", String.valueOf(defaultRounds))),
+        Integer.parseInt(settings.getOrDefault("threads",
+            String.valueOf(Runtime.getRuntime().availableProcessors()))),
+        Long.parseLong(settings.getOrDefault("budget-ms", "1000")),
+        Integer.parseInt(settings.getOrDefault("max-moves", "500")));
+
+    long start = System.nanoTime();
+    List<GameResult> results = runner.run();
+    long seconds = (System.nanoTime() - start) / 1_000_000_000L;
+
+    if (settings.containsKey("results")) {
+      try (PrintWriter writer = new PrintWriter(
+          Files.newBufferedWriter(Path.of(settings.get("results"))))) {
+        writer.println("first,second,template,firstScore,reason,moves,durationMillis");
+        results.forEach(result -> writer.println(result.toCsv()));
+      }
+    }
+
+    System.out.printf("%d games in %d s%n", results.size(), seconds);
+    System.out.printf("%-16s %7s %17s %6s %7s%n", "player", "elo", "95% interval", "games", "score");
+    List<String> playerNames = players.stream().map(TournamentPlayer::getName).toList();
+    for (Rating rating : EloRatings.compute(playerNames, results)) {
+      System.out.printf("%-16s %7.0f [%6.0f, %6.0f] %6d %7.1f%n", rating.player(), rating.elo(),
+          rating.lower(), rating.upper(), rating.games(), rating.score());
+    }
+  }
+}
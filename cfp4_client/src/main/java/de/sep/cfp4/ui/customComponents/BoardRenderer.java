@@ -0,0 +1,119 @@
+package de.sep.cfp4.ui.customComponents;
+
+import de.sep.cfp4.application.model.BoardModel;
+import java.util.Collection;
+import javafx.scene.Node;
+
+/**
+ * Interface for the views rendering the board of a BoardModel. Small boards are rendered by the
+ * BoardView with one node per square, boards with more squares than the threshold in the system
+ * property cfp.board.canvas-squares (3600 by default, a 60x60 board) are drawn by the
+ * CanvasBoardView.
+ *
+ * @version 0.0.1
+ * @see BoardView
+ * @see CanvasBoardView
+ */
+public interface BoardRenderer {
+
+  /**
+   * The number of squares from which on boards are drawn on a canvas.
+   */
+  int CANVAS_SQUARES = Integer.getInteger("cfp.board.canvas-squares", 3600);
+
+  /**
+   * Handler for clicks on the squares of the board.
+   */
+  @FunctionalInterface
+  interface SquareClickHandler {
+
+    /**
+     * Handles a click on a square of the board.
+     * @param row The row of the clicked square.
+     * @param column The column of the clicked square.
+     */
+    void handle(int row, int column);
+  }
+
+  /**
+   * Creates the view suited to the size of the board of the boardModel and initializes it.
+   * @param boardModel The boardModel to render.
+   * @return The view rendering the boardModel.
+   */
+  static BoardRenderer create(BoardModel boardModel) {
+    BoardRenderer renderer = usesCanvas(boardModel) ? new CanvasBoardView() : new BoardView();
+    renderer.initModel(boardModel);
+    return renderer;
+  }
+
+  /**
+   * Checks whether the board of the boardModel is large enough to be drawn on a canvas.
+   * @param boardModel The boardModel to check.
+   * @return true if the board has more squares than the threshold, false otherwise.
+   */
+  static boolean usesCanvas(BoardModel boardModel) {
+    String[][] grid = boardModel.getGrid();
+    return (long) grid.length * grid[0].length > CANVAS_SQUARES;
+  }
+
+  /**
+   * Initializes the boardModel associated with this view.
+   * @param boardModel The boardModel to associate with this view.
+   */
+  void initModel(BoardModel boardModel);
+
+  /**
+   * Renders the board based on the current state of the associated boardModel. Has to be called on
+   * the JavaFX thread.
+   */
+  void renderBoard();
+
+  /**
+   * Redraws the given squares of the board. Can be called from any thread.
+   * @param changedSquares The rows and columns of the squares that changed.
+   */
+  void updateSquares(Collection<int[]> changedSquares);
+
+  /**
+   * Sets the handler for clicks on the squares of the board.
+   * @param handler The handler to set.
+   */
+  void setOnSquareClick(SquareClickHandler handler);
+
+  /**
+   * Puts a marker on a square of the board.
+   * @param row The row of the square to put the marker on.
+   * @param column The column of the square to put the marker on.
+   */
+  void setMarker(int row, int column);
+
+  /**
+   * Removes the marker from a square of the board.
+   * @param row The row of the square to remove the marker from.
+   * @param column The column of the square to remove the marker from.
+   */
+  void removeMarker(int row, int column);
+
+  /**
+   * Selects/Highlights a square on the board.
+   * @param row The row of the square to select.
+   * @param column The column of the square to select.
+   */
+  void selectSquare(int row, int column);
+
+  /**
+   * Deselects/De-highlights a square on the board.
+   * @param row The row of the square to deselect.
+   * @param column The column of the square to deselect.
+   */
+  void deselectSquare(int row, int column);
+
+  /**
+   * Returns the view as a node of the scene graph.
+   * @return The node of the view.
+   */
+  default Node asNode() {
+    return (Node) this;
+  }
+
+}
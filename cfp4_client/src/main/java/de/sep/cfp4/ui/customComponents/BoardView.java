@@ -4,9 +4,12 @@ import de.sep.cfp4.technicalServices.database.DatabaseHandler;
 import de.sep.cfp4.technicalServices.database.interfaces.Database;
 import de.sep.cfp4.application.model.BoardModel;
 import de.unimannheim.swt.pse.ctf.game.state.Piece;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import javafx.application.Platform;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
-import javafx.event.EventHandler;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.GridPane;
@@ -22,15 +25,19 @@ import javafx.scene.shape.StrokeType;
  * @version 0.0.1
  * @author dcebulla
  */
-public class BoardView extends GridPane {
+public class BoardView extends GridPane implements BoardRenderer {
 
-  // EventHandler used to handle mouse clicks on squares on the board. Default is an empty handler.
-  private final ObjectProperty<EventHandler<MouseEvent>> propertyOnSquareClicked = new SimpleObjectProperty<>(e -> {});
+  // Handler used to handle mouse clicks on squares on the board. Default is an empty handler.
+  private final ObjectProperty<SquareClickHandler> propertyOnSquareClicked = new SimpleObjectProperty<>((row, column) -> {});
   // The boardModel associated with this boardView.
   private BoardModel boardModel;
   // The squares the board consists of.
   private Square[][] squares;
   private final Database database = DatabaseHandler.getInstance();
+  // Squares waiting to be redrawn, collected until the next redraw on the JavaFX thread.
+  private final List<int[]> dirtySquares = new ArrayList<>();
+  // Whether a redraw of the dirty squares has already been scheduled.
+  private boolean redrawScheduled;
 
   public BoardView(BoardModel boardModel) {
     this.initModel(boardModel);
@@ -43,6 +50,7 @@ public class BoardView extends GridPane {
    * Initializes the boardModel associated with this boardView.
    * @param boardModel The boardModel to associate with this boardView.
    */
+  @Override
   public void initModel(BoardModel boardModel) {
     if(this.boardModel != null) {
       throw new IllegalStateException("BoardModel already initialized");
@@ -52,30 +60,74 @@ public class BoardView extends GridPane {
   }
 
   /**
-   * Renders the board based on the current state of the associated boardModel.
+   * Renders the board based on the current state of the associated boardModel. The squares are
+   * only created for the first rendering and when the size of the board changed, otherwise only the
+   * squares whose content differs from the model are redrawn. Has to be called on the JavaFX
+   * thread.
    */
+  @Override
   public void renderBoard() {
     String[][] grid = this.boardModel.getGrid();
-    this.squares = new Square[grid.length][grid[0].length];
+    if (this.squares == null || this.squares.length != grid.length
+        || this.squares[0].length != grid[0].length) {
+      this.getChildren().removeIf(node -> node instanceof Square);
+      this.squares = new Square[grid.length][grid[0].length];
+      for (int i = 0; i < grid.length; i++) {
+        for (int j = 0; j < grid[0].length; j++) {
+          Square square = new Square((i + j) % 2 == 0 ? this.database.getBoardTheme().getBoardColors()[0]
+              : this.database.getBoardTheme().getBoardColors()[1]);
+          int row = i;
+          int column = j;
+          square.addEventHandler(MouseEvent.MOUSE_CLICKED, mouseClick -> this.getOnSquareClick().handle(row, column));
+
+          squares[i][j] = square;
+          this.add(square, j, i);
+        }
+      }
+    }
     for (int i = 0; i < grid.length; i++) {
       for (int j = 0; j < grid[0].length; j++) {
-        String squareString = grid[i][j];
-        Square square = new Square((i + j) % 2 == 0 ? this.database.getBoardTheme().getBoardColors()[0]
-            : this.database.getBoardTheme().getBoardColors()[1]);
-
-        if (squareString.startsWith("p:")) {
-          square.setPiece(this.boardModel.getPieceByID(squareString));
-        } else if (squareString.startsWith("b:")) {
-          square.setBase(this.boardModel.getTeamNumberByID(squareString.substring(2)));
-        } else if (squareString.equals("b")) {
-          square.setBlock();
-        }
-
-        square.addEventHandler(MouseEvent.MOUSE_CLICKED, mouseClick -> this.getOnSquareClick().handle(mouseClick));
+        this.squares[i][j].update(grid[i][j]);
+      }
+    }
+  }
 
-        squares[i][j] = square;
-        this.add(square, j, i);
+  /**
+   * Redraws the given squares of the board. Can be called from any thread, the squares are
+   * collected and redrawn together on the JavaFX thread, so that several updates arriving in a short
+   * time only cause one redraw. Markers and selections of the squares are kept.
+   * @param changedSquares The rows and columns of the squares that changed.
+   */
+  @Override
+  public void updateSquares(Collection<int[]> changedSquares) {
+    synchronized (this.dirtySquares) {
+      this.dirtySquares.addAll(changedSquares);
+      if (this.redrawScheduled) {
+        return;
       }
+      this.redrawScheduled = true;
+    }
+    Platform.runLater(this::redrawDirtySquares);
+  }
+
+  /**
+   * Redraws all squares collected since the last redraw.
+   */
+  private void redrawDirtySquares() {
+    int[][] changedSquares;
+    synchronized (this.dirtySquares) {
+      changedSquares = this.dirtySquares.toArray(new int[0][]);
+      this.dirtySquares.clear();
+      this.redrawScheduled = false;
+    }
+    String[][] grid = this.boardModel.getGrid();
+    if (this.squares == null || this.squares.length != grid.length
+        || this.squares[0].length != grid[0].length) {
+      this.renderBoard();
+      return;
+    }
+    for (int[] square : changedSquares) {
+      this.squares[square[0]][square[1]].update(grid[square[0]][square[1]]);
     }
   }
 
@@ -83,23 +135,24 @@ public class BoardView extends GridPane {
    * Property for the onSquareClick event handler.
    * @return The onSquareClick event handler property.
    */
-  public final ObjectProperty<EventHandler<MouseEvent>> onSquareClickProperty() {
+  public final ObjectProperty<SquareClickHandler> onSquareClickProperty() {
     return this.propertyOnSquareClicked;
   }
 
   /**
    * Sets the onSquareClick event handler.
-   * @param handler The onSquareClick EventHandler to set.
+   * @param handler The onSquareClick handler to set.
    */
-  public final void setOnSquareClick(EventHandler<MouseEvent> handler) {
+  @Override
+  public final void setOnSquareClick(SquareClickHandler handler) {
     this.propertyOnSquareClicked.set(handler);
   }
 
   /**
    * Gets the onSquareClick event handler.
-   * @return The onSquareClick EventHandler.
+   * @return The onSquareClick handler.
    */
-  public final EventHandler<MouseEvent> getOnSquareClick() {
+  public final SquareClickHandler getOnSquareClick() {
     return this.propertyOnSquareClicked.get();
   }
 
@@ -108,6 +161,7 @@ public class BoardView extends GridPane {
    * @param row The row of the square to put the marker on.
    * @param column The column of the square to put the marker on.
    */
+  @Override
   public void setMarker(int row, int column) {
     this.squares[row][column].setMarker();
   }
@@ -117,6 +171,7 @@ public class BoardView extends GridPane {
    * @param row The row of the square to remove the marker from.
    * @param column The column of the square to remove the marker from.
    */
+  @Override
   public void removeMarker(int row, int column) {
     this.squares[row][column].removeMarker();
   }
@@ -126,6 +181,7 @@ public class BoardView extends GridPane {
    * @param row The row of the square to select.
    * @param column The column of the square to select.
    */
+  @Override
   public void selectSquare(int row, int column) {
     this.squares[row][column].selectSquare();
   }
@@ -135,6 +191,7 @@ public class BoardView extends GridPane {
    * @param row The row of the square to deselect.
    * @param column The column of the square to deselect.
    */
+  @Override
   public void deselectSquare(int row, int column) {
     this.squares[row][column].deselectSquare();
   }
@@ -149,6 +206,8 @@ public class BoardView extends GridPane {
     private final Color squareColor;
     private ImageView pieceView;
     private Shape marker;
+    // The content of the grid the square currently shows, null if nothing has been drawn yet.
+    private String content;
 
     /**
      * Creates an instance of a square with the specified base color.
@@ -175,6 +234,7 @@ public class BoardView extends GridPane {
      * squares with enemy pieces.
      */
     public void setMarker() {
+      this.getChildren().remove(this.marker);
       if (this.pieceView == null) {
         Circle circle = new Circle();
         circle.radiusProperty().bind(this.square.heightProperty().divide(6));
@@ -219,43 +279,79 @@ public class BoardView extends GridPane {
       this.square.setOpacity(1);
     }
 
+    /**
+     * Shows the given content of the grid on the square, if it differs from the content already
+     * shown. A marker on the square is kept and adapted to the new content, the selection is not
+     * changed.
+     *
+     * @param squareString The content of the grid at the position of the square.
+     */
+    public void update(String squareString) {
+      if (squareString.equals(this.content)) {
+        return;
+      }
+      this.getChildren().remove(this.pieceView);
+      this.pieceView = null;
+      this.content = squareString;
+
+      if (squareString.startsWith("p:")) {
+        Piece piece = boardModel.getPieceByID(squareString);
+        if (piece == null) {
+          // The piece is not indexed by the model yet, it is drawn with the next update.
+          this.content = null;
+        } else {
+          this.setPiece(piece);
+        }
+      } else if (squareString.startsWith("b:")) {
+        this.setBase(boardModel.getTeamNumberByID(squareString.substring(2)));
+      } else if (squareString.equals("b")) {
+        this.setBlock();
+      }
+
+      if (this.marker != null) {
+        this.setMarker();
+      }
+    }
+
     /**
      * Puts a piece on a square of the board
      *
      * @param piece The piece to put on the square.
      */
-    public void setPiece(Piece piece) {
+    private void setPiece(Piece piece) {
       String pieceType = piece.getDescription().getType();
 
       // Find the team number of the piece
       int teamNumber = boardModel.getTeamNumberByID(piece.getTeamId());
 
       //NullPointerException is handled in the resourceController class
-      this.pieceView = new ImageView(database.getPieceImage(database.getBoardTheme(),pieceType,teamNumber));
-
-      this.pieceView.fitWidthProperty().bind(this.square.widthProperty());
-      this.pieceView.fitHeightProperty().bind(this.square.heightProperty());
-      this.getChildren().add(this.pieceView);
+      this.showImage(new ImageView(database.getPieceImage(database.getBoardTheme(),pieceType,teamNumber)));
     }
 
     /**
      * Puts a base on a square of the board
      */
-    public void setBase(int teamNumber) {
-      this.pieceView = new ImageView(database.getPieceImage(database.getBoardTheme(),"Base",teamNumber));
-      this.pieceView.fitWidthProperty().bind(this.square.widthProperty());
-      this.pieceView.fitHeightProperty().bind(this.square.heightProperty());
-      this.getChildren().add(this.pieceView);
+    private void setBase(int teamNumber) {
+      this.showImage(new ImageView(database.getPieceImage(database.getBoardTheme(),"Base",teamNumber)));
     }
 
     /**
      * Puts a block on a square of the board
      */
-    public void setBlock() {
-      this.pieceView = new ImageView(database.getPieceImage(database.getBoardTheme(),"Block",0));
+    private void setBlock() {
+      this.showImage(new ImageView(database.getPieceImage(database.getBoardTheme(),"Block",0)));
+    }
+
+    /**
+     * Shows an image on the square, above the background and below a marker.
+     *
+     * @param pieceView The image to show.
+     */
+    private void showImage(ImageView pieceView) {
+      this.pieceView = pieceView;
       this.pieceView.fitWidthProperty().bind(this.square.widthProperty());
       this.pieceView.fitHeightProperty().bind(this.square.heightProperty());
-      this.getChildren().add(this.pieceView);
+      this.getChildren().add(1, this.pieceView);
     }
 
   }
@@ -0,0 +1,466 @@
+package de.sep.cfp4.ui.customComponents;
+
+import de.sep.cfp4.application.model.BoardModel;
+import de.sep.cfp4.technicalServices.database.DatabaseHandler;
+import de.sep.cfp4.technicalServices.database.interfaces.Database;
+import de.sep.cfp4.technicalServices.resource.BoardTheme;
+import de.unimannheim.swt.pse.ctf.game.state.Piece;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javafx.application.Platform;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.FillRule;
+
+/**
+ * View class drawing the board on a canvas instead of creating a node per square, for boards too
+ * large for the BoardView. Only the squares in the visible part of the board are drawn. The board is
+ * zoomed with the mouse wheel and moved by dragging it, clicks are mapped back to the squares.
+ *
+ * @version 0.0.1
+ * @see BoardView
+ */
+public class CanvasBoardView extends Region implements BoardRenderer {
+
+  // The largest size of a square on the screen in pixels.
+  private static final double MAX_SQUARE_SIZE = 128;
+  // Below this size of a square, images are drawn as squares of their average color.
+  private static final double MIN_IMAGE_SIZE = 6;
+  // The sizes of the scaled images are powers of two between these sizes.
+  private static final int MIN_SPRITE_SIZE = 8;
+  private static final int MAX_SPRITE_SIZE = 128;
+  // The zoom factor per step of the mouse wheel.
+  private static final double ZOOM_STEP = 1.25;
+
+  private final Canvas canvas = new Canvas();
+  private final Database database = DatabaseHandler.getInstance();
+  // Handler used to handle mouse clicks on squares on the board. Default is an empty handler.
+  private SquareClickHandler onSquareClick = (row, column) -> {};
+  // The boardModel associated with this view.
+  private BoardModel boardModel;
+  // The size of the board the view was laid out for.
+  private int rows;
+  private int columns;
+  // Marked and selected squares, indexed by row * columns + column.
+  private BitSet markers = new BitSet();
+  private BitSet selectedSquares = new BitSet();
+
+  // The size of a square on the screen and the position of the upper left corner of the board.
+  private double squareSize;
+  private double offsetX;
+  private double offsetY;
+  // Whether the whole board is shown, then the board follows the size of the view.
+  private boolean fitted = true;
+  // Position of the mouse and of the board when the mouse was pressed, for dragging the board.
+  private double pressX;
+  private double pressY;
+  private double pressOffsetX;
+  private double pressOffsetY;
+
+  // Squares waiting to be redrawn, collected until the next redraw on the JavaFX thread.
+  private final List<int[]> dirtySquares = new ArrayList<>();
+  // Whether a redraw of the dirty squares has already been scheduled.
+  private boolean redrawScheduled;
+
+  // The images of the ResourceController scaled to the sizes of the squares, by size.
+  private final Map<Integer, Map<Image, Image>> spritesBySize = new HashMap<>();
+  // The average colors of the images, used for very small squares.
+  private final Map<Image, Color> averageColors = new HashMap<>();
+  // Images loaded in the background that the board waits for.
+  private final Set<Image> loadingImages = new HashSet<>();
+
+  public CanvasBoardView(BoardModel boardModel) {
+    this();
+    this.initModel(boardModel);
+  }
+
+  public CanvasBoardView() {
+    this.canvas.setManaged(false);
+    this.getChildren().add(this.canvas);
+
+    this.addEventHandler(ScrollEvent.SCROLL, this::zoom);
+    this.addEventHandler(MouseEvent.MOUSE_PRESSED, e -> {
+      this.pressX = e.getX();
+      this.pressY = e.getY();
+      this.pressOffsetX = this.offsetX;
+      this.pressOffsetY = this.offsetY;
+    });
+    this.addEventHandler(MouseEvent.MOUSE_DRAGGED, e -> {
+      this.offsetX = this.pressOffsetX + e.getX() - this.pressX;
+      this.offsetY = this.pressOffsetY + e.getY() - this.pressY;
+      this.drawBoard();
+    });
+    this.addEventHandler(MouseEvent.MOUSE_CLICKED, e -> {
+      // Clicks ending a drag of the board are not clicks on a square.
+      if (e.getButton() == MouseButton.PRIMARY && e.isStillSincePress()) {
+        int row = (int) Math.floor((e.getY() - this.offsetY) / this.squareSize);
+        int column = (int) Math.floor((e.getX() - this.offsetX) / this.squareSize);
+        if (row >= 0 && row < this.rows && column >= 0 && column < this.columns) {
+          this.onSquareClick.handle(row, column);
+        }
+      }
+    });
+  }
+
+  @Override
+  public void initModel(BoardModel boardModel) {
+    if (this.boardModel != null) {
+      throw new IllegalStateException("BoardModel already initialized");
+    }
+    this.boardModel = boardModel;
+    this.requestLayout();
+  }
+
+  @Override
+  protected void layoutChildren() {
+    this.canvas.setWidth(this.getWidth());
+    this.canvas.setHeight(this.getHeight());
+    this.renderBoard();
+  }
+
+  /**
+   * Renders the visible part of the board based on the current state of the associated boardModel.
+   * Has to be called on the JavaFX thread.
+   */
+  @Override
+  public void renderBoard() {
+    if (this.boardModel == null) {
+      return;
+    }
+    String[][] grid = this.boardModel.getGrid();
+    if (grid.length != this.rows || grid[0].length != this.columns) {
+      this.rows = grid.length;
+      this.columns = grid[0].length;
+      this.markers = new BitSet();
+      this.selectedSquares = new BitSet();
+      this.fitted = true;
+    }
+    this.drawBoard();
+  }
+
+  @Override
+  public void updateSquares(Collection<int[]> changedSquares) {
+    synchronized (this.dirtySquares) {
+      this.dirtySquares.addAll(changedSquares);
+      if (this.redrawScheduled) {
+        return;
+      }
+      this.redrawScheduled = true;
+    }
+    Platform.runLater(this::redrawDirtySquares);
+  }
+
+  /**
+   * Redraws all squares collected since the last redraw.
+   */
+  private void redrawDirtySquares() {
+    int[][] changedSquares;
+    synchronized (this.dirtySquares) {
+      changedSquares = this.dirtySquares.toArray(new int[0][]);
+      this.dirtySquares.clear();
+      this.redrawScheduled = false;
+    }
+    if (this.boardModel == null) {
+      return;
+    }
+    String[][] grid = this.boardModel.getGrid();
+    if (grid.length != this.rows || grid[0].length != this.columns) {
+      this.renderBoard();
+      return;
+    }
+    for (int[] square : changedSquares) {
+      this.drawSquare(this.canvas.getGraphicsContext2D(), grid, square[0], square[1]);
+    }
+  }
+
+  @Override
+  public void setOnSquareClick(SquareClickHandler handler) {
+    this.onSquareClick = handler;
+  }
+
+  @Override
+  public void setMarker(int row, int column) {
+    this.markers.set(row * this.columns + column);
+    this.drawSquare(row, column);
+  }
+
+  @Override
+  public void removeMarker(int row, int column) {
+    this.markers.clear(row * this.columns + column);
+    this.drawSquare(row, column);
+  }
+
+  @Override
+  public void selectSquare(int row, int column) {
+    this.selectedSquares.set(row * this.columns + column);
+    this.drawSquare(row, column);
+  }
+
+  @Override
+  public void deselectSquare(int row, int column) {
+    this.selectedSquares.clear(row * this.columns + column);
+    this.drawSquare(row, column);
+  }
+
+  /**
+   * Zooms the board in or out, keeping the point of the board under the mouse in place.
+   *
+   * @param e The scroll event of the mouse wheel.
+   */
+  private void zoom(ScrollEvent e) {
+    if (e.getDeltaY() == 0 || this.squareSize <= 0) {
+      return;
+    }
+    double fittedSize = this.fittedSquareSize();
+    double size = this.squareSize * (e.getDeltaY() > 0 ? ZOOM_STEP : 1 / ZOOM_STEP);
+    size = Math.max(fittedSize, Math.min(Math.max(fittedSize, MAX_SQUARE_SIZE), size));
+    this.offsetX = e.getX() - (e.getX() - this.offsetX) * size / this.squareSize;
+    this.offsetY = e.getY() - (e.getY() - this.offsetY) * size / this.squareSize;
+    this.squareSize = size;
+    this.fitted = size <= fittedSize;
+    this.drawBoard();
+    e.consume();
+  }
+
+  /**
+   * Returns the size of the squares at which the whole board fits into the view.
+   *
+   * @return The size of the squares in pixels.
+   */
+  private double fittedSquareSize() {
+    return Math.min(this.getWidth() / this.columns, this.getHeight() / this.rows);
+  }
+
+  /**
+   * Draws the visible part of the board. The board is kept inside the view, a board smaller than
+   * the view is centered.
+   */
+  private void drawBoard() {
+    GraphicsContext gc = this.canvas.getGraphicsContext2D();
+    gc.clearRect(0, 0, this.canvas.getWidth(), this.canvas.getHeight());
+    if (this.rows == 0 || this.getWidth() <= 0 || this.getHeight() <= 0) {
+      return;
+    }
+    if (this.fitted) {
+      this.squareSize = this.fittedSquareSize();
+    }
+    double boardWidth = this.columns * this.squareSize;
+    double boardHeight = this.rows * this.squareSize;
+    this.offsetX = boardWidth <= this.getWidth() ? (this.getWidth() - boardWidth) / 2
+        : Math.max(this.getWidth() - boardWidth, Math.min(0, this.offsetX));
+    this.offsetY = boardHeight <= this.getHeight() ? (this.getHeight() - boardHeight) / 2
+        : Math.max(this.getHeight() - boardHeight, Math.min(0, this.offsetY));
+
+    int firstRow = Math.max(0, (int) Math.floor(-this.offsetY / this.squareSize));
+    int lastRow = Math.min(this.rows - 1,
+        (int) Math.floor((this.getHeight() - this.offsetY) / this.squareSize));
+    int firstColumn = Math.max(0, (int) Math.floor(-this.offsetX / this.squareSize));
+    int lastColumn = Math.min(this.columns - 1,
+        (int) Math.floor((this.getWidth() - this.offsetX) / this.squareSize));
+    String[][] grid = this.boardModel.getGrid();
+    for (int i = firstRow; i <= lastRow; i++) {
+      for (int j = firstColumn; j <= lastColumn; j++) {
+        this.drawSquare(gc, grid, i, j);
+      }
+    }
+  }
+
+  /**
+   * Draws a single square of the board with the current state of the boardModel.
+   *
+   * @param row The row of the square.
+   * @param column The column of the square.
+   */
+  private void drawSquare(int row, int column) {
+    this.drawSquare(this.canvas.getGraphicsContext2D(), this.boardModel.getGrid(), row, column);
+  }
+
+  /**
+   * Draws a square of the board with its background, image, selection and marker. Squares outside
+   * the visible part of the board are skipped.
+   *
+   * @param gc The graphics context of the canvas.
+   * @param grid The grid of the boardModel.
+   * @param row The row of the square.
+   * @param column The column of the square.
+   */
+  private void drawSquare(GraphicsContext gc, String[][] grid, int row, int column) {
+    if (row >= grid.length || column >= grid[row].length) {
+      return;
+    }
+    double size = this.squareSize;
+    double x = this.offsetX + column * size;
+    double y = this.offsetY + row * size;
+    if (x + size < 0 || y + size < 0 || x > this.getWidth() || y > this.getHeight()) {
+      return;
+    }
+    BoardTheme theme = this.database.getBoardTheme();
+    int index = row * this.columns + column;
+
+    gc.setGlobalAlpha(1);
+    gc.setFill(theme.getBoardColors()[(row + column) % 2]);
+    gc.fillRect(x, y, size, size);
+    if (this.selectedSquares.get(index)) {
+      gc.setGlobalAlpha(0.5);
+      gc.setFill(theme.getMarkerColor());
+      gc.fillRect(x, y, size, size);
+      gc.setGlobalAlpha(1);
+    }
+    // Outline of the square, left out if the squares are too small for it.
+    if (size >= 8) {
+      gc.setStroke(Color.BLACK);
+      gc.setLineWidth(0.5);
+      gc.strokeRect(x + 0.25, y + 0.25, size - 0.5, size - 0.5);
+    }
+
+    Image image = this.imageOf(theme, grid[row][column]);
+    if (image != null) {
+      if (size >= MIN_IMAGE_SIZE) {
+        gc.drawImage(this.sprite(image, size), x, y, size, size);
+      } else {
+        gc.setFill(this.averageColor(image));
+        gc.fillRect(x, y, size, size);
+      }
+    }
+
+    // Marker: A circle for empty squares and a window for squares with enemy pieces.
+    if (this.markers.get(index)) {
+      gc.setGlobalAlpha(0.5);
+      gc.setFill(theme.getMarkerColor());
+      if (image == null) {
+        gc.fillOval(x + size / 3, y + size / 3, size / 3, size / 3);
+      } else {
+        double radius = size * 0.55;
+        gc.save();
+        gc.beginPath();
+        gc.rect(x, y, size, size);
+        gc.clip();
+        gc.setFillRule(FillRule.EVEN_ODD);
+        gc.beginPath();
+        gc.rect(x, y, size, size);
+        gc.arc(x + size / 2, y + size / 2, radius, radius, 0, 360);
+        gc.closePath();
+        gc.fill();
+        gc.restore();
+      }
+      gc.setGlobalAlpha(1);
+    }
+  }
+
+  /**
+   * Returns the image of the ResourceController for a square of the grid.
+   *
+   * @param theme The board theme.
+   * @param squareString The content of the grid at the position of the square.
+   * @return The image of the piece, base or block on the square, null for empty squares.
+   */
+  private Image imageOf(BoardTheme theme, String squareString) {
+    if (squareString.startsWith("p:")) {
+      Piece piece = this.boardModel.getPieceByID(squareString);
+      // The piece may not be indexed by the model yet, it is drawn with the next update.
+      return piece == null ? null : this.database.getPieceImage(theme,
+          piece.getDescription().getType(), this.boardModel.getTeamNumberByID(piece.getTeamId()));
+    } else if (squareString.startsWith("b:")) {
+      return this.database.getPieceImage(theme, "Base",
+          this.boardModel.getTeamNumberByID(squareString.substring(2)));
+    } else if (squareString.equals("b")) {
+      return this.database.getPieceImage(theme, "Block", 0);
+    }
+    return null;
+  }
+
+  /**
+   * Returns an image scaled to the next power of two above the size of the squares, so that the
+   * images are not scaled down from their full size every time a square is drawn. The scaled images
+   * are cached per size and loaded in the background, the board is redrawn when they are loaded.
+   *
+   * @param image The image of the ResourceController.
+   * @param squareSize The size of the squares in pixels.
+   * @return The scaled image, or the given image while it is scaled.
+   */
+  private Image sprite(Image image, double squareSize) {
+    int size = MIN_SPRITE_SIZE;
+    while (size < squareSize && size < MAX_SPRITE_SIZE) {
+      size *= 2;
+    }
+    Map<Image, Image> sprites = this.spritesBySize.computeIfAbsent(size, s -> new HashMap<>());
+    Image sprite = sprites.get(image);
+    if (sprite == null) {
+      // The size of the image is only known once it is loaded.
+      if (!this.isLoaded(image)) {
+        return image;
+      }
+      sprite = image.getUrl() == null || image.getWidth() <= size ? image
+          : new Image(image.getUrl(), size, size, false, true, true);
+      sprites.put(image, sprite);
+    }
+    return this.isLoaded(sprite) ? sprite : image;
+  }
+
+  /**
+   * Checks whether an image loaded in the background is complete, and redraws the board when it is
+   * loaded otherwise.
+   *
+   * @param image The image.
+   * @return true if the image is loaded, false otherwise.
+   */
+  private boolean isLoaded(Image image) {
+    if (image.getProgress() >= 1 || image.isError()) {
+      return true;
+    }
+    if (this.loadingImages.add(image)) {
+      image.progressProperty().addListener((observable, oldValue, newValue) -> {
+        if (newValue.doubleValue() >= 1 && this.loadingImages.remove(image)) {
+          this.drawBoard();
+        }
+      });
+    }
+    return false;
+  }
+
+  /**
+   * Returns the average color of the visible pixels of an image.
+   *
+   * @param image The image.
+   * @return The average color.
+   */
+  private Color averageColor(Image image) {
+    if (!this.isLoaded(image)) {
+      return Color.GRAY;
+    }
+    return this.averageColors.computeIfAbsent(image, original -> {
+      PixelReader reader = original.getPixelReader();
+      if (reader == null) {
+        return Color.GRAY;
+      }
+      double red = 0;
+      double green = 0;
+      double blue = 0;
+      double alpha = 0;
+      for (int y = 0; y < original.getHeight(); y++) {
+        for (int x = 0; x < original.getWidth(); x++) {
+          Color color = reader.getColor(x, y);
+          red += color.getRed() * color.getOpacity();
+          green += color.getGreen() * color.getOpacity();
+          blue += color.getBlue() * color.getOpacity();
+          alpha += color.getOpacity();
+        }
+      }
+      return alpha == 0 ? Color.GRAY : Color.color(red / alpha, green / alpha, blue / alpha);
+    });
+  }
+
+}
@@ -0,0 +1,206 @@
+package de.sep.cfp4.ai;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.gson.Gson;
+import de.sep.cfp4.application.exceptions.TooManyRequests;
+import de.sep.cfp4.application.model.BoardModel;
+import de.sep.cfp4.technicalServices.ai.BotScheduler;
+import de.sep.cfp4.technicalServices.network.LocalGameClient;
+import de.sep.cfp4.technicalServices.network.LocalSessionRegistry;
+import de.unimannheim.swt.pse.ctf.game.engine.GameEngine;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import java.io.InputStreamReader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the scheduling of the turns of the bots.
+ *
+ * @version 0.0.1
+ * @see BotScheduler
+ */
+class BotSchedulerTest {
+
+  /**
+   * Tests in the class:
+   *
+   * ---  alternatingTurnsTest()
+   *      This test checks that two scheduled bots play their turns one after the other, each one as
+   *      soon as its board model announces its turn.
+   *
+   * ---  stoppedTest()
+   *      This test checks that no turns are played anymore after the board models were stopped.
+   *
+   * ---  retryTest()
+   *      This test checks that a failed turn is played again.
+   *
+   * ---  giveUpTest()
+   *      This test checks that a bot whose turns keep failing stops trying after a few attempts.
+   *
+   * ---  throttledTest()
+   *      This test checks that a turn throttled by the server is played again only after the time
+   *      the server asked for.
+   */
+
+  private BoardModel first;
+  private BoardModel second;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    MapTemplate template;
+    try (InputStreamReader reader = new InputStreamReader(
+        getClass().getResourceAsStream("/de/sep/cfp4/network/10x10_2teams_example.json"))) {
+      template = new Gson().fromJson(reader, MapTemplate.class);
+    }
+    template.setTotalTimeLimitInSeconds(-1);
+    template.setMoveTimeLimitInSeconds(-1);
+
+    LocalGameClient api = new LocalGameClient(new LocalSessionRegistry(GameEngine::new));
+    this.first = new BoardModel(api, template, "team1");
+    this.second = new BoardModel(api, this.first.getGameSessionID(), "team2");
+
+    // Wait until both boards know both teams.
+    for (BoardModel board : List.of(this.first, this.second)) {
+      long end = System.currentTimeMillis() + 3000;
+      while (!Arrays.asList(board.getAllTeamIDs()).containsAll(List.of("team1", "team2"))
+          && System.currentTimeMillis() < end) {
+        Thread.sleep(20);
+      }
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.first.stopUpdateThread();
+    this.second.stopUpdateThread();
+  }
+
+  /**
+   * Moves the first piece of the team of the board that can move to an empty square.
+   */
+  private static void moveAnyPiece(BoardModel board) throws Exception {
+    String[][] grid = board.getGrid();
+    for (int i = 0; i < grid.length; i++) {
+      for (int j = 0; j < grid[i].length; j++) {
+        if (grid[i][j].startsWith("p:" + board.getTeamID() + "_")) {
+          int[][] reachable = board.getReachableSquares(i, j);
+          for (int k = 0; k < reachable.length; k++) {
+            for (int l = 0; l < reachable[k].length; l++) {
+              if (reachable[k][l] == 0) {
+                board.makeMove(i, j, k, l);
+                return;
+              }
+            }
+          }
+        }
+      }
+    }
+    fail("No piece of " + board.getTeamID() + " can move.");
+  }
+
+  private static void awaitMoves(AtomicInteger[] moves, int count) throws InterruptedException {
+    long end = System.currentTimeMillis() + 10000;
+    while (moves[0].get() + moves[1].get() < count && System.currentTimeMillis() < end) {
+      Thread.sleep(20);
+    }
+  }
+
+  private AtomicInteger[] scheduleBots() {
+    AtomicInteger[] moves = {new AtomicInteger(), new AtomicInteger()};
+    BoardModel[] boards = {this.first, this.second};
+    for (int i = 0; i < 2; i++) {
+      BoardModel board = boards[i];
+      AtomicInteger count = moves[i];
+      BotScheduler.schedule(board, () -> {
+        moveAnyPiece(board);
+        count.incrementAndGet();
+      });
+    }
+    return moves;
+  }
+
+  @Test
+  void alternatingTurnsTest() throws InterruptedException {
+    AtomicInteger[] moves = this.scheduleBots();
+    awaitMoves(moves, 6);
+
+    assertTrue(moves[0].get() + moves[1].get() >= 6, "moves: " + Arrays.toString(moves));
+    assertTrue(Math.abs(moves[0].get() - moves[1].get()) <= 1, "moves: " + Arrays.toString(moves));
+  }
+
+  @Test
+  void stoppedTest() throws InterruptedException {
+    AtomicInteger[] moves = this.scheduleBots();
+    awaitMoves(moves, 2);
+    this.first.stopUpdateThread();
+    this.second.stopUpdateThread();
+
+    Thread.sleep(200);
+    int count = moves[0].get() + moves[1].get();
+    Thread.sleep(1500);
+    assertEquals(count, moves[0].get() + moves[1].get());
+  }
+
+  @Test
+  void retryTest() throws InterruptedException {
+    BoardModel mover = this.mover();
+    AtomicInteger attempts = new AtomicInteger();
+    BotScheduler.schedule(mover, () -> {
+      if (attempts.incrementAndGet() == 1) {
+        throw new IllegalStateException("First attempt fails");
+      }
+      moveAnyPiece(mover);
+    });
+
+    long end = System.currentTimeMillis() + 3000;
+    while (attempts.get() < 2 && System.currentTimeMillis() < end) {
+      Thread.sleep(20);
+    }
+    assertEquals(2, attempts.get());
+  }
+
+  private BoardModel mover() {
+    return this.first.getCurrentTeamID().equals(this.first.getTeamID()) ? this.first : this.second;
+  }
+
+  @Test
+  void giveUpTest() throws InterruptedException {
+    AtomicInteger attempts = new AtomicInteger();
+    BotScheduler.schedule(this.mover(), () -> {
+      attempts.incrementAndGet();
+      throw new IllegalStateException("Every attempt fails");
+    });
+
+    // The retries wait 0.5, 1 and 2 seconds.
+    Thread.sleep(6000);
+    assertEquals(4, attempts.get());
+  }
+
+  @Test
+  void throttledTest() throws InterruptedException {
+    BoardModel mover = this.mover();
+    AtomicInteger attempts = new AtomicInteger();
+    AtomicLong retried = new AtomicLong();
+    long start = System.currentTimeMillis();
+    BotScheduler.schedule(mover, () -> {
+      if (attempts.incrementAndGet() == 1) {
+        throw new TooManyRequests(1500);
+      }
+      retried.set(System.currentTimeMillis());
+      moveAnyPiece(mover);
+    });
+
+    long end = System.currentTimeMillis() + 4000;
+    while (retried.get() == 0 && System.currentTimeMillis() < end) {
+      Thread.sleep(20);
+    }
+    assertEquals(2, attempts.get());
+    assertTrue(retried.get() - start >= 1500, "retried after " + (retried.get() - start) + " ms");
+  }
+}
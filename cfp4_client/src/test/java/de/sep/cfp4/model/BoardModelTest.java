@@ -0,0 +1,173 @@
+package de.sep.cfp4.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.gson.Gson;
+import de.sep.cfp4.application.model.BoardModel;
+import de.sep.cfp4.technicalServices.network.LocalGameClient;
+import de.sep.cfp4.technicalServices.network.LocalSessionRegistry;
+import de.unimannheim.swt.pse.ctf.game.engine.GameEngine;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import java.beans.PropertyChangeEvent;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the incremental updates of the BoardModel class.
+ *
+ * @version 0.0.1
+ * @see BoardModel
+ */
+class BoardModelTest {
+
+  /**
+   * Tests in the class:
+   *
+   * ---  moveUpdateTest()
+   *      This test checks that after a move both boards of the game, one of them upside down, report
+   *      exactly the two changed squares and the change of the turn, and publish a new grid while the
+   *      grid read before the move still shows the board before the move.
+   *
+   * ---  orientedGridTest()
+   *      This test checks that the grid of the upper team is the grid of the lower team rotated by 180
+   *      degrees and that all pieces on the grids are indexed.
+   */
+
+  private final List<BoardModel> boards = new ArrayList<>();
+  private BoardModel first;
+  private BoardModel second;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    MapTemplate template;
+    try (InputStreamReader reader = new InputStreamReader(
+        getClass().getResourceAsStream("/de/sep/cfp4/network/10x10_2teams_example.json"))) {
+      template = new Gson().fromJson(reader, MapTemplate.class);
+    }
+    template.setTotalTimeLimitInSeconds(-1);
+    template.setMoveTimeLimitInSeconds(-1);
+
+    LocalGameClient api = new LocalGameClient(new LocalSessionRegistry(GameEngine::new));
+    this.first = new BoardModel(api, template, "team1");
+    this.second = new BoardModel(api, this.first.getGameSessionID(), "team2");
+    this.boards.add(this.first);
+    this.boards.add(this.second);
+
+    // Wait until both boards show the game after both teams joined.
+    for (BoardModel board : this.boards) {
+      long end = System.currentTimeMillis() + 3000;
+      while (!joined(board) && System.currentTimeMillis() < end) {
+        Thread.sleep(20);
+      }
+    }
+  }
+
+  private static boolean joined(BoardModel board) {
+    if (!Arrays.asList(board.getAllTeamIDs()).containsAll(List.of("team1", "team2"))) {
+      return false;
+    }
+    // The engine renames the pieces on the grid after the team, so all pieces must be indexed.
+    for (String[] row : board.getGrid()) {
+      for (String square : row) {
+        if (square.startsWith("p:") && board.getPieceByID(square) == null) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.boards.forEach(BoardModel::stopUpdateThread);
+  }
+
+  private static LinkedBlockingQueue<PropertyChangeEvent> events(BoardModel board) {
+    LinkedBlockingQueue<PropertyChangeEvent> events = new LinkedBlockingQueue<>();
+    board.addPropertyChangeListener(events::add);
+    return events;
+  }
+
+  private static PropertyChangeEvent next(LinkedBlockingQueue<PropertyChangeEvent> events,
+      String name) throws InterruptedException {
+    PropertyChangeEvent event;
+    do {
+      event = events.poll(3, TimeUnit.SECONDS);
+    } while (event != null && !event.getPropertyName().equals(name));
+    return event;
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void moveUpdateTest() throws Exception {
+    BoardModel mover = this.first.getCurrentTeamID().equals("team1") ? this.first : this.second;
+    BoardModel other = mover == this.first ? this.second : this.first;
+    String[][] moverGrid = mover.getGrid();
+    String[][] otherGrid = other.getGrid();
+    LinkedBlockingQueue<PropertyChangeEvent> moverEvents = events(mover);
+    LinkedBlockingQueue<PropertyChangeEvent> otherEvents = events(other);
+
+    // Move the first piece of the moving team that can move to an empty square.
+    int[] move = null;
+    for (int i = 0; i < moverGrid.length && move == null; i++) {
+      for (int j = 0; j < moverGrid[i].length && move == null; j++) {
+        if (moverGrid[i][j].startsWith("p:" + mover.getTeamID() + "_")) {
+          int[][] reachable = mover.getReachableSquares(i, j);
+          for (int k = 0; k < reachable.length && move == null; k++) {
+            for (int l = 0; l < reachable[k].length && move == null; l++) {
+              if (reachable[k][l] == 0) {
+                move = new int[]{i, j, k, l};
+              }
+            }
+          }
+        }
+      }
+    }
+    assertNotNull(move);
+    String piece = moverGrid[move[0]][move[1]];
+    mover.makeMove(move[0], move[1], move[2], move[3]);
+
+    for (LinkedBlockingQueue<PropertyChangeEvent> events : List.of(moverEvents, otherEvents)) {
+      PropertyChangeEvent cells = next(events, "cellsChanged");
+      assertNotNull(cells);
+      assertEquals(2, ((List<int[]>) cells.getNewValue()).size());
+    }
+    assertNotNull(next(moverEvents, "currentTeam"));
+    assertNotNull(next(otherEvents, "currentTeam"));
+
+    // The grids read before the move are unchanged, the piece moved on the new grids of both boards.
+    assertNotSame(moverGrid, mover.getGrid());
+    assertNotSame(otherGrid, other.getGrid());
+    assertEquals(piece, moverGrid[move[0]][move[1]]);
+    assertEquals(piece, mover.getGrid()[move[2]][move[3]]);
+    assertEquals("", mover.getGrid()[move[0]][move[1]]);
+    int rows = otherGrid.length;
+    int columns = otherGrid[0].length;
+    assertEquals(piece, other.getGrid()[rows - move[2] - 1][columns - move[3] - 1]);
+    assertEquals(mover.getPieceByID(piece).getId(), other.getPieceByID(piece).getId());
+  }
+
+  @Test
+  void orientedGridTest() {
+    assertNotEquals(this.first.isUpsideDown(), this.second.isUpsideDown());
+    String[][] firstGrid = this.first.getGrid();
+    String[][] secondGrid = this.second.getGrid();
+    int rows = firstGrid.length;
+    int columns = firstGrid[0].length;
+    for (int i = 0; i < rows; i++) {
+      for (int j = 0; j < columns; j++) {
+        assertEquals(firstGrid[i][j], secondGrid[rows - i - 1][columns - j - 1]);
+        if (firstGrid[i][j].startsWith("p:")) {
+          assertNotNull(this.first.getPieceByID(firstGrid[i][j]));
+        }
+      }
+    }
+  }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.google.gson.Gson;
 import de.sep.cfp4.technicalServices.network.GameClient;
+import de.sep.cfp4.technicalServices.network.HttpClients;
 import de.unimannheim.swt.pse.ctf.CtfApplication;
 import de.unimannheim.swt.pse.ctf.controller.data.*;
 import de.unimannheim.swt.pse.ctf.game.exceptions.*;
@@ -13,6 +14,8 @@ import java.io.InputStreamReader;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import de.unimannheim.swt.pse.ctf.game.state.GameState;
 import de.unimannheim.swt.pse.ctf.game.state.Piece;
@@ -114,6 +117,17 @@ class GameClientTest {
    * ---  makeMoveTestFailInvalidMove()
    *      This test checks making an invalid move in an existing game session. It attempts to make an invalid
    *      move in a game session, expecting an InvalidMove exception.
+   *
+   * ---  asyncTestSuccess()
+   *      This test checks the asynchronous calls. It creates a game session, requests the session and
+   *      its game state at the same time and verifies if both belong to the created session.
+   *
+   * ---  asyncTestFailSessionNotFound()
+   *      This test checks an asynchronous call for a non-existing game session, expecting the future
+   *      to complete with a GameSessionNotFound exception.
+   *
+   * ---  sharedHttpClientTest()
+   *      This test checks that the clients of the same server share one HttpClient.
    */
 
   private final String SERVER_URL = "http://localhost:8888";
@@ -532,4 +546,47 @@ class GameClientTest {
       assertThrows(InvalidMove.class, () -> this.client.makeMove(this.sessionId, moveRequest));
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * Test the asynchronous retrieval of a game session and its game state.
+   *
+   * @throws IOException          if no connection to Server can be established
+   * @throws InterruptedException if the communication with the server is interrupted
+   * @throws ExecutionException   if an asynchronous call failed
+   */
+  @Test
+  void asyncTestSuccess() throws IOException, InterruptedException, ExecutionException {
+    try (InputStreamReader reader = new InputStreamReader(
+            getClass().getResourceAsStream("10x10_2teams_example.json"))) {
+      MapTemplate template = new Gson().fromJson(reader, MapTemplate.class);
+      String sessionId = this.client.createGameSessionAsync(template).get().getId();
+
+      CompletableFuture<GameSessionResponse> session = this.client.getGameSessionAsync(sessionId);
+      CompletableFuture<GameState> state = this.client.getGameStateAsync(sessionId);
+
+      assertEquals(sessionId, session.get().getId());
+      assertEquals(10, state.get().getGrid().length);
+    }
+  }
+
+  /**
+   * Test the asynchronous retrieval of the game state of a game session that does not exist.
+   */
+  @Test
+  void asyncTestFailSessionNotFound() {
+    ExecutionException e = assertThrows(ExecutionException.class,
+        () -> this.client.getGameStateAsync("nonexistent").get());
+    assertInstanceOf(GameSessionNotFound.class, e.getCause());
+  }
+
+  /**
+   * Test that the clients of the same server share one HttpClient.
+   */
+  @Test
+  void sharedHttpClientTest() {
+    assertSame(HttpClients.forUri(URI.create(this.SERVER_URL + "/api/gamesession")),
+        HttpClients.forUri(URI.create("HTTP://LOCALHOST:8888")));
+    assertNotSame(HttpClients.forUri(URI.create(this.SERVER_URL)),
+        HttpClients.forUri(URI.create("http://localhost:8889")));
+  }
+}
@@ -0,0 +1,115 @@
+package de.sep.cfp4.network;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import de.sep.cfp4.technicalServices.network.GameStateAdapters;
+import de.unimannheim.swt.pse.ctf.embedded.JsonCodec;
+import de.unimannheim.swt.pse.ctf.game.engine.GameEngine;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.game.map.PieceDescription;
+import de.unimannheim.swt.pse.ctf.game.state.GameState;
+import de.unimannheim.swt.pse.ctf.game.state.Team;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the streaming adapters of the game state.
+ *
+ * @version 0.0.1
+ * @see GameStateAdapters
+ */
+class GameStateAdaptersTest {
+
+  /**
+   * Tests in the class:
+   *
+   * ---  readGameStateTest()
+   *      This test checks that a game state written by the server is read with the same values as
+   *      with the reflective adapters of Gson.
+   *
+   * ---  internedTest()
+   *      This test checks that equal cells of two game states are the same String and that equal piece
+   *      descriptions of different teams are the same instance.
+   *
+   * ---  unknownAndNullPropertiesTest()
+   *      This test checks that unknown properties are skipped and null values are read as null.
+   *
+   * ---  writeMapTemplateTest()
+   *      This test checks that a map template is written the same way as with the reflective adapters.
+   */
+
+  private final Gson reflective = new Gson();
+  private final Gson streaming = GameStateAdapters.register(new GsonBuilder()).create();
+  private MapTemplate template;
+  private String json;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    try (InputStreamReader reader = new InputStreamReader(
+        getClass().getResourceAsStream("10x10_2teams_example.json"))) {
+      this.template = new Gson().fromJson(reader, MapTemplate.class);
+    }
+    this.template.setGridSize(new int[]{50, 50});
+    this.template.setBlocks(20);
+
+    GameEngine engine = new GameEngine();
+    engine.create(this.template);
+    engine.joinGame("team1");
+    engine.joinGame("team2");
+    this.json = JsonCodec.write(engine.getCurrentGameState());
+  }
+
+  @Test
+  void readGameStateTest() {
+    GameState expected = this.reflective.fromJson(this.json, GameState.class);
+    GameState actual = this.streaming.fromJson(this.json, GameState.class);
+
+    assertEquals(this.reflective.toJson(expected), this.reflective.toJson(actual));
+    assertEquals(this.reflective.toJson(expected), this.streaming.toJson(actual));
+  }
+
+  @Test
+  void internedTest() {
+    GameState first = this.streaming.fromJson(this.json, GameState.class);
+    GameState second = this.streaming.fromJson(this.json, GameState.class);
+
+    for (int i = 0; i < first.getGrid().length; i++) {
+      for (int j = 0; j < first.getGrid()[i].length; j++) {
+        assertSame(first.getGrid()[i][j], second.getGrid()[i][j]);
+      }
+    }
+    Team[] teams = first.getTeams();
+    PieceDescription description = teams[0].getPieces()[0].getDescription();
+    assertSame(description, teams[1].getPieces()[0].getDescription());
+    assertSame(description, second.getTeams()[0].getPieces()[0].getDescription());
+  }
+
+  @Test
+  void unknownAndNullPropertiesTest() {
+    String json = "{\"unknown\":{\"a\":[1,2]},\"grid\":[[\"\",\"b\"]],\"teams\":[null,"
+        + "{\"id\":\"t\",\"pieces\":[{\"id\":\"1\",\"description\":{\"type\":\"Knight\","
+        + "\"movement\":{\"directions\":null,\"shape\":{\"type\":\"lshape\"}}}}]}],"
+        + "\"currentTeam\":1,\"lastMove\":null}";
+    GameState state = this.streaming.fromJson(json, GameState.class);
+
+    assertArrayEquals(new String[][]{{"", "b"}}, state.getGrid());
+    assertNull(state.getTeams()[0]);
+    assertEquals("t", state.getTeams()[1].getId());
+    assertEquals(1, state.getCurrentTeam());
+    assertNull(state.getLastMove());
+    PieceDescription description = state.getTeams()[1].getPieces()[0].getDescription();
+    assertNull(description.getMovement().getDirections());
+    assertEquals("lshape", description.getMovement().getShape().getType().name());
+    assertEquals(this.reflective.toJson(this.reflective.fromJson(json, GameState.class)),
+        this.reflective.toJson(state));
+  }
+
+  @Test
+  void writeMapTemplateTest() {
+    assertEquals(this.reflective.toJson(this.template), this.streaming.toJson(this.template));
+  }
+}
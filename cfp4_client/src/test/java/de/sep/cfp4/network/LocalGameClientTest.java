@@ -0,0 +1,188 @@
+package de.sep.cfp4.network;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.gson.Gson;
+import de.sep.cfp4.technicalServices.network.LocalGameClient;
+import de.sep.cfp4.technicalServices.network.LocalSessionRegistry;
+import de.unimannheim.swt.pse.ctf.controller.data.*;
+import de.unimannheim.swt.pse.ctf.game.engine.GameEngine;
+import de.unimannheim.swt.pse.ctf.game.exceptions.*;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.game.state.GameState;
+import de.unimannheim.swt.pse.ctf.game.state.Piece;
+import de.unimannheim.swt.pse.ctf.game.state.Team;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the implementation of the LocalGameClient class.
+ *
+ * @version 0.0.1
+ * @see LocalGameClient
+ */
+class LocalGameClientTest {
+
+  /**
+   * Tests in the class:
+   *
+   * ---  createGameSessionTest()
+   *      This test checks that a created game session is registered in the registry of the client.
+   *
+   * ---  unknownSessionTest()
+   *      This test checks that all calls on a non-existing game session throw GameSessionNotFound.
+   *
+   * ---  getGameStateSnapshotTest()
+   *      This test checks that changing a returned game state does not change the game.
+   *
+   * ---  makeMoveTestFailForbiddenMove()
+   *      This test checks that a move with a wrong team secret throws ForbiddenMove.
+   *
+   * ---  playGameTest()
+   *      This test plays moves for both teams and checks that every move shows up in the next game
+   *      state, while earlier game states stay unchanged.
+   *
+   * ---  deleteGameSessionTest()
+   *      This test checks that a deleted game session is removed from the registry.
+   */
+
+  private LocalSessionRegistry registry;
+  private LocalGameClient client;
+  private MapTemplate template;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    this.registry = new LocalSessionRegistry(GameEngine::new);
+    this.client = new LocalGameClient(this.registry);
+    try (InputStreamReader reader = new InputStreamReader(
+        getClass().getResourceAsStream("10x10_2teams_example.json"))) {
+      this.template = new Gson().fromJson(reader, MapTemplate.class);
+    }
+    // No time limits, so that no scheduler ends the game during the test.
+    this.template.setTotalTimeLimitInSeconds(-1);
+    this.template.setMoveTimeLimitInSeconds(-1);
+  }
+
+  @Test
+  void createGameSessionTest() {
+    GameSessionResponse response = this.client.createGameSession(this.template);
+    assertNotNull(response.getId());
+    assertEquals(1, this.registry.size());
+    assertEquals(response.getId(), this.client.getGameSession(response.getId()).getId());
+  }
+
+  @Test
+  void unknownSessionTest() {
+    assertThrows(GameSessionNotFound.class, () -> this.client.getGameSession("nonexistent"));
+    assertThrows(GameSessionNotFound.class, () -> this.client.getGameState("nonexistent"));
+    assertThrows(GameSessionNotFound.class, () -> this.client.deleteGameSession("nonexistent"));
+    assertThrows(GameSessionNotFound.class,
+        () -> this.client.joinGame("nonexistent", new JoinGameRequest()));
+  }
+
+  @Test
+  void getGameStateSnapshotTest() {
+    String sessionId = this.client.createGameSession(this.template).getId();
+    this.client.joinGame(sessionId, joinRequest("a"));
+    this.client.joinGame(sessionId, joinRequest("b"));
+
+    GameState state = this.client.getGameState(sessionId);
+    String cell = state.getGrid()[0][0];
+    state.getGrid()[0][0] = "changed";
+    state.getTeams()[0].getPieces()[0].getPosition()[0] = -1;
+
+    GameState fresh = this.client.getGameState(sessionId);
+    assertEquals(cell, fresh.getGrid()[0][0]);
+    assertTrue(fresh.getTeams()[0].getPieces()[0].getPosition()[0] >= 0);
+  }
+
+  @Test
+  void makeMoveTestFailForbiddenMove() {
+    String sessionId = this.client.createGameSession(this.template).getId();
+    JoinGameResponse join = this.client.joinGame(sessionId, joinRequest("a"));
+    this.client.joinGame(sessionId, joinRequest("b"));
+
+    MoveRequest move = new MoveRequest();
+    move.setTeamId(join.getTeamId());
+    move.setTeamSecret("wrong");
+    move.setPieceId("1");
+    move.setNewPosition(new int[]{0, 0});
+    assertThrows(ForbiddenMove.class, () -> this.client.makeMove(sessionId, move));
+  }
+
+  @Test
+  void playGameTest() {
+    String sessionId = this.client.createGameSession(this.template).getId();
+    JoinGameResponse[] joins = {
+        this.client.joinGame(sessionId, joinRequest("a")),
+        this.client.joinGame(sessionId, joinRequest("b"))
+    };
+
+    for (int i = 0; i < 20 && !this.client.getGameSession(sessionId).isGameOver(); i++) {
+      GameState before = this.client.getGameState(sessionId);
+      String[][] gridBefore = copy(before.getGrid());
+      MoveRequest move = this.makeAnyMove(sessionId, before, joins);
+      assertNotNull(move);
+
+      GameState after = this.client.getGameState(sessionId);
+      assertEquals(move.getPieceId(), after.getLastMove().getPieceId());
+      assertArrayEquals(gridBefore, before.getGrid());
+      assertNotSame(before.getGrid(), after.getGrid());
+    }
+  }
+
+  @Test
+  void deleteGameSessionTest() {
+    String sessionId = this.client.createGameSession(this.template).getId();
+    this.client.deleteGameSession(sessionId);
+    assertEquals(0, this.registry.size());
+    assertThrows(GameSessionNotFound.class, () -> this.client.getGameSession(sessionId));
+  }
+
+  /**
+   * Makes the first move to a neighbouring square the engine accepts for the current team.
+   */
+  private MoveRequest makeAnyMove(String sessionId, GameState state, JoinGameResponse[] joins) {
+    Team team = state.getTeams()[state.getCurrentTeam()];
+    JoinGameResponse join = joins[0].getTeamId().equals(team.getId()) ? joins[0] : joins[1];
+    for (Piece piece : team.getPieces()) {
+      for (int dRow = -1; dRow <= 1; dRow++) {
+        for (int dCol = -1; dCol <= 1; dCol++) {
+          int row = piece.getPosition()[0] + dRow;
+          int col = piece.getPosition()[1] + dCol;
+          if (row < 0 || col < 0 || row >= state.getGrid().length || col >= state.getGrid()[0].length) {
+            continue;
+          }
+          MoveRequest move = new MoveRequest();
+          move.setTeamId(join.getTeamId());
+          move.setTeamSecret(join.getTeamSecret());
+          move.setPieceId(piece.getId());
+          move.setNewPosition(new int[]{row, col});
+          try {
+            this.client.makeMove(sessionId, move);
+            return move;
+          } catch (InvalidMove | ForbiddenMove e) {
+            // try the next square
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  private static JoinGameRequest joinRequest(String teamId) {
+    JoinGameRequest request = new JoinGameRequest();
+    request.setTeamId(teamId);
+    return request;
+  }
+
+  private static String[][] copy(String[][] grid) {
+    String[][] copy = new String[grid.length][];
+    for (int i = 0; i < grid.length; i++) {
+      copy[i] = grid[i].clone();
+    }
+    return copy;
+  }
+}
@@ -0,0 +1,114 @@
+package de.sep.cfp4.network;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.sun.net.httpserver.HttpServer;
+import de.sep.cfp4.technicalServices.network.ServerHealthCheck;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the health checks of the servers in the server list.
+ *
+ * @version 0.0.1
+ * @see ServerHealthCheck
+ */
+class ServerHealthCheckTest {
+
+  /**
+   * Tests in the class:
+   *
+   * ---  onlineTest()
+   *      This test checks that a server answering with the status page of a capture the flag server
+   *      is online.
+   *
+   * ---  cachedTest()
+   *      This test checks that a server checked recently is not requested again until its result is
+   *      invalidated.
+   *
+   * ---  offlineTest()
+   *      This test checks that a server answering with something else than the status page and a
+   *      port without a server are offline, and that the offline result is cached as well.
+   */
+
+  private HttpServer server;
+  private final AtomicInteger requests = new AtomicInteger();
+
+  @AfterEach
+  void tearDown() {
+    if (this.server != null) {
+      ServerHealthCheck.invalidate(url());
+      this.server.stop(0);
+    }
+  }
+
+  private String start(String body) throws IOException {
+    this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    this.server.createContext("/", exchange -> {
+      this.requests.incrementAndGet();
+      byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+      exchange.sendResponseHeaders(404, bytes.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(bytes);
+      }
+    });
+    this.server.start();
+    return url();
+  }
+
+  private String url() {
+    return "localhost:" + this.server.getAddress().getPort();
+  }
+
+  private static boolean await(CompletableFuture<Boolean> check) throws Exception {
+    return check.get(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void onlineTest() throws Exception {
+    String url = start("{\"timestamp\":\"2026-10-19T10:00:00.000+00:00\",\"status\":404,"
+        + "\"error\":\"Not Found\",\"path\":\"/api/gamesession/\"}");
+
+    assertTrue(await(ServerHealthCheck.check(url)));
+    assertEquals(1, this.requests.get());
+  }
+
+  @Test
+  void cachedTest() throws Exception {
+    String url = start("{\"status\":404}");
+
+    CompletableFuture<Boolean> first = ServerHealthCheck.check(url);
+    assertSame(first, ServerHealthCheck.check(url));
+    assertTrue(await(first));
+    assertTrue(await(ServerHealthCheck.check(url)));
+    assertEquals(1, this.requests.get());
+
+    ServerHealthCheck.invalidate(url);
+    assertTrue(await(ServerHealthCheck.check(url)));
+    assertEquals(2, this.requests.get());
+  }
+
+  @Test
+  void offlineTest() throws Exception {
+    String url = start("<html>Not a capture the flag server</html>");
+
+    assertFalse(await(ServerHealthCheck.check(url)));
+    assertFalse(await(ServerHealthCheck.check(url)));
+    assertEquals(1, this.requests.get());
+
+    int port;
+    try (ServerSocket socket = new ServerSocket(0)) {
+      port = socket.getLocalPort();
+    }
+    assertFalse(await(ServerHealthCheck.check("localhost:" + port)));
+    ServerHealthCheck.invalidate("localhost:" + port);
+  }
+}
@@ -0,0 +1,198 @@
+package de.sep.cfp4.network;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.gson.Gson;
+import de.sep.cfp4.application.exceptions.TooManyRequests;
+import de.sep.cfp4.technicalServices.network.LocalGameClient;
+import de.sep.cfp4.technicalServices.network.LocalSessionRegistry;
+import de.sep.cfp4.technicalServices.network.SessionPoller;
+import de.unimannheim.swt.pse.ctf.controller.data.GameSessionResponse;
+import de.unimannheim.swt.pse.ctf.controller.data.JoinGameRequest;
+import de.unimannheim.swt.pse.ctf.game.engine.GameEngine;
+import de.unimannheim.swt.pse.ctf.game.exceptions.GameSessionNotFound;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import de.unimannheim.swt.pse.ctf.game.state.GameState;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the polling of game sessions shared by all subscribers.
+ *
+ * @version 0.0.1
+ * @see SessionPoller
+ */
+class SessionPollerTest {
+
+  /**
+   * Tests in the class:
+   *
+   * ---  sharedPollTest()
+   *      This test checks that two subscribers of the same session get the results of the same polls,
+   *      so that the session is fetched once per tick instead of once per subscriber.
+   *
+   * ---  refreshTest()
+   *      This test checks that during the turn of a subscribed team the session is polled slowly, but
+   *      right away after a refresh.
+   *
+   * ---  closeTest()
+   *      This test checks that a session is not polled anymore after all subscriptions were closed.
+   *
+   * ---  failedTest()
+   *      This test checks that the subscribers of a non-existing session get a GameSessionNotFound
+   *      exception and that the session is not polled anymore.
+   *
+   * ---  throttledTest()
+   *      This test checks that a poll rejected by the admission control of the server is not handed
+   *      to the subscribers, and that the session is polled again after the time asked for.
+   */
+
+  private CountingClient client;
+  private String sessionId;
+  private String currentTeamId;
+
+  /**
+   * A local client counting the polls of the game sessions.
+   */
+  private static class CountingClient extends LocalGameClient {
+
+    private final AtomicInteger polls = new AtomicInteger();
+    // the number of polls rejected before the next one is answered
+    private final AtomicInteger throttled = new AtomicInteger();
+
+    CountingClient(LocalSessionRegistry registry) {
+      super(registry);
+    }
+
+    @Override
+    public GameSessionResponse getGameSession(String sessionId) throws GameSessionNotFound {
+      this.polls.incrementAndGet();
+      if (this.throttled.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+        throw new TooManyRequests(100);
+      }
+      return super.getGameSession(sessionId);
+    }
+  }
+
+  /**
+   * A subscriber collecting the results of the polls.
+   */
+  private static class Collector implements SessionPoller.Listener {
+
+    private final LinkedBlockingQueue<Object> results = new LinkedBlockingQueue<>();
+
+    @Override
+    public void update(GameSessionResponse response, GameState state) {
+      this.results.add(state);
+    }
+
+    @Override
+    public void failed(Throwable error) {
+      this.results.add(error);
+    }
+
+    Object next(long millis) throws InterruptedException {
+      return this.results.poll(millis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  @BeforeEach
+  void setUp() throws IOException {
+    this.client = new CountingClient(new LocalSessionRegistry(GameEngine::new));
+    MapTemplate template;
+    try (InputStreamReader reader = new InputStreamReader(
+        getClass().getResourceAsStream("10x10_2teams_example.json"))) {
+      template = new Gson().fromJson(reader, MapTemplate.class);
+    }
+    template.setTotalTimeLimitInSeconds(-1);
+    template.setMoveTimeLimitInSeconds(-1);
+
+    this.sessionId = this.client.createGameSession(template).getId();
+    for (String team : new String[]{"team1", "team2"}) {
+      JoinGameRequest request = new JoinGameRequest();
+      request.setTeamId(team);
+      this.client.joinGame(this.sessionId, request);
+    }
+    GameState state = this.client.getGameState(this.sessionId);
+    this.currentTeamId = state.getTeams()[state.getCurrentTeam()].getId();
+  }
+
+  @Test
+  void sharedPollTest() throws InterruptedException {
+    Collector first = new Collector();
+    Collector second = new Collector();
+    SessionPoller.Subscription firstSubscription = SessionPoller.subscribe(this.client,
+        this.sessionId, null, first);
+    SessionPoller.Subscription secondSubscription = SessionPoller.subscribe(this.client,
+        this.sessionId, null, second);
+
+    for (int i = 0; i < 3; i++) {
+      assertInstanceOf(GameState.class, first.next(2000));
+      assertInstanceOf(GameState.class, second.next(2000));
+    }
+    firstSubscription.close();
+    secondSubscription.close();
+
+    // Every poll was handed to both subscribers, except for one that may have been running while
+    // the subscriptions were closed.
+    int polls = this.client.polls.get();
+    assertTrue(polls >= 3 && polls <= 3 + first.results.size() + 1, "polls: " + polls);
+    assertEquals(first.results.size(), second.results.size(), 1);
+  }
+
+  @Test
+  void refreshTest() throws InterruptedException {
+    Collector collector = new Collector();
+    SessionPoller.Subscription subscription = SessionPoller.subscribe(this.client, this.sessionId,
+        this.currentTeamId, collector);
+    assertNotNull(collector.next(1000));
+
+    // It is the turn of the subscribed team, so the next poll does not come on its own soon.
+    assertNull(collector.next(300));
+    subscription.refresh();
+    assertNotNull(collector.next(300));
+    subscription.close();
+  }
+
+  @Test
+  void closeTest() throws InterruptedException {
+    Collector collector = new Collector();
+    SessionPoller.Subscription subscription = SessionPoller.subscribe(this.client, this.sessionId,
+        null, collector);
+    assertNotNull(collector.next(1000));
+    subscription.close();
+
+    int polls = this.client.polls.get();
+    Thread.sleep(1200);
+    assertEquals(polls, this.client.polls.get());
+  }
+
+  @Test
+  void failedTest() throws InterruptedException {
+    Collector collector = new Collector();
+    SessionPoller.Subscription subscription = SessionPoller.subscribe(this.client, "nonexistent",
+        null, collector);
+
+    assertInstanceOf(GameSessionNotFound.class, collector.next(1000));
+    assertNull(collector.next(1200));
+    assertEquals(1, this.client.polls.get());
+    subscription.close();
+  }
+
+  @Test
+  void throttledTest() throws InterruptedException {
+    this.client.throttled.set(2);
+    Collector collector = new Collector();
+    SessionPoller.Subscription subscription = SessionPoller.subscribe(this.client, this.sessionId,
+        null, collector);
+
+    assertInstanceOf(GameState.class, collector.next(5000));
+    assertTrue(this.client.polls.get() >= 3, "polls: " + this.client.polls.get());
+    subscription.close();
+  }
+}
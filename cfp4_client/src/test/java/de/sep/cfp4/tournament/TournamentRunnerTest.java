@@ -0,0 +1,171 @@
+package de.sep.cfp4.tournament;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.gson.Gson;
+import de.sep.cfp4.application.model.BoardModel;
+import de.sep.cfp4.technicalServices.resource.PlayerType;
+import de.sep.cfp4.technicalServices.tournament.BotPlayers;
+import de.sep.cfp4.technicalServices.tournament.EloRatings;
+import de.sep.cfp4.technicalServices.tournament.EloRatings.Rating;
+import de.sep.cfp4.technicalServices.tournament.GameResult;
+import de.sep.cfp4.technicalServices.tournament.GameResult.EndReason;
+import de.sep.cfp4.technicalServices.tournament.PairingMode;
+import de.sep.cfp4.technicalServices.tournament.TournamentPlayer;
+import de.sep.cfp4.technicalServices.tournament.TournamentRunner;
+import de.unimannheim.swt.pse.ctf.game.map.MapTemplate;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the tournament runner and the Elo ratings.
+ *
+ * @version 0.0.1
+ * @see TournamentRunner
+ */
+class TournamentRunnerTest {
+
+  /**
+   * Tests in the class:
+   *
+   * ---  eloRatingsTest()
+   *      This test checks that the stronger player gets the higher rating, that the ratings average
+   *      to the mean rating and that the interval contains the rating.
+   *
+   * ---  eloRatingsOrderIndependentTest()
+   *      This test checks that the ratings do not depend on the order of the results.
+   *
+   * ---  eloRatingsUnbeatenTest()
+   *      This test checks that a player winning all games gets a finite rating.
+   *
+   * ---  roundRobinTest()
+   *      This test plays a round robin tournament between two bots and checks the number of games
+   *      and that both sides were played.
+   *
+   * ---  timeForfeitTest()
+   *      This test checks that a player exceeding the move budget loses by time forfeit.
+   *
+   * ---  swissTest()
+   *      This test plays a Swiss tournament between three bots and checks that every round pairs
+   *      two of them while one gets a bye.
+   */
+
+  @Test
+  void eloRatingsTest() {
+    List<GameResult> results = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      results.add(result("a", "b", i % 3 == 0 ? 0 : 1));
+    }
+    List<Rating> ratings = EloRatings.compute(List.of("a", "b"), results);
+
+    assertEquals("a", ratings.get(0).player());
+    assertTrue(ratings.get(0).elo() > ratings.get(1).elo());
+    assertEquals(2 * EloRatings.MEAN_RATING, ratings.get(0).elo() + ratings.get(1).elo(), 1e-6);
+    for (Rating rating : ratings) {
+      assertTrue(rating.lower() < rating.elo() && rating.elo() < rating.upper());
+      assertEquals(30, rating.games());
+    }
+    assertEquals(20, ratings.get(0).score(), 1e-9);
+  }
+
+  @Test
+  void eloRatingsOrderIndependentTest() {
+    List<GameResult> results = List.of(result("a", "b", 1), result("b", "c", 0.5),
+        result("c", "a", 1), result("a", "c", 0), result("b", "a", 1));
+    List<GameResult> reversed = new ArrayList<>(results);
+    Collections.reverse(reversed);
+
+    List<Rating> ratings = EloRatings.compute(List.of("a", "b", "c"), results);
+    List<Rating> reversedRatings = EloRatings.compute(List.of("a", "b", "c"), reversed);
+    for (int i = 0; i < ratings.size(); i++) {
+      assertEquals(ratings.get(i).player(), reversedRatings.get(i).player());
+      assertEquals(ratings.get(i).elo(), reversedRatings.get(i).elo(), 1e-6);
+    }
+  }
+
+  @Test
+  void eloRatingsUnbeatenTest() {
+    List<GameResult> results = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      results.add(result("a", "b", 1));
+    }
+    Rating best = EloRatings.compute(List.of("a", "b"), results).get(0);
+    assertEquals("a", best.player());
+    assertTrue(Double.isFinite(best.elo()) && Double.isFinite(best.upper()));
+  }
+
+  @Test
+  void roundRobinTest() throws Exception {
+    List<TournamentPlayer> players = List.of(BotPlayers.create(PlayerType.EASY_BOT, "easy"),
+        BotPlayers.create(PlayerType.NORMAL_BOT, "normal"));
+    TournamentRunner runner = new TournamentRunner(players, Map.of("example", template()),
+        PairingMode.ROUND_ROBIN, 4, 1, 2, 5000, 200);
+
+    List<GameResult> results = runner.run();
+    assertEquals(4, results.size());
+    assertEquals(2, results.stream().filter(result -> result.first().equals("easy")).count());
+    for (GameResult result : results) {
+      assertTrue(result.reason() == EndReason.FINISHED || result.reason() == EndReason.MOVE_LIMIT);
+    }
+  }
+
+  @Test
+  void timeForfeitTest() throws Exception {
+    TournamentPlayer slow = new TournamentPlayer() {
+      @Override
+      public String getName() {
+        return "slow";
+      }
+
+      @Override
+      public Turn newGame(BoardModel board) {
+        return () -> Thread.sleep(10_000);
+      }
+    };
+    List<TournamentPlayer> players = List.of(slow, BotPlayers.create(PlayerType.EASY_BOT, "easy"));
+    TournamentRunner runner = new TournamentRunner(players, Map.of("example", template()),
+        PairingMode.ROUND_ROBIN, 2, 1, 2, 100, 200);
+
+    List<GameResult> results = runner.run();
+    assertEquals(2, results.size());
+    for (GameResult result : results) {
+      if (result.reason() == EndReason.TIME_FORFEIT) {
+        double slowScore = result.first().equals("slow") ? result.firstScore() : result.secondScore();
+        assertEquals(0.0, slowScore);
+      }
+    }
+    // The slow player has to move in at least the game it joined first.
+    assertTrue(results.stream().anyMatch(result -> result.reason() == EndReason.TIME_FORFEIT));
+  }
+
+  @Test
+  void swissTest() throws Exception {
+    List<TournamentPlayer> players = List.of(BotPlayers.create(PlayerType.EASY_BOT, "a"),
+        BotPlayers.create(PlayerType.EASY_BOT, "b"), BotPlayers.create(PlayerType.NORMAL_BOT, "c"));
+    TournamentRunner runner = new TournamentRunner(players, Map.of("example", template()),
+        PairingMode.SWISS, 2, 3, 2, 5000, 200);
+
+    List<GameResult> results = runner.run();
+    assertEquals(6, results.size());
+    for (int round = 0; round < 3; round++) {
+      List<GameResult> roundResults = results.subList(2 * round, 2 * round + 2);
+      assertEquals(roundResults.get(0).first(), roundResults.get(1).second());
+    }
+  }
+
+  private static GameResult result(String first, String second, double firstScore) {
+    return new GameResult(first, second, "template", firstScore, EndReason.FINISHED, 10, 1);
+  }
+
+  private MapTemplate template() throws IOException {
+    try (InputStreamReader reader = new InputStreamReader(getClass().getResourceAsStream(
+        "/de/sep/cfp4/network/10x10_2teams_example.json"))) {
+      return new Gson().fromJson(reader, MapTemplate.class);
+    }
+  }
+}